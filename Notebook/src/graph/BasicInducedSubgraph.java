@@ -0,0 +1,479 @@
+// @formatter:off
+
+package graph;
+
+import util.Checked;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Represents the subgraph of a simple numerical graph induced by a set of its vertices, optionally keeping only
+ * the edges accepted by a predicate. The subgraph is a view: forEachNeighbor and adjacent filter the adjacent
+ * vertices while they are visited, without copying the adjacency of the graph.
+ * <p>
+ * The vertices may keep their labels, in which case the view has as many vertices as the graph and the vertices
+ * outside the set have no adjacent vertices, or be relabeled from 0 to N-1 in ascending order of their original
+ * labels, in which case the labels are computed the first time they are needed, in O(V) time and memory.
+ * <p>
+ * Since positions among the kept adjacent vertices can't be mapped to positions in the graph without filtering,
+ * the kept adjacent vertices of a vertex are stored the first time its degree or one of them is read with neighbor,
+ * in O(degree) time and memory, so both take constant time afterwards in any order, as in a recursive search.
+ * The stored adjacent vertices and the number of edges are kept for a version of the graph, so they are computed
+ * again after it changes. The view doesn't follow the vertices added to the graph after the labels are computed.
+ */
+@Checked
+(note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
+" ensure the structure's correctness in exchange of efficiency. For fastest results, use\n" +
+" the non 'Checked' methods, however, these are liable to: ArrayIndexOutOfBounds exceptions.")
+public class BasicInducedSubgraph implements IBasicGraph
+{
+    // Enumerations
+
+    /**
+     * The ways in which the vertices of the subgraph are labeled.
+     */
+    public enum Labels
+    {
+        /**
+         * The vertices keep the labels of the graph.
+         */
+        ORIGINAL,
+
+        /**
+         * The vertices are labeled from 0 to N-1 in ascending order of their labels in the graph.
+         */
+        COMPACT
+    }
+
+    // Attributes
+
+    /**
+     * The viewed graph.
+     */
+    private final IBasicGraph graph;
+
+    /**
+     * The predicate that selects the vertices of the subgraph, by their labels in the graph.
+     */
+    private final IntPredicate vertices;
+
+    /**
+     * The predicate that selects the edges of the subgraph, by the labels of their vertices in the graph,
+     * or {@code null} if every edge between selected vertices is kept.
+     */
+    private final EdgePredicate edges;
+
+    /**
+     * The way in which the vertices are labeled.
+     */
+    private final Labels labels;
+
+    /**
+     * The label in the graph of each vertex of the subgraph, or {@code null} until it's needed in compact labels.
+     */
+    private volatile int[] toOriginal;
+
+    /**
+     * The label in the subgraph of each vertex of the graph or -1 if it isn't selected, or {@code null} until
+     * it's needed in compact labels.
+     */
+    private volatile int[] toSubgraph;
+
+    /**
+     * The version of the graph in which the edges were counted and their number, or {@code null} until it's needed.
+     */
+    private volatile long[] counted;
+
+    /**
+     * The kept adjacent vertices of the vertices read with degree or neighbor, for a version of the graph,
+     * or {@code null} until they're needed.
+     */
+    private volatile Kept kept;
+
+    // Constructor
+
+    /**
+     * Creates a BasicInducedSubgraph object over the vertices of the graph in the given set, which keep their labels.
+     * The set is copied, so changing it afterwards doesn't change the view.
+     * @param pGraph The viewed graph.
+     * @param pVertices The set of vertices of the subgraph.
+     */
+    public BasicInducedSubgraph(IBasicGraph pGraph, BitSet pVertices)
+    { this(pGraph, ((BitSet) pVertices.clone())::get, null, Labels.ORIGINAL); }
+
+    /**
+     * Creates a BasicInducedSubgraph object over the vertices of the graph that satisfy the given predicate,
+     * which keep their labels.
+     * @param pGraph The viewed graph.
+     * @param pVertices The predicate that selects the vertices of the subgraph.
+     */
+    public BasicInducedSubgraph(IBasicGraph pGraph, IntPredicate pVertices)
+    { this(pGraph, pVertices, null, Labels.ORIGINAL); }
+
+    /**
+     * Creates a BasicInducedSubgraph object over the vertices of the graph that satisfy the given predicate.
+     * The predicates must always give the same result for the same vertices, since they are evaluated every time
+     * an adjacent vertex is visited.
+     * @param pGraph The viewed graph.
+     * @param pVertices The predicate that selects the vertices of the subgraph.
+     * @param pEdges The predicate that selects the edges between the selected vertices, called with the labels of
+     * the graph, or {@code null} to keep every edge.
+     * @param pLabels The way in which the vertices are labeled.
+     */
+    public BasicInducedSubgraph(IBasicGraph pGraph, IntPredicate pVertices, EdgePredicate pEdges, Labels pLabels)
+    {
+        graph = pGraph;
+        vertices = pVertices;
+        edges = pEdges;
+        labels = pLabels;
+    }
+
+    // Methods
+
+    /**
+     * @return The number of vertices, which is the number of vertices of the graph if the labels are kept.
+     */
+    public int V()
+    { return labels == Labels.ORIGINAL ? graph.V() : toOriginal().length; }
+
+    /**
+     * @return The version of the graph, since the subgraph is a view of it.
+     */
+    public long version()
+    { return graph.version(); }
+
+    /**
+     * The edges are counted the first time and after the graph changes, in O(V+E) time.
+     * @return The number of edges.
+     */
+    public int E()
+    {
+        long version = graph.version();
+        long[] count = counted;
+        if(count == null || count[0] != version)
+        {
+            // Undirected graphs list each edge in the adjacency of both vertices, except for self-cycles.
+            long slots = 0, selfCycles = 0;
+            for(int v = 0, n = graph.V(); v < n; ++v)
+            {
+                if(!vertices.test(v))
+                    continue;
+                for(int i = 0, degree = graph.degree(v); i < degree; ++i)
+                {
+                    int adjacent = graph.neighbor(v, i);
+                    if(keeps(v, adjacent))
+                    {
+                        ++slots;
+                        if(adjacent == v)
+                            ++selfCycles;
+                    }
+                }
+            }
+            count = new long[]{version, graph instanceof IDirectedGraph ? slots : (slots + selfCycles) / 2};
+            counted = count;
+        }
+        return (int) count[1];
+    }
+
+    /**
+     * @return The way in which the vertices are labeled.
+     */
+    public Labels labels()
+    { return labels; }
+
+    /**
+     * @return The viewed graph.
+     */
+    public IBasicGraph graph()
+    { return graph; }
+
+    /**
+     * @param pOriginal The label of a vertex in the graph.
+     * @return True if the vertex belongs to the subgraph, false if contrary.
+     */
+    public boolean contains(int pOriginal)
+    { return pOriginal >= 0 && pOriginal < graph.V() && vertices.test(pOriginal); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The label of a vertex in the subgraph.
+     * @return The label of the vertex in the graph.
+     */
+    public int toOriginal(int pVertex)
+    { return labels == Labels.ORIGINAL ? pVertex : toOriginal()[pVertex]; }
+
+    /**
+     * Doesn't check if pOriginal is a valid vertex of the graph.
+     * @param pOriginal The label of a vertex in the graph.
+     * @return The label of the vertex in the subgraph, or -1 if it doesn't belong to the subgraph.
+     */
+    public int toSubgraph(int pOriginal)
+    {
+        if(labels == Labels.ORIGINAL)
+            return vertices.test(pOriginal) ? pOriginal : -1;
+        return toSubgraph()[pOriginal];
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Stores the kept adjacent vertices of the vertex the first time, in O(degree) time, and takes O(1) time afterwards.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return kept(toOriginal(pVertex)).length; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * Stores the kept adjacent vertices of the vertex the first time, in O(degree) time, and takes O(1) time afterwards.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The adjacent vertex in the given position.
+     * @throws IndexOutOfBoundsException If the vertex has no adjacent vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    {
+        int[] adjacent = kept(toOriginal(pVertex));
+        if(pIndex >= adjacent.length)
+            throw new IndexOutOfBoundsException("Index: " + pIndex + ", Vertex: " + pVertex);
+        return adjacent[pIndex];
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        int original = toOriginal(pVertex);
+        if(!vertices.test(original))
+            return;
+        graph.forEachNeighbor(original, adjacent ->
+        {
+            if(keeps(original, adjacent))
+                pAction.accept(toSubgraph(adjacent));
+        });
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable view of the adjacent vertices of the given vertex, filtered while it's iterated.
+     */
+    public Collection<Integer> adjacent(int pVertex)
+    { return new Adjacent(toOriginal(pVertex)); }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable view of the adjacent vertices of the given vertex or {@code null} if the vertex is invalid.
+     */
+    public Collection<Integer> adjacentChecked(int pVertex)
+    { return pVertex >= 0 && pVertex < V() ? adjacent(pVertex) : null; }
+
+    /**
+     * @return Array of unmodifiable views of the adjacent vertices of each vertex.
+     */
+    public Collection<Integer>[] adjacent()
+    {
+        Collection<Integer>[] adjacent = (Collection<Integer>[]) new Collection[V()];
+        for(int v = 0; v < adjacent.length; ++v)
+            adjacent[v] = adjacent(v);
+        return adjacent;
+    }
+
+    /**
+     * @param pOriginal The label in the graph of a vertex.
+     * @return The kept adjacent vertices of the vertex, labeled in the subgraph, storing them if needed.
+     */
+    private int[] kept(int pOriginal)
+    {
+        long version = graph.version();
+        Kept current = kept;
+        if(current == null || current.version != version || pOriginal >= current.adjacent.length())
+            kept = current = new Kept(version, graph.V());
+        int[] adjacent = current.adjacent.get(pOriginal);
+        if(adjacent == null)
+        {
+            int count = 0;
+            if(vertices.test(pOriginal))
+            {
+                int degree = graph.degree(pOriginal);
+                adjacent = new int[degree];
+                for(int i = 0; i < degree; ++i)
+                {
+                    int vertex = graph.neighbor(pOriginal, i);
+                    if(keeps(pOriginal, vertex))
+                        adjacent[count++] = toSubgraph(vertex);
+                }
+            }
+            adjacent = adjacent == null ? new int[0] : count < adjacent.length ? Arrays.copyOf(adjacent, count) : adjacent;
+            current.adjacent.set(pOriginal, adjacent);
+        }
+        return adjacent;
+    }
+
+    /**
+     * @param pOriginal The label in the graph of a selected vertex.
+     * @param pAdjacent The label in the graph of one of its adjacent vertices.
+     * @return True if the edge between them belongs to the subgraph, false if contrary.
+     */
+    private boolean keeps(int pOriginal, int pAdjacent)
+    { return vertices.test(pAdjacent) && (edges == null || edges.test(pOriginal, pAdjacent)); }
+
+    /**
+     * @return The label in the graph of each vertex of the subgraph, computing the labels if needed.
+     */
+    private int[] toOriginal()
+    {
+        if(toOriginal == null)
+            relabel();
+        return toOriginal;
+    }
+
+    /**
+     * @return The label in the subgraph of each vertex of the graph, computing the labels if needed.
+     */
+    private int[] toSubgraph()
+    {
+        if(toSubgraph == null)
+            relabel();
+        return toSubgraph;
+    }
+
+    /**
+     * Computes the compact labels once, even if several threads need them at the same time.
+     */
+    private synchronized void relabel()
+    {
+        if(toOriginal != null)
+            return;
+        int N = graph.V();
+        int[] subgraph = new int[N];
+        int[] original = new int[N];
+        int count = 0;
+        for(int v = 0; v < N; ++v)
+        {
+            if(vertices.test(v))
+            {
+                subgraph[v] = count;
+                original[count++] = v;
+            }
+            else
+                subgraph[v] = -1;
+        }
+        toSubgraph = subgraph;
+        toOriginal = Arrays.copyOf(original, count);
+    }
+
+    // Interfaces
+
+    /**
+     * Predicate that selects the edges of the subgraph.
+     */
+    public interface EdgePredicate
+    {
+        /**
+         * @param pVertex1 The label in the graph of the vertex whose adjacency is visited.
+         * @param pVertex2 The label in the graph of the adjacent vertex.
+         * @return True if the edge belongs to the subgraph, false if contrary.
+         */
+        boolean test(int pVertex1, int pVertex2);
+    }
+
+    // Classes
+
+    /**
+     * The kept adjacent vertices of the vertices of the graph for a version of the graph.
+     */
+    private static class Kept
+    {
+        /**
+         * The version of the graph.
+         */
+        private final long version;
+
+        /**
+         * The kept adjacent vertices of each vertex of the graph, labeled in the subgraph, or {@code null} until they're needed.
+         */
+        private final AtomicReferenceArray<int[]> adjacent;
+
+        /**
+         * Creates a Kept object without stored adjacent vertices.
+         * @param pVersion The version of the graph.
+         * @param pV The number of vertices of the graph.
+         */
+        Kept(long pVersion, int pV)
+        {
+            version = pVersion;
+            adjacent = new AtomicReferenceArray<>(pV);
+        }
+    }
+
+    /**
+     * Unmodifiable view of the kept adjacent vertices of a vertex.
+     */
+    private class Adjacent extends AbstractCollection<Integer>
+    {
+        /**
+         * The label in the graph of the vertex.
+         */
+        private final int original;
+
+        /**
+         * Creates an Adjacent object for the given vertex.
+         * @param pOriginal The label in the graph of the vertex.
+         */
+        Adjacent(int pOriginal)
+        { original = pOriginal; }
+
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                /**
+                 * The position in the graph of the next kept adjacent vertex, or the degree if there's none.
+                 */
+                private int slot = advance(0);
+
+                /**
+                 * @param pSlot The position in the graph from which the next kept adjacent vertex is searched.
+                 * @return The position of the next kept adjacent vertex, or the degree if there's none.
+                 */
+                private int advance(int pSlot)
+                {
+                    if(!vertices.test(original))
+                        return 0;
+                    int degree = graph.degree(original);
+                    while(pSlot < degree && !keeps(original, graph.neighbor(original, pSlot)))
+                        ++pSlot;
+                    return pSlot;
+                }
+
+                public boolean hasNext()
+                { return vertices.test(original) && slot < graph.degree(original); }
+
+                public Integer next()
+                {
+                    if(!hasNext())
+                        throw new NoSuchElementException();
+                    int adjacent = graph.neighbor(original, slot);
+                    slot = advance(slot + 1);
+                    return toSubgraph(adjacent);
+                }
+            };
+        }
+
+        public int size()
+        { return kept(original).length; }
+    }
+}
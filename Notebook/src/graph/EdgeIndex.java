@@ -0,0 +1,163 @@
+// @formatter:off
+
+package graph;
+
+import util.LongIntHashMap;
+import java.util.List;
+
+/**
+ * Class that represents the position of each edge in the adjacent lists of a graph, so that an edge can be found
+ * and removed in O(1) expected time by swapping it with the last vertex of the list instead of scanning the list.
+ * For each ordered pair of vertices (u,v) the index stores the position of one occurrence of v in the list of u
+ * and, for repeated edges, the number of extra occurrences. Only repeated edges need a scan of the list when removed.
+ */
+public class EdgeIndex
+{
+    // Attributes
+
+    /**
+     * The map from each ordered pair of vertices to the position of the second vertex in the list of the first one.
+     */
+    private final LongIntHashMap position;
+
+    /**
+     * The map from each ordered pair of vertices to its number of occurrences besides the indexed one.
+     */
+    private final LongIntHashMap extra;
+
+    // Constructor
+
+    /**
+     * Creates an empty EdgeIndex object.
+     */
+    public EdgeIndex()
+    {
+        position = new LongIntHashMap();
+        extra = new LongIntHashMap();
+    }
+
+    /**
+     * Creates an EdgeIndex object with the positions of every vertex in the given adjacent lists.
+     * @param pAdjacent The adjacent lists of each vertex.
+     * @param V The number of vertices.
+     */
+    public EdgeIndex(List<Integer>[] pAdjacent, int V)
+    {
+        int slots = 0;
+        for(int v = 0; v < V; ++v)
+            slots += pAdjacent[v].size();
+        position = new LongIntHashMap(slots);
+        extra = new LongIntHashMap();
+        for(int v = 0; v < V; ++v)
+            addAll(v, pAdjacent[v]);
+    }
+
+    /**
+     * Creates an EdgeIndex object copy of the given index.
+     * @param pIndex The index to copy.
+     */
+    public EdgeIndex(EdgeIndex pIndex)
+    {
+        position = new LongIntHashMap(pIndex.position);
+        extra = new LongIntHashMap(pIndex.extra);
+    }
+
+    // Methods
+
+    /**
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return The key of the ordered pair of vertices.
+     */
+    public static long key(int pVertex1, int pVertex2)
+    { return ((long) pVertex1 << 32) | (pVertex2 & 0xFFFFFFFFL); }
+
+    /**
+     * Records that the second vertex was appended to the list of the first vertex in the given position.
+     * The last appended occurrence becomes the indexed one.
+     * @param pVertex1 The vertex whose list was appended to.
+     * @param pVertex2 The appended vertex.
+     * @param pPosition The position of the appended vertex in the list.
+     */
+    public void add(int pVertex1, int pVertex2, int pPosition)
+    {
+        long key = key(pVertex1, pVertex2);
+        if(position.containsKey(key))
+            extra.put(key, extra.get(key, 0) + 1);
+        position.put(key, pPosition);
+    }
+
+    /**
+     * Records the position of every vertex in the list of the given vertex.
+     * @param pVertex The vertex.
+     * @param pList The adjacent list of the vertex.
+     */
+    public void addAll(int pVertex, List<Integer> pList)
+    {
+        for(int i = 0; i < pList.size(); ++i)
+            add(pVertex, pList.get(i), i);
+    }
+
+    /**
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return The position of an occurrence of the second vertex in the list of the first one or -1 if there's none.
+     */
+    public int get(int pVertex1, int pVertex2)
+    { return position.get(key(pVertex1, pVertex2), -1); }
+
+    /**
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return {@code true} if the second vertex is in the list of the first one, {@code false} if contrary.
+     */
+    public boolean contains(int pVertex1, int pVertex2)
+    { return position.containsKey(key(pVertex1, pVertex2)); }
+
+    /**
+     * Removes an occurrence of the second vertex from the list of the first one by moving the last vertex
+     * of the list into its position. Lists parallel to the adjacent list must do the same move, that is,
+     * move the element at the new size of the list into the returned position.
+     * @param pList The adjacent list of the first vertex.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The vertex to remove.
+     * @return The position of the removed vertex, which now holds the former last vertex, or -1 if it wasn't in the list.
+     */
+    public int remove(List<Integer> pList, int pVertex1, int pVertex2)
+    {
+        long key = key(pVertex1, pVertex2);
+        int removed = position.get(key, -1);
+        if(removed < 0)
+            return -1;
+        int last = pList.size() - 1;
+        int moved = pList.get(last);
+        pList.set(removed, moved);
+        pList.remove(last);
+        if(removed != last)
+        {
+            long movedKey = key(pVertex1, moved);
+            if(position.get(movedKey, -1) == last)
+                position.put(movedKey, removed);
+        }
+        int count = extra.get(key, 0);
+        if(count == 0)
+            position.remove(key);
+        else
+        {
+            if(count == 1)
+                extra.remove(key);
+            else
+                extra.put(key, count - 1);
+            // Only repeated edges need a scan to find the next occurrence.
+            for(int i = pList.size() - 1; i >= 0; --i)
+            {
+                if(pList.get(i) == pVertex2)
+                {
+                    position.put(key, i);
+                    break;
+                }
+            }
+        }
+        return removed;
+    }
+}
@@ -3,6 +3,9 @@
 package graph;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntConsumer;
 
 /**
  * The API for a numerical unweighted graph.
@@ -21,4 +24,42 @@ public interface IBasicGraph extends IGraph
      * @return Array of collections corresponding to the adjacent vertices of each vertex.
      */
     Collection<Integer>[] adjacent();
+
+    /**
+     * Graphs should override it to avoid creating the adjacent collection.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    default int degree(int pVertex)
+    { return adjacent(pVertex).size(); }
+
+    /**
+     * Together with degree, allows traversing the graph without allocating iterators or boxing the vertices.
+     * Graphs should override it with a constant time access to the adjacent vertex.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex, smaller than the degree of the vertex.
+     * @return The adjacent vertex in the given position.
+     */
+    default int neighbor(int pVertex, int pIndex)
+    {
+        Collection<Integer> adjacent = adjacent(pVertex);
+        if(adjacent instanceof List)
+            return ((List<Integer>) adjacent).get(pIndex);
+        Iterator<Integer> iterator = adjacent.iterator();
+        for(int i = 0; i < pIndex; ++i)
+            iterator.next();
+        return iterator.next();
+    }
+
+    /**
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor.
+     * Graphs should override it to avoid creating the adjacent collection.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    default void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        for(int vertex : adjacent(pVertex))
+            pAction.accept(vertex);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+// @formatter:off
+
+package graph;
+
+import java.util.Collection;
+
+/**
+ * The API for a numerical directed unweighted graph. The adjacent vertices of a vertex are the heads of its
+ * outgoing edges, so algorithms over IBasicGraph, such as BasicBFS and BasicDFS, follow the direction of the edges.
+ * The algorithms that assume every edge is stored in both directions, such as BasicIsAcyclic, BasicTwoColor and
+ * BasicTriangles, reject directed graphs.
+ * The tails of the incoming edges of a vertex are also available, so that searches against the direction of the
+ * edges don't need a transposed copy of the graph.
+ */
+public interface IDirectedGraph extends IBasicGraph
+{
+    /**
+     * @param pVertex The vertex.
+     * @return The number of edges that leave the vertex.
+     */
+    int outDegree(int pVertex);
+
+    /**
+     * @param pVertex The vertex.
+     * @return The number of edges that reach the vertex.
+     */
+    int inDegree(int pVertex);
+
+    /**
+     * @param pVertex The vertex.
+     * @param pIndex The position of the adjacent vertex, smaller than the out degree of the vertex.
+     * @return The head of the outgoing edge of the vertex in the given position.
+     */
+    int outNeighbor(int pVertex, int pIndex);
+
+    /**
+     * @param pVertex The vertex.
+     * @param pIndex The position of the adjacent vertex, smaller than the in degree of the vertex.
+     * @return The tail of the incoming edge of the vertex in the given position.
+     */
+    int inNeighbor(int pVertex, int pIndex);
+
+    /**
+     * @param pVertex The vertex whose incoming collection is desired.
+     * @return Collection corresponding to the tails of the edges that reach the given vertex.
+     */
+    Collection<Integer> incoming(int pVertex);
+}
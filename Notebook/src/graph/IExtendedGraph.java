@@ -2,9 +2,9 @@
 
 package graph;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The API for an extendable unweighted generic graph.
@@ -26,14 +26,32 @@ public interface IExtendedGraph<T> extends IGraph
     Collection<Collection<T>> adjacent();
 
     /**
-     * @return The HashMap containing each vertex with its assigned numerical value from 0 to V-1
+     * Doesn't check if pVertex is not {@code null} or exists.
+     * @param pVertex The vertex.
+     * @return The numerical value from 0 to V-1 assigned to the vertex.
+     */
+    int toNumber(T pVertex);
+
+    /**
+     * Doesn't check if pNumber is between 0 and V-1.
+     * @param pNumber The numerical value of a vertex.
+     * @return The vertex assigned to the numerical value.
+     */
+    T toKey(int pNumber);
+
+    /**
+     * @return The map containing each vertex with its assigned numerical value from 0 to V-1
+     * @deprecated For the lookup of a single vertex use {@link #toNumber(Object)}.
      */
-    HashMap<T, Integer> keyToNumber();
+    @Deprecated
+    Map<T, Integer> keyToNumber();
 
     /**
-     * @return The HashMap containing the numerical value from 0 to V-1 assigned to each vertex.
+     * @return The map containing the numerical value from 0 to V-1 assigned to each vertex.
+     * @deprecated For the lookup of a single vertex use {@link #toKey(int)}.
      */
-    HashMap<Integer, T> numberToKey();
+    @Deprecated
+    Map<Integer, T> numberToKey();
 
     /**
      * Doesn't check if pVertex is not {@code null} or exists.
@@ -43,7 +61,23 @@ public interface IExtendedGraph<T> extends IGraph
     Collection<Integer> adjacentNumber(T pVertex);
 
     /**
-     * @return Collection of collections corresponding to the adjacent vertices of each vertex.
+     * @return List of lists corresponding to the adjacent vertices of each vertex.
+     */
+    List<List<Integer>> adjacentNumber();
+
+    /**
+     * Doesn't check if pVertexNum is between 0 and V-1.
+     * @param pVertexNum The numerical key of the vertex.
+     * @return The number of vertices adjacent to the vertex.
+     */
+    int degree(int pVertexNum);
+
+    /**
+     * Doesn't check if pVertexNum is between 0 and V-1 or if pIndex is smaller than its degree.
+     * Together with degree, allows traversing the graph without boxing the numerical keys.
+     * @param pVertexNum The numerical key of the vertex.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The numerical key of the adjacent vertex in the given position.
      */
-    ArrayList<ArrayList<Integer>> adjacentNumber();
+    int neighbor(int pVertexNum, int pIndex);
 }
\ No newline at end of file
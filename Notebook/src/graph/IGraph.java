@@ -18,4 +18,12 @@ public interface IGraph
      * @return The number of edges.
      */
     int E();
+
+    /**
+     * The version only increases, and changes every time a vertex or an edge is added or removed, so results computed
+     * over the graph stay valid while it's the same. Graphs that can't be modified always have version 0.
+     * @return The version of the graph.
+     */
+    default long version()
+    { return 0; }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+// @formatter:off
+
+package graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class that keeps track of which graph owns the storage of each vertex, for graphs that share their storage with
+ * their snapshots and copy it before modifying it (copy-on-write). Every graph has a stamp, which changes every time
+ * a snapshot is taken, and the storage of a vertex belongs to the graph whose stamp is recorded for the vertex.
+ * The graph keeps its arrays of storage, the ownership only decides when they have to be copied.
+ */
+public class Ownership
+{
+    // Constants
+
+    /**
+     * The last stamp given to a graph, so that graphs sharing storage never have the same stamp.
+     */
+    private static final AtomicInteger STAMPS = new AtomicInteger();
+
+    // Attributes
+
+    /**
+     * The stamp of the graph that owns the storage of each vertex, or {@code null} if the graph has never shared its storage.
+     * The storage owned by other stamps is shared with a snapshot and is copied before being modified.
+     */
+    private int[] owner;
+
+    /**
+     * The stamp that identifies the graph as the owner of its storage, which changes every time a snapshot is taken.
+     */
+    private int stamp;
+
+    /**
+     * Whether the arrays of storage of the graph and the array of owners are shared with a snapshot.
+     */
+    private boolean shared;
+
+    // Constructor
+
+    /**
+     * Creates an Ownership object of a graph that has never shared its storage.
+     */
+    public Ownership()
+    {
+        owner = null;
+        stamp = 0;
+        shared = false;
+    }
+
+    // Methods
+
+    /**
+     * @return {@code true} if the graph has shared its storage with a snapshot at some point, {@code false} if contrary.
+     */
+    public boolean isTracked()
+    { return owner != null || shared; }
+
+    /**
+     * @return {@code true} if the arrays of storage of the graph are shared with a snapshot and have to be copied
+     * before being modified, {@code false} if contrary.
+     */
+    public boolean isShared()
+    { return shared; }
+
+    /**
+     * Shares the owners with the given snapshot and gives both graphs a new stamp. Afterwards, neither of them owns
+     * the storage of any vertex.
+     * @param pSnapshot The ownership of the snapshot.
+     */
+    public void share(Ownership pSnapshot)
+    {
+        pSnapshot.owner = owner;
+        pSnapshot.stamp = STAMPS.incrementAndGet();
+        pSnapshot.shared = true;
+        stamp = STAMPS.incrementAndGet();
+        shared = true;
+    }
+
+    /**
+     * Copies the array of owners once the graph copied its arrays of storage, so that they're no longer shared.
+     * The storage of each vertex is still shared.
+     * @param pLength The minimum length of the copy.
+     */
+    public void unshare(int pLength)
+    {
+        owner = owner == null ? new int[pLength] : Arrays.copyOf(owner, Math.max(pLength, owner.length));
+        shared = false;
+    }
+
+    /**
+     * Forgets the owners once the graph copied the storage of every vertex, so that none of it is shared anymore.
+     */
+    public void reset()
+    {
+        owner = null;
+        shared = false;
+    }
+
+    /**
+     * Doesn't check if the arrays of storage are shared, these have to be unshared first.
+     * Records the graph as the owner of the storage of a new vertex.
+     * @param pVertex The new vertex.
+     */
+    public void add(int pVertex)
+    {
+        if(owner == null)
+            return;
+        if(pVertex >= owner.length)
+            owner = Arrays.copyOf(owner, Math.max(pVertex + 1, owner.length * 2));
+        owner[pVertex] = stamp;
+    }
+
+    /**
+     * Doesn't check if the arrays of storage are shared, these have to be unshared first.
+     * Records the graph as the owner of the storage of the given vertex.
+     * @param pVertex The vertex whose storage is going to be modified.
+     * @return {@code true} if the storage of the vertex was shared and has to be copied, {@code false} if contrary.
+     */
+    public boolean own(int pVertex)
+    {
+        if(owner == null || owner[pVertex] == stamp)
+            return false;
+        owner[pVertex] = stamp;
+        return true;
+    }
+}
@@ -3,6 +3,8 @@
 package graph.algorithms.misc;
 
 import graph.IBasicGraph;
+import graph.IDirectedGraph;
+import graph.algorithms.search.IterativeDFS;
 
 /**
  * Algorithm that represents a check to see if a simple numerical graph is acyclic.
@@ -29,20 +31,15 @@ public class BasicIsAcyclic
      * Creates a BasicIsAcyclic object that uses the given graph to check if its acyclic.
      * Doesn't require the graph to be connected, i.e., will check the entire graph.
      * @param pGraph Graph to use for the algorithm.
+     * @throws IllegalArgumentException If the graph is directed.
      */
     public BasicIsAcyclic(IBasicGraph pGraph)
     {
+        if(pGraph instanceof IDirectedGraph)
+            throw new IllegalArgumentException("The graph should be undirected.");
         marked = new boolean[pGraph.V()];
         isAcyclic = true;
-        for(int v = 0; v < pGraph.V(); ++v)
-        {
-            if(!marked[v])
-            {
-                basicIsAcyclic(pGraph, v, v);
-                if(!isAcyclic)
-                    return;
-            }
-        }
+        new IterativeDFS(pGraph).searchAll(marked, acyclicVisitor());
     }
 
     /**
@@ -50,12 +47,15 @@ public class BasicIsAcyclic
      * Will only check the component of which the given vertex is a part of.
      * @param pGraph Graph to use for the algorithm.
      * @param pVertex Vertex in which the acyclic search starts.
+     * @throws IllegalArgumentException If the graph is directed.
      */
     public BasicIsAcyclic(IBasicGraph pGraph, int pVertex)
     {
+        if(pGraph instanceof IDirectedGraph)
+            throw new IllegalArgumentException("The graph should be undirected.");
         marked = new boolean[pGraph.V()];
         isAcyclic = true;
-        basicIsAcyclic(pGraph, pVertex, pVertex);
+        new IterativeDFS(pGraph).search(pVertex, marked, acyclicVisitor());
     }
 
     // Methods
@@ -67,24 +67,20 @@ public class BasicIsAcyclic
     { return isAcyclic; }
 
     /**
-     * Recursive auxiliary method to find if the graph is acyclic.
-     * @param pGraph Graph to use for the algorithm.
-     * @param pVertex1 Vertex from which the search starts.
+     * Auxiliary method to find if the graph is acyclic with an iterative search. An edge to a marked vertex closes a
+     * cycle unless it goes back to the parent of the current vertex, or it's a self-cycle.
+     * @return The visitor that stops the search at the first cycle.
      */
-    private void basicIsAcyclic(IBasicGraph pGraph, int pVertex1, int pVertex2)
+    private IterativeDFS.Visitor acyclicVisitor()
     {
-        marked[pVertex1] = true;
-        for(int vertex : pGraph.adjacent(pVertex1))
+        return new IterativeDFS.Visitor()
         {
-            if(!isAcyclic)
-                return;
-            if(!marked[vertex])
-                basicIsAcyclic(pGraph, vertex, pVertex1);
-            else if(vertex != pVertex2 || vertex == pVertex1)
+            public boolean revisit(int pVertex, int pParent, int pAdjacent)
             {
-                isAcyclic = false;
-                return;
+                if(pAdjacent != pParent || pAdjacent == pVertex)
+                    isAcyclic = false;
+                return isAcyclic;
             }
-        }
+        };
     }
 }
\ No newline at end of file
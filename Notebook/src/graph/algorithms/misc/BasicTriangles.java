@@ -0,0 +1,333 @@
+// @formatter:off
+
+package graph.algorithms.misc;
+
+import graph.IBasicGraph;
+import graph.IDirectedGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedAMGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedGraph;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Algorithm that counts the triangles of a simple numerical undirected graph, in total and per vertex, and computes
+ * the local and average clustering coefficients. Repeated edges and self-cycles are ignored.
+ * <p>
+ * The vertices are ranked by degree and every edge is oriented from its vertex of smaller rank to the one of larger
+ * rank, so each vertex keeps at most O(sqrt(E)) adjacent vertices and each triangle is found once, from its vertex of
+ * smallest rank, by intersecting the sorted oriented adjacency of two of its vertices. If the graph has an adjacency
+ * matrix, the intersection probes the row of the second vertex instead. The vertices are claimed in small chunks by
+ * the workers of a fork-join pool, so that the vertices with more work don't leave the other workers idle.
+ */
+public class BasicTriangles
+{
+    // Constants
+
+    /**
+     * The number of vertices claimed at a time by a worker.
+     */
+    private static final int CHUNK = 64;
+
+    // Attributes
+
+    /**
+     * The number of triangles of the graph.
+     */
+    private final long count;
+
+    /**
+     * The number of triangles of each vertex.
+     */
+    private final long[] triangles;
+
+    /**
+     * The number of distinct adjacent vertices of each vertex, without counting itself.
+     */
+    private final int[] degrees;
+
+    // Constructor
+
+    /**
+     * Creates a BasicTriangles object that counts the triangles of the given graph in the common fork-join pool.
+     * @param pGraph Graph to use for the algorithm.
+     * @throws IllegalArgumentException If the graph is directed.
+     */
+    public BasicTriangles(IBasicGraph pGraph)
+    { this(pGraph, ForkJoinPool.commonPool()); }
+
+    /**
+     * Creates a BasicTriangles object that counts the triangles of the given graph in the given fork-join pool.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pPool The pool whose workers count the triangles.
+     * @throws IllegalArgumentException If the graph is directed.
+     */
+    public BasicTriangles(IBasicGraph pGraph, ForkJoinPool pPool)
+    {
+        if(pGraph instanceof IDirectedGraph)
+            throw new IllegalArgumentException("The graph should be undirected.");
+        int V = pGraph.V();
+        int[] order = rank(pGraph);
+        int[] rank = new int[V];
+        for(int r = 0; r < V; ++r)
+            rank[order[r]] = r;
+        // The oriented adjacency is labeled by rank, each list sorted in ascending order and without repetitions.
+        int[] offsets = new int[V + 1];
+        int[] targets = orient(pGraph, order, rank, offsets, pPool);
+        AtomicIntegerArray simple = new AtomicIntegerArray(V);
+        AtomicLongArray counts = new AtomicLongArray(V);
+        RowProbe probe = probe(pGraph);
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.max(1, pPool.getParallelism());
+        count = pPool.submit(() -> IntStream.range(0, workers).parallel().mapToLong(w ->
+        {
+            long found = 0;
+            for(int start = next.getAndAdd(CHUNK); start < V; start = next.getAndAdd(CHUNK))
+            {
+                for(int a = start, end = Math.min(V, start + CHUNK); a < end; ++a)
+                {
+                    simple.addAndGet(order[a], offsets[a + 1] - offsets[a]);
+                    for(int i = offsets[a]; i < offsets[a + 1]; ++i)
+                    {
+                        int b = targets[i];
+                        simple.incrementAndGet(order[b]);
+                        int common = probe == null ? intersect(targets, i + 1, offsets[a + 1], offsets[b], offsets[b + 1], counts, order)
+                                : probe(probe, order[b], targets, i + 1, offsets[a + 1], counts, order);
+                        if(common > 0)
+                        {
+                            counts.addAndGet(order[a], common);
+                            counts.addAndGet(order[b], common);
+                            found += common;
+                        }
+                    }
+                }
+            }
+            return found;
+        }).sum()).join();
+        triangles = new long[V];
+        degrees = new int[V];
+        for(int v = 0; v < V; ++v)
+        {
+            triangles[v] = counts.get(v);
+            degrees[v] = simple.get(v);
+        }
+    }
+
+    // Methods
+
+    /**
+     * @return The number of triangles of the graph.
+     */
+    public long count()
+    { return count; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex.
+     * @return The number of triangles that contain the given vertex.
+     */
+    public long count(int pVertex)
+    { return triangles[pVertex]; }
+
+    /**
+     * @return The number of triangles that contain each vertex.
+     */
+    public long[] counts()
+    { return triangles.clone(); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex.
+     * @return The local clustering coefficient of the given vertex, which is the fraction of the pairs of its adjacent
+     * vertices that are adjacent, or 0 if it has less than two adjacent vertices.
+     */
+    public double clustering(int pVertex)
+    {
+        long d = degrees[pVertex];
+        return d < 2 ? 0 : 2.0 * triangles[pVertex] / (d * (d - 1));
+    }
+
+    /**
+     * @return The local clustering coefficient of each vertex.
+     */
+    public double[] clustering()
+    {
+        double[] clustering = new double[triangles.length];
+        for(int v = 0; v < clustering.length; ++v)
+            clustering[v] = clustering(v);
+        return clustering;
+    }
+
+    /**
+     * @return The average of the local clustering coefficients of all the vertices, or 0 if the graph has no vertices.
+     */
+    public double averageClustering()
+    { return IntStream.range(0, triangles.length).parallel().mapToDouble(this::clustering).average().orElse(0); }
+
+    /**
+     * @param pGraph The graph.
+     * @return The vertices in ascending order of degree, and of label for the same degree, sorted by counting.
+     */
+    private static int[] rank(IBasicGraph pGraph)
+    {
+        int V = pGraph.V(), max = 0;
+        int[] degree = new int[V];
+        for(int v = 0; v < V; ++v)
+            max = Math.max(max, degree[v] = pGraph.degree(v));
+        int[] start = new int[max + 2];
+        for(int v = 0; v < V; ++v)
+            ++start[degree[v] + 1];
+        for(int d = 0; d <= max; ++d)
+            start[d + 1] += start[d];
+        int[] order = new int[V];
+        for(int v = 0; v < V; ++v)
+            order[start[degree[v]]++] = v;
+        return order;
+    }
+
+    /**
+     * Builds the oriented adjacency of the graph in parallel: the adjacency of each rank holds the larger ranks
+     * of its adjacent vertices, sorted and without repetitions.
+     * @param pGraph The graph.
+     * @param pOrder The vertex of each rank.
+     * @param pRank The rank of each vertex.
+     * @param pOffsets The array in which the position where the adjacency of each rank starts is written.
+     * @param pPool The pool whose workers build the adjacency.
+     * @return The adjacent ranks of every rank.
+     */
+    private static int[] orient(IBasicGraph pGraph, int[] pOrder, int[] pRank, int[] pOffsets, ForkJoinPool pPool)
+    {
+        int V = pOrder.length;
+        int[] slots = new int[V + 1];
+        pPool.submit(() -> IntStream.range(0, V).parallel().forEach(a ->
+        {
+            int v = pOrder[a], count = 0;
+            for(int i = 0, degree = pGraph.degree(v); i < degree; ++i)
+            {
+                if(pRank[pGraph.neighbor(v, i)] > a)
+                    ++count;
+            }
+            slots[a + 1] = count;
+        })).join();
+        for(int a = 0; a < V; ++a)
+            slots[a + 1] += slots[a];
+        int[] ranks = new int[slots[V]];
+        int[] sizes = new int[V];
+        pPool.submit(() -> IntStream.range(0, V).parallel().forEach(a ->
+        {
+            int v = pOrder[a], write = slots[a];
+            for(int i = 0, degree = pGraph.degree(v); i < degree; ++i)
+            {
+                int b = pRank[pGraph.neighbor(v, i)];
+                if(b > a)
+                    ranks[write++] = b;
+            }
+            Arrays.sort(ranks, slots[a], write);
+            // Repeated edges are removed by compacting the sorted list.
+            int size = 0;
+            for(int i = slots[a]; i < write; ++i)
+            {
+                if(size == 0 || ranks[i] != ranks[slots[a] + size - 1])
+                    ranks[slots[a] + size++] = ranks[i];
+            }
+            sizes[a] = size;
+        })).join();
+        for(int a = 0; a < V; ++a)
+            pOffsets[a + 1] = pOffsets[a] + sizes[a];
+        int[] targets = new int[pOffsets[V]];
+        for(int a = 0; a < V; ++a)
+            System.arraycopy(ranks, slots[a], targets, pOffsets[a], sizes[a]);
+        return targets;
+    }
+
+    /**
+     * Counts the ranks in both sorted ranges by merging them, adding a triangle to the vertex of each one.
+     * @param pTargets The oriented adjacency.
+     * @param pStart1 The start of the first range.
+     * @param pEnd1 The end of the first range.
+     * @param pStart2 The start of the second range.
+     * @param pEnd2 The end of the second range.
+     * @param pCounts The number of triangles of each vertex.
+     * @param pOrder The vertex of each rank.
+     * @return The number of ranks in both ranges.
+     */
+    private static int intersect(int[] pTargets, int pStart1, int pEnd1, int pStart2, int pEnd2, AtomicLongArray pCounts, int[] pOrder)
+    {
+        int common = 0;
+        while(pStart1 < pEnd1 && pStart2 < pEnd2)
+        {
+            int c1 = pTargets[pStart1], c2 = pTargets[pStart2];
+            if(c1 < c2)
+                ++pStart1;
+            else if(c1 > c2)
+                ++pStart2;
+            else
+            {
+                pCounts.incrementAndGet(pOrder[c1]);
+                ++common;
+                ++pStart1;
+                ++pStart2;
+            }
+        }
+        return common;
+    }
+
+    /**
+     * Counts the ranks in the range whose vertices are adjacent to the given vertex by probing its row of the
+     * adjacency matrix, adding a triangle to the vertex of each one. The ranks of the range are larger than the
+     * rank of the given vertex, so each triangle is still found once.
+     * @param pProbe The rows of the adjacency matrix.
+     * @param pVertex The vertex whose row is probed.
+     * @param pTargets The oriented adjacency.
+     * @param pStart The start of the range.
+     * @param pEnd The end of the range.
+     * @param pCounts The number of triangles of each vertex.
+     * @param pOrder The vertex of each rank.
+     * @return The number of ranks whose vertices are adjacent to the given vertex.
+     */
+    private static int probe(RowProbe pProbe, int pVertex, int[] pTargets, int pStart, int pEnd, AtomicLongArray pCounts, int[] pOrder)
+    {
+        int common = 0;
+        for(int i = pStart; i < pEnd; ++i)
+        {
+            int w = pOrder[pTargets[i]];
+            if(pProbe.hasEdge(pVertex, w))
+            {
+                pCounts.incrementAndGet(w);
+                ++common;
+            }
+        }
+        return common;
+    }
+
+    /**
+     * @param pGraph The graph.
+     * @return The constant time edge check of the graph if it has an adjacency matrix, {@code null} if contrary.
+     */
+    private static RowProbe probe(IBasicGraph pGraph)
+    {
+        if(pGraph instanceof BasicUndirectedUnweightedAMGraph)
+            return ((BasicUndirectedUnweightedAMGraph) pGraph)::hasEdge;
+        if(pGraph instanceof BasicUndirectedUnweightedGraph)
+            return ((BasicUndirectedUnweightedGraph) pGraph)::hasEdge;
+        return null;
+    }
+
+    // Interfaces
+
+    /**
+     * Constant time check of an edge in the rows of an adjacency matrix.
+     */
+    private interface RowProbe
+    {
+        /**
+         * @param pVertex1 The vertex whose row is probed.
+         * @param pVertex2 The second vertex.
+         * @return True if there's an edge between the two vertices, false if contrary.
+         */
+        boolean hasEdge(int pVertex1, int pVertex2);
+    }
+}
@@ -3,6 +3,8 @@
 package graph.algorithms.misc;
 
 import graph.IBasicGraph;
+import graph.IDirectedGraph;
+import graph.algorithms.search.IterativeDFS;
 
 /**
  * Algorithm that represents a coloring of a simple numerical graph such that
@@ -35,21 +37,16 @@ public class BasicTwoColor
      * Creates a BasicTwoColor object that uses the given graph to two color it.
      * Doesn't require the graph to be connected, i.e., will check the entire graph.
      * @param pGraph Graph to use for the algorithm.
+     * @throws IllegalArgumentException If the graph is directed.
      */
     public BasicTwoColor(IBasicGraph pGraph)
     {
+        if(pGraph instanceof IDirectedGraph)
+            throw new IllegalArgumentException("The graph should be undirected.");
         marked = new boolean[pGraph.V()];
         color = new boolean[pGraph.V()];
         isTwoColorable = true;
-        for(int v = 0; v < pGraph.V(); ++v)
-        {
-            if(!marked[v])
-            {
-                basicTwoColor(pGraph, v);
-                if(!isTwoColorable)
-                    return;
-            }
-        }
+        new IterativeDFS(pGraph).searchAll(marked, twoColorVisitor());
     }
 
     /**
@@ -57,13 +54,16 @@ public class BasicTwoColor
      * Will only check the component of which the given vertex is a part of.
      * @param pGraph Graph to use for the algorithm.
      * @param pVertex Vertex in which the coloring starts.
+     * @throws IllegalArgumentException If the graph is directed.
      */
     public BasicTwoColor(IBasicGraph pGraph, int pVertex)
     {
+        if(pGraph instanceof IDirectedGraph)
+            throw new IllegalArgumentException("The graph should be undirected.");
         marked = new boolean[pGraph.V()];
         color = new boolean[pGraph.V()];
         isTwoColorable = true;
-        basicTwoColor(pGraph, pVertex);
+        new IterativeDFS(pGraph).search(pVertex, marked, twoColorVisitor());
     }
 
     // Methods
@@ -95,27 +95,27 @@ public class BasicTwoColor
     }
 
     /**
-     * Recursive auxiliary method to color the graph.
-     * @param pGraph Graph to use for the algorithm.
-     * @param pVertex Vertex from which the coloring starts.
+     * Auxiliary method to color the graph with an iterative search. Each vertex gets the opposite color of its parent,
+     * and an edge to a marked vertex of the same color means that the graph isn't two-colorable.
+     * @return The visitor that colors the vertices and stops the search at the first conflict.
      */
-    private void basicTwoColor(IBasicGraph pGraph, int pVertex)
+    private IterativeDFS.Visitor twoColorVisitor()
     {
-        marked[pVertex] = true;
-        for(int vertex : pGraph.adjacent(pVertex))
+        return new IterativeDFS.Visitor()
         {
-            if(!isTwoColorable)
-                return;
-            if(!marked[vertex])
+            public boolean preorder(int pVertex, int pParent)
             {
-                color[vertex] = !color[pVertex];
-                basicTwoColor(pGraph, vertex);
+                if(pVertex != pParent)
+                    color[pVertex] = !color[pParent];
+                return true;
             }
-            else if(color[vertex] == color[pVertex])
+
+            public boolean revisit(int pVertex, int pParent, int pAdjacent)
             {
-                isTwoColorable = false;
-                return;
+                if(color[pAdjacent] == color[pVertex])
+                    isTwoColorable = false;
+                return isTwoColorable;
             }
-        }
+        };
     }
 }
\ No newline at end of file
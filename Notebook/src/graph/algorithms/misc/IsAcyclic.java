@@ -3,7 +3,7 @@
 package graph.algorithms.misc;
 
 import graph.IExtendedGraph;
-import java.util.ArrayList;
+import graph.algorithms.search.IterativeDFS;
 
 /**
  * Algorithm that represents a check to see if a graph is acyclic.
@@ -35,15 +35,7 @@ public class IsAcyclic<T>
     {
         marked = new boolean[pGraph.V()];
         isAcyclic = true;
-        for(int v = 0; v < pGraph.V(); ++v)
-        {
-            if(!marked[v])
-            {
-                isAcyclic(pGraph, v, v);
-                if(!isAcyclic)
-                    return;
-            }
-        }
+        new IterativeDFS(pGraph).searchAll(marked, acyclicVisitor());
     }
 
     /**
@@ -56,8 +48,7 @@ public class IsAcyclic<T>
     {
         marked = new boolean[pGraph.V()];
         isAcyclic = true;
-        int vertex = pGraph.keyToNumber().get(pVertex);
-        isAcyclic(pGraph, vertex, vertex);
+        new IterativeDFS(pGraph).search(pGraph.toNumber(pVertex), marked, acyclicVisitor());
     }
 
     // Methods
@@ -69,25 +60,20 @@ public class IsAcyclic<T>
     { return isAcyclic; }
 
     /**
-     * Recursive auxiliary method to find if the graph is acyclic.
-     * @param pGraph Graph to use for the algorithm.
-     * @param pVertex1 Vertex from which the search starts.
+     * Auxiliary method to find if the graph is acyclic with an iterative search. An edge to a marked vertex closes a
+     * cycle unless it goes back to the parent of the current vertex, or it's a self-cycle.
+     * @return The visitor that stops the search at the first cycle.
      */
-    private void isAcyclic(IExtendedGraph<T> pGraph, int pVertex1, int pVertex2)
+    private IterativeDFS.Visitor acyclicVisitor()
     {
-        marked[pVertex1] = true;
-        ArrayList<Integer> adjacentNumber = pGraph.adjacentNumber().get(pVertex1);
-        for(int vertex : adjacentNumber)
+        return new IterativeDFS.Visitor()
         {
-            if(!isAcyclic)
-                return;
-            if(!marked[vertex])
-                isAcyclic(pGraph, vertex, pVertex1);
-            else if(vertex != pVertex2 || vertex == pVertex1)
+            public boolean revisit(int pVertex, int pParent, int pAdjacent)
             {
-                isAcyclic = false;
-                return;
+                if(pAdjacent != pParent || pAdjacent == pVertex)
+                    isAcyclic = false;
+                return isAcyclic;
             }
-        }
+        };
     }
 }
\ No newline at end of file
@@ -3,7 +3,7 @@
 package graph.algorithms.misc;
 
 import graph.IExtendedGraph;
-import java.util.ArrayList;
+import graph.algorithms.search.IterativeDFS;
 import java.util.HashMap;
 
 /**
@@ -55,15 +55,7 @@ public class TwoColor<T>
         colors = new HashMap<>(pGraph.V());
         colorsNum = new HashMap<>(pGraph.V());
         isTwoColorable = true;
-        for(int v = 0; v < pGraph.V(); ++v)
-        {
-            if(!marked[v])
-            {
-                basicTwoColor(pGraph, v);
-                if(!isTwoColorable)
-                    return;
-            }
-        }
+        new IterativeDFS(pGraph).searchAll(marked, twoColorVisitor(pGraph));
     }
 
     /**
@@ -79,8 +71,7 @@ public class TwoColor<T>
         colors = new HashMap<>(pGraph.V());
         colorsNum = new HashMap<>(pGraph.V());
         isTwoColorable = true;
-        int vertex = pGraph.keyToNumber().get(pVertex);
-        basicTwoColor(pGraph, vertex);
+        new IterativeDFS(pGraph).search(pGraph.toNumber(pVertex), marked, twoColorVisitor(pGraph));
     }
 
     // Methods
@@ -106,32 +97,30 @@ public class TwoColor<T>
     { return isTwoColorable ? colorsNum : null; }
 
     /**
-     * Recursive auxiliary method to color the graph.
+     * Auxiliary method to color the graph with an iterative search. Each vertex gets the opposite color of its parent,
+     * and an edge to a marked vertex of the same color means that the graph isn't two-colorable.
      * @param pGraph Graph to use for the algorithm.
-     * @param pVertex Vertex from which the coloring starts.
+     * @return The visitor that colors the vertices and stops the search at the first conflict.
      */
-    private void basicTwoColor(IExtendedGraph<T> pGraph, int pVertex)
+    private IterativeDFS.Visitor twoColorVisitor(IExtendedGraph<T> pGraph)
     {
-        marked[pVertex] = true;
-        colors.put(pGraph.numberToKey().get(pVertex), color[pVertex]);
-        colorsNum.put(pGraph.numberToKey().get(pVertex), color[pVertex] ? 1 : 0);
-        ArrayList<Integer> adjacentNumber = pGraph.adjacentNumber().get(pVertex);
-        for(int vertex : adjacentNumber)
+        return new IterativeDFS.Visitor()
         {
-            if(!isTwoColorable)
-                return;
-            if(!marked[vertex])
+            public boolean preorder(int pVertex, int pParent)
             {
-                color[vertex] = !color[pVertex];
-                colors.put(pGraph.numberToKey().get(vertex), color[vertex]);
-                colorsNum.put(pGraph.numberToKey().get(vertex), color[vertex] ? 1 : 0);
-                basicTwoColor(pGraph, vertex);
+                if(pVertex != pParent)
+                    color[pVertex] = !color[pParent];
+                colors.put(pGraph.toKey(pVertex), color[pVertex]);
+                colorsNum.put(pGraph.toKey(pVertex), color[pVertex] ? 1 : 0);
+                return true;
             }
-            else if(color[vertex] == color[pVertex])
+
+            public boolean revisit(int pVertex, int pParent, int pAdjacent)
             {
-                isTwoColorable = false;
-                return;
+                if(color[pAdjacent] == color[pVertex])
+                    isTwoColorable = false;
+                return isTwoColorable;
             }
-        }
+        };
     }
 }
\ No newline at end of file
@@ -0,0 +1,381 @@
+// @formatter:off
+
+package graph.algorithms.ordering;
+
+import graph.IBasicGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import util.BasicSearch;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.PriorityQueue;
+
+/**
+ * Algorithm that relabels the vertices of a simple numerical graph so that vertices visited close in time are
+ * also close in memory, which reduces the cache misses of traversals such as BasicBFS and BasicDFS. Computes a
+ * permutation of the vertices with the given ordering and builds the relabeled graph as a compressed sparse row
+ * graph. Results of algorithms run on the relabeled graph can be mapped back to the original labels with toOld.
+ */
+public class BasicReordering
+{
+    // Constants
+
+    /**
+     * The orderings that can be computed.
+     */
+    public enum Ordering
+    {
+        /**
+         * Vertices sorted by descending degree, so that the most accessed vertices share cache lines. O(V+E).
+         */
+        DEGREE,
+
+        /**
+         * Vertices in the order in which a breadth first search from each unvisited vertex visits them. O(V+E).
+         */
+        BFS,
+
+        /**
+         * Reverse Cuthill-McKee: a breadth first search that starts each component from a vertex of minimum degree
+         * and visits the neighbors by ascending degree, reversed. Reduces the bandwidth of the adjacency matrix. O(V+E log E).
+         */
+        RCM,
+
+        /**
+         * Greedy ordering in the style of Gorder: the next vertex is the one with the most neighbors and common neighbors
+         * among the last WINDOW placed vertices. The neighbors of vertices with a degree larger than the square root of V
+         * aren't expanded, which bounds the work. Best locality, but the slowest to compute.
+         */
+        GORDER
+    }
+
+    /**
+     * The number of last placed vertices whose neighborhoods are considered by the GORDER ordering.
+     */
+    public static final int WINDOW = 5;
+
+    // Attributes
+
+    /**
+     * The computed ordering.
+     */
+    private final Ordering ordering;
+
+    /**
+     * The new label of each vertex.
+     */
+    private final int[] oldToNew;
+
+    /**
+     * The original label of each vertex of the relabeled graph.
+     */
+    private final int[] newToOld;
+
+    /**
+     * The relabeled graph.
+     */
+    private final BasicUndirectedUnweightedCSRGraph graph;
+
+    // Constructor
+
+    /**
+     * Creates a BasicReordering object that relabels the given graph with the given ordering.
+     * @param pGraph Graph to relabel.
+     * @param pOrdering The ordering of the vertices.
+     */
+    public BasicReordering(IBasicGraph pGraph, Ordering pOrdering)
+    {
+        ordering = pOrdering;
+        int V = pGraph.V();
+        // The graph is read once into primitive arrays.
+        int[] offsets = new int[V + 1];
+        int[][] lists = new int[V][];
+        for(int v = 0; v < V; ++v)
+        {
+            Collection<Integer> adjacent = pGraph.adjacent(v);
+            int i = 0;
+            lists[v] = new int[adjacent.size()];
+            for(int vertex : adjacent)
+                lists[v][i++] = vertex;
+            offsets[v + 1] = offsets[v] + i;
+        }
+        int[] targets = new int[offsets[V]];
+        for(int v = 0; v < V; ++v)
+            System.arraycopy(lists[v], 0, targets, offsets[v], lists[v].length);
+        switch(pOrdering)
+        {
+            case DEGREE: newToOld = degreeOrder(offsets); break;
+            case BFS: newToOld = bfsOrder(offsets, targets, false); break;
+            case RCM: newToOld = bfsOrder(offsets, targets, true); break;
+            default: newToOld = greedyOrder(offsets, targets);
+        }
+        oldToNew = new int[V];
+        for(int v = 0; v < V; ++v)
+            oldToNew[newToOld[v]] = v;
+        graph = relabel(offsets, targets, pGraph.E());
+    }
+
+    // Methods
+
+    /**
+     * @return The computed ordering.
+     */
+    public Ordering ordering()
+    { return ordering; }
+
+    /**
+     * @return The relabeled graph.
+     */
+    public BasicUndirectedUnweightedCSRGraph graph()
+    { return graph; }
+
+    /**
+     * @return The array with the new label of each vertex, which isn't copied.
+     */
+    public int[] oldToNew()
+    { return oldToNew; }
+
+    /**
+     * @return The array with the original label of each vertex of the relabeled graph, which isn't copied.
+     */
+    public int[] newToOld()
+    { return newToOld; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex A vertex of the original graph.
+     * @return The label of the vertex in the relabeled graph.
+     */
+    public int toNew(int pVertex)
+    { return oldToNew[pVertex]; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex A vertex of the relabeled graph.
+     * @return The label of the vertex in the original graph.
+     */
+    public int toOld(int pVertex)
+    { return newToOld[pVertex]; }
+
+    /**
+     * Maps a value computed for each vertex of the relabeled graph, such as a distance or a component, to the original labels.
+     * @param pValues The value of each vertex of the relabeled graph.
+     * @return The value of each vertex of the original graph.
+     */
+    public int[] toOld(int[] pValues)
+    {
+        int[] values = new int[pValues.length];
+        for(int v = 0; v < pValues.length; ++v)
+            values[newToOld[v]] = pValues[v];
+        return values;
+    }
+
+    /**
+     * Maps a search run on the relabeled graph, such as BasicBFS or BasicDFS, to the original labels.
+     * @param pSearch The search run on the relabeled graph.
+     * @return The search with the original labels.
+     */
+    public BasicSearch toOld(BasicSearch pSearch)
+    { return pSearch.relabel(newToOld); }
+
+    /**
+     * @param pOffsets The position in which the adjacency of each vertex starts, with a last position for the end.
+     * @return The vertices sorted by descending degree, keeping the original order between vertices of the same degree.
+     */
+    private static int[] degreeOrder(int[] pOffsets)
+    {
+        int V = pOffsets.length - 1, max = 0;
+        for(int v = 0; v < V; ++v)
+            max = Math.max(max, pOffsets[v + 1] - pOffsets[v]);
+        // Counting sort by degree, from the largest.
+        int[] start = new int[max + 2];
+        for(int v = 0; v < V; ++v)
+            ++start[max - (pOffsets[v + 1] - pOffsets[v]) + 1];
+        for(int d = 1; d < start.length; ++d)
+            start[d] += start[d - 1];
+        int[] order = new int[V];
+        for(int v = 0; v < V; ++v)
+            order[start[max - (pOffsets[v + 1] - pOffsets[v])]++] = v;
+        return order;
+    }
+
+    /**
+     * @param pOffsets The position in which the adjacency of each vertex starts, with a last position for the end.
+     * @param pTargets The adjacent vertices of every vertex.
+     * @param pCuthillMcKee Whether to compute the reverse Cuthill-McKee ordering instead of the plain breadth first order.
+     * @return The vertices in breadth first order.
+     */
+    private static int[] bfsOrder(int[] pOffsets, int[] pTargets, boolean pCuthillMcKee)
+    {
+        int V = pOffsets.length - 1;
+        int[] order = new int[V];
+        boolean[] marked = new boolean[V];
+        int[] starts = pCuthillMcKee ? degreeOrder(pOffsets) : null;
+        int[] neighbors = new int[0];
+        int head = 0, tail = 0;
+        for(int s = 0; s < V; ++s)
+        {
+            // Cuthill-McKee starts each component from the vertex of minimum degree.
+            int start = pCuthillMcKee ? starts[V - 1 - s] : s;
+            if(marked[start])
+                continue;
+            marked[start] = true;
+            order[tail++] = start;
+            while(head < tail)
+            {
+                int vertex = order[head++], count = 0;
+                int degree = pOffsets[vertex + 1] - pOffsets[vertex];
+                if(neighbors.length < degree)
+                    neighbors = new int[degree];
+                for(int i = pOffsets[vertex]; i < pOffsets[vertex + 1]; ++i)
+                {
+                    if(!marked[pTargets[i]])
+                    {
+                        marked[pTargets[i]] = true;
+                        neighbors[count++] = pTargets[i];
+                    }
+                }
+                if(pCuthillMcKee)
+                    sortByDegree(neighbors, count, pOffsets);
+                System.arraycopy(neighbors, 0, order, tail, count);
+                tail += count;
+            }
+        }
+        if(pCuthillMcKee)
+        {
+            for(int i = 0, j = V - 1; i < j; ++i, --j)
+            {
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Sorts the first vertices of the array by ascending degree.
+     * @param pVertices The vertices.
+     * @param pCount The number of vertices to sort.
+     * @param pOffsets The position in which the adjacency of each vertex starts, with a last position for the end.
+     */
+    private static void sortByDegree(int[] pVertices, int pCount, int[] pOffsets)
+    {
+        long[] keys = new long[pCount];
+        for(int i = 0; i < pCount; ++i)
+            keys[i] = (long) (pOffsets[pVertices[i] + 1] - pOffsets[pVertices[i]]) << 32 | pVertices[i];
+        Arrays.sort(keys);
+        for(int i = 0; i < pCount; ++i)
+            pVertices[i] = (int) keys[i];
+    }
+
+    /**
+     * @param pOffsets The position in which the adjacency of each vertex starts, with a last position for the end.
+     * @param pTargets The adjacent vertices of every vertex.
+     * @return The vertices in the greedy order of GORDER.
+     */
+    private static int[] greedyOrder(int[] pOffsets, int[] pTargets)
+    {
+        int V = pOffsets.length - 1;
+        int hub = (int) Math.sqrt(V) + 1;
+        int[] order = new int[V];
+        int[] score = new int[V];
+        boolean[] placed = new boolean[V];
+        int[] byDegree = degreeOrder(pOffsets);
+        // Max-heap of (score, vertex) with stale entries, which are skipped when their score is outdated.
+        PriorityQueue<Long> heap = new PriorityQueue<>((a, b) -> Long.compare(b, a));
+        int next = 0;
+        for(int n = 0; n < V; ++n)
+        {
+            int vertex = -1;
+            while(!heap.isEmpty())
+            {
+                long entry = heap.poll();
+                int candidate = (int) entry;
+                if(!placed[candidate] && score[candidate] == (int) (entry >>> 32))
+                {
+                    vertex = candidate;
+                    break;
+                }
+            }
+            if(vertex < 0)
+            {
+                while(placed[byDegree[next]])
+                    ++next;
+                vertex = byDegree[next];
+            }
+            placed[vertex] = true;
+            order[n] = vertex;
+            update(vertex, 1, pOffsets, pTargets, score, placed, heap, hub);
+            if(n >= WINDOW)
+                update(order[n - WINDOW], -1, pOffsets, pTargets, score, placed, heap, hub);
+        }
+        return order;
+    }
+
+    /**
+     * Adds the given amount to the score of the neighbors and the neighbors of the neighbors of a vertex that entered
+     * or left the window, pushing the changed scores to the heap.
+     * @param pVertex The vertex.
+     * @param pAmount 1 if the vertex entered the window, -1 if it left.
+     * @param pOffsets The position in which the adjacency of each vertex starts, with a last position for the end.
+     * @param pTargets The adjacent vertices of every vertex.
+     * @param pScore The score of each vertex.
+     * @param pPlaced Whether each vertex was placed.
+     * @param pHeap The heap of scores.
+     * @param pHub The degree above which the neighbors of a vertex aren't expanded.
+     */
+    private static void update(int pVertex, int pAmount, int[] pOffsets, int[] pTargets, int[] pScore, boolean[] pPlaced, PriorityQueue<Long> pHeap, int pHub)
+    {
+        for(int i = pOffsets[pVertex]; i < pOffsets[pVertex + 1]; ++i)
+        {
+            int neighbor = pTargets[i];
+            change(neighbor, pAmount, pScore, pPlaced, pHeap);
+            if(pOffsets[neighbor + 1] - pOffsets[neighbor] <= pHub)
+            {
+                for(int j = pOffsets[neighbor]; j < pOffsets[neighbor + 1]; ++j)
+                    change(pTargets[j], pAmount, pScore, pPlaced, pHeap);
+            }
+        }
+    }
+
+    /**
+     * Adds the given amount to the score of a vertex that isn't placed and pushes the new score to the heap.
+     * @param pVertex The vertex.
+     * @param pAmount The amount.
+     * @param pScore The score of each vertex.
+     * @param pPlaced Whether each vertex was placed.
+     * @param pHeap The heap of scores.
+     */
+    private static void change(int pVertex, int pAmount, int[] pScore, boolean[] pPlaced, PriorityQueue<Long> pHeap)
+    {
+        if(pPlaced[pVertex])
+            return;
+        pScore[pVertex] += pAmount;
+        if(pScore[pVertex] > 0)
+            pHeap.add((long) pScore[pVertex] << 32 | pVertex);
+    }
+
+    /**
+     * Builds the relabeled graph, with the adjacency of every vertex sorted.
+     * @param pOffsets The position in which the adjacency of each vertex starts, with a last position for the end.
+     * @param pTargets The adjacent vertices of every vertex.
+     * @param pE The number of edges.
+     * @return The relabeled graph.
+     */
+    private BasicUndirectedUnweightedCSRGraph relabel(int[] pOffsets, int[] pTargets, int pE)
+    {
+        int V = pOffsets.length - 1;
+        int[] offsets = new int[V + 1];
+        for(int v = 0; v < V; ++v)
+            offsets[v + 1] = offsets[v] + pOffsets[newToOld[v] + 1] - pOffsets[newToOld[v]];
+        int[] targets = new int[pTargets.length];
+        for(int v = 0; v < V; ++v)
+        {
+            int old = newToOld[v];
+            for(int i = pOffsets[old], j = offsets[v]; i < pOffsets[old + 1]; ++i, ++j)
+                targets[j] = oldToNew[pTargets[i]];
+            Arrays.sort(targets, offsets[v], offsets[v + 1]);
+        }
+        return new BasicUndirectedUnweightedCSRGraph(offsets, targets, pE, true);
+    }
+}
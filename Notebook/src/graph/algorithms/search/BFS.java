@@ -4,8 +4,8 @@ package graph.algorithms.search;
 
 import graph.IExtendedGraph;
 import util.Search;
+import util.SearchWorkspace;
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 
 /**
  * Algorithm that represents a breath first search for a graph.
@@ -27,6 +27,20 @@ public class BFS<T> extends Search<T>
         basicBFS(pGraph, originNumber);
     }
 
+    /**
+     * Creates a BFS object that uses the given graph and starts the search from the given vertex, keeping its
+     * results in the given workspace instead of allocating them. The results are valid until the next search that
+     * uses the workspace.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pOrigin Vertex from which the search starts.
+     * @param pWorkspace The workspace of the search, such as {@code SearchWorkspace.current()}.
+     */
+    public BFS(IExtendedGraph<T> pGraph, T pOrigin, SearchWorkspace pWorkspace)
+    {
+        super(pGraph, pOrigin, pWorkspace);
+        basicBFS(pGraph, originNumber, pWorkspace);
+    }
+
     // Methods
 
     /**
@@ -39,14 +53,14 @@ public class BFS<T> extends Search<T>
         ArrayDeque<Integer> queue = new ArrayDeque<>();
         marked[pVertex] = true;
         queue.add(pVertex);
-        int vertex;
-        ArrayList<Integer> adjacentNumber;
+        int vertex, adjacent, degree;
         while(!queue.isEmpty())
         {
             vertex = queue.remove();
-            adjacentNumber = pGraph.adjacentNumber().get(vertex);
-            for(Integer adjacent : adjacentNumber)
+            degree = pGraph.degree(vertex);
+            for(int i = 0; i < degree; ++i)
             {
+                adjacent = pGraph.neighbor(vertex, i);
                 if(!marked[adjacent])
                 {
                     edgeTo[adjacent] = vertex;
@@ -56,4 +70,31 @@ public class BFS<T> extends Search<T>
             }
         }
     }
+
+    /**
+     * Auxiliary method to find the paths from the origin vertex with the arrays of a workspace.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pVertex Vertex from which the search starts.
+     * @param pWorkspace The workspace of the search.
+     */
+    private void basicBFS(IExtendedGraph<T> pGraph, int pVertex, SearchWorkspace pWorkspace)
+    {
+        int[] queue = pWorkspace.queue();
+        int head = 0, tail = 0;
+        pWorkspace.mark(pVertex);
+        queue[tail++] = pVertex;
+        while(head < tail)
+        {
+            int vertex = queue[head++];
+            for(int i = 0, degree = pGraph.degree(vertex); i < degree; ++i)
+            {
+                int adjacent = pGraph.neighbor(vertex, i);
+                if(pWorkspace.mark(adjacent))
+                {
+                    edgeTo[adjacent] = vertex;
+                    queue[tail++] = adjacent;
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -4,7 +4,7 @@ package graph.algorithms.search;
 
 import graph.IBasicGraph;
 import util.BasicSearch;
-import java.util.ArrayDeque;
+import util.SearchWorkspace;
 
 /**
  * Algorithm that represents a breath first search for a simple numerical graph.
@@ -26,6 +26,20 @@ public class BasicBFS extends BasicSearch
         basicBFS(pGraph, pOrigin);
     }
 
+    /**
+     * Creates a BasicBFS object that uses the given graph and starts the search from the given vertex, keeping its
+     * results in the given workspace instead of allocating them. The results are valid until the next search that
+     * uses the workspace.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pOrigin Vertex from which the search starts.
+     * @param pWorkspace The workspace of the search, such as {@code SearchWorkspace.current()}.
+     */
+    public BasicBFS(IBasicGraph pGraph, int pOrigin, SearchWorkspace pWorkspace)
+    {
+        super(pGraph, pOrigin, pWorkspace);
+        basicBFS(pGraph, pOrigin, pWorkspace);
+    }
+
     // Methods
 
     /**
@@ -35,20 +49,50 @@ public class BasicBFS extends BasicSearch
      */
     private void basicBFS(IBasicGraph pGraph, int pVertex)
     {
-        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        // Every vertex enters the queue at most once, so a primitive array of V vertices holds it.
+        int[] queue = new int[pGraph.V()];
+        int head = 0, tail = 0;
         marked[pVertex] = true;
-        queue.add(pVertex);
+        queue[tail++] = pVertex;
         int vertex;
-        while(!queue.isEmpty())
+        while(head < tail)
         {
-            vertex = queue.remove();
-            for(int adjacent : pGraph.adjacent(vertex))
+            vertex = queue[head++];
+            for(int i = 0, degree = pGraph.degree(vertex); i < degree; ++i)
             {
+                int adjacent = pGraph.neighbor(vertex, i);
                 if(!marked[adjacent])
                 {
                     edgeTo[adjacent] = vertex;
                     marked[adjacent] = true;
-                    queue.add(adjacent);
+                    queue[tail++] = adjacent;
+                }
+            }
+        }
+    }
+
+    /**
+     * Auxiliary method to find the paths from the origin vertex with the arrays of a workspace.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pVertex Vertex from which the search starts.
+     * @param pWorkspace The workspace of the search.
+     */
+    private void basicBFS(IBasicGraph pGraph, int pVertex, SearchWorkspace pWorkspace)
+    {
+        int[] queue = pWorkspace.queue();
+        int head = 0, tail = 0;
+        pWorkspace.mark(pVertex);
+        queue[tail++] = pVertex;
+        while(head < tail)
+        {
+            int vertex = queue[head++];
+            for(int i = 0, degree = pGraph.degree(vertex); i < degree; ++i)
+            {
+                int adjacent = pGraph.neighbor(vertex, i);
+                if(pWorkspace.mark(adjacent))
+                {
+                    edgeTo[adjacent] = vertex;
+                    queue[tail++] = adjacent;
                 }
             }
         }
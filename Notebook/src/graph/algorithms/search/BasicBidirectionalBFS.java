@@ -0,0 +1,268 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IBasicGraph;
+import graph.IDirectedGraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Algorithm that answers shortest path queries between two vertices of a simple numerical graph with a breath first
+ * search from each of them. Each step expands a whole level of the side with the smaller frontier, and the query
+ * ends in the level in which both searches meet, so only the vertices around the two ends are explored, instead of
+ * the whole component of the origin. For directed graphs, the search from the target goes against the edges.
+ * <p>
+ * The marks of both searches are stamped with the number of the query, so the arrays are allocated once and each
+ * query only touches the vertices it explores. The arrays grow when vertices are added to the graph. An object isn't
+ * thread-safe, so each thread should have its own.
+ */
+public class BasicBidirectionalBFS
+{
+    // Constants
+
+    /**
+     * The position of the search from the origin in the arrays of both searches.
+     */
+    private static final int FORWARD = 0;
+
+    /**
+     * The position of the search from the target in the arrays of both searches.
+     */
+    private static final int BACKWARD = 1;
+
+    // Attributes
+
+    /**
+     * The number of vertices of the graph, which may grow between queries.
+     */
+    private final IntSupplier vertices;
+
+    /**
+     * The degree of each vertex for each search.
+     */
+    private final IntUnaryOperator[] degree;
+
+    /**
+     * The adjacent vertex of a vertex in a position for each search.
+     */
+    private final IntBinaryOperator[] neighbor;
+
+    /**
+     * The query in which each vertex was last marked by each search.
+     */
+    private int[][] stamps;
+
+    /**
+     * The vertex from which each vertex was reached by each search.
+     */
+    private int[][] edgeTo;
+
+    /**
+     * The distance of each vertex from the end of each search.
+     */
+    private int[][] distTo;
+
+    /**
+     * The vertices marked by each search, in order of distance.
+     */
+    private int[][] queues;
+
+    /**
+     * The number of the current query.
+     */
+    private int query;
+
+    /**
+     * The number of vertices marked by the last query.
+     */
+    private int explored;
+
+    // Constructor
+
+    /**
+     * Creates a BasicBidirectionalBFS object that answers queries over the given graph.
+     * @param pGraph Graph to use for the algorithm.
+     */
+    public BasicBidirectionalBFS(IBasicGraph pGraph)
+    {
+        this(pGraph::V, pGraph::degree, pGraph::neighbor,
+                pGraph instanceof IDirectedGraph ? ((IDirectedGraph) pGraph)::inDegree : pGraph::degree,
+                pGraph instanceof IDirectedGraph ? ((IDirectedGraph) pGraph)::inNeighbor : pGraph::neighbor);
+    }
+
+    /**
+     * Creates a BasicBidirectionalBFS object that answers queries over N vertices labeled from 0 to N-1 with the
+     * given adjacency in each direction, where N may grow between queries.
+     * @param pVertices The number of vertices.
+     * @param pDegree The number of edges that leave each vertex.
+     * @param pNeighbor The head of the edge that leaves a vertex in a position smaller than its degree.
+     * @param pInDegree The number of edges that reach each vertex.
+     * @param pInNeighbor The tail of the edge that reaches a vertex in a position smaller than its in degree.
+     */
+    BasicBidirectionalBFS(IntSupplier pVertices, IntUnaryOperator pDegree, IntBinaryOperator pNeighbor, IntUnaryOperator pInDegree, IntBinaryOperator pInNeighbor)
+    {
+        vertices = pVertices;
+        int N = pVertices.getAsInt();
+        degree = new IntUnaryOperator[]{pDegree, pInDegree};
+        neighbor = new IntBinaryOperator[]{pNeighbor, pInNeighbor};
+        stamps = new int[2][N];
+        edgeTo = new int[2][N];
+        distTo = new int[2][N];
+        queues = new int[2][N];
+    }
+
+    // Methods
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use shortestPathChecked.
+     * @param pOrigin The vertex in which the path starts.
+     * @param pTarget The vertex in which the path ends.
+     * @return The vertices of a shortest path from the origin to the target in order, {@code null} if there's no path.
+     */
+    public List<Integer> shortestPath(int pOrigin, int pTarget)
+    {
+        int meeting = search(pOrigin, pTarget);
+        if(meeting < 0)
+            return null;
+        List<Integer> path = new ArrayList<>(distTo[FORWARD][meeting] + distTo[BACKWARD][meeting] + 1);
+        for(int v = meeting; v != pOrigin; v = edgeTo[FORWARD][v])
+            path.add(v);
+        path.add(pOrigin);
+        Collections.reverse(path);
+        for(int v = meeting; v != pTarget; )
+        {
+            v = edgeTo[BACKWARD][v];
+            path.add(v);
+        }
+        return path;
+    }
+
+    /**
+     * Checks if the vertices are valid.
+     * @param pOrigin The vertex in which the path starts.
+     * @param pTarget The vertex in which the path ends.
+     * @return The vertices of a shortest path from the origin to the target in order, {@code null} if there's no path
+     * or if one or two of the vertices are invalid.
+     */
+    public List<Integer> shortestPathChecked(int pOrigin, int pTarget)
+    {
+        int N = vertices.getAsInt();
+        if(pOrigin >= 0 && pTarget >= 0 && pOrigin < N && pTarget < N)
+            return shortestPath(pOrigin, pTarget);
+        else
+            return null;
+    }
+
+    /**
+     * Doesn't check if the vertices are valid.
+     * @param pOrigin The vertex in which the path starts.
+     * @param pTarget The vertex in which the path ends.
+     * @return The number of edges of a shortest path from the origin to the target, -1 if there's no path.
+     */
+    public int distance(int pOrigin, int pTarget)
+    {
+        int meeting = search(pOrigin, pTarget);
+        return meeting < 0 ? -1 : distTo[FORWARD][meeting] + distTo[BACKWARD][meeting];
+    }
+
+    /**
+     * @return The number of vertices marked by both searches of the last query.
+     */
+    public int explored()
+    { return explored; }
+
+    /**
+     * Searches from both vertices until the searches meet. The searches finish the level in which they meet, so
+     * that the meeting vertex is the one of the shortest path through any of the vertices of that level.
+     * @param pOrigin The vertex in which the path starts.
+     * @param pTarget The vertex in which the path ends.
+     * @return The vertex in which the searches meet, -1 if they don't.
+     */
+    private int search(int pOrigin, int pTarget)
+    {
+        int N = vertices.getAsInt();
+        if(N > stamps[FORWARD].length)
+            grow(N);
+        if(++query == Integer.MAX_VALUE)
+        {
+            Arrays.fill(stamps[FORWARD], 0);
+            Arrays.fill(stamps[BACKWARD], 0);
+            query = 1;
+        }
+        int[] heads = new int[2], tails = new int[2];
+        start(FORWARD, pOrigin, tails);
+        start(BACKWARD, pTarget, tails);
+        explored = pOrigin == pTarget ? 1 : 2;
+        if(pOrigin == pTarget)
+            return pOrigin;
+        while(heads[FORWARD] < tails[FORWARD] && heads[BACKWARD] < tails[BACKWARD])
+        {
+            int side = tails[FORWARD] - heads[FORWARD] <= tails[BACKWARD] - heads[BACKWARD] ? FORWARD : BACKWARD;
+            int other = 1 - side, best = Integer.MAX_VALUE, meeting = -1;
+            int[] queue = queues[side], stamp = stamps[side], parent = edgeTo[side], dist = distTo[side];
+            IntUnaryOperator degrees = degree[side];
+            IntBinaryOperator neighbors = neighbor[side];
+            // The whole level is expanded, the vertices of the next level are added after it.
+            for(int end = tails[side]; heads[side] < end; ++heads[side])
+            {
+                int vertex = queue[heads[side]];
+                for(int i = 0, n = degrees.applyAsInt(vertex); i < n; ++i)
+                {
+                    int adjacent = neighbors.applyAsInt(vertex, i);
+                    if(stamp[adjacent] == query)
+                        continue;
+                    stamp[adjacent] = query;
+                    parent[adjacent] = vertex;
+                    dist[adjacent] = dist[vertex] + 1;
+                    queue[tails[side]++] = adjacent;
+                    ++explored;
+                    if(stamps[other][adjacent] == query && dist[adjacent] + distTo[other][adjacent] < best)
+                    {
+                        best = dist[adjacent] + distTo[other][adjacent];
+                        meeting = adjacent;
+                    }
+                }
+            }
+            if(meeting >= 0)
+                return meeting;
+        }
+        return -1;
+    }
+
+    /**
+     * Grows the arrays of both searches to hold N vertices, and at least half their size more. The new stamps are 0,
+     * which is never the number of a query, so every vertex is unmarked.
+     * @param N The number of vertices.
+     */
+    private void grow(int N)
+    {
+        int capacity = Math.max(N, (int) Math.min(Integer.MAX_VALUE - 8, stamps[FORWARD].length + (long) (stamps[FORWARD].length >> 1)));
+        for(int side = FORWARD; side <= BACKWARD; ++side)
+        {
+            stamps[side] = new int[capacity];
+            edgeTo[side] = new int[capacity];
+            distTo[side] = new int[capacity];
+            queues[side] = new int[capacity];
+        }
+    }
+
+    /**
+     * Marks the end of a search as its first vertex.
+     * @param pSide The search.
+     * @param pVertex The end of the search.
+     * @param pTails The number of vertices in the queue of each search.
+     */
+    private void start(int pSide, int pVertex, int[] pTails)
+    {
+        stamps[pSide][pVertex] = query;
+        distTo[pSide][pVertex] = 0;
+        queues[pSide][0] = pVertex;
+        pTails[pSide] = 1;
+    }
+}
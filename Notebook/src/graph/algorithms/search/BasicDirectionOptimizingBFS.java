@@ -0,0 +1,196 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IBasicGraph;
+import graph.IDirectedGraph;
+import util.BasicSearch;
+import java.util.Arrays;
+
+/**
+ * Algorithm that represents a direction optimizing breath first search for a simple numerical graph, which finds
+ * the same distances as BasicBFS. Each level is expanded either top-down, where the vertices of the frontier, kept
+ * in a queue, mark their unmarked adjacent vertices, or bottom-up, where every unmarked vertex looks for an adjacent
+ * vertex in the frontier, kept as a bitset, and stops at the first one it finds.
+ * <p>
+ * The search switches to bottom-up when the edges of the frontier are more than the edges of the unmarked vertices
+ * divided by alpha, which happens in the few large levels of low diameter graphs where most top-down edges reach
+ * marked vertices, and switches back to top-down when the frontier shrinks below the vertices divided by beta.
+ * For directed graphs, the bottom-up levels look for the tails of the incoming edges of each vertex.
+ */
+public class BasicDirectionOptimizingBFS extends BasicSearch
+{
+    // Constants
+
+    /**
+     * The default ratio between the edges of the unmarked vertices and the edges of the frontier to go bottom-up.
+     */
+    public static final int ALPHA = 14;
+
+    /**
+     * The default ratio between the vertices and the vertices of a shrinking frontier to go back to top-down.
+     */
+    public static final int BETA = 24;
+
+    // Attributes
+
+    /**
+     * The number of levels of the search.
+     */
+    private int levels;
+
+    /**
+     * The number of levels expanded bottom-up.
+     */
+    private int bottomUpLevels;
+
+    // Constructor
+
+    /**
+     * Creates a BasicDirectionOptimizingBFS object that uses the given graph and starts the search from the given
+     * vertex, with the default ratios to switch directions.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pOrigin Vertex from which the search starts.
+     */
+    public BasicDirectionOptimizingBFS(IBasicGraph pGraph, int pOrigin)
+    { this(pGraph, pOrigin, ALPHA, BETA); }
+
+    /**
+     * Creates a BasicDirectionOptimizingBFS object that uses the given graph and starts the search from the given
+     * vertex, with the given ratios to switch directions.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pOrigin Vertex from which the search starts.
+     * @param pAlpha The ratio between the edges of the unmarked vertices and the edges of the frontier to go bottom-up.
+     * The larger it is, the sooner the search goes bottom-up, and with 0 it's always top-down.
+     * @param pBeta The ratio between the vertices and the vertices of a shrinking frontier to go back to top-down.
+     * The larger it is, the later the search goes back to top-down.
+     */
+    public BasicDirectionOptimizingBFS(IBasicGraph pGraph, int pOrigin, int pAlpha, int pBeta)
+    {
+        super(pGraph, pOrigin);
+        basicDirectionOptimizingBFS(pGraph, pOrigin, pAlpha, pBeta);
+    }
+
+    // Methods
+
+    /**
+     * @return The number of levels of the search, counting the one of the origin.
+     */
+    public int levels()
+    { return levels; }
+
+    /**
+     * @return The number of levels expanded bottom-up.
+     */
+    public int bottomUpLevels()
+    { return bottomUpLevels; }
+
+    /**
+     * Auxiliary method to find the paths from the origin vertex.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pVertex Vertex from which the search starts.
+     * @param pAlpha The ratio to go bottom-up.
+     * @param pBeta The ratio to go back to top-down.
+     */
+    private void basicDirectionOptimizingBFS(IBasicGraph pGraph, int pVertex, int pAlpha, int pBeta)
+    {
+        int V = pGraph.V();
+        IDirectedGraph directed = pGraph instanceof IDirectedGraph ? (IDirectedGraph) pGraph : null;
+        long unexplored = 0;
+        for(int v = 0; v < V; ++v)
+            unexplored += directed == null ? pGraph.degree(v) : directed.inDegree(v);
+        // Every vertex enters a queue at most once, so two primitive arrays of V vertices hold the frontiers.
+        int[] queue = new int[V], nextQueue = new int[V];
+        long[] frontier = null, nextFrontier = null;
+        int size = 1;
+        long edges = pGraph.degree(pVertex);
+        marked[pVertex] = true;
+        queue[0] = pVertex;
+        unexplored -= directed == null ? edges : directed.inDegree(pVertex);
+        boolean bottomUp = false;
+        while(size > 0)
+        {
+            ++levels;
+            int previous = size;
+            if(!bottomUp && (double) edges * pAlpha > unexplored)
+            {
+                // The queue becomes a bitset.
+                if(frontier == null)
+                {
+                    frontier = new long[(V + 63) >>> 6];
+                    nextFrontier = new long[frontier.length];
+                }
+                for(int i = 0; i < size; ++i)
+                    frontier[queue[i] >>> 6] |= 1L << queue[i];
+                bottomUp = true;
+            }
+            size = 0;
+            edges = 0;
+            if(bottomUp)
+            {
+                ++bottomUpLevels;
+                long found = 0;
+                for(int v = 0; v < V; ++v)
+                {
+                    if(marked[v])
+                        continue;
+                    int degree = directed == null ? pGraph.degree(v) : directed.inDegree(v);
+                    for(int i = 0; i < degree; ++i)
+                    {
+                        int adjacent = directed == null ? pGraph.neighbor(v, i) : directed.inNeighbor(v, i);
+                        if((frontier[adjacent >>> 6] & (1L << adjacent)) != 0)
+                        {
+                            // The frontier is only read from the bitset, so the vertex can be marked right away.
+                            edgeTo[v] = adjacent;
+                            marked[v] = true;
+                            nextFrontier[v >>> 6] |= 1L << v;
+                            ++size;
+                            edges += pGraph.degree(v);
+                            found += degree;
+                            break;
+                        }
+                    }
+                }
+                Arrays.fill(frontier, 0);
+                long[] swap = frontier;
+                frontier = nextFrontier;
+                nextFrontier = swap;
+                unexplored -= found;
+                if(size < previous && (double) size * pBeta < V)
+                {
+                    // The bitset becomes a queue.
+                    int tail = 0;
+                    for(int w = 0; w < frontier.length; ++w)
+                    {
+                        for(long bits = frontier[w]; bits != 0; bits &= bits - 1)
+                            queue[tail++] = (w << 6) | Long.numberOfTrailingZeros(bits);
+                        frontier[w] = 0;
+                    }
+                    bottomUp = false;
+                }
+            }
+            else
+            {
+                for(int i = 0; i < previous; ++i)
+                {
+                    int vertex = queue[i];
+                    for(int j = 0, degree = pGraph.degree(vertex); j < degree; ++j)
+                    {
+                        int adjacent = pGraph.neighbor(vertex, j);
+                        if(!marked[adjacent])
+                        {
+                            edgeTo[adjacent] = vertex;
+                            marked[adjacent] = true;
+                            nextQueue[size++] = adjacent;
+                            edges += pGraph.degree(adjacent);
+                            unexplored -= directed == null ? pGraph.degree(adjacent) : directed.inDegree(adjacent);
+                        }
+                    }
+                }
+                int[] swap = queue;
+                queue = nextQueue;
+                nextQueue = swap;
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IBasicGraph;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Algorithm that represents many breath first searches for a simple numerical graph that share their traversals.
+ * The sources are searched in batches of 64 times a number of words: each vertex has that many words for the set of
+ * searches that have seen it, the set of searches that visit it in the current level and the set of searches that
+ * visit it in the next one, with a bit per search. Each vertex that is visited by any search sends its visit set to
+ * its adjacent vertices in a single pass over its adjacency, so one traversal serves every search of the batch.
+ * <p>
+ * For each source, keeps the sum of the distances to the vertices it reaches, the number of vertices it reaches and
+ * its eccentricity, which are the inputs of the closeness and eccentricity estimates, and optionally the distance of
+ * every vertex. The batches are searched in parallel, each needing three arrays of V times the number of words, so
+ * only as many batches are searched at the same time as fit in half of the memory the JVM can still allocate.
+ */
+public class BasicMultiSourceBFS
+{
+    // Constants
+
+    /**
+     * The number of searches of a word.
+     */
+    private static final int BITS = 64;
+
+    // Attributes
+
+    /**
+     * The sources of the searches.
+     */
+    private final int[] sources;
+
+    /**
+     * The sum of the distances from each source to the vertices it reaches.
+     */
+    private final long[] distanceSums;
+
+    /**
+     * The number of vertices reached by each source, counting itself.
+     */
+    private final int[] reached;
+
+    /**
+     * The largest distance from each source to a vertex it reaches.
+     */
+    private final int[] eccentricities;
+
+    /**
+     * The distance from each source to each vertex, or -1 if it isn't reachable, {@code null} if they aren't kept.
+     */
+    private final int[][] distances;
+
+    // Constructor
+
+    /**
+     * Creates a BasicMultiSourceBFS object that searches the given graph from each of the given sources in batches
+     * of 64 in the common fork-join pool, without keeping the distances of every vertex.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pSources Vertices from which the searches start, which may be repeated.
+     */
+    public BasicMultiSourceBFS(IBasicGraph pGraph, int[] pSources)
+    { this(pGraph, pSources, 1, false, ForkJoinPool.commonPool()); }
+
+    /**
+     * Creates a BasicMultiSourceBFS object that searches the given graph from each of the given sources in batches
+     * of 64 times the given number of words in the given fork-join pool.
+     * @param pGraph Graph to use for the algorithm. Its degree and neighbor should allow concurrent calls.
+     * @param pSources Vertices from which the searches start, which may be repeated.
+     * @param pWords The number of words of each set, at least 1.
+     * @param pKeepDistances Whether the distance from each source to each vertex is kept.
+     * @param pPool The pool whose workers search the batches.
+     * @throws IllegalArgumentException If the number of words is smaller than 1 or the arrays of a batch, of V times
+     * the number of words, wouldn't fit in an array.
+     */
+    public BasicMultiSourceBFS(IBasicGraph pGraph, int[] pSources, int pWords, boolean pKeepDistances, ForkJoinPool pPool)
+    {
+        if(pWords < 1)
+            throw new IllegalArgumentException("The number of words should be at least 1.");
+        long words = (long) pGraph.V() * pWords;
+        if(words > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("The graph is too large for " + pWords + " words per vertex.");
+        int S = pSources.length;
+        sources = pSources.clone();
+        distanceSums = new long[S];
+        reached = new int[S];
+        eccentricities = new int[S];
+        distances = pKeepDistances ? new int[S][] : null;
+        int batch = BITS * pWords, batches = (S + batch - 1) / batch;
+        // Each worker searches one batch at a time, claiming the next one when it finishes.
+        long fit = memory() / (3L * Long.BYTES * Math.max(1, words));
+        int workers = (int) Math.max(1, Math.min(Math.min(pPool.getParallelism(), batches), fit));
+        AtomicInteger next = new AtomicInteger();
+        pPool.submit(() -> IntStream.range(0, workers).parallel().forEach(w ->
+        {
+            for(int b = next.getAndIncrement(); b < batches; b = next.getAndIncrement())
+                basicMultiSourceBFS(pGraph, b * batch, Math.min(S, (b + 1) * batch), pWords);
+        })).join();
+    }
+
+    // Methods
+
+    /**
+     * @return The number of searches.
+     */
+    public int size()
+    { return sources.length; }
+
+    /**
+     * Doesn't check if pIndex is smaller than the number of searches.
+     * @param pIndex The position of the search.
+     * @return The source of the search.
+     */
+    public int source(int pIndex)
+    { return sources[pIndex]; }
+
+    /**
+     * Doesn't check if pIndex is smaller than the number of searches.
+     * @param pIndex The position of the search.
+     * @return The sum of the distances from the source to the vertices it reaches.
+     */
+    public long distanceSum(int pIndex)
+    { return distanceSums[pIndex]; }
+
+    /**
+     * Doesn't check if pIndex is smaller than the number of searches.
+     * @param pIndex The position of the search.
+     * @return The number of vertices reached by the source, counting itself.
+     */
+    public int reached(int pIndex)
+    { return reached[pIndex]; }
+
+    /**
+     * Doesn't check if pIndex is smaller than the number of searches.
+     * @param pIndex The position of the search.
+     * @return The largest distance from the source to a vertex it reaches.
+     */
+    public int eccentricity(int pIndex)
+    { return eccentricities[pIndex]; }
+
+    /**
+     * Doesn't check if pIndex is smaller than the number of searches.
+     * @param pIndex The position of the search.
+     * @return The closeness of the source within the vertices it reaches, which is the number of other vertices it
+     * reaches divided by the sum of their distances, or 0 if it doesn't reach any other vertex.
+     */
+    public double closeness(int pIndex)
+    { return distanceSums[pIndex] == 0 ? 0 : (reached[pIndex] - 1) / (double) distanceSums[pIndex]; }
+
+    /**
+     * Doesn't check if pIndex is smaller than the number of searches.
+     * @param pIndex The position of the search.
+     * @return The distance from the source to each vertex, or -1 if it isn't reachable, {@code null} if the
+     * distances aren't kept.
+     */
+    public int[] distances(int pIndex)
+    { return distances == null ? null : distances[pIndex]; }
+
+    /**
+     * @return Half of the memory the JVM can still allocate, in bytes.
+     */
+    private static long memory()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory())) / 2;
+    }
+
+    /**
+     * Auxiliary method that searches a batch of sources.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pFirst The position of the first search of the batch.
+     * @param pEnd The position after the last search of the batch.
+     * @param pWords The number of words of each set.
+     */
+    private void basicMultiSourceBFS(IBasicGraph pGraph, int pFirst, int pEnd, int pWords)
+    {
+        int V = pGraph.V(), K = pWords;
+        // The words of the vertex v are in the range [v*K, v*K+K) of each array.
+        long[] seen = new long[V * K], visit = new long[V * K], next = new long[V * K];
+        for(int s = pFirst; s < pEnd; ++s)
+        {
+            int bit = s - pFirst, slot = sources[s] * K + (bit >>> 6);
+            seen[slot] |= 1L << bit;
+            visit[slot] |= 1L << bit;
+            reached[s] = 1;
+            if(distances != null)
+            {
+                distances[s] = new int[V];
+                Arrays.fill(distances[s], -1);
+                distances[s][sources[s]] = 0;
+            }
+        }
+        for(int level = 1; ; ++level)
+        {
+            // Every visited vertex sends the searches that visit it to its adjacent vertices.
+            for(int v = 0; v < V; ++v)
+            {
+                int base = v * K;
+                boolean active = false;
+                for(int w = 0; w < K && !active; ++w)
+                    active = visit[base + w] != 0;
+                if(!active)
+                    continue;
+                for(int i = 0, degree = pGraph.degree(v); i < degree; ++i)
+                {
+                    int adjacent = pGraph.neighbor(v, i) * K;
+                    for(int w = 0; w < K; ++w)
+                        next[adjacent + w] |= visit[base + w];
+                }
+            }
+            // The searches that reach a vertex for the first time visit it in the next level.
+            boolean any = false;
+            for(int slot = 0; slot < V * K; ++slot)
+            {
+                visit[slot] = 0;
+                long bits = next[slot] & ~seen[slot];
+                next[slot] = bits;
+                if(bits == 0)
+                    continue;
+                any = true;
+                seen[slot] |= bits;
+                int vertex = slot / K, first = pFirst + (slot % K) * BITS;
+                for(; bits != 0; bits &= bits - 1)
+                {
+                    int s = first + Long.numberOfTrailingZeros(bits);
+                    distanceSums[s] += level;
+                    ++reached[s];
+                    eccentricities[s] = level;
+                    if(distances != null)
+                        distances[s][vertex] = level;
+                }
+            }
+            if(!any)
+                return;
+            long[] swap = visit;
+            visit = next;
+            next = swap;
+        }
+    }
+}
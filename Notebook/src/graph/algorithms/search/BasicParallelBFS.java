@@ -0,0 +1,242 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IBasicGraph;
+import util.BasicSearch;
+import util.IntList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Algorithm that represents a breath first search for a simple numerical graph that expands each level in parallel,
+ * and finds the same distances as BasicBFS. The edges of the frontier are split into ranges of about the same number
+ * of edges, so the adjacency of a vertex with a large degree is split among several tasks of a fork-join pool. Each
+ * task claims the unmarked vertices it reaches by setting their bit of an atomic bitset with compare and set, and
+ * keeps them in its own buffer, and the buffers are copied to the next frontier at the positions given by the prefix
+ * sums of their sizes, so no locks are used.
+ */
+public class BasicParallelBFS extends BasicSearch
+{
+    // Constants
+
+    /**
+     * The smallest number of edges expanded by a task. Smaller frontiers are expanded by the calling thread.
+     */
+    private static final int GRAIN = 1 << 11;
+
+    /**
+     * The largest number of tasks per worker of the pool in which a frontier is split.
+     */
+    private static final int TASKS_PER_WORKER = 16;
+
+    // Attributes
+
+    /**
+     * The distance of each vertex from the origin, or -1 if it isn't reachable.
+     */
+    private final int[] distTo;
+
+    // Constructor
+
+    /**
+     * Creates a BasicParallelBFS object that uses the given graph and starts the search from the given vertex,
+     * in the common fork-join pool.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pOrigin Vertex from which the search starts.
+     */
+    public BasicParallelBFS(IBasicGraph pGraph, int pOrigin)
+    { this(pGraph, pOrigin, ForkJoinPool.commonPool()); }
+
+    /**
+     * Creates a BasicParallelBFS object that uses the given graph and starts the search from the given vertex,
+     * in the given fork-join pool.
+     * @param pGraph Graph to use for the algorithm. Its degree and neighbor should allow concurrent calls.
+     * @param pOrigin Vertex from which the search starts.
+     * @param pPool The pool whose workers expand the frontiers.
+     */
+    public BasicParallelBFS(IBasicGraph pGraph, int pOrigin, ForkJoinPool pPool)
+    {
+        super(pGraph, pOrigin);
+        distTo = new int[pGraph.V()];
+        Arrays.fill(distTo, -1);
+        basicParallelBFS(pGraph, pOrigin, pPool);
+    }
+
+    // Methods
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex.
+     * @return The number of edges of a shortest path from the origin to the vertex, or -1 if there's no path.
+     */
+    public int distTo(int pVertex)
+    { return distTo[pVertex]; }
+
+    /**
+     * @return The distance of each vertex from the origin, or -1 for the vertices that aren't reachable.
+     */
+    public int[] distances()
+    { return distTo.clone(); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex.
+     * @return The vertex before the given one in its path from the origin, meaningful only if the vertex is reachable
+     * and isn't the origin.
+     */
+    public int parent(int pVertex)
+    { return edgeTo[pVertex]; }
+
+    /**
+     * @return The vertex before each vertex in its path from the origin, meaningful only for the reachable vertices
+     * other than the origin.
+     */
+    public int[] parents()
+    { return edgeTo.clone(); }
+
+    /**
+     * Auxiliary method to find the paths from the origin vertex.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pVertex Vertex from which the search starts.
+     * @param pPool The pool whose workers expand the frontiers.
+     */
+    private void basicParallelBFS(IBasicGraph pGraph, int pVertex, ForkJoinPool pPool)
+    {
+        int V = pGraph.V();
+        AtomicLongArray visited = new AtomicLongArray((V + 63) >>> 6);
+        int maxTasks = Math.max(1, pPool.getParallelism() * TASKS_PER_WORKER);
+        // Every vertex enters a frontier at most once, so two primitive arrays of V vertices hold them, and the
+        // position in which the edges of each vertex of the frontier start is kept in a third one.
+        int[] frontier = new int[V], next = new int[V];
+        long[] starts = new long[V + 1];
+        claim(visited, pVertex);
+        marked[pVertex] = true;
+        distTo[pVertex] = 0;
+        frontier[0] = pVertex;
+        int size = 1;
+        for(int level = 1; size > 0; ++level)
+        {
+            final int[] current = frontier, target = next;
+            final int count = size, distance = level;
+            if(count > GRAIN)
+                pPool.submit(() -> IntStream.range(0, count).parallel().forEach(i -> starts[i + 1] = pGraph.degree(current[i]))).join();
+            else
+            {
+                for(int i = 0; i < count; ++i)
+                    starts[i + 1] = pGraph.degree(current[i]);
+            }
+            Arrays.parallelPrefix(starts, 1, count + 1, Long::sum);
+            long edges = starts[count];
+            int tasks = (int) Math.max(1, Math.min(maxTasks, edges / GRAIN));
+            IntList[] buffers = new IntList[tasks];
+            if(tasks == 1)
+                buffers[0] = expand(pGraph, current, count, starts, 0, edges, visited, distance);
+            else
+            {
+                pPool.submit(() -> IntStream.range(0, tasks).parallel().forEach(t ->
+                    buffers[t] = expand(pGraph, current, count, starts, edges * t / tasks, edges * (t + 1) / tasks, visited, distance))).join();
+            }
+            int[] offsets = new int[tasks + 1];
+            for(int t = 0; t < tasks; ++t)
+                offsets[t + 1] = offsets[t] + buffers[t].size();
+            if(tasks == 1)
+                copy(buffers[0], target, 0);
+            else
+                pPool.submit(() -> IntStream.range(0, tasks).parallel().forEach(t -> copy(buffers[t], target, offsets[t]))).join();
+            size = offsets[tasks];
+            frontier = target;
+            next = current;
+        }
+    }
+
+    /**
+     * Expands a range of the edges of the frontier, claiming the unmarked vertices it reaches.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pFrontier The vertices of the frontier.
+     * @param pSize The number of vertices of the frontier.
+     * @param pStarts The position in which the edges of each vertex of the frontier start, with a last position for the end.
+     * @param pStart The first edge of the range.
+     * @param pEnd The edge after the last edge of the range.
+     * @param pVisited The bitset of the claimed vertices.
+     * @param pDistance The distance of the claimed vertices.
+     * @return The claimed vertices.
+     */
+    private IntList expand(IBasicGraph pGraph, int[] pFrontier, int pSize, long[] pStarts, long pStart, long pEnd, AtomicLongArray pVisited, int pDistance)
+    {
+        IntList claimed = new IntList();
+        // The vertex of the frontier whose edges contain the first edge of the range.
+        int i = upperBound(pStarts, pSize, pStart) - 1;
+        for(long edge = pStart; edge < pEnd; ++i)
+        {
+            int vertex = pFrontier[i];
+            int end = (int) (Math.min(pEnd, pStarts[i + 1]) - pStarts[i]);
+            for(int j = (int) (edge - pStarts[i]); j < end; ++j)
+            {
+                int adjacent = pGraph.neighbor(vertex, j);
+                if(claim(pVisited, adjacent))
+                {
+                    marked[adjacent] = true;
+                    edgeTo[adjacent] = vertex;
+                    distTo[adjacent] = pDistance;
+                    claimed.addInt(adjacent);
+                }
+            }
+            edge = pStarts[i] + end;
+        }
+        return claimed;
+    }
+
+    /**
+     * @param pStarts The position in which the edges of each vertex of the frontier start, with a last position for the end.
+     * @param pSize The number of vertices of the frontier.
+     * @param pEdge The edge.
+     * @return The first vertex of the frontier whose edges start after the given edge.
+     */
+    private static int upperBound(long[] pStarts, int pSize, long pEdge)
+    {
+        int low = 0, high = pSize + 1;
+        while(low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if(pStarts[middle] <= pEdge)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * Sets the bit of the given vertex if it isn't set.
+     * @param pVisited The bitset of the claimed vertices.
+     * @param pVertex The vertex.
+     * @return True if this call set the bit, false if it was already set.
+     */
+    private static boolean claim(AtomicLongArray pVisited, int pVertex)
+    {
+        int index = pVertex >>> 6;
+        long bit = 1L << pVertex;
+        long word = pVisited.get(index);
+        while((word & bit) == 0)
+        {
+            if(pVisited.compareAndSet(index, word, word | bit))
+                return true;
+            word = pVisited.get(index);
+        }
+        return false;
+    }
+
+    /**
+     * @param pBuffer The claimed vertices of a task.
+     * @param pTarget The next frontier.
+     * @param pOffset The position of the next frontier in which the vertices are copied.
+     */
+    private static void copy(IntList pBuffer, int[] pTarget, int pOffset)
+    {
+        for(int i = 0, n = pBuffer.size(); i < n; ++i)
+            pTarget[pOffset + i] = pBuffer.getInt(i);
+    }
+}
@@ -0,0 +1,56 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IDirectedGraph;
+import util.BasicSearch;
+
+/**
+ * Algorithm that represents a breath first search against the direction of the edges of a directed numerical graph.
+ * The marked vertices are the ones that reach the origin, and the path to a vertex is a shortest path from it to
+ * the origin along the edges. Uses the incoming edges of the graph, so it doesn't need a transposed copy of it.
+ */
+public class BasicReverseBFS extends BasicSearch
+{
+    // Constructor
+
+    /**
+     * Creates a BasicReverseBFS object that uses the given graph and starts the search from the given vertex.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pOrigin Vertex from which the search starts.
+     */
+    public BasicReverseBFS(IDirectedGraph pGraph, int pOrigin)
+    {
+        super(pGraph, pOrigin);
+        basicReverseBFS(pGraph, pOrigin);
+    }
+
+    // Methods
+
+    /**
+     * Auxiliary method to find the vertices that reach the origin vertex.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pVertex Vertex from which the search starts.
+     */
+    private void basicReverseBFS(IDirectedGraph pGraph, int pVertex)
+    {
+        int[] queue = new int[pGraph.V()];
+        int head = 0, tail = 0;
+        marked[pVertex] = true;
+        queue[tail++] = pVertex;
+        while(head < tail)
+        {
+            int vertex = queue[head++];
+            for(int i = 0, n = pGraph.inDegree(vertex); i < n; ++i)
+            {
+                int adjacent = pGraph.inNeighbor(vertex, i);
+                if(!marked[adjacent])
+                {
+                    edgeTo[adjacent] = vertex;
+                    marked[adjacent] = true;
+                    queue[tail++] = adjacent;
+                }
+            }
+        }
+    }
+}
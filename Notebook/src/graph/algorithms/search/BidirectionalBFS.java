@@ -0,0 +1,73 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IExtendedGraph;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Algorithm that answers shortest path queries between two vertices of a graph with a breath first search from each
+ * of them, which ends in the level in which both searches meet. Uses a BasicBidirectionalBFS over the numerical
+ * vertices of the graph, so an object isn't thread-safe and each thread should have its own.
+ */
+public class BidirectionalBFS<T>
+{
+    // Attributes
+
+    /**
+     * The corresponding graph used for the algorithm.
+     */
+    private final IExtendedGraph<T> graph;
+
+    /**
+     * The search over the numerical vertices of the graph.
+     */
+    private final BasicBidirectionalBFS search;
+
+    // Constructor
+
+    /**
+     * Creates a BidirectionalBFS object that answers queries over the given graph.
+     * @param pGraph Graph to use for the algorithm.
+     */
+    public BidirectionalBFS(IExtendedGraph<T> pGraph)
+    {
+        graph = pGraph;
+        search = new BasicBidirectionalBFS(pGraph::V, pGraph::degree, pGraph::neighbor, pGraph::degree, pGraph::neighbor);
+    }
+
+    // Methods
+
+    /**
+     * Doesn't check if the vertices are in the graph.
+     * @param pOrigin The vertex in which the path starts.
+     * @param pTarget The vertex in which the path ends.
+     * @return The vertices of a shortest path from the origin to the target in order, {@code null} if there's no path.
+     */
+    public List<T> shortestPath(T pOrigin, T pTarget)
+    {
+        List<Integer> numbers = search.shortestPath(graph.toNumber(pOrigin), graph.toNumber(pTarget));
+        if(numbers == null)
+            return null;
+        List<T> path = new ArrayList<>(numbers.size());
+        for(int vertex : numbers)
+            path.add(graph.toKey(vertex));
+        return path;
+    }
+
+    /**
+     * Doesn't check if the vertices are in the graph.
+     * @param pOrigin The vertex in which the path starts.
+     * @param pTarget The vertex in which the path ends.
+     * @return The number of edges of a shortest path from the origin to the target, -1 if there's no path.
+     */
+    public int distance(T pOrigin, T pTarget)
+    { return search.distance(graph.toNumber(pOrigin), graph.toNumber(pTarget)); }
+
+    /**
+     * @return The number of vertices marked by both searches of the last query.
+     */
+    public int explored()
+    { return search.explored(); }
+}
@@ -4,7 +4,7 @@ package graph.algorithms.search;
 
 import graph.IExtendedGraph;
 import util.Search;
-import java.util.ArrayList;
+import util.SearchWorkspace;
 
 /**
  * Algorithm that represents a depth first search for a graph.
@@ -26,24 +26,52 @@ public class DFS<T> extends Search<T>
         basicDFS(pGraph, originNumber);
     }
 
+    /**
+     * Creates a DFS object that uses the given graph and starts the search from the given vertex, keeping its
+     * results in the given workspace instead of allocating them. The results are valid until the next search that
+     * uses the workspace.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pOrigin Vertex from which the search starts.
+     * @param pWorkspace The workspace of the search, such as {@code SearchWorkspace.current()}.
+     */
+    public DFS(IExtendedGraph<T> pGraph, T pOrigin, SearchWorkspace pWorkspace)
+    {
+        super(pGraph, pOrigin, pWorkspace);
+        basicDFS(pGraph, originNumber, pWorkspace);
+    }
+
     // Methods
 
     /**
-     * Recursive auxiliary method to find the paths from the origin vertex.
+     * Auxiliary method to find the paths from the origin vertex with an iterative search.
      * @param pGraph Graph to use for the algorithm.
      * @param pVertex Vertex from which the search starts.
      */
     private void basicDFS(IExtendedGraph<T> pGraph, int pVertex)
+    { new IterativeDFS(pGraph).search(pVertex, marked, parentVisitor()); }
+
+    /**
+     * Auxiliary method to find the paths from the origin vertex with an iterative search over the stack and the
+     * marks of a workspace.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pVertex Vertex from which the search starts.
+     * @param pWorkspace The workspace of the search.
+     */
+    private void basicDFS(IExtendedGraph<T> pGraph, int pVertex, SearchWorkspace pWorkspace)
+    { new IterativeDFS(pGraph, pWorkspace).search(pVertex, pWorkspace, parentVisitor()); }
+
+    /**
+     * @return A visitor that stores the parent of each vertex it marks.
+     */
+    private IterativeDFS.Visitor parentVisitor()
     {
-        marked[pVertex] = true;
-        ArrayList<Integer> adjacentNumber = pGraph.adjacentNumber().get(pVertex);
-        for(Integer vertex : adjacentNumber)
+        return new IterativeDFS.Visitor()
         {
-            if(!marked[vertex])
+            public boolean preorder(int pVertex, int pParent)
             {
-                edgeTo[vertex] = pVertex;
-                basicDFS(pGraph, vertex);
+                edgeTo[pVertex] = pParent;
+                return true;
             }
-        }
+        };
     }
 }
\ No newline at end of file
@@ -0,0 +1,296 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IBasicGraph;
+import graph.IExtendedGraph;
+import util.SearchWorkspace;
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Depth first search core for the numerical vertices of a graph that doesn't recurse. The path from the origin to
+ * the current vertex is kept in an explicit stack of primitive arrays, together with the position of the next
+ * adjacent vertex to visit of each vertex in the path, so the depth of the search is only limited by the heap and
+ * the vertices are visited in the same order as a recursive search that goes through neighbor in increasing order.
+ * <p>
+ * The search reports the vertices and edges it finds to a {@link Visitor}, which can stop it. The stack grows
+ * geometrically and is kept between searches, so an IterativeDFS can be reused to search every component of a graph.
+ * The stack can also be the one of a {@link SearchWorkspace}, whose marks the search then uses.
+ */
+public class IterativeDFS
+{
+    // Constants
+
+    /**
+     * The initial capacity of the stack.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Attributes
+
+    /**
+     * The number of vertices.
+     */
+    private final int V;
+
+    /**
+     * The degree of each vertex.
+     */
+    private final IntUnaryOperator degree;
+
+    /**
+     * The adjacent vertex of a vertex in a position.
+     */
+    private final IntBinaryOperator neighbor;
+
+    /**
+     * The vertices of the path from the origin to the current vertex.
+     */
+    private int[] stack;
+
+    /**
+     * The position of the next adjacent vertex to visit of each vertex in the stack.
+     */
+    private int[] cursors;
+
+    /**
+     * The degree of each vertex in the stack.
+     */
+    private int[] degrees;
+
+    // Constructor
+
+    /**
+     * Creates an IterativeDFS object for the given graph.
+     * @param pGraph The graph to search.
+     */
+    public IterativeDFS(IBasicGraph pGraph)
+    { this(pGraph.V(), pGraph::degree, pGraph::neighbor); }
+
+    /**
+     * Creates an IterativeDFS object for the numerical vertices of the given graph.
+     * @param pGraph The graph to search.
+     */
+    public IterativeDFS(IExtendedGraph<?> pGraph)
+    { this(pGraph.V(), pGraph::degree, pGraph::neighbor); }
+
+    /**
+     * Creates an IterativeDFS object for the given graph whose stack is the one of the given workspace, so that it
+     * doesn't allocate its stack if the workspace has a position for each vertex.
+     * @param pGraph The graph to search.
+     * @param pWorkspace The workspace of the searches.
+     */
+    public IterativeDFS(IBasicGraph pGraph, SearchWorkspace pWorkspace)
+    { this(pGraph.V(), pGraph::degree, pGraph::neighbor, pWorkspace); }
+
+    /**
+     * Creates an IterativeDFS object for the numerical vertices of the given graph whose stack is the one of the
+     * given workspace, so that it doesn't allocate its stack if the workspace has a position for each vertex.
+     * @param pGraph The graph to search.
+     * @param pWorkspace The workspace of the searches.
+     */
+    public IterativeDFS(IExtendedGraph<?> pGraph, SearchWorkspace pWorkspace)
+    { this(pGraph.V(), pGraph::degree, pGraph::neighbor, pWorkspace); }
+
+    /**
+     * Creates an IterativeDFS object for N vertices labeled from 0 to N-1 with the given adjacency.
+     * @param N The number of vertices.
+     * @param pDegree The degree of each vertex.
+     * @param pNeighbor The adjacent vertex of a vertex in a position smaller than its degree.
+     */
+    public IterativeDFS(int N, IntUnaryOperator pDegree, IntBinaryOperator pNeighbor)
+    {
+        V = N;
+        degree = pDegree;
+        neighbor = pNeighbor;
+        int capacity = Math.max(1, Math.min(N, INITIAL_CAPACITY));
+        stack = new int[capacity];
+        cursors = new int[capacity];
+        degrees = new int[capacity];
+    }
+
+    /**
+     * Creates an IterativeDFS object for N vertices labeled from 0 to N-1 with the given adjacency whose stack is
+     * the one of the given workspace.
+     * @param N The number of vertices.
+     * @param pDegree The degree of each vertex.
+     * @param pNeighbor The adjacent vertex of a vertex in a position smaller than its degree.
+     * @param pWorkspace The workspace of the searches.
+     */
+    private IterativeDFS(int N, IntUnaryOperator pDegree, IntBinaryOperator pNeighbor, SearchWorkspace pWorkspace)
+    {
+        V = N;
+        degree = pDegree;
+        neighbor = pNeighbor;
+        stack = pWorkspace.queue();
+        cursors = pWorkspace.cursors();
+        degrees = pWorkspace.degrees();
+        if(stack.length == 0)
+        {
+            int capacity = Math.max(1, Math.min(N, INITIAL_CAPACITY));
+            stack = new int[capacity];
+            cursors = new int[capacity];
+            degrees = new int[capacity];
+        }
+    }
+
+    // Methods
+
+    /**
+     * Doesn't check if pOrigin is a valid vertex or if it's already marked.
+     * Searches the vertices reachable from the origin that aren't marked, marking them. The origin is reported as
+     * its own parent.
+     * @param pOrigin The vertex from which the search starts.
+     * @param pMarked The marked vertices, of length V, which the search updates.
+     * @param pVisitor The visitor of the search.
+     * @return True if the search ended, false if the visitor stopped it.
+     */
+    public boolean search(int pOrigin, boolean[] pMarked, Visitor pVisitor)
+    { return search(pOrigin, pMarked, null, pVisitor); }
+
+    /**
+     * Doesn't check if pOrigin is a valid vertex or if it's already marked, or if the workspace has a position for
+     * each vertex.
+     * Searches the vertices reachable from the origin that aren't marked in the current search of the workspace,
+     * marking them. The origin is reported as its own parent.
+     * @param pOrigin The vertex from which the search starts.
+     * @param pWorkspace The workspace whose current search holds the marks.
+     * @param pVisitor The visitor of the search.
+     * @return True if the search ended, false if the visitor stopped it.
+     */
+    public boolean search(int pOrigin, SearchWorkspace pWorkspace, Visitor pVisitor)
+    { return search(pOrigin, null, pWorkspace, pVisitor); }
+
+    /**
+     * Searches the vertices reachable from the origin that aren't marked in the array or, if there's no array, in
+     * the current search of the workspace.
+     * @param pOrigin The vertex from which the search starts.
+     * @param pMarked The marked vertices, or {@code null} to use the workspace.
+     * @param pWorkspace The workspace whose current search holds the marks, if there's no array.
+     * @param pVisitor The visitor of the search.
+     * @return True if the search ended, false if the visitor stopped it.
+     */
+    private boolean search(int pOrigin, boolean[] pMarked, SearchWorkspace pWorkspace, Visitor pVisitor)
+    {
+        mark(pOrigin, pMarked, pWorkspace);
+        if(!pVisitor.preorder(pOrigin, pOrigin))
+            return false;
+        int top = 0;
+        stack[0] = pOrigin;
+        cursors[0] = 0;
+        degrees[0] = degree.applyAsInt(pOrigin);
+        while(top >= 0)
+        {
+            int vertex = stack[top];
+            int parent = top > 0 ? stack[top - 1] : vertex;
+            if(cursors[top] < degrees[top])
+            {
+                int adjacent = neighbor.applyAsInt(vertex, cursors[top]++);
+                if(mark(adjacent, pMarked, pWorkspace))
+                {
+                    if(!pVisitor.preorder(adjacent, vertex))
+                        return false;
+                    if(++top == stack.length)
+                        grow();
+                    stack[top] = adjacent;
+                    cursors[top] = 0;
+                    degrees[top] = degree.applyAsInt(adjacent);
+                }
+                else if(!pVisitor.revisit(vertex, parent, adjacent))
+                    return false;
+            }
+            else
+            {
+                --top;
+                if(!pVisitor.postorder(vertex, parent))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks a vertex in the array or, if there's no array, in the current search of the workspace.
+     * @param pVertex The vertex.
+     * @param pMarked The marked vertices, or {@code null} to use the workspace.
+     * @param pWorkspace The workspace whose current search holds the marks, if there's no array.
+     * @return True if the vertex wasn't marked, false if contrary.
+     */
+    private static boolean mark(int pVertex, boolean[] pMarked, SearchWorkspace pWorkspace)
+    {
+        if(pMarked == null)
+            return pWorkspace.mark(pVertex);
+        if(pMarked[pVertex])
+            return false;
+        pMarked[pVertex] = true;
+        return true;
+    }
+
+    /**
+     * Searches every vertex that isn't marked, starting a new search from each one in increasing order that isn't
+     * reached by the previous ones.
+     * @param pMarked The marked vertices, of length V, which the search updates.
+     * @param pVisitor The visitor of the search.
+     * @return True if the search ended, false if the visitor stopped it.
+     */
+    public boolean searchAll(boolean[] pMarked, Visitor pVisitor)
+    {
+        for(int v = 0; v < V; ++v)
+        {
+            if(!pMarked[v] && !search(v, pMarked, pVisitor))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Doubles the capacity of the stack, up to the number of vertices.
+     */
+    private void grow()
+    {
+        int capacity = (int) Math.min(V, 2L * stack.length);
+        stack = Arrays.copyOf(stack, capacity);
+        cursors = Arrays.copyOf(cursors, capacity);
+        degrees = Arrays.copyOf(degrees, capacity);
+    }
+
+    // Interfaces
+
+    /**
+     * Visitor of the vertices and edges found by a depth first search. Every method returns whether the search
+     * continues, and by default does nothing and continues.
+     */
+    public interface Visitor
+    {
+        /**
+         * Visits a vertex when it's marked, before its adjacent vertices.
+         * @param pVertex The vertex.
+         * @param pParent The vertex from which it was reached, or itself if it's the origin.
+         * @return True if the search continues, false if it stops.
+         */
+        default boolean preorder(int pVertex, int pParent)
+        { return true; }
+
+        /**
+         * Visits an edge from a vertex to an adjacent vertex that was already marked, including the edge back to
+         * its parent and self-cycles.
+         * @param pVertex The current vertex.
+         * @param pParent The vertex from which the current vertex was reached, or itself if it's the origin.
+         * @param pAdjacent The marked adjacent vertex.
+         * @return True if the search continues, false if it stops.
+         */
+        default boolean revisit(int pVertex, int pParent, int pAdjacent)
+        { return true; }
+
+        /**
+         * Visits a vertex after all of its adjacent vertices.
+         * @param pVertex The vertex.
+         * @param pParent The vertex from which it was reached, or itself if it's the origin.
+         * @return True if the search continues, false if it stops.
+         */
+        default boolean postorder(int pVertex, int pParent)
+        { return true; }
+    }
+}
@@ -0,0 +1,468 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IBasicGraph;
+import graph.IDirectedGraph;
+import util.BasicSearch;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of the results of the searches over a simple numerical graph, keyed by the algorithm and the origin of the
+ * search, so that the searches from the same vertices, like the hubs of the graph, are computed once. The cache holds
+ * at most a given number of bytes, estimated from the arrays of each result, and evicts the least recently used
+ * results first.
+ * <p>
+ * Each result is stamped with the version of the graph, and a result whose version isn't the current one is dropped
+ * and computed again. When a single edge is added, {@link #edgeAdded(int, int)} patches the results instead: the
+ * distances of a breath first search are decreased from the new edge and the vertices newly reached by a depth first
+ * search are searched from it. The patched paths are valid, but may differ from the ones of a new search.
+ * <p>
+ * The methods are synchronized and the returned results are never modified: a patch copies the arrays of the results
+ * it changes and replaces them, so the results returned before it remain the ones of the previous version and can be
+ * read while other threads patch the cache. Only numerical graphs are supported, the searches over generic graphs
+ * with keys, like BFS and DFS, aren't cached.
+ */
+public class SearchCache
+{
+    // Constants
+
+    /**
+     * The estimated number of bytes of a result besides its arrays: the result, its arrays' headers and its entry.
+     */
+    private static final long OVERHEAD = 160;
+
+    // Enumerations
+
+    /**
+     * The algorithms whose results are cached.
+     */
+    public enum Algorithm
+    {
+        /**
+         * Breath first search, whose paths are shortest paths.
+         */
+        BFS,
+
+        /**
+         * Depth first search.
+         */
+        DFS
+    }
+
+    // Attributes
+
+    /**
+     * The corresponding graph used for the algorithm.
+     */
+    private final IBasicGraph graph;
+
+    /**
+     * Whether the graph is directed.
+     */
+    private final boolean directed;
+
+    /**
+     * The maximum number of bytes of the cached results.
+     */
+    private final long capacity;
+
+    /**
+     * The cached results by key, in order from the least to the most recently used.
+     */
+    private final LinkedHashMap<Long, Entry> entries;
+
+    /**
+     * The estimated number of bytes of the cached results.
+     */
+    private long bytes;
+
+    /**
+     * The number of searches answered from the cache.
+     */
+    private long hits;
+
+    /**
+     * The number of searches computed by the cache.
+     */
+    private long misses;
+
+    /**
+     * The queue of the breath first searches and of their patches.
+     */
+    private int[] queue;
+
+    // Constructor
+
+    /**
+     * Creates an empty SearchCache object over the given graph.
+     * @param pGraph Graph to use for the algorithms.
+     * @param pCapacity The maximum number of bytes of the cached results.
+     */
+    public SearchCache(IBasicGraph pGraph, long pCapacity)
+    {
+        graph = pGraph;
+        directed = pGraph instanceof IDirectedGraph;
+        capacity = pCapacity;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        queue = new int[0];
+    }
+
+    // Methods
+
+    /**
+     * Doesn't check if pOrigin is a valid vertex. For this, use searchChecked.
+     * @param pAlgorithm The algorithm of the search.
+     * @param pOrigin The vertex from which the search starts.
+     * @return The result of the search from the origin over the current version of the graph.
+     */
+    public synchronized BasicSearch search(Algorithm pAlgorithm, int pOrigin)
+    { return entry(pAlgorithm, pOrigin).result; }
+
+    /**
+     * Checks if pOrigin is a valid vertex.
+     * @param pAlgorithm The algorithm of the search.
+     * @param pOrigin The vertex from which the search starts.
+     * @return The result of the search from the origin over the current version of the graph, {@code null} if the
+     * origin is invalid.
+     */
+    public synchronized BasicSearch searchChecked(Algorithm pAlgorithm, int pOrigin)
+    {
+        if(pOrigin >= 0 && pOrigin < graph.V())
+            return search(pAlgorithm, pOrigin);
+        else
+            return null;
+    }
+
+    /**
+     * Doesn't check if the vertices are valid.
+     * @param pOrigin The vertex from which the breath first search starts.
+     * @param pVertex The vertex.
+     * @return The number of edges of a shortest path from the origin to the vertex, -1 if there's no path.
+     */
+    public synchronized int distTo(int pOrigin, int pVertex)
+    { return entry(Algorithm.BFS, pOrigin).distTo[pVertex]; }
+
+    /**
+     * Doesn't check if the vertices are valid.
+     * Patches the cached results after the given edge was added to the graph, which must be the only modification
+     * since the results were computed. The results of older versions are dropped. Each result that changes is copied,
+     * in O(V) time, and then patched in time proportional to the vertices whose results change.
+     * @param pVertex1 The first vertex of the edge, its tail if the graph is directed.
+     * @param pVertex2 The second vertex of the edge, its head if the graph is directed.
+     */
+    public synchronized void edgeAdded(int pVertex1, int pVertex2)
+    {
+        long version = graph.version();
+        for(Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator(); iterator.hasNext(); )
+        {
+            Map.Entry<Long, Entry> cached = iterator.next();
+            Entry entry = cached.getValue();
+            if(entry.version == version)
+                continue;
+            if(entry.version != version - 1 || entry.marked.length != graph.V())
+            {
+                iterator.remove();
+                bytes -= entry.bytes;
+                continue;
+            }
+            if(changes(entry, pVertex1, pVertex2) || (!directed && changes(entry, pVertex2, pVertex1)))
+            {
+                // The returned results keep the arrays of the previous version.
+                entry = entry.copy();
+                if(entry.distTo != null)
+                {
+                    relax(entry, pVertex1, pVertex2);
+                    if(!directed)
+                        relax(entry, pVertex2, pVertex1);
+                }
+                else
+                {
+                    extend(entry, pVertex1, pVertex2);
+                    if(!directed)
+                        extend(entry, pVertex2, pVertex1);
+                }
+                cached.setValue(entry);
+            }
+            entry.version = version;
+        }
+    }
+
+    /**
+     * Removes every cached result.
+     */
+    public synchronized void clear()
+    {
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * @return The number of cached results.
+     */
+    public synchronized int size()
+    { return entries.size(); }
+
+    /**
+     * @return The estimated number of bytes of the cached results.
+     */
+    public synchronized long bytes()
+    { return bytes; }
+
+    /**
+     * @return The maximum number of bytes of the cached results.
+     */
+    public long capacity()
+    { return capacity; }
+
+    /**
+     * @return The number of searches answered from the cache.
+     */
+    public synchronized long hits()
+    { return hits; }
+
+    /**
+     * @return The number of searches computed by the cache, including the ones that were computed again.
+     */
+    public synchronized long misses()
+    { return misses; }
+
+    /**
+     * Finds the result of a search over the current version of the graph, computing it if it isn't cached. The
+     * result is cached if it fits, evicting the least recently used results.
+     * @param pAlgorithm The algorithm of the search.
+     * @param pOrigin The vertex from which the search starts.
+     * @return The entry of the result.
+     */
+    private Entry entry(Algorithm pAlgorithm, int pOrigin)
+    {
+        Long key = ((long) pAlgorithm.ordinal() << 32) | pOrigin;
+        long version = graph.version();
+        Entry entry = entries.get(key);
+        if(entry != null)
+        {
+            if(entry.version == version)
+            {
+                ++hits;
+                return entry;
+            }
+            entries.remove(key);
+            bytes -= entry.bytes;
+        }
+        ++misses;
+        // The version is read before the search, so a modification made during the search makes the result stale.
+        entry = pAlgorithm == Algorithm.BFS ? bfs(pOrigin) : dfs(pOrigin);
+        entry.version = version;
+        if(entry.bytes <= capacity)
+        {
+            for(Iterator<Entry> iterator = entries.values().iterator(); bytes + entry.bytes > capacity; )
+            {
+                bytes -= iterator.next().bytes;
+                iterator.remove();
+            }
+            entries.put(key, entry);
+            bytes += entry.bytes;
+        }
+        return entry;
+    }
+
+    /**
+     * @param pOrigin The vertex from which the search starts.
+     * @return The entry of a breath first search from the origin, with the distance of each vertex.
+     */
+    private Entry bfs(int pOrigin)
+    {
+        int N = graph.V();
+        boolean[] marked = new boolean[N];
+        int[] edgeTo = new int[N], distTo = new int[N];
+        Arrays.fill(distTo, -1);
+        marked[pOrigin] = true;
+        edgeTo[pOrigin] = pOrigin;
+        distTo[pOrigin] = 0;
+        if(queue.length < N)
+            queue = new int[N];
+        queue[0] = pOrigin;
+        for(int head = 0, tail = 1; head < tail; ++head)
+        {
+            int vertex = queue[head];
+            for(int i = 0, n = graph.degree(vertex); i < n; ++i)
+            {
+                int adjacent = graph.neighbor(vertex, i);
+                if(!marked[adjacent])
+                {
+                    marked[adjacent] = true;
+                    edgeTo[adjacent] = vertex;
+                    distTo[adjacent] = distTo[vertex] + 1;
+                    queue[tail++] = adjacent;
+                }
+            }
+        }
+        return new Entry(marked, edgeTo, distTo, pOrigin);
+    }
+
+    /**
+     * @param pOrigin The vertex from which the search starts.
+     * @return The entry of a depth first search from the origin.
+     */
+    private Entry dfs(int pOrigin)
+    {
+        int N = graph.V();
+        boolean[] marked = new boolean[N];
+        int[] edgeTo = new int[N];
+        new IterativeDFS(graph).search(pOrigin, marked, parentVisitor(edgeTo));
+        return new Entry(marked, edgeTo, null, pOrigin);
+    }
+
+    /**
+     * @param pEdgeTo The array that stores the parent of each vertex.
+     * @return A visitor that stores the parent of each vertex it marks.
+     */
+    private static IterativeDFS.Visitor parentVisitor(int[] pEdgeTo)
+    {
+        return new IterativeDFS.Visitor()
+        {
+            public boolean preorder(int pVertex, int pParent)
+            {
+                pEdgeTo[pVertex] = pParent;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * @param pEntry The entry of a search.
+     * @param pTail The vertex the new edge leaves.
+     * @param pHead The vertex the new edge reaches.
+     * @return True if the edge changes the result of the search, false if contrary.
+     */
+    private static boolean changes(Entry pEntry, int pTail, int pHead)
+    {
+        if(pEntry.distTo == null)
+            return pEntry.marked[pTail] && !pEntry.marked[pHead];
+        return pEntry.distTo[pTail] >= 0 && (pEntry.distTo[pHead] < 0 || pEntry.distTo[pHead] > pEntry.distTo[pTail] + 1);
+    }
+
+    /**
+     * Decreases the distances of a breath first search through a new edge. Every vertex whose distance decreases
+     * is reached one level at a time from the head of the edge, so each one is updated once.
+     * @param pEntry The entry of the search.
+     * @param pTail The vertex the edge leaves.
+     * @param pHead The vertex the edge reaches.
+     */
+    private void relax(Entry pEntry, int pTail, int pHead)
+    {
+        int[] distTo = pEntry.distTo, edgeTo = pEntry.edgeTo;
+        boolean[] marked = pEntry.marked;
+        if(distTo[pTail] < 0 || (distTo[pHead] >= 0 && distTo[pHead] <= distTo[pTail] + 1))
+            return;
+        if(queue.length < distTo.length)
+            queue = new int[distTo.length];
+        marked[pHead] = true;
+        edgeTo[pHead] = pTail;
+        distTo[pHead] = distTo[pTail] + 1;
+        queue[0] = pHead;
+        for(int head = 0, tail = 1; head < tail; ++head)
+        {
+            int vertex = queue[head];
+            for(int i = 0, n = graph.degree(vertex); i < n; ++i)
+            {
+                int adjacent = graph.neighbor(vertex, i);
+                if(distTo[adjacent] < 0 || distTo[adjacent] > distTo[vertex] + 1)
+                {
+                    marked[adjacent] = true;
+                    edgeTo[adjacent] = vertex;
+                    distTo[adjacent] = distTo[vertex] + 1;
+                    queue[tail++] = adjacent;
+                }
+            }
+        }
+    }
+
+    /**
+     * Searches the vertices newly reached by a depth first search through a new edge. If the head of the edge was
+     * already reached or the tail wasn't, the search reaches the same vertices and is kept as it is.
+     * @param pEntry The entry of the search.
+     * @param pTail The vertex the edge leaves.
+     * @param pHead The vertex the edge reaches.
+     */
+    private void extend(Entry pEntry, int pTail, int pHead)
+    {
+        if(!pEntry.marked[pTail] || pEntry.marked[pHead])
+            return;
+        new IterativeDFS(graph).search(pHead, pEntry.marked, parentVisitor(pEntry.edgeTo));
+        pEntry.edgeTo[pHead] = pTail;
+    }
+
+    // Classes
+
+    /**
+     * A cached result of a search.
+     */
+    private static class Entry
+    {
+        /**
+         * The marked vertices.
+         */
+        private final boolean[] marked;
+
+        /**
+         * The parent of each vertex.
+         */
+        private final int[] edgeTo;
+
+        /**
+         * The distance of each vertex from the origin, -1 if it isn't reached, or {@code null} for a depth first search.
+         */
+        private final int[] distTo;
+
+        /**
+         * The origin of the search.
+         */
+        private final int origin;
+
+        /**
+         * The result over the arrays of the entry.
+         */
+        private final BasicSearch result;
+
+        /**
+         * The estimated number of bytes of the entry.
+         */
+        private final long bytes;
+
+        /**
+         * The version of the graph of the result.
+         */
+        private long version;
+
+        /**
+         * Creates an Entry object with the given arrays, which aren't copied.
+         * @param pMarked The marked vertices.
+         * @param pEdgeTo The parent of each vertex.
+         * @param pDistTo The distance of each vertex from the origin, or {@code null}.
+         * @param pOrigin The origin of the search.
+         */
+        Entry(boolean[] pMarked, int[] pEdgeTo, int[] pDistTo, int pOrigin)
+        {
+            marked = pMarked;
+            edgeTo = pEdgeTo;
+            distTo = pDistTo;
+            origin = pOrigin;
+            result = new BasicSearch(pMarked, pEdgeTo, pOrigin);
+            bytes = OVERHEAD + pMarked.length + 4L * pEdgeTo.length + (pDistTo == null ? 0 : 4L * pDistTo.length);
+        }
+
+        /**
+         * @return An entry of the same version with copies of the arrays of the entry.
+         */
+        Entry copy()
+        {
+            Entry copy = new Entry(marked.clone(), edgeTo.clone(), distTo == null ? null : distTo.clone(), origin);
+            copy.version = version;
+            return copy;
+        }
+    }
+}
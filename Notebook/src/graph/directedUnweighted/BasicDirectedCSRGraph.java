@@ -0,0 +1,323 @@
+// @formatter:off
+
+package graph.directedUnweighted;
+
+import graph.IDirectedGraph;
+import util.Checked;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a read-only simple numerical directed and unweighted graph for N vertices labeled from 0 to N-1.
+ * The graph has two compressed sparse row indexes: the heads of the outgoing edges of the vertex v are in the range
+ * [outOffsets[v], outOffsets[v+1]) of heads, and the tails of its incoming edges are in the range
+ * [inOffsets[v], inOffsets[v+1]) of tails. Both ranges are sorted, so searches in either direction read contiguous
+ * memory and don't need a transposed copy of the graph.
+ */
+@Checked
+(note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
+" ensure the structure's correctness in exchange of efficiency. For fastest results, use\n" +
+" the non 'Checked' methods, however, these are liable to: ArrayIndexOutOfBounds exceptions.")
+public class BasicDirectedCSRGraph implements IDirectedGraph
+{
+    // Attributes
+
+    /**
+     * The number of vertices.
+     */
+    protected final int V;
+
+    /**
+     * The number of edges.
+     */
+    protected final int E;
+
+    /**
+     * The position in which the outgoing edges of each vertex start, with a last position for the end.
+     */
+    protected final int[] outOffsets;
+
+    /**
+     * The heads of the outgoing edges of every vertex.
+     */
+    protected final int[] heads;
+
+    /**
+     * The position in which the incoming edges of each vertex start, with a last position for the end.
+     */
+    protected final int[] inOffsets;
+
+    /**
+     * The tails of the incoming edges of every vertex.
+     */
+    protected final int[] tails;
+
+    // Constructor
+
+    /**
+     * Creates a BasicDirectedCSRGraph object with the vertices and edges of the given graph.
+     * @param pGraph The graph to copy.
+     */
+    public BasicDirectedCSRGraph(BasicDirectedGraph pGraph)
+    {
+        V = pGraph.V;
+        E = pGraph.E;
+        outOffsets = new int[V + 1];
+        inOffsets = new int[V + 1];
+        for(int v = 0; v < V; ++v)
+        {
+            outOffsets[v + 1] = outOffsets[v] + pGraph.outgoing[v].size();
+            inOffsets[v + 1] = inOffsets[v] + pGraph.incoming[v].size();
+        }
+        heads = new int[E];
+        tails = new int[E];
+        for(int v = 0; v < V; ++v)
+        {
+            for(int i = 0; i < pGraph.outgoing[v].size(); ++i)
+                heads[outOffsets[v] + i] = pGraph.outgoing[v].getInt(i);
+            for(int i = 0; i < pGraph.incoming[v].size(); ++i)
+                tails[inOffsets[v] + i] = pGraph.incoming[v].getInt(i);
+            Arrays.sort(heads, outOffsets[v], outOffsets[v + 1]);
+            Arrays.sort(tails, inOffsets[v], inOffsets[v + 1]);
+        }
+    }
+
+    /**
+     * Creates a BasicDirectedCSRGraph object with the given edges. The incoming index is built with a counting sort
+     * over the heads, so the graph is built in O(V+E) time plus the sorting of each range.
+     * @param N The number of vertices.
+     * @param pTails The vertex each edge leaves.
+     * @param pHeads The vertex each edge reaches, in the same position as its tail.
+     */
+    public BasicDirectedCSRGraph(int N, int[] pTails, int[] pHeads)
+    {
+        V = N;
+        E = pTails.length;
+        outOffsets = offsets(N, pTails);
+        inOffsets = offsets(N, pHeads);
+        heads = new int[E];
+        tails = new int[E];
+        int[] nextOut = Arrays.copyOf(outOffsets, N);
+        int[] nextIn = Arrays.copyOf(inOffsets, N);
+        for(int e = 0; e < E; ++e)
+        {
+            heads[nextOut[pTails[e]]++] = pHeads[e];
+            tails[nextIn[pHeads[e]]++] = pTails[e];
+        }
+        for(int v = 0; v < V; ++v)
+        {
+            Arrays.sort(heads, outOffsets[v], outOffsets[v + 1]);
+            Arrays.sort(tails, inOffsets[v], inOffsets[v + 1]);
+        }
+    }
+
+    // Methods
+
+    /**
+     * @return The number of vertices.
+     */
+    public int V()
+    { return V; }
+
+    /**
+     * @return The number of edges.
+     */
+    public int E()
+    { return E; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex.
+     * @return The number of edges that leave the vertex.
+     */
+    public int outDegree(int pVertex)
+    { return outOffsets[pVertex + 1] - outOffsets[pVertex]; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex.
+     * @return The number of edges that reach the vertex.
+     */
+    public int inDegree(int pVertex)
+    { return inOffsets[pVertex + 1] - inOffsets[pVertex]; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its out degree.
+     * @param pVertex The vertex.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The head of the outgoing edge of the vertex in the given position.
+     */
+    public int outNeighbor(int pVertex, int pIndex)
+    { return heads[outOffsets[pVertex] + pIndex]; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its in degree.
+     * @param pVertex The vertex.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The tail of the incoming edge of the vertex in the given position.
+     */
+    public int inNeighbor(int pVertex, int pIndex)
+    { return tails[inOffsets[pVertex] + pIndex]; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of edges that leave of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return outDegree(pVertex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The head of the outgoing edge of the vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    { return outNeighbor(pVertex, pIndex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to the head of every edge that leaves the given vertex, in the same order as neighbor.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        for(int i = outOffsets[pVertex], end = outOffsets[pVertex + 1]; i < end; ++i)
+            pAction.accept(heads[i]);
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the heads of the edges that leave the given vertex.
+     */
+    public Collection<Integer> adjacent(int pVertex)
+    { return new Range(heads, outOffsets[pVertex], outOffsets[pVertex + 1]); }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the heads of the edges that leave the given vertex or
+     * {@code null} if the vertex is invalid.
+     */
+    public Collection<Integer> adjacentChecked(int pVertex)
+    { return pVertex >= 0 && pVertex < V ? adjacent(pVertex) : null; }
+
+    /**
+     * @return Array of unmodifiable collections corresponding to the heads of the edges that leave each vertex.
+     */
+    public Collection<Integer>[] adjacent()
+    {
+        Collection<Integer>[] adjacent = (Collection<Integer>[]) new Collection[V];
+        for(int v = 0; v < V; ++v)
+            adjacent[v] = adjacent(v);
+        return adjacent;
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For this, use incomingChecked.
+     * @param pVertex The vertex whose incoming collection is desired.
+     * @return Unmodifiable collection corresponding to the tails of the edges that reach the given vertex.
+     */
+    public Collection<Integer> incoming(int pVertex)
+    { return new Range(tails, inOffsets[pVertex], inOffsets[pVertex + 1]); }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose incoming collection is desired.
+     * @return Unmodifiable collection corresponding to the tails of the edges that reach the given vertex or
+     * {@code null} if the vertex is invalid.
+     */
+    public Collection<Integer> incomingChecked(int pVertex)
+    { return pVertex >= 0 && pVertex < V ? incoming(pVertex) : null; }
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use hasEdgeChecked.
+     * Uses a binary search over the shorter of the outgoing range of the tail and the incoming range of the head.
+     * @param pTail The vertex the edge leaves.
+     * @param pHead The vertex the edge reaches.
+     * @return True if there's an edge from the first vertex to the second one, false if contrary.
+     */
+    public boolean hasEdge(int pTail, int pHead)
+    {
+        if(outDegree(pTail) > inDegree(pHead))
+            return Arrays.binarySearch(tails, inOffsets[pHead], inOffsets[pHead + 1], pTail) >= 0;
+        return Arrays.binarySearch(heads, outOffsets[pTail], outOffsets[pTail + 1], pHead) >= 0;
+    }
+
+    /**
+     * Checks if the vertices are valid.
+     * @param pTail The vertex the edge leaves.
+     * @param pHead The vertex the edge reaches.
+     * @return True if there's an edge from the first vertex to the second one, false if contrary or {@code null}
+     * if one or two of the vertices are invalid.
+     */
+    public Boolean hasEdgeChecked(int pTail, int pHead)
+    {
+        if(pTail >= 0 && pHead >= 0 && pTail < V && pHead < V)
+            return hasEdge(pTail, pHead);
+        else
+            return null;
+    }
+
+    /**
+     * @param N The number of vertices.
+     * @param pVertices The vertex of each edge by which the edges are grouped.
+     * @return The position in which the edges of each vertex start, with a last position for the end.
+     */
+    private static int[] offsets(int N, int[] pVertices)
+    {
+        int[] offsets = new int[N + 1];
+        for(int vertex : pVertices)
+            ++offsets[vertex + 1];
+        for(int v = 0; v < N; ++v)
+            offsets[v + 1] += offsets[v];
+        return offsets;
+    }
+
+    // Classes
+
+    /**
+     * Unmodifiable view over a range of an array.
+     */
+    private static class Range extends AbstractList<Integer>
+    {
+        /**
+         * The viewed array.
+         */
+        private final int[] array;
+
+        /**
+         * The first slot of the range.
+         */
+        private final int start;
+
+        /**
+         * The slot after the last slot of the range.
+         */
+        private final int end;
+
+        /**
+         * Creates a Range object over the given range.
+         * @param pArray The viewed array.
+         * @param pStart The first slot of the range.
+         * @param pEnd The slot after the last slot of the range.
+         */
+        Range(int[] pArray, int pStart, int pEnd)
+        { array = pArray; start = pStart; end = pEnd; }
+
+        public Integer get(int pIndex)
+        {
+            if(pIndex < 0 || pIndex >= end - start)
+                throw new IndexOutOfBoundsException("Index: " + pIndex + ", Size: " + (end - start));
+            return array[start + pIndex];
+        }
+
+        public int size()
+        { return end - start; }
+    }
+}
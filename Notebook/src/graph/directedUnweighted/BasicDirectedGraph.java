@@ -0,0 +1,305 @@
+// @formatter:off
+
+package graph.directedUnweighted;
+
+import graph.IDirectedGraph;
+import util.Checked;
+import util.IntList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.Collections;
+
+/**
+ * Represents a simple numerical directed and unweighted graph for N vertices labeled from 0 to N-1.
+ * The graph has an adjacency list implementation with primitive lists, and every edge is stored both in the
+ * outgoing list of its tail and in the incoming list of its head. Use freeze to get a read-only compressed copy.
+ */
+@Checked
+(note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
+" ensure the structure's correctness in exchange of efficiency. For fastest results, use\n" +
+" the non 'Checked' methods, however, these are liable to: ArrayIndexOutOfBounds exceptions.")
+public class BasicDirectedGraph implements IDirectedGraph
+{
+    // Attributes
+
+    /**
+     * The number of vertices.
+     */
+    protected int V;
+
+    /**
+     * The number of edges.
+     */
+    protected int E;
+
+    /**
+     * The number of modifications of the graph, which is its version.
+     */
+    protected long modifications;
+
+    /**
+     * The heads of the outgoing edges of each vertex, whose length may be larger than the number of vertices.
+     */
+    protected IntList[] outgoing;
+
+    /**
+     * The tails of the incoming edges of each vertex, whose length may be larger than the number of vertices.
+     */
+    protected IntList[] incoming;
+
+    // Constructor
+
+    /**
+     * Creates a BasicDirectedGraph object with N vertices labeled from 0 to N-1.
+     * @param N The number of vertices to add to the graph.
+     */
+    public BasicDirectedGraph(int N)
+    {
+        V = N;
+        E = 0;
+        outgoing = new IntList[N];
+        incoming = new IntList[N];
+        for(int v = 0; v < V; ++v)
+        {
+            outgoing[v] = new IntList();
+            incoming[v] = new IntList();
+        }
+    }
+
+    /**
+     * Creates a BasicDirectedGraph object copy of the given graph.
+     * @param pGraph The graph to copy.
+     */
+    public BasicDirectedGraph(BasicDirectedGraph pGraph)
+    {
+        this.V = pGraph.V;
+        this.E = pGraph.E;
+        this.outgoing = new IntList[pGraph.V];
+        this.incoming = new IntList[pGraph.V];
+        for(int v = 0; v < V; ++v)
+        {
+            this.outgoing[v] = new IntList(pGraph.outgoing[v]);
+            this.incoming[v] = new IntList(pGraph.incoming[v]);
+        }
+    }
+
+    // Methods
+
+    /**
+     * @return The number of vertices.
+     */
+    public int V()
+    { return V; }
+
+    /**
+     * @return The number of edges.
+     */
+    public int E()
+    { return E; }
+
+    /**
+     * @return The number of modifications of the graph, which only increases.
+     */
+    public long version()
+    { return modifications; }
+
+    /**
+     * Adds a new vertex without edges. The arrays of lists grow geometrically, so adding N vertices takes amortized O(N) time.
+     * @return The label of the new vertex, which is the previous number of vertices.
+     */
+    public int addVertex()
+    {
+        if(V == outgoing.length)
+            ensureCapacity(Math.max(1, outgoing.length * 2));
+        outgoing[V] = new IntList();
+        incoming[V] = new IntList();
+        ++modifications;
+        return V++;
+    }
+
+    /**
+     * Grows the arrays of lists so that they can hold the given number of vertices without growing again.
+     * Doesn't add any vertex.
+     * @param pCapacity The number of vertices.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        if(pCapacity > outgoing.length)
+        {
+            outgoing = Arrays.copyOf(outgoing, pCapacity);
+            incoming = Arrays.copyOf(incoming, pCapacity);
+        }
+    }
+
+    /**
+     * Allows self-cycles and doesn't check if the vertices are valid or if the edge already exists. For this, use addEdgeChecked.
+     * Adds an edge from the first vertex to the second one.
+     * @param pTail The vertex the edge leaves.
+     * @param pHead The vertex the edge reaches.
+     */
+    public void addEdge(int pTail, int pHead)
+    {
+        outgoing[pTail].addInt(pHead);
+        incoming[pHead].addInt(pTail);
+        ++E;
+        ++modifications;
+    }
+
+    /**
+     * Doesn't allow self-cycles and checks if the vertices are valid and if the edge already exists.
+     * Adds an edge from the first vertex to the second one if the vertices are valid, not equal and the edge doesn't
+     * already exist. Scans the shorter of the outgoing list of the tail and the incoming list of the head.
+     * @param pTail The vertex the edge leaves.
+     * @param pHead The vertex the edge reaches.
+     */
+    public void addEdgeChecked(int pTail, int pHead)
+    {
+        if(pTail != pHead && pTail >= 0 && pTail < V && pHead >= 0 && pHead < V && !hasEdge(pTail, pHead))
+            addEdge(pTail, pHead);
+    }
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use hasEdgeChecked.
+     * @param pTail The vertex the edge leaves.
+     * @param pHead The vertex the edge reaches.
+     * @return True if there's an edge from the first vertex to the second one, false if contrary.
+     */
+    public boolean hasEdge(int pTail, int pHead)
+    {
+        if(outgoing[pTail].size() > incoming[pHead].size())
+            return incoming[pHead].indexOfInt(pTail) >= 0;
+        return outgoing[pTail].indexOfInt(pHead) >= 0;
+    }
+
+    /**
+     * Checks if the vertices are valid.
+     * @param pTail The vertex the edge leaves.
+     * @param pHead The vertex the edge reaches.
+     * @return True if there's an edge from the first vertex to the second one, false if contrary or {@code null}
+     * if one or two of the vertices are invalid.
+     */
+    public Boolean hasEdgeChecked(int pTail, int pHead)
+    {
+        if(pTail >= 0 && pHead >= 0 && pTail < V && pHead < V)
+            return hasEdge(pTail, pHead);
+        else
+            return null;
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex.
+     * @return The number of edges that leave the vertex.
+     */
+    public int outDegree(int pVertex)
+    { return outgoing[pVertex].size(); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex.
+     * @return The number of edges that reach the vertex.
+     */
+    public int inDegree(int pVertex)
+    { return incoming[pVertex].size(); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its out degree.
+     * @param pVertex The vertex.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The head of the outgoing edge of the vertex in the given position.
+     */
+    public int outNeighbor(int pVertex, int pIndex)
+    { return outgoing[pVertex].getInt(pIndex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its in degree.
+     * @param pVertex The vertex.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The tail of the incoming edge of the vertex in the given position.
+     */
+    public int inNeighbor(int pVertex, int pIndex)
+    { return incoming[pVertex].getInt(pIndex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of edges that leave of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return outDegree(pVertex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The head of the outgoing edge of the vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    { return outNeighbor(pVertex, pIndex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to the head of every edge that leaves the given vertex, in the same order as neighbor.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        IntList list = outgoing[pVertex];
+        for(int i = 0, n = list.size(); i < n; ++i)
+            pAction.accept(list.getInt(i));
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the heads of the edges that leave the given vertex.
+     */
+    public Collection<Integer> adjacent(int pVertex)
+    { return Collections.unmodifiableList(outgoing[pVertex]); }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the heads of the edges that leave the given vertex or
+     * {@code null} if the vertex is invalid.
+     */
+    public Collection<Integer> adjacentChecked(int pVertex)
+    { return pVertex >= 0 && pVertex < V ? adjacent(pVertex) : null; }
+
+    /**
+     * @return Array of unmodifiable collections corresponding to the heads of the edges that leave each vertex.
+     */
+    public Collection<Integer>[] adjacent()
+    {
+        Collection<Integer>[] adjacent = (Collection<Integer>[]) new Collection[V];
+        for(int v = 0; v < V; ++v)
+            adjacent[v] = adjacent(v);
+        return adjacent;
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For this, use incomingChecked.
+     * @param pVertex The vertex whose incoming collection is desired.
+     * @return Unmodifiable collection corresponding to the tails of the edges that reach the given vertex.
+     */
+    public Collection<Integer> incoming(int pVertex)
+    { return Collections.unmodifiableList(incoming[pVertex]); }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose incoming collection is desired.
+     * @return Unmodifiable collection corresponding to the tails of the edges that reach the given vertex or
+     * {@code null} if the vertex is invalid.
+     */
+    public Collection<Integer> incomingChecked(int pVertex)
+    { return pVertex >= 0 && pVertex < V ? incoming(pVertex) : null; }
+
+    /**
+     * Creates a read-only compressed copy of the graph, with the outgoing and incoming lists of every vertex sorted.
+     * @return The compressed copy of the graph.
+     */
+    public BasicDirectedCSRGraph freeze()
+    { return new BasicDirectedCSRGraph(this); }
+}
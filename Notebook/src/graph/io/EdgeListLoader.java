@@ -0,0 +1,394 @@
+// @formatter:off
+
+package graph.io;
+
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Loads undirected graphs from edge list files, such as the ones distributed by SNAP or in the Matrix Market
+ * coordinate format. Each line holds an edge as two vertex numbers separated by spaces, tabs or commas, and any
+ * further value in the line is ignored. Lines that start with '#' or '%' are comments.
+ * If the file starts with a Matrix Market banner ("%%MatrixMarket"), its size line is skipped, the number of rows
+ * is used as the number of vertices and the vertex numbers are converted from 1-based to 0-based. Note that
+ * "general" Matrix Market files usually list both directions of each edge, so they should be deduplicated.
+ * <p>
+ * The file is memory-mapped and split into chunks aligned to line boundaries. The chunks are parsed in parallel
+ * directly from the mapped bytes, without creating Strings, in two passes: the first counts the degree of each
+ * vertex and the second fills a compressed sparse row graph. If the number of vertices isn't known, an
+ * additional pass finds the largest vertex number.
+ */
+public final class EdgeListLoader
+{
+    // Constants
+
+    /**
+     * The largest size in bytes of a chunk.
+     */
+    private static final long MAX_CHUNK_BYTES = 64L << 20;
+
+    /**
+     * The smallest size in bytes of a chunk.
+     */
+    private static final long MIN_CHUNK_BYTES = 1L << 20;
+
+    /**
+     * The banner that identifies a Matrix Market file.
+     */
+    private static final String MATRIX_MARKET_BANNER = "%%MatrixMarket";
+
+    // Attributes
+
+    /**
+     * The mapped chunks of the file.
+     */
+    private final ByteBuffer[] chunks;
+
+    /**
+     * Whether the vertex numbers of the file are 1-based.
+     */
+    private boolean oneBased;
+
+    /**
+     * The number of vertices declared by the file or -1 if it doesn't declare it.
+     */
+    private int declaredVertices;
+
+    // Constructor
+
+    /**
+     * Creates an EdgeListLoader object that maps the given file.
+     * @param pFile The file to load.
+     * @throws IOException If the file can't be read.
+     */
+    private EdgeListLoader(Path pFile) throws IOException
+    {
+        declaredVertices = -1;
+        try(FileChannel channel = FileChannel.open(pFile, StandardOpenOption.READ))
+        {
+            long size = channel.size();
+            long start = readHeader(channel);
+            long chunkBytes = Math.max(MIN_CHUNK_BYTES, Math.min(MAX_CHUNK_BYTES,
+                    size / (4L * ForkJoinPool.getCommonPoolParallelism())));
+            ArrayList<ByteBuffer> mapped = new ArrayList<>();
+            while(start < size)
+            {
+                long end = start + chunkBytes >= size ? size : lineEnd(channel, start + chunkBytes - 1);
+                mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+                start = end;
+            }
+            chunks = mapped.toArray(new ByteBuffer[0]);
+        }
+    }
+
+    // Methods
+
+    /**
+     * Loads a graph from an edge list file keeping repeated edges.
+     * The number of vertices is taken from the file if it declares it or from the largest vertex number.
+     * @param pFile The file to load.
+     * @return The compressed graph with the edges of the file, each adjacency sorted in ascending order.
+     * @throws IOException If the file can't be read.
+     */
+    public static BasicUndirectedUnweightedCSRGraph loadCSR(Path pFile) throws IOException
+    { return loadCSR(pFile, -1, false); }
+
+    /**
+     * Loads a graph from an edge list file.
+     * @param pFile The file to load.
+     * @param pVertices The number of vertices of the graph or -1 to take it from the file if it declares it
+     * or from the largest vertex number.
+     * @param pDeduplicate Whether repeated edges must be kept once.
+     * @return The compressed graph with the edges of the file, each adjacency sorted in ascending order.
+     * @throws IOException If the file can't be read.
+     * @throws IllegalArgumentException If a line is malformed or a vertex number is out of range.
+     */
+    public static BasicUndirectedUnweightedCSRGraph loadCSR(Path pFile, int pVertices, boolean pDeduplicate) throws IOException
+    { return new EdgeListLoader(pFile).load(pVertices, pDeduplicate); }
+
+    /**
+     * Loads a graph from an edge list file into an adjacency list graph.
+     * @param pFile The file to load.
+     * @param pVertices The number of vertices of the graph or -1 to take it from the file if it declares it
+     * or from the largest vertex number.
+     * @param pDeduplicate Whether repeated edges must be kept once.
+     * @return The adjacency list graph with the edges of the file, each list sorted in ascending order.
+     * @throws IOException If the file can't be read.
+     * @throws IllegalArgumentException If a line is malformed or a vertex number is out of range.
+     */
+    public static BasicUndirectedUnweightedALGraph loadAL(Path pFile, int pVertices, boolean pDeduplicate) throws IOException
+    { return new BasicUndirectedUnweightedALGraph(loadCSR(pFile, pVertices, pDeduplicate)); }
+
+    /**
+     * Auxiliary method that builds the compressed graph from the mapped chunks.
+     * @param pVertices The number of vertices or -1 if it isn't known.
+     * @param pDeduplicate Whether repeated edges must be kept once.
+     * @return The compressed graph.
+     */
+    private BasicUndirectedUnweightedCSRGraph load(int pVertices, boolean pDeduplicate)
+    {
+        int V = pVertices >= 0 ? pVertices : declaredVertices;
+        if(V < 0)
+        {
+            // Additional pass: the number of vertices is the largest vertex number plus one.
+            V = IntStream.range(0, chunks.length).parallel().map(chunk ->
+            {
+                int[] max = {-1};
+                parse(chunk, (u, v) -> max[0] = Math.max(max[0], Math.max(u, v)));
+                return max[0];
+            }).max().orElse(-1) + 1;
+        }
+        // First pass: degree count.
+        final int N = V;
+        AtomicIntegerArray degrees = new AtomicIntegerArray(N);
+        long edges = IntStream.range(0, chunks.length).parallel().mapToLong(chunk ->
+        {
+            long[] count = {0};
+            parse(chunk, (u, v) ->
+            {
+                if(u < 0 || v < 0 || u >= N || v >= N)
+                    throw new IllegalArgumentException("The edge " + u + "-" + v + " is out of range for " + N + " vertices.");
+                degrees.getAndIncrement(u);
+                if(u != v)
+                    degrees.getAndIncrement(v);
+                ++count[0];
+            });
+            return count[0];
+        }).sum();
+        int[] offsets = new int[N + 1];
+        long slots = 0;
+        for(int v = 0; v < N; ++v)
+        {
+            offsets[v] = (int) slots;
+            slots += degrees.get(v);
+            if(slots > Integer.MAX_VALUE || edges > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("The edge list is too large to be loaded.");
+        }
+        offsets[N] = (int) slots;
+        // Second pass: fill.
+        int[] targets = new int[(int) slots];
+        AtomicIntegerArray cursors = new AtomicIntegerArray(offsets);
+        IntStream.range(0, chunks.length).parallel().forEach(chunk -> parse(chunk, (u, v) ->
+        {
+            targets[cursors.getAndIncrement(u)] = v;
+            if(u != v)
+                targets[cursors.getAndIncrement(v)] = u;
+        }));
+        // The chunks fill the adjacencies in any order, so they are sorted to make the result deterministic.
+        IntStream.range(0, N).parallel().forEach(v -> Arrays.sort(targets, offsets[v], offsets[v + 1]));
+        if(!pDeduplicate)
+            return new BasicUndirectedUnweightedCSRGraph(offsets, targets, (int) edges, true);
+        return deduplicate(offsets, targets);
+    }
+
+    /**
+     * Keeps every edge of a sorted compressed graph once.
+     * @param pOffsets The offsets of the graph.
+     * @param pTargets The sorted adjacency of every vertex.
+     * @return The compressed graph without repeated edges.
+     */
+    private static BasicUndirectedUnweightedCSRGraph deduplicate(int[] pOffsets, int[] pTargets)
+    {
+        int N = pOffsets.length - 1;
+        int[] degrees = new int[N];
+        // Each adjacency is compacted in place, and self-cycles are counted since they are stored once.
+        int selfCycles = IntStream.range(0, N).parallel().map(v ->
+        {
+            int write = pOffsets[v], selfCycle = 0;
+            for(int i = pOffsets[v]; i < pOffsets[v + 1]; ++i)
+            {
+                if(i == pOffsets[v] || pTargets[i] != pTargets[i - 1])
+                {
+                    pTargets[write++] = pTargets[i];
+                    if(pTargets[i] == v)
+                        selfCycle = 1;
+                }
+            }
+            degrees[v] = write - pOffsets[v];
+            return selfCycle;
+        }).sum();
+        int[] offsets = new int[N + 1];
+        for(int v = 0; v < N; ++v)
+            offsets[v + 1] = offsets[v] + degrees[v];
+        int[] targets = new int[offsets[N]];
+        IntStream.range(0, N).parallel().forEach(v -> System.arraycopy(pTargets, pOffsets[v], targets, offsets[v], degrees[v]));
+        return new BasicUndirectedUnweightedCSRGraph(offsets, targets, (offsets[N] + selfCycles) / 2, true);
+    }
+
+    /**
+     * Parses every edge of a chunk.
+     * @param pChunk The index of the chunk.
+     * @param pVisitor The visitor of each edge.
+     * @throws IllegalArgumentException If a line is malformed or a vertex number doesn't fit in an int.
+     */
+    private void parse(int pChunk, EdgeVisitor pVisitor)
+    {
+        ByteBuffer chunk = chunks[pChunk];
+        int limit = chunk.limit();
+        int i = 0;
+        byte b;
+        while(i < limit)
+        {
+            i = skipBlanks(chunk, i, limit);
+            if(i >= limit)
+                break;
+            b = chunk.get(i);
+            if(b == '\n' || b == '\r')
+            {
+                ++i;
+                continue;
+            }
+            if(b != '#' && b != '%')
+            {
+                int u = 0, v = 0;
+                if(b < '0' || b > '9')
+                    throw malformed(chunk, i, limit);
+                for(; i < limit && (b = chunk.get(i)) >= '0' && b <= '9'; ++i)
+                {
+                    if(u > (Integer.MAX_VALUE - (b - '0')) / 10)
+                        throw malformed(chunk, i, limit);
+                    u = u * 10 + (b - '0');
+                }
+                i = skipBlanks(chunk, i, limit);
+                if(i >= limit || (b = chunk.get(i)) < '0' || b > '9')
+                    throw malformed(chunk, i, limit);
+                for(; i < limit && (b = chunk.get(i)) >= '0' && b <= '9'; ++i)
+                {
+                    if(v > (Integer.MAX_VALUE - (b - '0')) / 10)
+                        throw malformed(chunk, i, limit);
+                    v = v * 10 + (b - '0');
+                }
+                if(oneBased)
+                    pVisitor.edge(u - 1, v - 1);
+                else
+                    pVisitor.edge(u, v);
+            }
+            // The rest of the line is skipped.
+            while(i < limit && chunk.get(i) != '\n')
+                ++i;
+        }
+    }
+
+    /**
+     * @param pChunk The chunk.
+     * @param pIndex The position from which the blanks are skipped.
+     * @param pLimit The size of the chunk.
+     * @return The position of the first byte that isn't a space, a tab or a comma.
+     */
+    private static int skipBlanks(ByteBuffer pChunk, int pIndex, int pLimit)
+    {
+        byte b;
+        while(pIndex < pLimit && ((b = pChunk.get(pIndex)) == ' ' || b == '\t' || b == ','))
+            ++pIndex;
+        return pIndex;
+    }
+
+    /**
+     * @param pChunk The chunk.
+     * @param pIndex The position of the malformed value.
+     * @param pLimit The size of the chunk.
+     * @return The exception that describes the malformed line.
+     */
+    private static IllegalArgumentException malformed(ByteBuffer pChunk, int pIndex, int pLimit)
+    {
+        int start = pIndex, end = pIndex;
+        while(start > 0 && pChunk.get(start - 1) != '\n')
+            --start;
+        while(end < pLimit && pChunk.get(end) != '\n')
+            ++end;
+        byte[] line = new byte[Math.min(end - start, 200)];
+        pChunk.get(start, line);
+        return new IllegalArgumentException("Malformed edge line: " + new String(line, StandardCharsets.UTF_8).trim());
+    }
+
+    /**
+     * Reads the Matrix Market header of the file if it has one.
+     * @param pChannel The channel of the file.
+     * @return The position in which the edges start.
+     * @throws IOException If the file can't be read.
+     */
+    private long readHeader(FileChannel pChannel) throws IOException
+    {
+        String line = readLine(pChannel, 0);
+        if(!line.startsWith(MATRIX_MARKET_BANNER))
+            return 0;
+        oneBased = true;
+        long position = lineEnd(pChannel, 0);
+        while(position < pChannel.size())
+        {
+            line = readLine(pChannel, position).trim();
+            position = lineEnd(pChannel, position);
+            if(line.isEmpty() || line.startsWith("%"))
+                continue;
+            // The size line holds the number of rows, columns and entries.
+            String[] size = line.split("[\\s,]+");
+            declaredVertices = Math.max(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+            break;
+        }
+        return position;
+    }
+
+    /**
+     * @param pChannel The channel of the file.
+     * @param pPosition The position in which the line starts.
+     * @return The first bytes of the line that starts in the given position as a String.
+     * @throws IOException If the file can't be read.
+     */
+    private static String readLine(FileChannel pChannel, long pPosition) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        pChannel.read(buffer, pPosition);
+        int end = 0;
+        while(end < buffer.position() && buffer.get(end) != '\n')
+            ++end;
+        return new String(buffer.array(), 0, end, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param pChannel The channel of the file.
+     * @param pPosition The position from which the end of line is searched.
+     * @return The position after the first line break found from the given position, or the size of the file if there's none.
+     * @throws IOException If the file can't be read.
+     */
+    private static long lineEnd(FileChannel pChannel, long pPosition) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        while(pPosition < pChannel.size())
+        {
+            buffer.clear();
+            int read = pChannel.read(buffer, pPosition);
+            for(int i = 0; i < read; ++i)
+            {
+                if(buffer.get(i) == '\n')
+                    return pPosition + i + 1;
+            }
+            pPosition += read;
+        }
+        return pChannel.size();
+    }
+
+    // Interfaces
+
+    /**
+     * Visitor of the edges parsed from a chunk.
+     */
+    private interface EdgeVisitor
+    {
+        /**
+         * @param pVertex1 The first vertex of the edge.
+         * @param pVertex2 The second vertex of the edge.
+         */
+        void edge(int pVertex1, int pVertex2);
+    }
+}
@@ -0,0 +1,344 @@
+// @formatter:off
+
+package graph.io;
+
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedAMGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedGraph;
+import graph.undirectedWeighted.BasicUndirectedWeightedGraph;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Normalizes the edges of an undirected multigraph, given as two arrays of vertices, into the edges of a simple graph.
+ * Each edge is canonicalized as its smaller vertex followed by its larger vertex and packed into a single number,
+ * the numbers are sorted with a parallel radix sort and the repeated edges are counted and kept once. Self-cycles
+ * are dropped or kept once according to a {@link SelfCycles} policy.
+ * <p>
+ * The whole normalization takes O(E) time, so a Basic graph can be built from the normalized edges with its
+ * unchecked addEdge, or through one of the conversion methods, instead of calling addEdgeChecked for each edge,
+ * which takes O(degree) time per call. The number of times each edge appeared is kept and can be used as its weight.
+ */
+public final class EdgeNormalizer
+{
+    // Constants
+
+    /**
+     * The number of bits of each digit of the radix sort.
+     */
+    private static final int DIGIT_BITS = 11;
+
+    /**
+     * The number of possible values of a digit.
+     */
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    /**
+     * The smallest number of edges handled by each parallel block.
+     */
+    private static final int MIN_BLOCK = 1 << 16;
+
+    // Enumerations
+
+    /**
+     * What to do with the edges that join a vertex with itself.
+     */
+    public enum SelfCycles
+    {
+        /**
+         * Self-cycles are removed.
+         */
+        DROP,
+
+        /**
+         * Each self-cycle is kept once, as the Basic graphs store it with their unchecked addEdge.
+         */
+        KEEP
+    }
+
+    // Attributes
+
+    /**
+     * The number of vertices.
+     */
+    private final int V;
+
+    /**
+     * The number of bits used to pack a vertex.
+     */
+    private final int bits;
+
+    /**
+     * The packed edges in ascending order, each as its smaller vertex followed by its larger vertex.
+     */
+    private final long[] edges;
+
+    /**
+     * The number of times each edge appeared.
+     */
+    private final int[] multiplicities;
+
+    /**
+     * The number of distinct edges.
+     */
+    private final int size;
+
+    // Constructor
+
+    /**
+     * Creates an EdgeNormalizer object with the normalized edges of the given arrays, which aren't modified.
+     * @param N The number of vertices.
+     * @param pVertices1 The first vertex of each edge.
+     * @param pVertices2 The second vertex of each edge, in the same position as the first one.
+     * @param pSelfCycles What to do with the self-cycles.
+     * @throws IllegalArgumentException If the arrays have different lengths or a vertex is out of range.
+     */
+    public EdgeNormalizer(int N, int[] pVertices1, int[] pVertices2, SelfCycles pSelfCycles)
+    {
+        if(pVertices1.length != pVertices2.length)
+            throw new IllegalArgumentException("The arrays of vertices should have the same length.");
+        V = N;
+        bits = N <= 1 ? 1 : 32 - Integer.numberOfLeadingZeros(N - 1);
+        long[] packed = canonicalize(pVertices1, pVertices2, pSelfCycles == SelfCycles.DROP);
+        radixSort(packed, 2 * bits);
+        // The sorted edges are compacted in place and the length of each run is its multiplicity.
+        int[] counts = new int[packed.length];
+        int distinct = 0;
+        for(int i = 0; i < packed.length; ++i)
+        {
+            if(distinct == 0 || packed[i] != packed[distinct - 1])
+                packed[distinct++] = packed[i];
+            ++counts[distinct - 1];
+        }
+        size = distinct;
+        edges = Arrays.copyOf(packed, distinct);
+        multiplicities = Arrays.copyOf(counts, distinct);
+    }
+
+    // Methods
+
+    /**
+     * @return The number of vertices.
+     */
+    public int V()
+    { return V; }
+
+    /**
+     * @return The number of distinct edges.
+     */
+    public int size()
+    { return size; }
+
+    /**
+     * Doesn't check if pIndex is smaller than the number of distinct edges.
+     * @param pIndex The position of the edge in ascending order.
+     * @return The smaller vertex of the edge.
+     */
+    public int vertex1(int pIndex)
+    { return (int) (edges[pIndex] >>> bits); }
+
+    /**
+     * Doesn't check if pIndex is smaller than the number of distinct edges.
+     * @param pIndex The position of the edge in ascending order.
+     * @return The larger vertex of the edge.
+     */
+    public int vertex2(int pIndex)
+    { return (int) (edges[pIndex] & ((1L << bits) - 1)); }
+
+    /**
+     * Doesn't check if pIndex is smaller than the number of distinct edges.
+     * @param pIndex The position of the edge in ascending order.
+     * @return The number of times the edge appeared.
+     */
+    public int multiplicity(int pIndex)
+    { return multiplicities[pIndex]; }
+
+    /**
+     * Visits every distinct edge in ascending order. Passing the addEdge method of a Basic graph with the same
+     * number of vertices, such as {@code normalizer.forEach(graph::addEdge)}, fills it in O(E) time.
+     * @param pVisitor The visitor of each edge.
+     */
+    public void forEach(EdgeVisitor pVisitor)
+    {
+        for(int i = 0; i < size; ++i)
+            pVisitor.edge(vertex1(i), vertex2(i));
+    }
+
+    /**
+     * @return A compressed graph with the distinct edges, each adjacency sorted in ascending order.
+     */
+    public BasicUndirectedUnweightedCSRGraph toCSR()
+    {
+        int[] offsets = new int[V + 1];
+        for(int i = 0; i < size; ++i)
+        {
+            int v = vertex1(i), u = vertex2(i);
+            ++offsets[v + 1];
+            if(u != v)
+                ++offsets[u + 1];
+        }
+        for(int v = 0; v < V; ++v)
+            offsets[v + 1] += offsets[v];
+        // The edges are in ascending order, so the smaller adjacent vertices of each vertex are filled first and
+        // every adjacency ends up sorted.
+        int[] cursors = Arrays.copyOf(offsets, V);
+        int[] targets = new int[offsets[V]];
+        for(int i = 0; i < size; ++i)
+        {
+            int v = vertex1(i), u = vertex2(i);
+            targets[cursors[v]++] = u;
+            if(u != v)
+                targets[cursors[u]++] = v;
+        }
+        return new BasicUndirectedUnweightedCSRGraph(offsets, targets, size, true);
+    }
+
+    /**
+     * @return An adjacency list graph with the distinct edges, each list sorted in ascending order.
+     */
+    public BasicUndirectedUnweightedALGraph toAL()
+    { return new BasicUndirectedUnweightedALGraph(toCSR()); }
+
+    /**
+     * @return An adjacency matrix graph with the distinct edges.
+     */
+    public BasicUndirectedUnweightedAMGraph toAM()
+    {
+        BasicUndirectedUnweightedAMGraph graph = new BasicUndirectedUnweightedAMGraph(V);
+        forEach(graph::addEdge);
+        return graph;
+    }
+
+    /**
+     * @return A graph with both an adjacency list and an adjacency matrix with the distinct edges.
+     */
+    public BasicUndirectedUnweightedGraph toGraph()
+    {
+        BasicUndirectedUnweightedGraph graph = new BasicUndirectedUnweightedGraph(V);
+        forEach(graph::addEdge);
+        return graph;
+    }
+
+    /**
+     * @param pStorage The way in which the weights of the graph are looked up.
+     * @return A weighted graph with the distinct edges, whose weights are the number of times each edge appeared.
+     */
+    public BasicUndirectedWeightedGraph toWeighted(BasicUndirectedWeightedGraph.WeightStorage pStorage)
+    {
+        BasicUndirectedWeightedGraph graph = new BasicUndirectedWeightedGraph(V, pStorage);
+        for(int i = 0; i < size; ++i)
+            graph.addEdge(vertex1(i), vertex2(i), multiplicities[i]);
+        return graph;
+    }
+
+    /**
+     * Packs every edge as its smaller vertex followed by its larger vertex. The arrays are split into blocks that
+     * are counted and then filled in parallel, so that the dropped self-cycles don't leave gaps.
+     * @param pVertices1 The first vertex of each edge.
+     * @param pVertices2 The second vertex of each edge.
+     * @param pDropSelfCycles Whether the self-cycles are removed.
+     * @return The packed edges.
+     * @throws IllegalArgumentException If a vertex is out of range.
+     */
+    private long[] canonicalize(int[] pVertices1, int[] pVertices2, boolean pDropSelfCycles)
+    {
+        int n = pVertices1.length, blocks = blocks(n), block = (n + blocks - 1) / blocks;
+        int[] kept = new int[blocks + 1];
+        IntStream.range(0, blocks).parallel().forEach(b ->
+        {
+            int count = 0;
+            for(int i = b * block, end = Math.min(n, i + block); i < end; ++i)
+            {
+                int u = pVertices1[i], v = pVertices2[i];
+                if(u < 0 || v < 0 || u >= V || v >= V)
+                    throw new IllegalArgumentException("The edge " + u + "-" + v + " is out of range for " + V + " vertices.");
+                if(u != v || !pDropSelfCycles)
+                    ++count;
+            }
+            kept[b + 1] = count;
+        });
+        for(int b = 0; b < blocks; ++b)
+            kept[b + 1] += kept[b];
+        long[] packed = new long[kept[blocks]];
+        IntStream.range(0, blocks).parallel().forEach(b ->
+        {
+            int write = kept[b];
+            for(int i = b * block, end = Math.min(n, i + block); i < end; ++i)
+            {
+                int u = pVertices1[i], v = pVertices2[i];
+                if(u != v || !pDropSelfCycles)
+                    packed[write++] = ((long) Math.min(u, v) << bits) | Math.max(u, v);
+            }
+        });
+        return packed;
+    }
+
+    /**
+     * Sorts the given non-negative numbers in ascending order with a least significant digit radix sort. In each
+     * pass, the blocks of the array count their digits in parallel and then scatter their numbers in parallel to
+     * the positions given by the prefix sums of the counts, which keeps the sort stable.
+     * @param pKeys The numbers to sort.
+     * @param pBits The number of low bits that may be set in the numbers.
+     */
+    private static void radixSort(long[] pKeys, int pBits)
+    {
+        int n = pKeys.length, blocks = blocks(n), block = (n + blocks - 1) / blocks;
+        long[] source = pKeys, target = new long[n];
+        for(int shift = 0; shift < pBits; shift += DIGIT_BITS)
+        {
+            final int digitShift = shift;
+            final long[] from = source, to = target;
+            int[][] counts = new int[blocks][RADIX];
+            IntStream.range(0, blocks).parallel().forEach(b ->
+            {
+                int[] count = counts[b];
+                for(int i = b * block, end = Math.min(n, i + block); i < end; ++i)
+                    ++count[(int) (from[i] >>> digitShift) & (RADIX - 1)];
+            });
+            // Each block writes its numbers of a digit after the ones of the smaller digits and of the previous blocks.
+            int total = 0;
+            for(int d = 0; d < RADIX; ++d)
+            {
+                for(int b = 0; b < blocks; ++b)
+                {
+                    int count = counts[b][d];
+                    counts[b][d] = total;
+                    total += count;
+                }
+            }
+            IntStream.range(0, blocks).parallel().forEach(b ->
+            {
+                int[] next = counts[b];
+                for(int i = b * block, end = Math.min(n, i + block); i < end; ++i)
+                    to[next[(int) (from[i] >>> digitShift) & (RADIX - 1)]++] = from[i];
+            });
+            source = to;
+            target = from;
+        }
+        if(source != pKeys)
+            System.arraycopy(source, 0, pKeys, 0, n);
+    }
+
+    /**
+     * @param pLength The number of elements to split.
+     * @return The number of parallel blocks in which the elements are split.
+     */
+    private static int blocks(int pLength)
+    { return Math.max(1, Math.min(4 * ForkJoinPool.getCommonPoolParallelism(), pLength / MIN_BLOCK)); }
+
+    // Interfaces
+
+    /**
+     * Visitor of the normalized edges.
+     */
+    public interface EdgeVisitor
+    {
+        /**
+         * @param pVertex1 The smaller vertex of the edge.
+         * @param pVertex2 The larger vertex of the edge.
+         */
+        void edge(int pVertex1, int pVertex2);
+    }
+}
@@ -0,0 +1,66 @@
+// @formatter:off
+
+package graph.io;
+
+/**
+ * Describes the versioned binary on-disk format used to store graphs in a compressed sparse row (CSR) layout.
+ * All values are little-endian and every section starts at an 8-byte aligned position, in the following order:
+ * <ul>
+ *     <li><b>Header</b> (32 bytes): magic (int), version (int), flags (int), V (int), E (int),
+ *     number of adjacency slots S (int) and the length in bytes of the key data (long).</li>
+ *     <li><b>Offsets</b>: V+1 ints, the adjacency of the vertex v is stored in [offsets[v], offsets[v+1]).</li>
+ *     <li><b>Targets</b>: S ints with the adjacent vertices of each vertex.</li>
+ *     <li><b>Weights</b> (only if {@link #FLAG_WEIGHTS} is set): S doubles parallel to the targets.</li>
+ *     <li><b>Key offsets</b> (only if {@link #FLAG_KEYS} is set): V+1 ints, the UTF-8 key of the vertex v is stored
+ *     in the bytes [keyOffsets[v], keyOffsets[v+1]) of the key data.</li>
+ *     <li><b>Key data</b> (only if {@link #FLAG_KEYS} is set): the UTF-8 bytes of every key.</li>
+ * </ul>
+ * Adjacency slots follow the same convention as the adjacency list graphs: an edge between two different
+ * vertices is stored in both lists, while a self-cycle is stored once.
+ */
+public final class GraphFile
+{
+    // Constants
+
+    /**
+     * The magic number that identifies a graph file ("NBGR").
+     */
+    public static final int MAGIC = 0x4E424752;
+
+    /**
+     * The current version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Flag that indicates the file contains a weight for each adjacency slot.
+     */
+    public static final int FLAG_WEIGHTS = 1;
+
+    /**
+     * Flag that indicates the file contains a key dictionary.
+     */
+    public static final int FLAG_KEYS = 1 << 1;
+
+    /**
+     * The size in bytes of the header.
+     */
+    public static final int HEADER_BYTES = 32;
+
+    // Constructor
+
+    /**
+     * The format only holds constants and utilities.
+     */
+    private GraphFile()
+    { }
+
+    // Methods
+
+    /**
+     * @param pPosition A position in the file.
+     * @return The given position rounded up to the next multiple of 8.
+     */
+    static long align(long pPosition)
+    { return (pPosition + 7) & ~7L; }
+}
@@ -0,0 +1,101 @@
+// @formatter:off
+
+package graph.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads graphs stored in the binary format described by {@link GraphFile}.
+ * The file isn't parsed: its sections are memory-mapped in read-only mode, so the graph is usable as soon
+ * as the header is validated and its pages are loaded by the operating system as they are accessed. Since
+ * the mapping is read-only, several processes that map the same file share the same pages of the page cache.
+ */
+public final class GraphFileReader
+{
+    // Constructor
+
+    /**
+     * The reader only holds static methods.
+     */
+    private GraphFileReader()
+    { }
+
+    // Methods
+
+    /**
+     * Memory-maps the given graph file.
+     * @param pFile The file to map.
+     * @return The read-only graph backed by the mapped file.
+     * @throws IOException If the file can't be read or isn't a valid graph file.
+     */
+    public static MappedGraph map(Path pFile) throws IOException
+    {
+        try(FileChannel channel = FileChannel.open(pFile, StandardOpenOption.READ))
+        {
+            if(channel.size() < GraphFile.HEADER_BYTES)
+                throw new IOException("The file is too small to be a graph file: " + pFile);
+            ByteBuffer header = map(channel, 0, GraphFile.HEADER_BYTES);
+            if(header.getInt(0) != GraphFile.MAGIC)
+                throw new IOException("The file isn't a graph file: " + pFile);
+            int version = header.getInt(4);
+            if(version != GraphFile.VERSION)
+                throw new IOException("Unsupported graph file version " + version + ": " + pFile);
+            int flags = header.getInt(8);
+            int V = header.getInt(12);
+            int E = header.getInt(16);
+            int slots = header.getInt(20);
+            long keyBytes = header.getLong(24);
+            if(V < 0 || E < 0 || slots < 0 || keyBytes < 0 || keyBytes > Integer.MAX_VALUE)
+                throw new IOException("The graph file has an invalid header: " + pFile);
+            long position = GraphFile.HEADER_BYTES;
+            ByteBuffer offsets = map(channel, position, (V + 1L) * Integer.BYTES);
+            position = GraphFile.align(position + (V + 1L) * Integer.BYTES);
+            ByteBuffer targets = map(channel, position, (long) slots * Integer.BYTES);
+            position = GraphFile.align(position + (long) slots * Integer.BYTES);
+            ByteBuffer weights = null;
+            if((flags & GraphFile.FLAG_WEIGHTS) != 0)
+            {
+                weights = map(channel, position, (long) slots * Double.BYTES);
+                position += (long) slots * Double.BYTES;
+            }
+            ByteBuffer keyOffsets = null, keys = null;
+            if((flags & GraphFile.FLAG_KEYS) != 0)
+            {
+                keyOffsets = map(channel, position, (V + 1L) * Integer.BYTES);
+                position = GraphFile.align(position + (V + 1L) * Integer.BYTES);
+                keys = map(channel, position, keyBytes);
+                position += keyBytes;
+            }
+            if(position > channel.size())
+                throw new IOException("The graph file is truncated: " + pFile);
+            // The sections are sized from the header, so their bounds have to agree with it.
+            if(offsets.getInt(0) != 0 || offsets.getInt(V * Integer.BYTES) != slots)
+                throw new IOException("The offsets don't match the number of adjacency slots: " + pFile);
+            if(keyOffsets != null && (keyOffsets.getInt(0) != 0 || keyOffsets.getInt(V * Integer.BYTES) != keyBytes))
+                throw new IOException("The key offsets don't match the length of the key data: " + pFile);
+            return new MappedGraph(V, E, offsets.asIntBuffer(), targets.asIntBuffer(),
+                    weights == null ? null : weights.asDoubleBuffer(),
+                    keyOffsets == null ? null : keyOffsets.asIntBuffer(), keys);
+        }
+    }
+
+    /**
+     * Maps a section of the file in read-only mode.
+     * @param pChannel The channel of the file.
+     * @param pPosition The position in which the section starts.
+     * @param pSize The size in bytes of the section.
+     * @return The little-endian buffer backed by the section.
+     * @throws IOException If the section can't be mapped.
+     */
+    private static ByteBuffer map(FileChannel pChannel, long pPosition, long pSize) throws IOException
+    {
+        if(pPosition + pSize > pChannel.size())
+            throw new IOException("The graph file is truncated.");
+        return pChannel.map(FileChannel.MapMode.READ_ONLY, pPosition, pSize).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,300 @@
+// @formatter:off
+
+package graph.io;
+
+import graph.IBasicGraph;
+import graph.IExtendedGraph;
+import graph.undirectedWeighted.BasicUndirectedWeightedGraph;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes graphs into the binary format described by {@link GraphFile}, so they can later be
+ * memory-mapped by {@link GraphFileReader} instead of being rebuilt edge by edge.
+ */
+public final class GraphFileWriter
+{
+    // Constants
+
+    /**
+     * The size in bytes of the buffer used to write the file.
+     */
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    // Attributes
+
+    /**
+     * The channel of the file being written.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The buffer that accumulates the bytes before writing them into the channel.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The number of bytes written so far.
+     */
+    private long position;
+
+    // Constructor
+
+    /**
+     * Creates a GraphFileWriter object over the given channel.
+     * @param pChannel The channel of the file to write.
+     */
+    private GraphFileWriter(FileChannel pChannel)
+    {
+        channel = pChannel;
+        buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        position = 0;
+    }
+
+    // Methods
+
+    /**
+     * Writes the given numerical graph into a file.
+     * @param pGraph The graph to write.
+     * @param pFile The file to write, it's replaced if it already exists.
+     * @throws IOException If the file can't be written.
+     */
+    public static void write(IBasicGraph pGraph, Path pFile) throws IOException
+    { write(pGraph, null, null, pFile); }
+
+    /**
+     * Writes the given weighted graph into a file, including the weight of each edge.
+     * @param pGraph The graph to write.
+     * @param pFile The file to write, it's replaced if it already exists.
+     * @throws IOException If the file can't be written.
+     */
+    public static void write(BasicUndirectedWeightedGraph pGraph, Path pFile) throws IOException
+    { write(pGraph, pGraph, null, pFile); }
+
+    /**
+     * Writes the given generic graph into a file, including the key of each vertex as its String representation.
+     * @param pGraph The graph to write.
+     * @param pFile The file to write, it's replaced if it already exists.
+     * @param <T> The type of the graph's vertices.
+     * @throws IOException If the file can't be written.
+     */
+    public static <T> void write(IExtendedGraph<T> pGraph, Path pFile) throws IOException
+    {
+        byte[][] keys = new byte[pGraph.V()][];
+        for(int v = 0; v < pGraph.V(); ++v)
+            keys[v] = String.valueOf(pGraph.toKey(v)).getBytes(StandardCharsets.UTF_8);
+        write(new ExtendedAdapter<>(pGraph), null, keys, pFile);
+    }
+
+    /**
+     * Auxiliary method that writes every section of the file.
+     * @param pGraph The graph to write.
+     * @param pWeighted The weighted graph whose weights are written or {@code null} if there are none.
+     * @param pKeys The UTF-8 encoded keys of each vertex or {@code null} if there are none.
+     * @param pFile The file to write.
+     * @throws IOException If the file can't be written.
+     */
+    private static void write(IBasicGraph pGraph, BasicUndirectedWeightedGraph pWeighted, byte[][] pKeys, Path pFile) throws IOException
+    {
+        int V = pGraph.V();
+        long slots = 0;
+        for(int v = 0; v < V; ++v)
+            slots += pGraph.adjacent(v).size();
+        if(slots > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("The graph has too many adjacency slots: " + slots);
+        long keyBytes = 0;
+        if(pKeys != null)
+        {
+            for(byte[] key : pKeys)
+                keyBytes += key.length;
+            if(keyBytes > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("The keys are too large: " + keyBytes);
+        }
+        int flags = (pWeighted != null ? GraphFile.FLAG_WEIGHTS : 0) | (pKeys != null ? GraphFile.FLAG_KEYS : 0);
+        try(FileChannel channel = FileChannel.open(pFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            GraphFileWriter writer = new GraphFileWriter(channel);
+            // Header.
+            writer.putInt(GraphFile.MAGIC);
+            writer.putInt(GraphFile.VERSION);
+            writer.putInt(flags);
+            writer.putInt(V);
+            writer.putInt(pGraph.E());
+            writer.putInt((int) slots);
+            writer.putLong(keyBytes);
+            // Offsets.
+            int offset = 0;
+            writer.putInt(offset);
+            for(int v = 0; v < V; ++v)
+            {
+                offset += pGraph.adjacent(v).size();
+                writer.putInt(offset);
+            }
+            writer.pad();
+            // Targets.
+            for(int v = 0; v < V; ++v)
+                for(int vertex : pGraph.adjacent(v))
+                    writer.putInt(vertex);
+            writer.pad();
+            // Weights.
+            if(pWeighted != null)
+            {
+                for(int v = 0; v < V; ++v)
+                    for(int i = 0, degree = pGraph.adjacent(v).size(); i < degree; ++i)
+                        writer.putDouble(pWeighted.weight(v, i));
+            }
+            // Key dictionary.
+            if(pKeys != null)
+            {
+                offset = 0;
+                writer.putInt(offset);
+                for(byte[] key : pKeys)
+                {
+                    offset += key.length;
+                    writer.putInt(offset);
+                }
+                writer.pad();
+                for(byte[] key : pKeys)
+                    writer.putBytes(key);
+            }
+            writer.flush();
+        }
+    }
+
+    /**
+     * Writes an int into the file.
+     * @param pValue The value to write.
+     * @throws IOException If the file can't be written.
+     */
+    private void putInt(int pValue) throws IOException
+    {
+        if(buffer.remaining() < Integer.BYTES)
+            flush();
+        buffer.putInt(pValue);
+        position += Integer.BYTES;
+    }
+
+    /**
+     * Writes a long into the file.
+     * @param pValue The value to write.
+     * @throws IOException If the file can't be written.
+     */
+    private void putLong(long pValue) throws IOException
+    {
+        if(buffer.remaining() < Long.BYTES)
+            flush();
+        buffer.putLong(pValue);
+        position += Long.BYTES;
+    }
+
+    /**
+     * Writes a double into the file.
+     * @param pValue The value to write.
+     * @throws IOException If the file can't be written.
+     */
+    private void putDouble(double pValue) throws IOException
+    {
+        if(buffer.remaining() < Double.BYTES)
+            flush();
+        buffer.putDouble(pValue);
+        position += Double.BYTES;
+    }
+
+    /**
+     * Writes the given bytes into the file.
+     * @param pBytes The bytes to write.
+     * @throws IOException If the file can't be written.
+     */
+    private void putBytes(byte[] pBytes) throws IOException
+    {
+        int start = 0;
+        while(start < pBytes.length)
+        {
+            if(!buffer.hasRemaining())
+                flush();
+            int length = Math.min(buffer.remaining(), pBytes.length - start);
+            buffer.put(pBytes, start, length);
+            start += length;
+        }
+        position += pBytes.length;
+    }
+
+    /**
+     * Writes zeros until the position of the file is aligned to 8 bytes.
+     * @throws IOException If the file can't be written.
+     */
+    private void pad() throws IOException
+    {
+        while(position != GraphFile.align(position))
+        {
+            if(!buffer.hasRemaining())
+                flush();
+            buffer.put((byte) 0);
+            ++position;
+        }
+    }
+
+    /**
+     * Writes the buffered bytes into the channel.
+     * @throws IOException If the file can't be written.
+     */
+    private void flush() throws IOException
+    {
+        buffer.flip();
+        while(buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    // Classes
+
+    /**
+     * Presents the numerical adjacency of a generic graph as a simple numerical graph.
+     * @param <T> The type of the graph's vertices.
+     */
+    private static class ExtendedAdapter<T> implements IBasicGraph
+    {
+        /**
+         * The adapted graph.
+         */
+        private final IExtendedGraph<T> graph;
+
+        /**
+         * Creates an ExtendedAdapter object over the given graph.
+         * @param pGraph The graph to adapt.
+         */
+        ExtendedAdapter(IExtendedGraph<T> pGraph)
+        { graph = pGraph; }
+
+        public int V()
+        { return graph.V(); }
+
+        public int E()
+        { return graph.E(); }
+
+        public int degree(int pVertex)
+        { return graph.degree(pVertex); }
+
+        public int neighbor(int pVertex, int pIndex)
+        { return graph.neighbor(pVertex, pIndex); }
+
+        public Collection<Integer> adjacent(int pVertex)
+        { return graph.adjacentNumber().get(pVertex); }
+
+        @SuppressWarnings("unchecked")
+        public Collection<Integer>[] adjacent()
+        {
+            List<List<Integer>> adjacentNumber = graph.adjacentNumber();
+            Collection<Integer>[] adjacent = (Collection<Integer>[]) new Collection[adjacentNumber.size()];
+            return adjacentNumber.toArray(adjacent);
+        }
+    }
+}
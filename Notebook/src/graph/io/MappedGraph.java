@@ -0,0 +1,244 @@
+// @formatter:off
+
+package graph.io;
+
+import graph.IBasicGraph;
+import util.Checked;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a read-only simple numerical graph for N vertices labeled from 0 to N-1 backed by a
+ * memory-mapped graph file (see {@link GraphFile}). The graph has a compressed sparse row implementation,
+ * the adjacent collections are views over the mapped file and don't copy its contents.
+ */
+@Checked
+(note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
+" ensure the structure's correctness in exchange of efficiency. For fastest results, use\n" +
+" the non 'Checked' methods, however, these are liable to: IndexOutOfBounds exceptions.")
+public class MappedGraph implements IBasicGraph
+{
+    // Attributes
+
+    /**
+     * The number of vertices.
+     */
+    private final int V;
+
+    /**
+     * The number of edges.
+     */
+    private final int E;
+
+    /**
+     * The position in which the adjacency of each vertex starts, with a last position for the end.
+     */
+    private final IntBuffer offsets;
+
+    /**
+     * The adjacent vertices of every vertex.
+     */
+    private final IntBuffer targets;
+
+    /**
+     * The weight of each adjacency slot or {@code null} if the graph isn't weighted.
+     */
+    private final DoubleBuffer weights;
+
+    /**
+     * The position in which the key of each vertex starts, with a last position for the end,
+     * or {@code null} if the graph has no keys.
+     */
+    private final IntBuffer keyOffsets;
+
+    /**
+     * The UTF-8 bytes of the keys or {@code null} if the graph has no keys.
+     */
+    private final ByteBuffer keys;
+
+    // Constructor
+
+    /**
+     * Creates a MappedGraph object over the given mapped sections.
+     * @param pV The number of vertices.
+     * @param pE The number of edges.
+     * @param pOffsets The offsets section.
+     * @param pTargets The targets section.
+     * @param pWeights The weights section or {@code null}.
+     * @param pKeyOffsets The key offsets section or {@code null}.
+     * @param pKeys The key data section or {@code null}.
+     */
+    MappedGraph(int pV, int pE, IntBuffer pOffsets, IntBuffer pTargets, DoubleBuffer pWeights, IntBuffer pKeyOffsets, ByteBuffer pKeys)
+    {
+        V = pV;
+        E = pE;
+        offsets = pOffsets;
+        targets = pTargets;
+        weights = pWeights;
+        keyOffsets = pKeyOffsets;
+        keys = pKeys;
+    }
+
+    // Methods
+
+    /**
+     * @return The number of vertices.
+     */
+    public int V()
+    { return V; }
+
+    /**
+     * @return The number of edges.
+     */
+    public int E()
+    { return E; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return offsets.get(pVertex + 1) - offsets.get(pVertex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The adjacent vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    { return targets.get(offsets.get(pVertex) + pIndex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        for(int i = offsets.get(pVertex), end = offsets.get(pVertex + 1); i < end; ++i)
+            pAction.accept(targets.get(i));
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the adjacent vertices of the given vertex.
+     */
+    public Collection<Integer> adjacent(int pVertex)
+    { return new Adjacent(offsets.get(pVertex), offsets.get(pVertex + 1)); }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the adjacent vertices of the given vertex or
+     * {@code null} if the vertex is invalid.
+     */
+    public Collection<Integer> adjacentChecked(int pVertex)
+    { return pVertex >= 0 && pVertex < V ? adjacent(pVertex) : null; }
+
+    /**
+     * @return Array of unmodifiable collections corresponding to the adjacent vertices of each vertex.
+     */
+    public Collection<Integer>[] adjacent()
+    {
+        Collection<Integer>[] adjacent = (Collection<Integer>[]) new Collection[V];
+        for(int v = 0; v < V; ++v)
+            adjacent[v] = adjacent(v);
+        return adjacent;
+    }
+
+    /**
+     * @return {@code true} if the file stores the weight of each edge, {@code false} if contrary.
+     */
+    public boolean isWeighted()
+    { return weights != null; }
+
+    /**
+     * Doesn't check if the graph is weighted or if the vertex and index are valid.
+     * @param pVertex The vertex whose edge weight is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The weight of the edge between the vertex and its adjacent vertex in the given position.
+     */
+    public double weight(int pVertex, int pIndex)
+    { return weights.get(offsets.get(pVertex) + pIndex); }
+
+    /**
+     * Doesn't check if the graph is weighted, if both vertices are valid or if the edge exists.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return The weight of the edge between the two vertices or 0 if there's no edge.
+     */
+    public double getWeight(int pVertex1, int pVertex2)
+    {
+        int start = offsets.get(pVertex1);
+        for(int i = offsets.get(pVertex1 + 1) - 1; i >= start; --i)
+        {
+            if(targets.get(i) == pVertex2)
+                return weights.get(i);
+        }
+        return 0;
+    }
+
+    /**
+     * @return {@code true} if the file stores the key of each vertex, {@code false} if contrary.
+     */
+    public boolean hasKeys()
+    { return keys != null; }
+
+    /**
+     * Doesn't check if the graph has keys or if pVertex is a valid vertex.
+     * @param pVertex The vertex whose key is desired.
+     * @return The key of the vertex.
+     */
+    public String key(int pVertex)
+    {
+        int start = keyOffsets.get(pVertex);
+        byte[] bytes = new byte[keyOffsets.get(pVertex + 1) - start];
+        keys.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Classes
+
+    /**
+     * Unmodifiable view over a range of the targets section.
+     */
+    private class Adjacent extends AbstractList<Integer>
+    {
+        /**
+         * The first slot of the range.
+         */
+        private final int start;
+
+        /**
+         * The slot after the last slot of the range.
+         */
+        private final int end;
+
+        /**
+         * Creates an Adjacent object over the given range.
+         * @param pStart The first slot of the range.
+         * @param pEnd The slot after the last slot of the range.
+         */
+        Adjacent(int pStart, int pEnd)
+        { start = pStart; end = pEnd; }
+
+        public Integer get(int pIndex)
+        {
+            if(pIndex < 0 || pIndex >= end - start)
+                throw new IndexOutOfBoundsException("Index: " + pIndex + ", Size: " + (end - start));
+            return targets.get(start + pIndex);
+        }
+
+        public int size()
+        { return end - start; }
+    }
+}
@@ -0,0 +1,131 @@
+// @formatter:off
+
+package graph.properties;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a column of boolean values of a PropertyStore, stored as a bitset of 64 positions per word.
+ * The column is an IntPredicate over the positions, so it can select the vertices of a BasicInducedSubgraph.
+ */
+public class BooleanColumn extends Column implements IntPredicate
+{
+    // Attributes
+
+    /**
+     * The words of the bitset, whose number of bits may be different from the size of the column.
+     */
+    private long[] words;
+
+    // Constructor
+
+    /**
+     * Creates a BooleanColumn object with the given name.
+     * @param pName The name of the column.
+     * @param pSize The number of positions of the store.
+     */
+    BooleanColumn(String pName, IntSupplier pSize)
+    {
+        super(pName, pSize);
+        words = new long[(pSize.getAsInt() + 63) >>> 6];
+    }
+
+    // Methods
+
+    /**
+     * Doesn't check if pIndex is smaller than the size of the column.
+     * @param pIndex The vertex or edge slot.
+     * @return The value in the given position, false if it was never written.
+     */
+    public boolean get(int pIndex)
+    {
+        int word = pIndex >>> 6;
+        return word < words.length && (words[word] & (1L << pIndex)) != 0;
+    }
+
+    /**
+     * Same as get, so that the column can be used as a predicate.
+     * @param pIndex The vertex or edge slot.
+     * @return The value in the given position.
+     */
+    public boolean test(int pIndex)
+    { return get(pIndex); }
+
+    /**
+     * Doesn't check if pIndex is smaller than the size of the column. Grows the column if needed.
+     * @param pIndex The vertex or edge slot.
+     * @param pValue The new value.
+     */
+    public void set(int pIndex, boolean pValue)
+    {
+        int word = pIndex >>> 6;
+        if(word >= words.length)
+        {
+            if(!pValue)
+                return;
+            words = Arrays.copyOf(words, grow(words.length, word));
+        }
+        if(pValue)
+            words[word] |= 1L << pIndex;
+        else
+            words[word] &= ~(1L << pIndex);
+    }
+
+    /**
+     * Sets every position of the column to the given value.
+     * @param pValue The value.
+     */
+    public void fill(boolean pValue)
+    {
+        int size = size();
+        ensureCapacity(size);
+        Arrays.fill(words, 0, size >>> 6, pValue ? -1L : 0L);
+        for(int i = size & ~63; i < size; ++i)
+            set(i, pValue);
+    }
+
+    public int capacity()
+    { return words.length << 6; }
+
+    public void ensureCapacity(int pCapacity)
+    {
+        if(pCapacity > capacity())
+            words = Arrays.copyOf(words, (pCapacity + 63) >>> 6);
+    }
+
+    /**
+     * @return The number of positions whose value is true, counted in parallel.
+     */
+    public int count()
+    {
+        int size = size(), full = Math.min(words.length, size >>> 6);
+        int count = IntStream.range(0, full).parallel().map(w -> Long.bitCount(words[w])).sum();
+        for(int i = full << 6; i < size; ++i)
+        {
+            if(get(i))
+                ++count;
+        }
+        return count;
+    }
+
+    /**
+     * @return The positions whose value is true, in ascending order.
+     */
+    public int[] select()
+    { return IntStream.range(0, size()).parallel().filter(this::get).toArray(); }
+
+    /**
+     * @return A copy of the column as a BitSet, restricted to its size.
+     */
+    public BitSet toBitSet()
+    {
+        BitSet set = BitSet.valueOf(words);
+        if(set.length() > size())
+            set.clear(size(), set.length());
+        return set;
+    }
+}
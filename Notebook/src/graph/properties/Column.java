@@ -0,0 +1,72 @@
+// @formatter:off
+
+package graph.properties;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Represents a named column of primitive values of a PropertyStore, indexed by vertex or by edge slot.
+ * The values are stored in a primitive array that grows when a value is written past its end, so that the column
+ * follows the vertices added to the graph without being notified. The positions that were never written read as
+ * the default value of the type.
+ */
+public abstract class Column
+{
+    // Attributes
+
+    /**
+     * The name of the column.
+     */
+    private final String name;
+
+    /**
+     * The number of positions of the store.
+     */
+    private final IntSupplier size;
+
+    // Constructor
+
+    /**
+     * Creates a Column object with the given name.
+     * @param pName The name of the column.
+     * @param pSize The number of positions of the store.
+     */
+    protected Column(String pName, IntSupplier pSize)
+    {
+        name = pName;
+        size = pSize;
+    }
+
+    // Methods
+
+    /**
+     * @return The name of the column.
+     */
+    public String name()
+    { return name; }
+
+    /**
+     * @return The number of positions of the column, which is the number of vertices or edge slots of the graph.
+     */
+    public int size()
+    { return size.getAsInt(); }
+
+    /**
+     * @return The number of positions that the column can hold without growing.
+     */
+    public abstract int capacity();
+
+    /**
+     * Grows the column so that it can hold the given number of positions without growing again.
+     * @param pCapacity The number of positions.
+     */
+    public abstract void ensureCapacity(int pCapacity);
+
+    /**
+     * @param pCapacity The current capacity.
+     * @param pIndex The position that must fit.
+     * @return The new capacity, at least double the current one.
+     */
+    protected static int grow(int pCapacity, int pIndex)
+    { return Math.max(pIndex + 1, Math.max(16, pCapacity * 2)); }
+}
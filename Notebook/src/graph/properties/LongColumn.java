@@ -0,0 +1,119 @@
+// @formatter:off
+
+package graph.properties;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Represents a column of long values of a PropertyStore.
+ */
+public class LongColumn extends Column
+{
+    // Attributes
+
+    /**
+     * The values of the column, whose length may be different from its size.
+     */
+    private long[] values;
+
+    // Constructor
+
+    /**
+     * Creates an LongColumn object with the given name.
+     * @param pName The name of the column.
+     * @param pSize The number of positions of the store.
+     */
+    LongColumn(String pName, IntSupplier pSize)
+    {
+        super(pName, pSize);
+        values = new long[pSize.getAsInt()];
+    }
+
+    // Methods
+
+    /**
+     * Doesn't check if pIndex is smaller than the size of the column.
+     * @param pIndex The vertex or edge slot.
+     * @return The value in the given position, 0 if it was never written.
+     */
+    public long get(int pIndex)
+    { return pIndex < values.length ? values[pIndex] : 0; }
+
+    /**
+     * Doesn't check if pIndex is smaller than the size of the column. Grows the column if needed.
+     * @param pIndex The vertex or edge slot.
+     * @param pValue The new value.
+     */
+    public void set(int pIndex, long pValue)
+    {
+        if(pIndex >= values.length)
+            values = Arrays.copyOf(values, grow(values.length, pIndex));
+        values[pIndex] = pValue;
+    }
+
+    /**
+     * Doesn't check if pIndex is smaller than the size of the column. Grows the column if needed.
+     * @param pIndex The vertex or edge slot.
+     * @param pDelta The value to add.
+     * @return The new value.
+     */
+    public long add(int pIndex, long pDelta)
+    {
+        set(pIndex, get(pIndex) + pDelta);
+        return values[pIndex];
+    }
+
+    /**
+     * Sets every position of the column to the given value.
+     * @param pValue The value.
+     */
+    public void fill(long pValue)
+    {
+        ensureCapacity(size());
+        Arrays.fill(values, 0, size(), pValue);
+    }
+
+    public int capacity()
+    { return values.length; }
+
+    public void ensureCapacity(int pCapacity)
+    {
+        if(pCapacity > values.length)
+            values = Arrays.copyOf(values, pCapacity);
+    }
+
+    /**
+     * @return A parallel stream of the values of the column, in order of position.
+     */
+    public LongStream stream()
+    { return IntStream.range(0, size()).parallel().mapToLong(this::get); }
+
+    /**
+     * @param pPredicate The condition over the values.
+     * @return The positions whose values satisfy the condition, in ascending order, found in parallel.
+     */
+    public int[] select(LongPredicate pPredicate)
+    { return IntStream.range(0, size()).parallel().filter(i -> pPredicate.test(get(i))).toArray(); }
+
+    /**
+     * @return The sum of the values of the column, computed in parallel.
+     */
+    public long sum()
+    { return stream().sum(); }
+
+    /**
+     * @return The smallest value of the column, or 0 if it's empty.
+     */
+    public long min()
+    { return stream().min().orElse(0); }
+
+    /**
+     * @return The largest value of the column, or 0 if it's empty.
+     */
+    public long max()
+    { return stream().max().orElse(0); }
+}
@@ -0,0 +1,165 @@
+// @formatter:off
+
+package graph.properties;
+
+import graph.IGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Represents a set of named columns of primitive values attached to a graph, indexed by vertex or by edge slot.
+ * Each column holds a single primitive type in a single array, so attaching a value to every vertex takes 4 or
+ * 8 bytes per vertex, or a bit per vertex for booleans, instead of a boxed entry of a HashMap, and algorithms read
+ * the values without boxing. Filtering and aggregation over a column run with parallel streams.
+ * <p>
+ * A store indexed by vertex works with any graph: Basic graphs use their vertex labels and generic graphs use the
+ * numbers of their keys (see toNumber). The size of the store is read from the graph, and the columns grow when a
+ * value is written past their end, so they follow the vertices added to the graph. A store indexed by edge slot
+ * follows a compressed sparse row graph: the slot of the i-th adjacent vertex of v is given by the graph's slot
+ * method, and each undirected edge has a slot in the adjacency of both of its vertices.
+ */
+public class PropertyStore
+{
+    // Attributes
+
+    /**
+     * The number of positions of the columns.
+     */
+    private final IntSupplier size;
+
+    /**
+     * The columns by name, in order of creation.
+     */
+    private final LinkedHashMap<String, Column> columns;
+
+    // Constructor
+
+    /**
+     * Creates a PropertyStore object indexed by the vertices of the given graph.
+     * @param pGraph The graph.
+     */
+    public PropertyStore(IGraph pGraph)
+    { this(pGraph::V); }
+
+    /**
+     * Creates a PropertyStore object with the given number of positions.
+     * @param pSize The number of positions of the columns.
+     */
+    private PropertyStore(IntSupplier pSize)
+    {
+        size = pSize;
+        columns = new LinkedHashMap<>();
+    }
+
+    // Methods
+
+    /**
+     * Creates a PropertyStore object indexed by the edge slots of the given graph.
+     * @param pGraph The graph.
+     * @return The store.
+     */
+    public static PropertyStore edges(BasicUndirectedUnweightedCSRGraph pGraph)
+    {
+        int slots = pGraph.slots();
+        return new PropertyStore(() -> slots);
+    }
+
+    /**
+     * @return The number of positions of the columns.
+     */
+    public int size()
+    { return size.getAsInt(); }
+
+    /**
+     * @param pName The name of the column.
+     * @return The int column with the given name, created if it doesn't exist.
+     * @throws IllegalArgumentException If a column of another type has the given name.
+     */
+    public IntColumn intColumn(String pName)
+    { return column(pName, IntColumn.class); }
+
+    /**
+     * @param pName The name of the column.
+     * @return The long column with the given name, created if it doesn't exist.
+     * @throws IllegalArgumentException If a column of another type has the given name.
+     */
+    public LongColumn longColumn(String pName)
+    { return column(pName, LongColumn.class); }
+
+    /**
+     * @param pName The name of the column.
+     * @return The double column with the given name, created if it doesn't exist.
+     * @throws IllegalArgumentException If a column of another type has the given name.
+     */
+    public DoubleColumn doubleColumn(String pName)
+    { return column(pName, DoubleColumn.class); }
+
+    /**
+     * @param pName The name of the column.
+     * @return The boolean column with the given name, created if it doesn't exist.
+     * @throws IllegalArgumentException If a column of another type has the given name.
+     */
+    public BooleanColumn booleanColumn(String pName)
+    { return column(pName, BooleanColumn.class); }
+
+    /**
+     * @param pName The name of the column.
+     * @return The column with the given name or {@code null} if it doesn't exist.
+     */
+    public Column get(String pName)
+    { return columns.get(pName); }
+
+    /**
+     * @param pName The name of the column.
+     * @return The removed column or {@code null} if it doesn't exist.
+     */
+    public Column remove(String pName)
+    { return columns.remove(pName); }
+
+    /**
+     * @return Unmodifiable collection of the columns, in order of creation.
+     */
+    public Collection<Column> columns()
+    { return Collections.unmodifiableCollection(columns.values()); }
+
+    /**
+     * Grows every column so that it can hold the given number of positions without growing again,
+     * for instance after growing the capacity of the graph.
+     * @param pCapacity The number of positions.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        for(Column column : columns.values())
+            column.ensureCapacity(pCapacity);
+    }
+
+    /**
+     * @param pName The name of the column.
+     * @param pType The type of the column.
+     * @param <C> The type of the column.
+     * @return The column of the given type with the given name, created if it doesn't exist.
+     * @throws IllegalArgumentException If a column of another type has the given name.
+     */
+    private <C extends Column> C column(String pName, Class<C> pType)
+    {
+        Column column = columns.get(pName);
+        if(column == null)
+        {
+            if(pType == IntColumn.class)
+                column = new IntColumn(pName, size);
+            else if(pType == LongColumn.class)
+                column = new LongColumn(pName, size);
+            else if(pType == DoubleColumn.class)
+                column = new DoubleColumn(pName, size);
+            else
+                column = new BooleanColumn(pName, size);
+            columns.put(pName, column);
+        }
+        else if(!pType.isInstance(column))
+            throw new IllegalArgumentException("The column " + pName + " is a " + column.getClass().getSimpleName() + ".");
+        return pType.cast(column);
+    }
+}
@@ -4,6 +4,7 @@ package graph.undirectedUnweighted;
 
 import unionFinder.BasicUnionFinder;
 import util.Checked;
+import java.util.ArrayList;
 
 /**
  * Represents a simple numerical undirected and unweighted graph for N vertices labeled from 0 to N-1 that
@@ -25,6 +26,11 @@ public class BasicUndirectedUnweightedALCCGraph extends BasicUndirectedUnweighte
      */
     private BasicUnionFinder unionFinder;
 
+    /**
+     * The vertices whose components lost an edge since the components were last updated.
+     */
+    private ArrayList<Integer> dirty;
+
     // Constructor
 
     /**
@@ -35,6 +41,7 @@ public class BasicUndirectedUnweightedALCCGraph extends BasicUndirectedUnweighte
     {
         super(N);
         unionFinder = new BasicUnionFinder(N);
+        dirty = new ArrayList<>();
     }
 
     /**
@@ -45,6 +52,7 @@ public class BasicUndirectedUnweightedALCCGraph extends BasicUndirectedUnweighte
     {
         super(pGraph);
         this.unionFinder = new BasicUnionFinder(pGraph.unionFinder);
+        this.dirty = new ArrayList<>(pGraph.dirty);
     }
 
     // Methods
@@ -58,14 +66,15 @@ public class BasicUndirectedUnweightedALCCGraph extends BasicUndirectedUnweighte
     public void addEdge(int pVertex1, int pVertex2)
     {
         if(pVertex1 == pVertex2)
-            adjacent[pVertex1].add(pVertex2);
+            append(pVertex1, pVertex2);
         else
         {
-            adjacent[pVertex1].add(pVertex2);
-            adjacent[pVertex2].add(pVertex1);
+            append(pVertex1, pVertex2);
+            append(pVertex2, pVertex1);
         }
         unionFinder.merge(pVertex1, pVertex2);
         ++E;
+        ++modifications;
     }
 
     /**
@@ -82,32 +91,115 @@ public class BasicUndirectedUnweightedALCCGraph extends BasicUndirectedUnweighte
             {
                 if(!adjacent[pVertex2].contains(pVertex1))
                 {
-                    adjacent[pVertex1].add(pVertex2);
-                    adjacent[pVertex2].add(pVertex1);
+                    append(pVertex1, pVertex2);
+                    append(pVertex2, pVertex1);
                     unionFinder.merge(pVertex1, pVertex2);
                     ++E;
+                    ++modifications;
                 }
             }
             else
             {
                 if(!adjacent[pVertex1].contains(pVertex2))
                 {
-                    adjacent[pVertex1].add(pVertex2);
-                    adjacent[pVertex2].add(pVertex1);
+                    append(pVertex1, pVertex2);
+                    append(pVertex2, pVertex1);
                     unionFinder.merge(pVertex1, pVertex2);
                     ++E;
+                    ++modifications;
                 }
             }
         }
     }
 
+    /**
+     * Creates a snapshot of the graph that shares its adjacent lists with the graph until either of them modifies
+     * a vertex, see BasicUndirectedUnweightedALGraph.snapshot. The union finder is copied, in O(V).
+     * @return The snapshot of the graph.
+     */
+    public BasicUndirectedUnweightedALCCGraph snapshot()
+    {
+        BasicUndirectedUnweightedALCCGraph snapshot = new BasicUndirectedUnweightedALCCGraph(0);
+        share(snapshot);
+        snapshot.unionFinder = new BasicUnionFinder(unionFinder);
+        snapshot.dirty = new ArrayList<>(dirty);
+        return snapshot;
+    }
+
+    /**
+     * Adds a new vertex without edges, which is a component on its own.
+     * @return The label of the new vertex, which is the previous number of vertices.
+     */
+    public int addVertex()
+    {
+        unionFinder.add();
+        return super.addVertex();
+    }
+
+    /**
+     * Grows the graph and its union finder so that they can hold the given number of vertices without growing again.
+     * Doesn't add any vertex.
+     * @param pCapacity The number of vertices.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        super.ensureCapacity(pCapacity);
+        unionFinder.ensureCapacity(pCapacity);
+    }
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use removeEdgeChecked.
+     * Removes an edge between two vertices if it exists. If the edge was added more than once, one of them is removed.
+     * The components aren't split right away: the component of the vertices is marked and recomputed the next
+     * time the components are queried.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdge(int pVertex1, int pVertex2)
+    {
+        int edges = E;
+        super.removeEdge(pVertex1, pVertex2);
+        if(E < edges && pVertex1 != pVertex2 && !index.contains(pVertex1, pVertex2))
+            dirty.add(pVertex1);
+    }
+
+    /**
+     * Recomputes the components that lost an edge since the last update. The vertices of those components
+     * are separated in the union finder and merged again through their remaining edges.
+     */
+    private void update()
+    {
+        if(dirty.isEmpty())
+            return;
+        boolean[] affected = new boolean[V];
+        for(int vertex : dirty)
+            affected[unionFinder.root(vertex)] = true;
+        int[] vertices = new int[V];
+        int count = 0;
+        for(int v = 0; v < V; ++v)
+        {
+            if(affected[unionFinder.root(v)])
+                vertices[count++] = v;
+        }
+        unionFinder.isolate(vertices, count);
+        for(int i = 0; i < count; ++i)
+        {
+            for(int vertex : adjacent[vertices[i]])
+                unionFinder.merge(vertices[i], vertex);
+        }
+        dirty.clear();
+    }
+
     // Connected components methods
 
     /**
      * @return The number of connected components in the graph.
      */
     public int numberOfComponents()
-    { return unionFinder.totalRoots(); }
+    {
+        update();
+        return unionFinder.totalRoots();
+    }
 
     /**
      * Doesn't check if pVertex is a valid vertex. For that, use sizeOfComponentChecked.
@@ -115,7 +207,10 @@ public class BasicUndirectedUnweightedALCCGraph extends BasicUndirectedUnweighte
      * @return The size of the component that the given vertex is a part of.
      */
     public int sizeOfComponent(int pVertex)
-    { return unionFinder.size(pVertex); }
+    {
+        update();
+        return unionFinder.size(pVertex);
+    }
 
     /**
      * Checks that pVertex is a valid vertex.
@@ -123,5 +218,8 @@ public class BasicUndirectedUnweightedALCCGraph extends BasicUndirectedUnweighte
      * @return The size of the component that the given vertex is a part of or {@code null} if the vertex is invalid.
      */
     public Integer sizeOfComponentChecked(int pVertex)
-    { return unionFinder.sizeChecked(pVertex); }
+    {
+        update();
+        return unionFinder.sizeChecked(pVertex);
+    }
 }
\ No newline at end of file
@@ -2,10 +2,15 @@
 
 package graph.undirectedUnweighted;
 
+import graph.EdgeIndex;
 import graph.IBasicGraph;
+import graph.Ownership;
 import util.Checked;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * Represents a simple numerical undirected and unweighted graph for N vertices labeled from 0 to N-1.
@@ -19,6 +24,8 @@ import java.util.Collection;
 " the non 'Checked' methods, however, these are liable to: ArrayIndexOutOfBounds exceptions.")
 public class BasicUndirectedUnweightedALGraph implements IBasicGraph
 {
+    // Constants
+
     // Attributes
 
     /**
@@ -32,10 +39,26 @@ public class BasicUndirectedUnweightedALGraph implements IBasicGraph
     protected int E;
 
     /**
-     * The array of adjacent lists for each vertex.
+     * The number of modifications of the graph, which is its version. Unlike the stamp of its ownership, it only
+     * changes when a vertex or an edge is added or removed.
+     */
+    protected long modifications;
+
+    /**
+     * The array of adjacent lists for each vertex, whose length may be larger than the number of vertices.
      */
     protected ArrayList<Integer>[] adjacent;
 
+    /**
+     * The position of each edge in the adjacent lists, or {@code null} until the first edge is removed.
+     */
+    protected EdgeIndex index;
+
+    /**
+     * The owner of the list of each vertex, which decides when the lists shared with a snapshot are copied.
+     */
+    protected Ownership ownership;
+
     // Constructor
 
     /**
@@ -49,6 +72,7 @@ public class BasicUndirectedUnweightedALGraph implements IBasicGraph
         adjacent = (ArrayList<Integer>[]) new ArrayList[N];
         for(int v = 0; v < V; ++v)
             adjacent[v] = new ArrayList<>();
+        ownership = new Ownership();
     }
 
     /**
@@ -60,7 +84,32 @@ public class BasicUndirectedUnweightedALGraph implements IBasicGraph
         this.V = pGraph.V;
         this.E = pGraph.E;
         this.adjacent = (ArrayList<Integer>[]) new ArrayList[pGraph.V];
-        System.arraycopy(pGraph.adjacent, 0, this.adjacent, 0, pGraph.V);
+        // The lists are copied so that removing edges from one graph doesn't affect the other.
+        for(int i = 0; i < V; ++i)
+            this.adjacent[i] = new ArrayList<>(pGraph.adjacent[i]);
+        if(pGraph.index != null)
+            this.index = new EdgeIndex(pGraph.index);
+        this.ownership = new Ownership();
+    }
+
+    /**
+     * Creates a BasicUndirectedUnweightedALGraph object with the vertices and edges of the given compressed graph.
+     * Each adjacency list is created with the exact capacity of its vertex and the lists are filled in parallel.
+     * @param pGraph The compressed graph to copy.
+     */
+    public BasicUndirectedUnweightedALGraph(BasicUndirectedUnweightedCSRGraph pGraph)
+    {
+        this.V = pGraph.V;
+        this.E = pGraph.E;
+        this.adjacent = (ArrayList<Integer>[]) new ArrayList[pGraph.V];
+        IntStream.range(0, V).parallel().forEach(v ->
+        {
+            ArrayList<Integer> list = new ArrayList<>(pGraph.offsets[v + 1] - pGraph.offsets[v]);
+            for(int i = pGraph.offsets[v]; i < pGraph.offsets[v + 1]; ++i)
+                list.add(pGraph.targets[i]);
+            adjacent[v] = list;
+        });
+        this.ownership = new Ownership();
     }
 
     // Methods
@@ -77,6 +126,95 @@ public class BasicUndirectedUnweightedALGraph implements IBasicGraph
     public int E()
     { return E; }
 
+    /**
+     * @return The number of modifications of the graph, which only increases.
+     */
+    public long version()
+    { return modifications; }
+
+    /**
+     * Adds a new vertex without edges. The array of adjacent lists grows geometrically,
+     * so adding N vertices takes amortized O(N) time.
+     * @return The label of the new vertex, which is the previous number of vertices.
+     */
+    public int addVertex()
+    {
+        if(V == adjacent.length)
+            ensureCapacity(Math.max(1, adjacent.length * 2));
+        else if(ownership.isShared())
+            unshare(adjacent.length);
+        adjacent[V] = new ArrayList<>();
+        ownership.add(V);
+        ++modifications;
+        return V++;
+    }
+
+    /**
+     * Grows the array of adjacent lists so that it can hold the given number of vertices without growing again.
+     * Doesn't add any vertex.
+     * @param pCapacity The number of vertices.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        if(pCapacity > adjacent.length)
+        {
+            if(ownership.isTracked())
+                unshare(pCapacity);
+            else
+                adjacent = Arrays.copyOf(adjacent, pCapacity);
+        }
+    }
+
+    /**
+     * Creates a snapshot of the graph in O(1) time. The snapshot and the graph share their adjacent lists and the
+     * list of a vertex is only copied the first time either of them modifies it, in O(degree). The first modification
+     * of either graph also copies the array of lists, in O(V). The snapshot doesn't keep the index of edges, it's
+     * rebuilt if an edge is removed from the snapshot.
+     * @return The snapshot of the graph.
+     */
+    public BasicUndirectedUnweightedALGraph snapshot()
+    {
+        BasicUndirectedUnweightedALGraph snapshot = new BasicUndirectedUnweightedALGraph(0);
+        share(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Shares the vertices and edges of the graph with the given snapshot. Afterwards, neither of them owns any list.
+     * @param pSnapshot The snapshot.
+     */
+    protected void share(BasicUndirectedUnweightedALGraph pSnapshot)
+    {
+        pSnapshot.V = V;
+        pSnapshot.E = E;
+        pSnapshot.modifications = modifications;
+        pSnapshot.adjacent = adjacent;
+        ownership.share(pSnapshot.ownership);
+    }
+
+    /**
+     * Makes the graph the owner of the list of the given vertex, copying the list if it's shared with a snapshot.
+     * @param pVertex The vertex whose list is going to be modified.
+     */
+    protected void own(int pVertex)
+    {
+        if(ownership.isShared())
+            unshare(adjacent.length);
+        if(ownership.own(pVertex))
+            adjacent[pVertex] = new ArrayList<>(adjacent[pVertex]);
+    }
+
+    /**
+     * Copies the array of lists and the array of owners with the given length, so that they're no longer shared.
+     * The lists themselves are still shared.
+     * @param pLength The length of the copies.
+     */
+    private void unshare(int pLength)
+    {
+        adjacent = Arrays.copyOf(adjacent, pLength);
+        ownership.unshare(pLength);
+    }
+
     /**
      * Allows self-cycles and doesn't check if the vertices are valid or if the edge already exists. For this, use addEdgeChecked.
      * Adds an edge between two vertices. If it is the case that the edge is a self-cycle, it will add it once.
@@ -86,13 +224,14 @@ public class BasicUndirectedUnweightedALGraph implements IBasicGraph
     public void addEdge(int pVertex1, int pVertex2)
     {
         if(pVertex1 == pVertex2)
-            adjacent[pVertex1].add(pVertex2);
+            append(pVertex1, pVertex2);
         else
         {
-            adjacent[pVertex1].add(pVertex2);
-            adjacent[pVertex2].add(pVertex1);
+            append(pVertex1, pVertex2);
+            append(pVertex2, pVertex1);
         }
         ++E;
+        ++modifications;
     }
 
     /**
@@ -109,23 +248,103 @@ public class BasicUndirectedUnweightedALGraph implements IBasicGraph
             {
                 if(!adjacent[pVertex2].contains(pVertex1))
                 {
-                    adjacent[pVertex1].add(pVertex2);
-                    adjacent[pVertex2].add(pVertex1);
+                    append(pVertex1, pVertex2);
+                    append(pVertex2, pVertex1);
                     ++E;
+                    ++modifications;
                 }
             }
             else
             {
                 if(!adjacent[pVertex1].contains(pVertex2))
                 {
-                    adjacent[pVertex1].add(pVertex2);
-                    adjacent[pVertex2].add(pVertex1);
+                    append(pVertex1, pVertex2);
+                    append(pVertex2, pVertex1);
                     ++E;
+                    ++modifications;
                 }
             }
         }
     }
 
+    /**
+     * Appends a vertex to the list of another vertex, keeping the index of edges up to date.
+     * @param pVertex The vertex whose list is appended to.
+     * @param pAdjacent The vertex to append.
+     */
+    protected void append(int pVertex, int pAdjacent)
+    {
+        own(pVertex);
+        adjacent[pVertex].add(pAdjacent);
+        if(index != null)
+            index.add(pVertex, pAdjacent, adjacent[pVertex].size() - 1);
+    }
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use removeEdgeChecked.
+     * Removes an edge between two vertices if it exists. If the edge was added more than once, one of them is removed.
+     * The removed vertex is replaced by the last vertex of its list, so the order of the lists isn't kept. The first
+     * removal indexes the position of every edge in O(V+E), after which each removal takes O(1) expected time.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdge(int pVertex1, int pVertex2)
+    {
+        if(index == null)
+            index = new EdgeIndex(adjacent, V);
+        if(!index.contains(pVertex1, pVertex2))
+            return;
+        own(pVertex1);
+        own(pVertex2);
+        index.remove(adjacent[pVertex1], pVertex1, pVertex2);
+        if(pVertex1 != pVertex2)
+            index.remove(adjacent[pVertex2], pVertex2, pVertex1);
+        --E;
+        ++modifications;
+    }
+
+    /**
+     * Checks if the vertices are valid.
+     * Removes an edge between two vertices if the vertices are valid and the edge exists.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdgeChecked(int pVertex1, int pVertex2)
+    {
+        if(pVertex1 >= 0 && pVertex1 < V && pVertex2 >= 0 && pVertex2 < V)
+            removeEdge(pVertex1, pVertex2);
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return adjacent[pVertex].size(); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The adjacent vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    { return adjacent[pVertex].get(pIndex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        ArrayList<Integer> list = adjacent[pVertex];
+        for(int i = 0, n = list.size(); i < n; ++i)
+            pAction.accept(list.get(i));
+    }
+
     /**
      * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
      * @param pVertex The vertex whose adjacent collection is desired.
@@ -146,5 +365,5 @@ public class BasicUndirectedUnweightedALGraph implements IBasicGraph
      * @return Array of collections corresponding to the adjacent vertices of each vertex.
      */
     public Collection<Integer>[] adjacent()
-    { return adjacent; }
+    { return adjacent.length == V ? adjacent : Arrays.copyOf(adjacent, V); }
 }
\ No newline at end of file
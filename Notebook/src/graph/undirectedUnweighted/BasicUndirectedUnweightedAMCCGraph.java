@@ -53,10 +53,42 @@ public class BasicUndirectedUnweightedAMCCGraph extends BasicUndirectedUnweighte
      */
     public void addEdge(int pVertex1, int pVertex2)
     {
-        adjacent[pVertex1][pVertex2] = true;
-        adjacent[pVertex2][pVertex1] = true;
+        super.addEdge(pVertex1, pVertex2);
         unionFinder.merge(pVertex1, pVertex2);
-        ++E;
+    }
+
+    /**
+     * Creates a snapshot of the graph that shares the rows of its matrix with the graph until either of them modifies
+     * a vertex, see BasicUndirectedUnweightedAMGraph.snapshot. The union finder is copied, in O(V).
+     * @return The snapshot of the graph.
+     */
+    public BasicUndirectedUnweightedAMCCGraph snapshot()
+    {
+        BasicUndirectedUnweightedAMCCGraph snapshot = new BasicUndirectedUnweightedAMCCGraph(0);
+        share(snapshot);
+        snapshot.unionFinder = new BasicUnionFinder(unionFinder);
+        return snapshot;
+    }
+
+    /**
+     * Adds a new vertex without edges, which is a component on its own.
+     * @return The label of the new vertex, which is the previous number of vertices.
+     */
+    public int addVertex()
+    {
+        unionFinder.add();
+        return super.addVertex();
+    }
+
+    /**
+     * Grows the graph and its union finder so that they can hold the given number of vertices without growing again.
+     * Doesn't add any vertex.
+     * @param pCapacity The number of vertices.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        super.ensureCapacity(pCapacity);
+        unionFinder.ensureCapacity(pCapacity);
     }
 
     // Connected components methods
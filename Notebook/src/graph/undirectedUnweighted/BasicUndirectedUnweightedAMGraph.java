@@ -3,13 +3,18 @@
 package graph.undirectedUnweighted;
 
 import graph.IBasicGraph;
+import graph.Ownership;
 import util.Checked;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.IntConsumer;
 
 /**
  * Represents a simple numerical undirected and unweighted graph for N vertices labeled from 0 to N-1.
- * The graph has an adjacency matrix implementation.
+ * The graph has an adjacency matrix implementation. The adjacent vertices of each vertex are also cached in a
+ * primitive array that is updated when an edge is added, so traversals take O(V+E) time instead of scanning every
+ * row, and the adjacent vertices are listed in the order in which their edges were added.
  * @author Daniel del Castillo A. https://github.com/ddelcastillo
  * Class finished and corrected as of 6/1/20.
  * Class last revised on 3/1/21.
@@ -20,6 +25,18 @@ import java.util.Collection;
 " the non 'Checked' methods, however, these are liable to: ArrayIndexOutOfBounds exceptions.")
 public class BasicUndirectedUnweightedAMGraph implements IBasicGraph
 {
+    // Constants
+
+    /**
+     * The number of vertices by which the matrix grows at least.
+     */
+    protected static final int BLOCK_SIZE = 64;
+
+    /**
+     * The initial capacity of the cached adjacent vertices of a vertex.
+     */
+    private static final int NEIGHBORS_CAPACITY = 4;
+
     // Attributes
 
     /**
@@ -33,10 +50,32 @@ public class BasicUndirectedUnweightedAMGraph implements IBasicGraph
     protected int E;
 
     /**
-     * The adjacency matrix that represents edges between vertices.
+     * The number of modifications of the graph, which is its version. Unlike the stamp of its ownership, it only
+     * changes when a vertex or an edge is added or removed.
+     */
+    protected long modifications;
+
+    /**
+     * The adjacency matrix that represents edges between vertices, whose size may be larger than the number of vertices.
      */
     protected boolean[][] adjacent;
 
+    /**
+     * The cached adjacent vertices of each vertex, in the order in which their edges were added, whose length may be
+     * larger than the degree of the vertex. Shared with a snapshot together with the rows of the matrix.
+     */
+    protected int[][] neighbors;
+
+    /**
+     * The number of adjacent vertices of each vertex.
+     */
+    protected int[] degrees;
+
+    /**
+     * The owner of the row of each vertex, which decides when the rows shared with a snapshot are copied.
+     */
+    protected Ownership ownership;
+
     // Constructor
 
     /**
@@ -48,6 +87,9 @@ public class BasicUndirectedUnweightedAMGraph implements IBasicGraph
         V = N;
         E = 0;
         adjacent = new boolean[N][N];
+        neighbors = new int[N][0];
+        degrees = new int[N];
+        ownership = new Ownership();
     }
 
     /**
@@ -59,8 +101,14 @@ public class BasicUndirectedUnweightedAMGraph implements IBasicGraph
         this.V = pGraph.V;
         this.E = pGraph.E;
         this.adjacent = new boolean[pGraph.V][pGraph.V];
+        this.neighbors = new int[pGraph.V][];
+        this.degrees = Arrays.copyOf(pGraph.degrees, pGraph.V);
         for(int i = 0; i < V; ++i)
+        {
             System.arraycopy(pGraph.adjacent[i], 0, this.adjacent[i], 0, V);
+            this.neighbors[i] = Arrays.copyOf(pGraph.neighbors[i], degrees[i]);
+        }
+        this.ownership = new Ownership();
     }
 
     // Methods
@@ -77,6 +125,103 @@ public class BasicUndirectedUnweightedAMGraph implements IBasicGraph
     public int E()
     { return E; }
 
+    /**
+     * @return The number of modifications of the graph, which only increases.
+     */
+    public long version()
+    { return modifications; }
+
+    /**
+     * Adds a new vertex without edges. The matrix grows in blocks of BLOCK_SIZE vertices and at least by half
+     * its size, so adding N vertices takes amortized O(N) row copies.
+     * @return The label of the new vertex, which is the previous number of vertices.
+     */
+    public int addVertex()
+    {
+        if(V == adjacent.length)
+            ensureCapacity(V + Math.max(BLOCK_SIZE, V / 2));
+        ++modifications;
+        return V++;
+    }
+
+    /**
+     * Grows the matrix so that it can hold the given number of vertices without growing again.
+     * The capacity is rounded up to a multiple of BLOCK_SIZE. Doesn't add any vertex.
+     * @param pCapacity The number of vertices.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        if(pCapacity > adjacent.length)
+        {
+            pCapacity = (pCapacity + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+            boolean[][] matrix = new boolean[pCapacity][];
+            int[][] lists = new int[pCapacity][];
+            for(int i = 0; i < adjacent.length; ++i)
+            {
+                matrix[i] = Arrays.copyOf(adjacent[i], pCapacity);
+                lists[i] = Arrays.copyOf(neighbors[i], degrees[i]);
+            }
+            for(int i = adjacent.length; i < pCapacity; ++i)
+            {
+                matrix[i] = new boolean[pCapacity];
+                lists[i] = new int[0];
+            }
+            adjacent = matrix;
+            neighbors = lists;
+            degrees = Arrays.copyOf(degrees, pCapacity);
+            // Every row was copied, so none of them is shared anymore.
+            ownership.reset();
+        }
+    }
+
+    /**
+     * Creates a snapshot of the graph in O(1) time instead of the O(V^2) copy. The snapshot and the graph share the
+     * rows of the matrix and a row is only copied the first time either of them modifies it, in O(V). The first
+     * modification of either graph also copies the array of rows, in O(V).
+     * @return The snapshot of the graph.
+     */
+    public BasicUndirectedUnweightedAMGraph snapshot()
+    {
+        BasicUndirectedUnweightedAMGraph snapshot = new BasicUndirectedUnweightedAMGraph(0);
+        share(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Shares the vertices and edges of the graph with the given snapshot. Afterwards, neither of them owns any row.
+     * @param pSnapshot The snapshot.
+     */
+    protected void share(BasicUndirectedUnweightedAMGraph pSnapshot)
+    {
+        pSnapshot.V = V;
+        pSnapshot.E = E;
+        pSnapshot.modifications = modifications;
+        pSnapshot.adjacent = adjacent;
+        pSnapshot.neighbors = neighbors;
+        pSnapshot.degrees = degrees;
+        ownership.share(pSnapshot.ownership);
+    }
+
+    /**
+     * Makes the graph the owner of the row of the given vertex, copying the row if it's shared with a snapshot.
+     * @param pVertex The vertex whose row is going to be modified.
+     */
+    protected void own(int pVertex)
+    {
+        if(ownership.isShared())
+        {
+            adjacent = adjacent.clone();
+            neighbors = neighbors.clone();
+            degrees = degrees.clone();
+            ownership.unshare(adjacent.length);
+        }
+        if(ownership.own(pVertex))
+        {
+            adjacent[pVertex] = adjacent[pVertex].clone();
+            neighbors[pVertex] = neighbors[pVertex].clone();
+        }
+    }
+
     /**
      * Allows self-cycles and doesn't check if the vertices are valid or if the edge already exists. For this, use addEdgeChecked.
      * Adds an edge between two vertices. If it is the case that the edge is a self-cycle, it will add it once.
@@ -85,9 +230,31 @@ public class BasicUndirectedUnweightedAMGraph implements IBasicGraph
      */
     public void addEdge(int pVertex1, int pVertex2)
     {
-        adjacent[pVertex1][pVertex2] = true;
-        adjacent[pVertex2][pVertex1] = true;
+        own(pVertex1);
+        own(pVertex2);
+        if(!adjacent[pVertex1][pVertex2])
+        {
+            adjacent[pVertex1][pVertex2] = true;
+            adjacent[pVertex2][pVertex1] = true;
+            cache(pVertex1, pVertex2);
+            if(pVertex1 != pVertex2)
+                cache(pVertex2, pVertex1);
+        }
         ++E;
+        ++modifications;
+    }
+
+    /**
+     * Appends a vertex to the cached adjacent vertices of another one, doubling the capacity of the cache if needed.
+     * @param pVertex The vertex whose cache is updated.
+     * @param pAdjacent The new adjacent vertex.
+     */
+    private void cache(int pVertex, int pAdjacent)
+    {
+        int[] list = neighbors[pVertex];
+        if(degrees[pVertex] == list.length)
+            neighbors[pVertex] = list = Arrays.copyOf(list, Math.max(NEIGHBORS_CAPACITY, list.length * 2));
+        list[degrees[pVertex]++] = pAdjacent;
     }
 
     /**
@@ -102,19 +269,48 @@ public class BasicUndirectedUnweightedAMGraph implements IBasicGraph
             addEdge(pVertex1, pVertex2);
     }
 
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return degrees[pVertex]; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The adjacent vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    { return neighbors[pVertex][pIndex]; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        int[] list = neighbors[pVertex];
+        for(int i = 0, n = degrees[pVertex]; i < n; ++i)
+            pAction.accept(list[i]);
+    }
+
     /**
      * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
+     * The list is created from the cached adjacent vertices in O(degree) time.
      * @param pVertex The vertex whose adjacent collection is desired.
      * @return Collection corresponding to the adjacent vertices of the given vertex.
      */
     public Collection<Integer> adjacent(int pVertex)
     {
-        ArrayList<Integer> adj = new ArrayList<>();
-        for(int i = 0; i < V; ++i)
-        {
-            if(adjacent[pVertex][i])
-                adj.add(i);
-        }
+        int[] list = neighbors[pVertex];
+        ArrayList<Integer> adj = new ArrayList<>(degrees[pVertex]);
+        for(int i = 0, n = degrees[pVertex]; i < n; ++i)
+            adj.add(list[i]);
         return adj;
     }
 
@@ -127,20 +323,14 @@ public class BasicUndirectedUnweightedAMGraph implements IBasicGraph
     { return pVertex >= 0 && pVertex < V ? adjacent(pVertex) : null; }
 
     /**
+     * The lists are created from the cached adjacent vertices in O(V+E) time.
      * @return Array of collections corresponding to the adjacent vertices of each vertex.
      */
     public Collection<Integer>[] adjacent()
     {
         ArrayList<Integer>[] adj = new ArrayList[V];
         for(int i = 0; i < V; ++i)
-        {
-            adj[i] = new ArrayList<>();
-            for(int j = 0; j < V; ++j)
-            {
-                if(adjacent[i][j])
-                    adj[i].add(j);
-            }
-        }
+            adj[i] = (ArrayList<Integer>) adjacent(i);
         return adj;
     }
 
@@ -2,6 +2,7 @@ package graph.undirectedUnweighted;
 
 import unionFinder.BasicUnionFinder;
 import util.Checked;
+import java.util.ArrayList;
 
 /**
  * Represents a simple numerical undirected and unweighted graph for N vertices labeled from 0 to N-1 that
@@ -24,6 +25,11 @@ public class BasicUndirectedUnweightedCCGraph extends BasicUndirectedUnweightedG
      */
     private BasicUnionFinder unionFinder;
 
+    /**
+     * The vertices whose components lost an edge since the components were last updated.
+     */
+    private ArrayList<Integer> dirty;
+
     // Constructor
 
     /**
@@ -34,6 +40,7 @@ public class BasicUndirectedUnweightedCCGraph extends BasicUndirectedUnweightedG
     {
         super(N);
         unionFinder = new BasicUnionFinder(N);
+        dirty = new ArrayList<>();
     }
 
     /**
@@ -44,6 +51,7 @@ public class BasicUndirectedUnweightedCCGraph extends BasicUndirectedUnweightedG
     {
         super(pGraph);
         this.unionFinder = new BasicUnionFinder(pGraph.unionFinder);
+        this.dirty = new ArrayList<>(pGraph.dirty);
     }
 
     /**
@@ -57,14 +65,79 @@ public class BasicUndirectedUnweightedCCGraph extends BasicUndirectedUnweightedG
         adjacentMatrix[pVertex1][pVertex2] = true;
         adjacentMatrix[pVertex2][pVertex1] = true;
         if(pVertex1 == pVertex2)
-            adjacent[pVertex1].add(pVertex2);
+            append(pVertex1, pVertex2);
         else
         {
-            adjacent[pVertex1].add(pVertex2);
-            adjacent[pVertex2].add(pVertex1);
+            append(pVertex1, pVertex2);
+            append(pVertex2, pVertex1);
         }
         unionFinder.merge(pVertex1, pVertex2);
         ++E;
+        ++modifications;
+    }
+
+    /**
+     * Adds a new vertex without edges, which is a component on its own.
+     * @return The label of the new vertex, which is the previous number of vertices.
+     */
+    public int addVertex()
+    {
+        unionFinder.add();
+        return super.addVertex();
+    }
+
+    /**
+     * Grows the graph and its union finder so that they can hold the given number of vertices without growing again.
+     * Doesn't add any vertex.
+     * @param pCapacity The number of vertices.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        super.ensureCapacity(pCapacity);
+        unionFinder.ensureCapacity(pCapacity);
+    }
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use removeEdgeChecked.
+     * Removes an edge between two vertices if it exists. If the edge was added more than once, one of them is removed.
+     * The components aren't split right away: the component of the vertices is marked and recomputed the next
+     * time the components are queried.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdge(int pVertex1, int pVertex2)
+    {
+        int edges = E;
+        super.removeEdge(pVertex1, pVertex2);
+        if(E < edges && pVertex1 != pVertex2 && !index.contains(pVertex1, pVertex2))
+            dirty.add(pVertex1);
+    }
+
+    /**
+     * Recomputes the components that lost an edge since the last update. The vertices of those components
+     * are separated in the union finder and merged again through their remaining edges.
+     */
+    private void update()
+    {
+        if(dirty.isEmpty())
+            return;
+        boolean[] affected = new boolean[V];
+        for(int vertex : dirty)
+            affected[unionFinder.root(vertex)] = true;
+        int[] vertices = new int[V];
+        int count = 0;
+        for(int v = 0; v < V; ++v)
+        {
+            if(affected[unionFinder.root(v)])
+                vertices[count++] = v;
+        }
+        unionFinder.isolate(vertices, count);
+        for(int i = 0; i < count; ++i)
+        {
+            for(int vertex : adjacent[vertices[i]])
+                unionFinder.merge(vertices[i], vertex);
+        }
+        dirty.clear();
     }
 
     // Connected components methods
@@ -73,7 +146,10 @@ public class BasicUndirectedUnweightedCCGraph extends BasicUndirectedUnweightedG
      * @return The number of connected components in the graph.
      */
     public int numberOfComponents()
-    { return unionFinder.totalRoots(); }
+    {
+        update();
+        return unionFinder.totalRoots();
+    }
 
     /**
      * Doesn't check if pVertex is a valid vertex. For that, use sizeOfComponentChecked.
@@ -81,7 +157,10 @@ public class BasicUndirectedUnweightedCCGraph extends BasicUndirectedUnweightedG
      * @return The size of the component that the given vertex is a part of.
      */
     public int sizeOfComponent(int pVertex)
-    { return unionFinder.size(pVertex); }
+    {
+        update();
+        return unionFinder.size(pVertex);
+    }
 
     /**
      * Checks that pVertex is a valid vertex.
@@ -89,5 +168,8 @@ public class BasicUndirectedUnweightedCCGraph extends BasicUndirectedUnweightedG
      * @return The size of the component that the given vertex is a part of or {@code null} if the vertex is invalid.
      */
     public Integer sizeOfComponentChecked(int pVertex)
-    { return unionFinder.sizeChecked(pVertex); }
+    {
+        update();
+        return unionFinder.sizeChecked(pVertex);
+    }
 }
@@ -0,0 +1,232 @@
+// @formatter:off
+
+package graph.undirectedUnweighted;
+
+import graph.IBasicGraph;
+import util.Checked;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a read-only simple numerical undirected and unweighted graph for N vertices labeled from 0 to N-1.
+ * The graph has a compressed sparse row implementation: the adjacent vertices of every vertex are stored
+ * contiguously in a single primitive array, and the adjacency of the vertex v is in the range
+ * [offsets[v], offsets[v+1]). An edge between two different vertices is stored in both ranges and a
+ * self-cycle is stored once, as in the adjacency list graphs.
+ */
+@Checked
+(note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
+" ensure the structure's correctness in exchange of efficiency. For fastest results, use\n" +
+" the non 'Checked' methods, however, these are liable to: ArrayIndexOutOfBounds exceptions.")
+public class BasicUndirectedUnweightedCSRGraph implements IBasicGraph
+{
+    // Attributes
+
+    /**
+     * The number of vertices.
+     */
+    protected final int V;
+
+    /**
+     * The number of edges.
+     */
+    protected final int E;
+
+    /**
+     * The position in which the adjacency of each vertex starts, with a last position for the end.
+     */
+    protected final int[] offsets;
+
+    /**
+     * The adjacent vertices of every vertex.
+     */
+    protected final int[] targets;
+
+    /**
+     * Whether the adjacency of every vertex is sorted in ascending order.
+     */
+    protected final boolean sorted;
+
+    // Constructor
+
+    /**
+     * Creates a BasicUndirectedUnweightedCSRGraph object with the given arrays, which aren't copied.
+     * @param pOffsets The position in which the adjacency of each vertex starts, with a last position for the end.
+     * @param pTargets The adjacent vertices of every vertex.
+     * @param pE The number of edges.
+     * @param pSorted Whether the adjacency of every vertex is sorted in ascending order.
+     */
+    public BasicUndirectedUnweightedCSRGraph(int[] pOffsets, int[] pTargets, int pE, boolean pSorted)
+    {
+        V = pOffsets.length - 1;
+        E = pE;
+        offsets = pOffsets;
+        targets = pTargets;
+        sorted = pSorted;
+    }
+
+    // Methods
+
+    /**
+     * @return The number of vertices.
+     */
+    public int V()
+    { return V; }
+
+    /**
+     * @return The number of edges.
+     */
+    public int E()
+    { return E; }
+
+    /**
+     * @return {@code true} if the adjacency of every vertex is sorted in ascending order, {@code false} if contrary.
+     */
+    public boolean isSorted()
+    { return sorted; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return offsets[pVertex + 1] - offsets[pVertex]; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The adjacent vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    { return targets[offsets[pVertex] + pIndex]; }
+
+    /**
+     * @return The number of edge slots, which is the length of the adjacency of all the vertices together.
+     * Each edge has a slot in the adjacency of both of its vertices, and each self-cycle has a single slot.
+     */
+    public int slots()
+    { return targets.length; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The edge slot of the adjacent vertex in the given position, from 0 to slots()-1.
+     */
+    public int slot(int pVertex, int pIndex)
+    { return offsets[pVertex] + pIndex; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        for(int i = offsets[pVertex], end = offsets[pVertex + 1]; i < end; ++i)
+            pAction.accept(targets[i]);
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the adjacent vertices of the given vertex.
+     */
+    public Collection<Integer> adjacent(int pVertex)
+    { return new Adjacent(offsets[pVertex], offsets[pVertex + 1]); }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the adjacent vertices of the given vertex or
+     * {@code null} if the vertex is invalid.
+     */
+    public Collection<Integer> adjacentChecked(int pVertex)
+    { return pVertex >= 0 && pVertex < V ? adjacent(pVertex) : null; }
+
+    /**
+     * @return Array of unmodifiable collections corresponding to the adjacent vertices of each vertex.
+     */
+    public Collection<Integer>[] adjacent()
+    {
+        Collection<Integer>[] adjacent = (Collection<Integer>[]) new Collection[V];
+        for(int v = 0; v < V; ++v)
+            adjacent[v] = adjacent(v);
+        return adjacent;
+    }
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use hasEdgeChecked.
+     * Uses a binary search if the adjacency is sorted and a linear scan if contrary.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return True if there's an edge between the two vertices, false if contrary.
+     */
+    public boolean hasEdge(int pVertex1, int pVertex2)
+    {
+        if(sorted)
+            return Arrays.binarySearch(targets, offsets[pVertex1], offsets[pVertex1 + 1], pVertex2) >= 0;
+        for(int i = offsets[pVertex1]; i < offsets[pVertex1 + 1]; ++i)
+        {
+            if(targets[i] == pVertex2)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the vertices are valid.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return True if there's an edge between the two vertices, false if contrary or {@code null}
+     * if one or two of the vertices are invalid.
+     */
+    public Boolean hasEdgeChecked(int pVertex1, int pVertex2)
+    {
+        if(pVertex1 >= 0 && pVertex2 >= 0 && pVertex1 < V && pVertex2 < V)
+            return hasEdge(pVertex1, pVertex2);
+        else
+            return null;
+    }
+
+    // Classes
+
+    /**
+     * Unmodifiable view over a range of the targets array.
+     */
+    private class Adjacent extends AbstractList<Integer>
+    {
+        /**
+         * The first slot of the range.
+         */
+        private final int start;
+
+        /**
+         * The slot after the last slot of the range.
+         */
+        private final int end;
+
+        /**
+         * Creates an Adjacent object over the given range.
+         * @param pStart The first slot of the range.
+         * @param pEnd The slot after the last slot of the range.
+         */
+        Adjacent(int pStart, int pEnd)
+        { start = pStart; end = pEnd; }
+
+        public Integer get(int pIndex)
+        {
+            if(pIndex < 0 || pIndex >= end - start)
+                throw new IndexOutOfBoundsException("Index: " + pIndex + ", Size: " + (end - start));
+            return targets[start + pIndex];
+        }
+
+        public int size()
+        { return end - start; }
+    }
+}
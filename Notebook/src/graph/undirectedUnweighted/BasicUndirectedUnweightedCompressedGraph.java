@@ -0,0 +1,617 @@
+// @formatter:off
+
+package graph.undirectedUnweighted;
+
+import graph.IBasicGraph;
+import util.Checked;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a read-only simple numerical undirected and unweighted graph for N vertices labeled from 0 to N-1.
+ * The graph has a compressed implementation in the style of WebGraph's BV format: the adjacency of every vertex
+ * is sorted and stored as a sequence of variable-length integers in a single byte array, so small numbers take
+ * a single byte. The adjacency of a vertex is encoded as its degree, optionally a reference to one of the
+ * previous WINDOW vertices whose adjacency is similar together with the blocks of that adjacency that are
+ * copied, and the remaining vertices (residuals) as gaps between consecutive vertices, the first one relative
+ * to the vertex itself. The adjacency is decoded sequentially every time it's accessed, trading time for memory:
+ * forEachNeighbor and hasEdge read the gaps as they go without allocating, unless the adjacency copies blocks from a
+ * reference, adjacent decodes it into a new array and neighbor keeps the adjacencies each thread decoded last.
+ */
+@Checked
+(note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
+" ensure the structure's correctness in exchange of efficiency. For fastest results, use\n" +
+" the non 'Checked' methods, however, these are liable to: ArrayIndexOutOfBounds exceptions.")
+public class BasicUndirectedUnweightedCompressedGraph implements IBasicGraph
+{
+    // Constants
+
+    /**
+     * The default number of previous vertices considered as references.
+     */
+    public static final int DEFAULT_WINDOW = 7;
+
+    /**
+     * The maximum length of a chain of references, which bounds the work to decode an adjacency.
+     */
+    public static final int MAX_CHAIN = 3;
+
+    /**
+     * The logarithm of the number of decoded adjacencies each thread keeps for neighbor.
+     */
+    private static final int DECODED_BITS = 6;
+
+    /**
+     * The number of decoded adjacencies each thread keeps for neighbor, besides the last decoded one.
+     */
+    private static final int DECODED = 1 << DECODED_BITS;
+
+    // Attributes
+
+    /**
+     * The number of vertices.
+     */
+    protected final int V;
+
+    /**
+     * The number of edges.
+     */
+    protected final int E;
+
+    /**
+     * The number of previous vertices considered as references, 0 if references aren't used.
+     */
+    protected final int window;
+
+    /**
+     * The position in which the encoded adjacency of each vertex starts, with a last position for the end.
+     */
+    protected final int[] offsets;
+
+    /**
+     * The encoded adjacency of every vertex.
+     */
+    protected final byte[] data;
+
+    /**
+     * The number of stored adjacent vertices, that is, twice the number of edges minus the number of self-cycles.
+     */
+    protected final long arcs;
+
+    /**
+     * The adjacencies last decoded by neighbor in each thread.
+     */
+    private final ThreadLocal<Decoded> decoded = ThreadLocal.withInitial(Decoded::new);
+
+    // Constructor
+
+    /**
+     * Creates a BasicUndirectedUnweightedCompressedGraph object with the vertices and edges of the given graph,
+     * using references within the default window.
+     * @param pGraph The graph to compress.
+     */
+    public BasicUndirectedUnweightedCompressedGraph(BasicUndirectedUnweightedCSRGraph pGraph)
+    { this(pGraph, DEFAULT_WINDOW); }
+
+    /**
+     * Creates a BasicUndirectedUnweightedCompressedGraph object with the vertices and edges of the given graph.
+     * A larger window may find more similar adjacencies to copy from, which compresses better but takes longer to build.
+     * @param pGraph The graph to compress.
+     * @param pWindow The number of previous vertices considered as references, 0 to only use gaps.
+     */
+    public BasicUndirectedUnweightedCompressedGraph(BasicUndirectedUnweightedCSRGraph pGraph, int pWindow)
+    {
+        V = pGraph.V;
+        E = pGraph.E;
+        window = pWindow;
+        arcs = pGraph.targets.length;
+        offsets = new int[V + 1];
+        Encoder out = new Encoder(pGraph.targets.length + V);
+        // The sorted adjacency of the last vertices and the length of their chains of references.
+        int[][] recent = new int[window + 1][];
+        int[] chain = new int[window + 1];
+        for(int v = 0; v < V; ++v)
+        {
+            int[] list = Arrays.copyOfRange(pGraph.targets, pGraph.offsets[v], pGraph.offsets[v + 1]);
+            if(!pGraph.sorted)
+                Arrays.sort(list);
+            offsets[v] = out.size;
+            out.write(list.length);
+            boolean[] copied = new boolean[list.length];
+            int length = 0;
+            if(window > 0 && list.length > 0)
+            {
+                int reference = 0, best = 0;
+                for(int r = 1; r <= window && r <= v; ++r)
+                {
+                    int slot = (v - r) % (window + 1);
+                    if(chain[slot] < MAX_CHAIN)
+                    {
+                        int common = common(list, recent[slot], null, null);
+                        if(common > best)
+                        {
+                            best = common;
+                            reference = r;
+                        }
+                    }
+                }
+                out.write(reference);
+                if(reference > 0)
+                {
+                    int slot = (v - reference) % (window + 1);
+                    boolean[] used = new boolean[recent[slot].length];
+                    common(list, recent[slot], copied, used);
+                    encodeBlocks(out, used);
+                    length = chain[slot] + 1;
+                }
+            }
+            int previous = v;
+            boolean first = true;
+            for(int i = 0; i < list.length; ++i)
+            {
+                if(copied[i])
+                    continue;
+                if(first)
+                    out.writeLong(zigzag((long) list[i] - v));
+                else
+                    out.write(list[i] - previous);
+                previous = list[i];
+                first = false;
+            }
+            recent[v % (window + 1)] = list;
+            chain[v % (window + 1)] = length;
+        }
+        offsets[V] = out.size;
+        data = Arrays.copyOf(out.bytes, out.size);
+    }
+
+    // Methods
+
+    /**
+     * @return The number of vertices.
+     */
+    public int V()
+    { return V; }
+
+    /**
+     * @return The number of edges.
+     */
+    public int E()
+    { return E; }
+
+    /**
+     * @return The number of bytes used by the encoded adjacencies and the offsets of each vertex.
+     */
+    public long bytes()
+    { return data.length + 4L * offsets.length; }
+
+    /**
+     * @return The average number of bits used for each stored adjacent vertex, including the offsets of each vertex.
+     * A compressed sparse row graph uses 32 bits for each stored adjacent vertex plus 32 bits for each vertex.
+     */
+    public double bitsPerEdge()
+    { return arcs == 0 ? 0 : 8.0 * bytes() / arcs; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return new Decoder(offsets[pVertex]).read(); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pBuffer can hold its degree.
+     * Decodes the adjacency of the given vertex in ascending order into the given buffer, without allocating
+     * unless the adjacency is copied from another vertex.
+     * @param pVertex The vertex whose adjacent vertices are desired.
+     * @param pBuffer The array in which the adjacent vertices are written, from position 0.
+     * @return The number of adjacent vertices written, which is the degree of the vertex.
+     */
+    public int neighbors(int pVertex, int[] pBuffer)
+    {
+        Decoder in = new Decoder(offsets[pVertex]);
+        int degree = in.read();
+        if(degree == 0)
+            return 0;
+        int copied = 0;
+        int[] copies = null;
+        if(window > 0)
+        {
+            int reference = in.read();
+            if(reference > 0)
+            {
+                int[] list = new int[degree(pVertex - reference)];
+                neighbors(pVertex - reference, list);
+                copies = new int[degree];
+                int blocks = in.read();
+                for(int b = 0, i = 0; b < blocks; ++b)
+                {
+                    int length = in.read();
+                    if((b & 1) == 0)
+                    {
+                        System.arraycopy(list, i, copies, copied, length);
+                        copied += length;
+                    }
+                    i += length;
+                }
+            }
+        }
+        // The residuals are written after the copied vertices and both sorted sequences are then merged from the front.
+        int previous = 0;
+        for(int j = copied; j < degree; ++j)
+        {
+            previous = j == copied ? (int) (pVertex + unzigzag(in.readLong())) : previous + in.read();
+            pBuffer[j] = previous;
+        }
+        if(copied > 0)
+        {
+            int i = 0, j = copied, k = 0;
+            while(i < copied)
+            {
+                if(j < degree && pBuffer[j] < copies[i])
+                    pBuffer[k++] = pBuffer[j++];
+                else
+                    pBuffer[k++] = copies[i++];
+            }
+        }
+        return degree;
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * Each thread keeps the adjacencies it decoded last, so reading the adjacent vertices of a vertex in order decodes
+     * its adjacency once. Each adjacency is kept in a slot given by its vertex, which only a vertex with a larger or
+     * equal degree takes over, and in a slot for the last decoded vertex, so the adjacency of a high degree vertex is
+     * kept while a traversal visits its adjacent vertices.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The adjacent vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    {
+        Decoded cache = decoded.get();
+        int slot = DECODED;
+        if(cache.vertices[slot] != pVertex && cache.vertices[slot = (pVertex * 0x9E3779B9) >>> (32 - DECODED_BITS)] != pVertex)
+        {
+            int degree = degree(pVertex);
+            if(cache.vertices[slot] >= 0 && cache.degrees[slot] > degree)
+                slot = DECODED;
+            if(cache.lists[slot].length < degree)
+                cache.lists[slot] = new int[degree];
+            neighbors(pVertex, cache.lists[slot]);
+            cache.vertices[slot] = pVertex;
+            cache.degrees[slot] = degree;
+        }
+        return cache.lists[slot][pIndex];
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor. The gaps
+     * are decoded as they're read, only an adjacency that copies blocks from a reference is decoded into a new array.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        Decoder in = new Decoder(offsets[pVertex]);
+        int degree = in.read();
+        if(degree == 0)
+            return;
+        if(window > 0 && in.read() > 0)
+        {
+            // The copied vertices have to be merged with the residuals.
+            int[] list = new int[degree];
+            neighbors(pVertex, list);
+            for(int vertex : list)
+                pAction.accept(vertex);
+            return;
+        }
+        for(int j = 0, previous = 0; j < degree; ++j)
+        {
+            previous = j == 0 ? (int) (pVertex + unzigzag(in.readLong())) : previous + in.read();
+            pAction.accept(previous);
+        }
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
+     * Decodes the adjacency into a new array, for the traversal of the graph use forEachNeighbor.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the adjacent vertices of the given vertex, in ascending order.
+     */
+    public Collection<Integer> adjacent(int pVertex)
+    {
+        int[] list = new int[degree(pVertex)];
+        neighbors(pVertex, list);
+        return new Adjacent(list);
+    }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable collection corresponding to the adjacent vertices of the given vertex or
+     * {@code null} if the vertex is invalid.
+     */
+    public Collection<Integer> adjacentChecked(int pVertex)
+    { return pVertex >= 0 && pVertex < V ? adjacent(pVertex) : null; }
+
+    /**
+     * Decodes the whole graph.
+     * @return Array of unmodifiable collections corresponding to the adjacent vertices of each vertex.
+     */
+    public Collection<Integer>[] adjacent()
+    {
+        Collection<Integer>[] adjacent = (Collection<Integer>[]) new Collection[V];
+        for(int v = 0; v < V; ++v)
+            adjacent[v] = adjacent(v);
+        return adjacent;
+    }
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use hasEdgeChecked.
+     * Stops decoding the adjacency of the first vertex once it passes the second vertex.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return True if there's an edge between the two vertices, false if contrary.
+     */
+    public boolean hasEdge(int pVertex1, int pVertex2)
+    {
+        Decoder in = new Decoder(offsets[pVertex1]);
+        int degree = in.read();
+        if(degree == 0)
+            return false;
+        if(window > 0 && in.read() > 0)
+        {
+            int[] list = new int[degree];
+            neighbors(pVertex1, list);
+            return Arrays.binarySearch(list, pVertex2) >= 0;
+        }
+        // The gaps are non-negative, so the search stops at the first adjacent vertex that isn't smaller.
+        for(int j = 0, previous = 0; j < degree; ++j)
+        {
+            previous = j == 0 ? (int) (pVertex1 + unzigzag(in.readLong())) : previous + in.read();
+            if(previous >= pVertex2)
+                return previous == pVertex2;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the vertices are valid.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return True if there's an edge between the two vertices, false if contrary or {@code null}
+     * if one or two of the vertices are invalid.
+     */
+    public Boolean hasEdgeChecked(int pVertex1, int pVertex2)
+    {
+        if(pVertex1 >= 0 && pVertex2 >= 0 && pVertex1 < V && pVertex2 < V)
+            return hasEdge(pVertex1, pVertex2);
+        else
+            return null;
+    }
+
+    /**
+     * Counts the vertices two sorted lists have in common, pairing repeated vertices one to one.
+     * @param pList The first list.
+     * @param pReference The second list.
+     * @param pCopied Where to mark the paired positions of the first list, or {@code null}.
+     * @param pUsed Where to mark the paired positions of the second list, or {@code null}.
+     * @return The number of paired vertices.
+     */
+    private static int common(int[] pList, int[] pReference, boolean[] pCopied, boolean[] pUsed)
+    {
+        int count = 0;
+        for(int i = 0, j = 0; i < pList.length && j < pReference.length;)
+        {
+            if(pList[i] < pReference[j])
+                ++i;
+            else if(pList[i] > pReference[j])
+                ++j;
+            else
+            {
+                if(pCopied != null)
+                {
+                    pCopied[i] = true;
+                    pUsed[j] = true;
+                }
+                ++count;
+                ++i;
+                ++j;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes which positions of a reference are copied as the number of blocks followed by the length of each
+     * block, alternating between copied and skipped blocks and starting with a copied block, which may be empty.
+     * The skipped positions after the last copied block aren't written.
+     * @param pOut The encoder.
+     * @param pUsed Whether each position of the reference is copied.
+     */
+    private static void encodeBlocks(Encoder pOut, boolean[] pUsed)
+    {
+        int end = pUsed.length;
+        while(!pUsed[end - 1])
+            --end;
+        int[] blocks = new int[end + 1];
+        int count = 0;
+        boolean copying = true;
+        for(int i = 0; i < end;)
+        {
+            int start = i;
+            while(i < end && pUsed[i] == copying)
+                ++i;
+            blocks[count++] = i - start;
+            copying = !copying;
+        }
+        pOut.write(count);
+        for(int b = 0; b < count; ++b)
+            pOut.write(blocks[b]);
+    }
+
+    /**
+     * @param pValue A signed value.
+     * @return The value mapped to a non-negative value, so that values close to 0 are small.
+     */
+    private static long zigzag(long pValue)
+    { return (pValue << 1) ^ (pValue >> 63); }
+
+    /**
+     * @param pValue A value mapped by zigzag.
+     * @return The original signed value.
+     */
+    private static long unzigzag(long pValue)
+    { return (pValue >>> 1) ^ -(pValue & 1); }
+
+    // Classes
+
+    /**
+     * The adjacencies decoded by neighbor in a thread, in DECODED slots given by their vertices and a last slot for
+     * the last decoded vertex.
+     */
+    private static class Decoded
+    {
+        /**
+         * The vertex of each slot, -1 if the slot is empty.
+         */
+        private final int[] vertices;
+
+        /**
+         * The degree of the vertex of each slot.
+         */
+        private final int[] degrees;
+
+        /**
+         * The adjacency of the vertex of each slot, whose length may be larger than the degree.
+         */
+        private final int[][] lists;
+
+        /**
+         * Creates a Decoded object with every slot empty.
+         */
+        Decoded()
+        {
+            vertices = new int[DECODED + 1];
+            degrees = new int[DECODED + 1];
+            lists = new int[DECODED + 1][0];
+            Arrays.fill(vertices, -1);
+        }
+    }
+
+    /**
+     * Growable byte array in which non-negative values are written as variable-length integers,
+     * 7 bits per byte with the highest bit set while more bytes follow.
+     */
+    private static class Encoder
+    {
+        /**
+         * The written bytes, whose length may be larger than the number of bytes written.
+         */
+        private byte[] bytes;
+
+        /**
+         * The number of bytes written.
+         */
+        private int size;
+
+        /**
+         * Creates an Encoder object with the given initial capacity.
+         * @param pCapacity The initial capacity.
+         */
+        Encoder(int pCapacity)
+        { bytes = new byte[Math.max(16, pCapacity)]; }
+
+        /**
+         * @param pValue The non-negative value to write.
+         */
+        void write(int pValue)
+        { writeLong(pValue); }
+
+        /**
+         * @param pValue The non-negative value to write.
+         */
+        void writeLong(long pValue)
+        {
+            if(size + 10 > bytes.length)
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            while((pValue & ~0x7FL) != 0)
+            {
+                bytes[size++] = (byte) ((pValue & 0x7F) | 0x80);
+                pValue >>>= 7;
+            }
+            bytes[size++] = (byte) pValue;
+        }
+    }
+
+    /**
+     * Cursor that reads the variable-length integers of the graph's data sequentially.
+     */
+    private class Decoder
+    {
+        /**
+         * The position of the next byte to read.
+         */
+        private int position;
+
+        /**
+         * Creates a Decoder object that starts reading in the given position.
+         * @param pPosition The position of the first byte to read.
+         */
+        Decoder(int pPosition)
+        { position = pPosition; }
+
+        /**
+         * @return The next value, which was written as an int.
+         */
+        int read()
+        { return (int) readLong(); }
+
+        /**
+         * @return The next value.
+         */
+        long readLong()
+        {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do
+            {
+                b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            }
+            while(b < 0);
+            return value;
+        }
+    }
+
+    /**
+     * Unmodifiable view over a decoded adjacency.
+     */
+    private static class Adjacent extends AbstractList<Integer>
+    {
+        /**
+         * The decoded adjacency.
+         */
+        private final int[] list;
+
+        /**
+         * Creates an Adjacent object over the given adjacency.
+         * @param pList The decoded adjacency.
+         */
+        Adjacent(int[] pList)
+        { list = pList; }
+
+        public Integer get(int pIndex)
+        { return list[pIndex]; }
+
+        public int size()
+        { return list.length; }
+    }
+}
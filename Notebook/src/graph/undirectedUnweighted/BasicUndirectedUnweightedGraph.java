@@ -2,11 +2,14 @@
 
 package graph.undirectedUnweighted;
 
+import graph.EdgeIndex;
 import graph.IBasicGraph;
 import util.Checked;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.IntConsumer;
 
 /**
  * Represents a simple numerical undirected and unweighted graph for N vertices labeled from 0 to N-1.
@@ -21,6 +24,13 @@ import java.util.Collection;
 " the non 'Checked' methods, however, these are liable to: ArrayIndexOutOfBounds exceptions.")
 public class BasicUndirectedUnweightedGraph implements IBasicGraph
 {
+    // Constants
+
+    /**
+     * The number of vertices by which the matrix grows at least.
+     */
+    protected static final int BLOCK_SIZE = 64;
+
     // Attributes
 
     /**
@@ -33,6 +43,11 @@ public class BasicUndirectedUnweightedGraph implements IBasicGraph
      */
     protected int E;
 
+    /**
+     * The number of modifications of the graph, which is its version.
+     */
+    protected long modifications;
+
     /**
      * The adjacency matrix that represents edges between vertices.
      */
@@ -43,6 +58,11 @@ public class BasicUndirectedUnweightedGraph implements IBasicGraph
      */
     protected ArrayList<Integer>[] adjacent;
 
+    /**
+     * The position of each edge in the adjacent lists, or {@code null} until the first edge is removed.
+     */
+    protected EdgeIndex index;
+
     // Constructor
 
     /**
@@ -71,7 +91,11 @@ public class BasicUndirectedUnweightedGraph implements IBasicGraph
         for(int i = 0; i < V; ++i)
             System.arraycopy(pGraph.adjacentMatrix[i], 0, this.adjacentMatrix[i], 0, V);
         this.adjacent = (ArrayList<Integer>[]) new ArrayList[pGraph.V];
-        System.arraycopy(pGraph.adjacent, 0, this.adjacent, 0, pGraph.V);
+        // The lists are copied so that removing edges from one graph doesn't affect the other.
+        for(int i = 0; i < V; ++i)
+            this.adjacent[i] = new ArrayList<>(pGraph.adjacent[i]);
+        if(pGraph.index != null)
+            this.index = new EdgeIndex(pGraph.index);
     }
 
     // Methods
@@ -88,6 +112,46 @@ public class BasicUndirectedUnweightedGraph implements IBasicGraph
     public int E()
     { return E; }
 
+    /**
+     * @return The number of modifications of the graph, which only increases.
+     */
+    public long version()
+    { return modifications; }
+
+    /**
+     * Adds a new vertex without edges. The array of adjacent lists grows geometrically and the matrix grows
+     * in blocks of BLOCK_SIZE vertices and at least by half its size, so adding N vertices takes amortized O(N) time.
+     * @return The label of the new vertex, which is the previous number of vertices.
+     */
+    public int addVertex()
+    {
+        if(V == adjacent.length)
+            ensureCapacity(V + Math.max(BLOCK_SIZE, V / 2));
+        adjacent[V] = new ArrayList<>();
+        ++modifications;
+        return V++;
+    }
+
+    /**
+     * Grows the matrix and the array of adjacent lists so that they can hold the given number of vertices
+     * without growing again. The capacity is rounded up to a multiple of BLOCK_SIZE. Doesn't add any vertex.
+     * @param pCapacity The number of vertices.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        if(pCapacity > adjacent.length)
+        {
+            pCapacity = (pCapacity + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+            boolean[][] matrix = new boolean[pCapacity][];
+            for(int i = 0; i < adjacentMatrix.length; ++i)
+                matrix[i] = Arrays.copyOf(adjacentMatrix[i], pCapacity);
+            for(int i = adjacentMatrix.length; i < pCapacity; ++i)
+                matrix[i] = new boolean[pCapacity];
+            adjacentMatrix = matrix;
+            adjacent = Arrays.copyOf(adjacent, pCapacity);
+        }
+    }
+
     /**
      * Allows self-cycles and doesn't check if the vertices are valid or if the edge already exists. For this, use addEdgeChecked.
      * Adds an edge between two vertices. If it is the case that the edge is a self-cycle, it will add it once.
@@ -99,13 +163,14 @@ public class BasicUndirectedUnweightedGraph implements IBasicGraph
         adjacentMatrix[pVertex1][pVertex2] = true;
         adjacentMatrix[pVertex2][pVertex1] = true;
         if(pVertex1 == pVertex2)
-            adjacent[pVertex1].add(pVertex2);
+            append(pVertex1, pVertex2);
         else
         {
-            adjacent[pVertex1].add(pVertex2);
-            adjacent[pVertex2].add(pVertex1);
+            append(pVertex1, pVertex2);
+            append(pVertex2, pVertex1);
         }
         ++E;
+        ++modifications;
     }
 
     /**
@@ -120,6 +185,83 @@ public class BasicUndirectedUnweightedGraph implements IBasicGraph
                 addEdge(pVertex1, pVertex2);
     }
 
+    /**
+     * Appends a vertex to the list of another vertex, keeping the index of edges up to date.
+     * @param pVertex The vertex whose list is appended to.
+     * @param pAdjacent The vertex to append.
+     */
+    protected void append(int pVertex, int pAdjacent)
+    {
+        adjacent[pVertex].add(pAdjacent);
+        if(index != null)
+            index.add(pVertex, pAdjacent, adjacent[pVertex].size() - 1);
+    }
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use removeEdgeChecked.
+     * Removes an edge between two vertices if it exists. If the edge was added more than once, one of them is removed.
+     * The removed vertex is replaced by the last vertex of its list, so the order of the lists isn't kept. The first
+     * removal indexes the position of every edge in O(V+E), after which each removal takes O(1) expected time.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdge(int pVertex1, int pVertex2)
+    {
+        if(!adjacentMatrix[pVertex1][pVertex2])
+            return;
+        if(index == null)
+            index = new EdgeIndex(adjacent, V);
+        index.remove(adjacent[pVertex1], pVertex1, pVertex2);
+        if(pVertex1 != pVertex2)
+            index.remove(adjacent[pVertex2], pVertex2, pVertex1);
+        // The matrix keeps the edge if it was added more than once.
+        adjacentMatrix[pVertex1][pVertex2] = adjacentMatrix[pVertex2][pVertex1] = index.contains(pVertex1, pVertex2);
+        --E;
+        ++modifications;
+    }
+
+    /**
+     * Checks if the vertices are valid.
+     * Removes an edge between two vertices if the vertices are valid and the edge exists.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdgeChecked(int pVertex1, int pVertex2)
+    {
+        if(pVertex1 >= 0 && pVertex1 < V && pVertex2 >= 0 && pVertex2 < V)
+            removeEdge(pVertex1, pVertex2);
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return adjacent[pVertex].size(); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The adjacent vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    { return adjacent[pVertex].get(pIndex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        ArrayList<Integer> list = adjacent[pVertex];
+        for(int i = 0, n = list.size(); i < n; ++i)
+            pAction.accept(list.get(i));
+    }
+
     /**
      * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
      * @param pVertex The vertex whose adjacent collection is desired.
@@ -140,7 +282,7 @@ public class BasicUndirectedUnweightedGraph implements IBasicGraph
      * @return Array of collections corresponding to the adjacent vertices of each vertex.
      */
     public Collection<Integer>[] adjacent()
-    { return adjacent; }
+    { return adjacent.length == V ? adjacent : Arrays.copyOf(adjacent, V); }
 
     /**
      * Doesn't check if the vertices are valid. For this, use hasEdgeChecked.
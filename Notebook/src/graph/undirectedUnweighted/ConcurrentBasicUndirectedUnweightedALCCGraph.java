@@ -0,0 +1,100 @@
+// @formatter:off
+
+package graph.undirectedUnweighted;
+
+import unionFinder.ConcurrentBasicUnionFinder;
+import util.Checked;
+
+/**
+ * Represents a simple numerical undirected and unweighted graph for N vertices labeled from 0 to N-1 that
+ * supports adding edges from several threads at the same time and also tracks connected components by means
+ * of a concurrent union finder.
+ * The graph has an adjacency list implementation.
+ */
+@Checked
+(note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
+" ensure the structure's correctness in exchange of efficiency. For fastest results, use\n" +
+" the non 'Checked' methods, however, these are liable to: IndexOutOfBounds exceptions.")
+public class ConcurrentBasicUndirectedUnweightedALCCGraph extends ConcurrentBasicUndirectedUnweightedALGraph
+{
+    // Attributes
+
+    /**
+     * The graph's union finder.
+     */
+    private final ConcurrentBasicUnionFinder unionFinder;
+
+    // Constructor
+
+    /**
+     * Creates a ConcurrentBasicUndirectedUnweightedALCCGraph object with N vertices labeled from 0 to N-1.
+     * @param N The number of vertices to add to the graph.
+     */
+    public ConcurrentBasicUndirectedUnweightedALCCGraph(int N)
+    {
+        super(N);
+        unionFinder = new ConcurrentBasicUnionFinder(N);
+    }
+
+    // Methods
+
+    /**
+     * Allows self-cycles and doesn't check if the vertices are valid or if the edge already exists. For this, use addEdgeChecked.
+     * Adds an edge between two vertices. If it is the case that the edge is a self-cycle, it will add it once.
+     * Can be called from several threads at the same time.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void addEdge(int pVertex1, int pVertex2)
+    {
+        super.addEdge(pVertex1, pVertex2);
+        unionFinder.merge(pVertex1, pVertex2);
+    }
+
+    /**
+     * Doesn't allow self-cycles and checks if the vertices are valid and if the edge already exists.
+     * Adds an edge between two vertices if the vertices are valid, not equal and the edge doesn't already exist.
+     * Can be called from several threads at the same time, and the same edge is never added twice.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void addEdgeChecked(int pVertex1, int pVertex2)
+    {
+        super.addEdgeChecked(pVertex1, pVertex2);
+        // If the edge already existed, both vertices are already in the same component.
+        unionFinder.mergeChecked(pVertex1, pVertex2);
+    }
+
+    // Connected components methods
+
+    /**
+     * @return The number of connected components in the graph.
+     */
+    public int numberOfComponents()
+    { return unionFinder.totalRoots(); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For that, use sizeOfComponentChecked.
+     * @param pVertex The vertex whose component size is desired.
+     * @return The size of the component that the given vertex is a part of.
+     */
+    public int sizeOfComponent(int pVertex)
+    { return unionFinder.size(pVertex); }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose component size is desired.
+     * @return The size of the component that the given vertex is a part of or {@code null} if the vertex is invalid.
+     */
+    public Integer sizeOfComponentChecked(int pVertex)
+    { return unionFinder.sizeChecked(pVertex); }
+
+    /**
+     * Doesn't check if the vertices are valid.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return {@code true} if both vertices are in the same component, {@code false} if contrary.
+     */
+    public boolean connected(int pVertex1, int pVertex2)
+    { return unionFinder.connected(pVertex1, pVertex2); }
+}
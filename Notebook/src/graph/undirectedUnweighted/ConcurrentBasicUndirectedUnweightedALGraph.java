@@ -0,0 +1,307 @@
+// @formatter:off
+
+package graph.undirectedUnweighted;
+
+import graph.IBasicGraph;
+import util.Checked;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents a simple numerical undirected and unweighted graph for N vertices labeled from 0 to N-1
+ * that supports adding edges from several threads at the same time.
+ * The graph has an adjacency list implementation with primitive, append-only lists. Writers of a vertex's list
+ * are serialized by a lock striped by vertex, while readers don't lock: an adjacent collection is a snapshot
+ * of the vertices appended to the list when it was requested, and it's never modified afterwards.
+ * Adding an edge between two different vertices appends to both lists separately, so a reader may
+ * temporarily see the edge in only one of them.
+ */
+@Checked
+(note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
+" ensure the structure's correctness in exchange of efficiency. For fastest results, use\n" +
+" the non 'Checked' methods, however, these are liable to: IndexOutOfBounds exceptions.")
+public class ConcurrentBasicUndirectedUnweightedALGraph implements IBasicGraph
+{
+    // Constants
+
+    /**
+     * The list shared by every vertex without adjacent vertices.
+     */
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * The initial capacity of a vertex's list.
+     */
+    private static final int LIST_CAPACITY = 4;
+
+    // Attributes
+
+    /**
+     * The number of vertices.
+     */
+    protected final int V;
+
+    /**
+     * The number of edges.
+     */
+    protected final LongAdder E;
+
+    /**
+     * The number of modifications of the graph, which is its version. It's incremented after the edge is added,
+     * so a version read before a traversal is never newer than the edges it finds.
+     */
+    protected final LongAdder modifications;
+
+    /**
+     * The adjacent list of each vertex, replaced by a larger copy when it's full.
+     */
+    protected final AtomicReferenceArray<int[]> adjacent;
+
+    /**
+     * The number of adjacent vertices in the list of each vertex. Its update publishes the appended vertex.
+     */
+    protected final AtomicIntegerArray sizes;
+
+    /**
+     * The locks that serialize the writers of the lists, the list of the vertex v is guarded by locks[v & mask].
+     */
+    private final Object[] locks;
+
+    /**
+     * The mask that assigns a lock to each vertex.
+     */
+    private final int mask;
+
+    // Constructor
+
+    /**
+     * Creates a ConcurrentBasicUndirectedUnweightedALGraph object with N vertices labeled from 0 to N-1.
+     * @param N The number of vertices to add to the graph.
+     */
+    public ConcurrentBasicUndirectedUnweightedALGraph(int N)
+    {
+        V = N;
+        E = new LongAdder();
+        modifications = new LongAdder();
+        adjacent = new AtomicReferenceArray<>(N);
+        sizes = new AtomicIntegerArray(N);
+        for(int v = 0; v < N; ++v)
+            adjacent.set(v, EMPTY);
+        // Enough locks to make contention between writers of different vertices unlikely.
+        int stripes = Integer.highestOneBit(Math.max(1, Math.min(N, 64 * Runtime.getRuntime().availableProcessors())) * 2 - 1);
+        locks = new Object[stripes];
+        for(int i = 0; i < stripes; ++i)
+            locks[i] = new Object();
+        mask = stripes - 1;
+    }
+
+    // Methods
+
+    /**
+     * @return The number of vertices.
+     */
+    public int V()
+    { return V; }
+
+    /**
+     * @return The number of edges.
+     */
+    public int E()
+    { return E.intValue(); }
+
+    /**
+     * @return The number of modifications of the graph, which only increases.
+     */
+    public long version()
+    { return modifications.sum(); }
+
+    /**
+     * Allows self-cycles and doesn't check if the vertices are valid or if the edge already exists. For this, use addEdgeChecked.
+     * Adds an edge between two vertices. If it is the case that the edge is a self-cycle, it will add it once.
+     * Can be called from several threads at the same time.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void addEdge(int pVertex1, int pVertex2)
+    {
+        synchronized(locks[pVertex1 & mask])
+        { append(pVertex1, pVertex2); }
+        if(pVertex1 != pVertex2)
+        {
+            synchronized(locks[pVertex2 & mask])
+            { append(pVertex2, pVertex1); }
+        }
+        E.increment();
+        modifications.increment();
+    }
+
+    /**
+     * Doesn't allow self-cycles and checks if the vertices are valid and if the edge already exists.
+     * Adds an edge between two vertices if the vertices are valid, not equal and the edge doesn't already exist.
+     * Can be called from several threads at the same time, and the same edge is never added twice.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void addEdgeChecked(int pVertex1, int pVertex2)
+    {
+        if(pVertex1 == pVertex2 || pVertex1 < 0 || pVertex1 >= V || pVertex2 < 0 || pVertex2 >= V)
+            return;
+        // Both locks are taken in the same order by every thread to avoid deadlocks.
+        Object first = locks[Math.min(pVertex1 & mask, pVertex2 & mask)];
+        Object second = locks[Math.max(pVertex1 & mask, pVertex2 & mask)];
+        synchronized(first)
+        {
+            synchronized(second)
+            {
+                int smaller = sizes.get(pVertex1) > sizes.get(pVertex2) ? pVertex2 : pVertex1;
+                if(contains(smaller, smaller == pVertex1 ? pVertex2 : pVertex1))
+                    return;
+                append(pVertex1, pVertex2);
+                append(pVertex2, pVertex1);
+            }
+        }
+        E.increment();
+        modifications.increment();
+    }
+
+    /**
+     * Appends a vertex to the list of another vertex. Must be called while holding the lock of the list's vertex.
+     * @param pVertex The vertex whose list is appended to.
+     * @param pAdjacent The vertex to append.
+     */
+    private void append(int pVertex, int pAdjacent)
+    {
+        int size = sizes.get(pVertex);
+        int[] list = adjacent.get(pVertex);
+        if(size == list.length)
+        {
+            // The larger copy is published before the new size, so readers never see a size larger than their list.
+            list = Arrays.copyOf(list, Math.max(LIST_CAPACITY, size * 2));
+            adjacent.set(pVertex, list);
+        }
+        list[size] = pAdjacent;
+        sizes.set(pVertex, size + 1);
+    }
+
+    /**
+     * @param pVertex The vertex whose list is searched.
+     * @param pAdjacent The searched vertex.
+     * @return {@code true} if the list of the vertex contains the searched vertex, {@code false} if contrary.
+     */
+    private boolean contains(int pVertex, int pAdjacent)
+    {
+        int size = sizes.get(pVertex);
+        int[] list = adjacent.get(pVertex);
+        for(int i = 0; i < size; ++i)
+        {
+            if(list[i] == pAdjacent)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return sizes.get(pVertex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The adjacent vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    { return adjacent.get(pVertex)[pIndex]; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor. The vertices added
+     * concurrently after the call starts may not be visited.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        // The size is read first: the list read afterwards contains at least that many vertices.
+        int size = sizes.get(pVertex);
+        int[] list = adjacent.get(pVertex);
+        for(int i = 0; i < size; ++i)
+            pAction.accept(list[i]);
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex. For this, use adjacentChecked.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable snapshot of the adjacent vertices of the given vertex.
+     */
+    public Collection<Integer> adjacent(int pVertex)
+    {
+        // The size is read first: the list read afterwards contains at least that many vertices.
+        int size = sizes.get(pVertex);
+        return new Adjacent(adjacent.get(pVertex), size);
+    }
+
+    /**
+     * Checks that pVertex is a valid vertex.
+     * @param pVertex The vertex whose adjacent collection is desired.
+     * @return Unmodifiable snapshot of the adjacent vertices of the given vertex or {@code null} if the vertex is invalid.
+     */
+    public Collection<Integer> adjacentChecked(int pVertex)
+    { return pVertex >= 0 && pVertex < V ? adjacent(pVertex) : null; }
+
+    /**
+     * @return Array of unmodifiable snapshots of the adjacent vertices of each vertex.
+     */
+    public Collection<Integer>[] adjacent()
+    {
+        Collection<Integer>[] adjacent = (Collection<Integer>[]) new Collection[V];
+        for(int v = 0; v < V; ++v)
+            adjacent[v] = adjacent(v);
+        return adjacent;
+    }
+
+    // Classes
+
+    /**
+     * Unmodifiable view over the first vertices of a list.
+     */
+    private static class Adjacent extends AbstractList<Integer>
+    {
+        /**
+         * The list.
+         */
+        private final int[] list;
+
+        /**
+         * The number of vertices of the view.
+         */
+        private final int size;
+
+        /**
+         * Creates an Adjacent object over the first vertices of the given list.
+         * @param pList The list.
+         * @param pSize The number of vertices of the view.
+         */
+        Adjacent(int[] pList, int pSize)
+        { list = pList; size = pSize; }
+
+        public Integer get(int pIndex)
+        {
+            if(pIndex < 0 || pIndex >= size)
+                throw new IndexOutOfBoundsException("Index: " + pIndex + ", Size: " + size);
+            return list[pIndex];
+        }
+
+        public int size()
+        { return size; }
+    }
+}
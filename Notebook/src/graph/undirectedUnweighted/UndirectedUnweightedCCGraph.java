@@ -25,6 +25,11 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
      */
     private ExpandableBasicUnionFinder unionFinder;
 
+    /**
+     * The vertices whose components lost an edge since the components were last updated.
+     */
+    private ArrayList<Integer> dirty = new ArrayList<>();
+
     // Constructor
 
     /**
@@ -46,6 +51,17 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
         unionFinder = new ExpandableBasicUnionFinder();
     }
 
+    /**
+     * Creates an UndirectedUnweightedCCGraph object with the given initial capacity.
+     * @param pInitialCapacity The initial capacity of the graph's nodes.
+     * @param pStorage The way in which the adjacent lists are stored.
+     */
+    public UndirectedUnweightedCCGraph(int pInitialCapacity, AdjacencyStorage pStorage)
+    {
+        super(pInitialCapacity, pStorage);
+        unionFinder = new ExpandableBasicUnionFinder();
+    }
+
     /**
      * Creates an UndirectedUnweightedCCGraph object with the given keys (nodes).
      * @param pKeys The graph's initial keys (nodes).
@@ -56,6 +72,17 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
         unionFinder = new ExpandableBasicUnionFinder(pKeys.length);
     }
 
+    /**
+     * Creates an UndirectedUnweightedCCGraph object with the given keys (nodes).
+     * @param pKeys The graph's initial keys (nodes).
+     * @param pStorage The way in which the adjacent lists are stored.
+     */
+    public UndirectedUnweightedCCGraph(T[] pKeys, AdjacencyStorage pStorage)
+    {
+        super(pKeys, pStorage);
+        unionFinder = new ExpandableBasicUnionFinder(pKeys.length);
+    }
+
     /**
      * Creates an UndirectedUnweightedCCGraph object with the given keys (nodes).
      * @param pKeys The graph's initial keys (nodes).
@@ -75,6 +102,7 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
     {
         super(pGraph);
         unionFinder = new ExpandableBasicUnionFinder(pGraph.unionFinder);
+        dirty = new ArrayList<>(pGraph.dirty);
     }
 
     // Methods
@@ -86,12 +114,22 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
      */
     public void addVertex(T pVertex, int pCapacityList)
     {
-        adjacentNumber.add(V, new ArrayList<>(pCapacityList));
-        adjacentKey.add(V, new ArrayList<>(pCapacityList));
-        keyToNumber.put(pVertex, V);
-        numberToKey.put(V, pVertex);
         unionFinder.add(V);
-        ++V;
+        super.addVertex(pVertex, pCapacityList);
+    }
+
+    /**
+     * Creates a snapshot of the graph that shares its adjacent lists with the graph until either of them modifies
+     * a vertex, see UndirectedUnweightedGraph.snapshot. The union finder is copied, in O(V).
+     * @return The snapshot of the graph.
+     */
+    public UndirectedUnweightedCCGraph<T> snapshot()
+    {
+        UndirectedUnweightedCCGraph<T> snapshot = new UndirectedUnweightedCCGraph<>(0, storage());
+        share(snapshot);
+        snapshot.unionFinder = new ExpandableBasicUnionFinder(unionFinder);
+        snapshot.dirty = new ArrayList<>(dirty);
+        return snapshot;
     }
 
     /**
@@ -105,21 +143,19 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
         int num, num1, num2;
         if(pVertex1.equals(pVertex2))
         {
-            num = keyToNumber.get(pVertex1);
-            adjacentNumber.get(num).add(num);
-            adjacentKey.get(num).add(pVertex1);
+            num = toNumber(pVertex1);
+            append(num, num, pVertex1);
         }
         else
         {
-            num1 = keyToNumber.get(pVertex1);
-            num2 = keyToNumber.get(pVertex2);
+            num1 = toNumber(pVertex1);
+            num2 = toNumber(pVertex2);
             unionFinder.merge(num1, num2);
-            adjacentNumber.get(num1).add(num2);
-            adjacentNumber.get(num2).add(num1);
-            adjacentKey.get(num1).add(pVertex2);
-            adjacentKey.get(num2).add(pVertex1);
+            append(num1, num2, pVertex2);
+            append(num2, num1, pVertex1);
         }
         ++E;
+        ++modifications;
     }
 
     /**
@@ -132,11 +168,11 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
     {
         if(pVertex1 == null || pVertex2 == null || pVertex1.equals(pVertex2))
             return;
-        Integer num1 = keyToNumber.get(pVertex1);
-        Integer num2 = keyToNumber.get(pVertex2);
-        if(num1 == null || num2 == null)
+        int num1 = keyToNumber.get(pVertex1, -1);
+        int num2 = keyToNumber.get(pVertex2, -1);
+        if(num1 < 0 || num2 < 0)
             return;
-        if(adjacentKey.get(num1).size() > adjacentKey.get(num2).size())
+        if(adjacentNumber.get(num1).size() > adjacentNumber.get(num2).size())
         {
             if(adjacentNumber.get(num2).contains(num1))
                 return;
@@ -150,13 +186,61 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
         unionFinder.merge(num1, num2);
     }
 
+    /**
+     * Doesn't check if the vertices are {@code null} or exist. For this, use removeEdgeChecked.
+     * Removes an edge between two vertices if it exists. If the edge was added more than once, one of them is removed.
+     * The components aren't split right away: the component of the vertices is marked and recomputed the next
+     * time the components are queried.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdge(T pVertex1, T pVertex2)
+    {
+        int edges = E;
+        super.removeEdge(pVertex1, pVertex2);
+        int num1 = toNumber(pVertex1);
+        int num2 = toNumber(pVertex2);
+        if(E < edges && num1 != num2 && !index.contains(num1, num2))
+            dirty.add(num1);
+    }
+
+    /**
+     * Recomputes the components that lost an edge since the last update. The vertices of those components
+     * are separated in the union finder and merged again through their remaining edges.
+     */
+    private void update()
+    {
+        if(dirty.isEmpty())
+            return;
+        boolean[] affected = new boolean[V];
+        for(int vertex : dirty)
+            affected[unionFinder.root(vertex)] = true;
+        int[] vertices = new int[V];
+        int count = 0;
+        for(int v = 0; v < V; ++v)
+        {
+            if(affected[unionFinder.root(v)])
+                vertices[count++] = v;
+        }
+        unionFinder.isolate(vertices, count);
+        for(int i = 0; i < count; ++i)
+        {
+            for(int j = degree(vertices[i]) - 1; j >= 0; --j)
+                unionFinder.merge(vertices[i], neighbor(vertices[i], j));
+        }
+        dirty.clear();
+    }
+
     // Connected components methods
 
     /**
      * @return The number of connected components in the graph.
      */
     public int numberOfComponents()
-    { return unionFinder.totalRoots(); }
+    {
+        update();
+        return unionFinder.totalRoots();
+    }
 
     /**
      * Doesn't check if pVertex is a valid vertex. For that, use sizeOfComponentChecked.
@@ -164,7 +248,10 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
      * @return The size of the component that the given vertex is a part of.
      */
     public int sizeOfComponent(T pVertex)
-    { return unionFinder.size(keyToNumber.get(pVertex)); }
+    {
+        update();
+        return unionFinder.size(toNumber(pVertex));
+    }
 
     /**
      * Checks that pVertex is a valid vertex.
@@ -173,9 +260,10 @@ public class UndirectedUnweightedCCGraph<T> extends UndirectedUnweightedGraph<T>
      */
     public Integer sizeOfComponentChecked(T pVertex)
     {
-        if(pVertex == null || !keyToNumber.containsKey(pVertex))
+        Integer num = toNumberChecked(pVertex);
+        if(num == null)
             return null;
-        else
-            return unionFinder.sizeChecked(keyToNumber.get(pVertex));
+        update();
+        return unionFinder.sizeChecked(num);
     }
 }
\ No newline at end of file
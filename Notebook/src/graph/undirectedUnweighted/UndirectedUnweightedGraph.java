@@ -2,11 +2,25 @@
 
 package graph.undirectedUnweighted;
 
-import graph.IExtendedGraph;import util.Checked;
+import graph.EdgeIndex;
+import graph.IExtendedGraph;
+import graph.Ownership;
+import util.Checked;
+import util.IntList;
+import util.ObjectIntHashMap;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
 
 /**
  * Represents a generic undirected and unweighted graph.
@@ -31,6 +45,23 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
      */
     protected static int LIST_CAPACITY = 5;
 
+    /**
+     * The ways in which the adjacent lists can be stored.
+     */
+    public enum AdjacencyStorage
+    {
+        /**
+         * Each vertex has a list of boxed numerical keys and a list of keys, so adjacent(T) returns a stored list.
+         */
+        LISTS,
+
+        /**
+         * Each vertex only has a list of primitive numerical keys, 4 bytes per entry, and adjacent(T) returns a
+         * view that maps the numerical keys to keys on access. Meant for large graphs.
+         */
+        COMPACT
+    }
+
     // Attributes
 
     /**
@@ -44,24 +75,45 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
     protected int E;
 
     /**
-     * The array of adjacent vertex lists for each node.
+     * The number of modifications of the graph, which is its version. Unlike the stamp of its ownership, it only
+     * changes when a vertex or an edge is added or removed.
      */
-    protected ArrayList<ArrayList<Integer>> adjacentNumber;
+    protected long modifications;
 
     /**
-     * The array of adjacent list of vertices for each vertex as keys.
+     * The array of adjacent vertex lists for each node, an ArrayList for each node or an IntList if the graph is compact.
+     */
+    protected ArrayList<List<Integer>> adjacentNumber;
+
+    /**
+     * The array of adjacent list of vertices for each vertex as keys, or {@code null} if the graph is compact.
      */
     protected ArrayList<ArrayList<T>> adjacentKey;
 
     /**
      * The map that accesses the given number to a certain key.
      */
-    protected HashMap<T, Integer> keyToNumber;
+    protected ObjectIntHashMap<T> keyToNumber;
+
+    /**
+     * The array that accesses the assigned key of a given number, whose length may be larger than the number of vertices.
+     */
+    protected T[] numberToKey;
 
     /**
-     * The map that accesses the assigned key of a given number.
+     * The position of each edge in the adjacent lists, or {@code null} until the first edge is removed.
      */
-    protected HashMap<Integer, T> numberToKey;
+    protected EdgeIndex index;
+
+    /**
+     * The owner of the lists of each vertex, which decides when the lists shared with a snapshot are copied.
+     */
+    protected Ownership ownership;
+
+    /**
+     * Whether the dictionary of keys is shared with a snapshot.
+     */
+    protected boolean sharedKeys;
 
     // Constructor
 
@@ -69,27 +121,30 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
      * Creates an UndirectedUnweightedGraph object.
      */
     public UndirectedUnweightedGraph()
-    {
-        V = 0;
-        E = 0;
-        adjacentNumber = new ArrayList<>(INITIAL_CAPACITY);
-        adjacentKey = new ArrayList<>(INITIAL_CAPACITY);
-        keyToNumber = new HashMap<>(INITIAL_CAPACITY);
-        numberToKey = new HashMap<>(INITIAL_CAPACITY);
-    }
+    { this(INITIAL_CAPACITY, AdjacencyStorage.LISTS); }
 
     /**
      * Creates an UndirectedUnweightedGraph object with the given initial capacity.
      * @param pInitialCapacity The initial capacity of the graph's nodes.
      */
     public UndirectedUnweightedGraph(int pInitialCapacity)
+    { this(pInitialCapacity, AdjacencyStorage.LISTS); }
+
+    /**
+     * Creates an UndirectedUnweightedGraph object with the given initial capacity.
+     * @param pInitialCapacity The initial capacity of the graph's nodes.
+     * @param pStorage The way in which the adjacent lists are stored.
+     */
+    public UndirectedUnweightedGraph(int pInitialCapacity, AdjacencyStorage pStorage)
     {
         V = 0;
         E = 0;
         adjacentNumber = new ArrayList<>(pInitialCapacity);
-        adjacentKey = new ArrayList<>(pInitialCapacity);
-        keyToNumber = new HashMap<>(pInitialCapacity);
-        numberToKey = new HashMap<>(pInitialCapacity);
+        if(pStorage == AdjacencyStorage.LISTS)
+            adjacentKey = new ArrayList<>(pInitialCapacity);
+        keyToNumber = new ObjectIntHashMap<>(pInitialCapacity);
+        numberToKey = (T[]) new Object[pInitialCapacity];
+        ownership = new Ownership();
     }
 
     /**
@@ -97,20 +152,28 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
      * @param pKeys The graph's initial keys (nodes).
      */
     public UndirectedUnweightedGraph(T[] pKeys)
+    { this(pKeys, AdjacencyStorage.LISTS); }
+
+    /**
+     * Creates an UndirectedUnweightedGraph object with the given keys (nodes).
+     * @param pKeys The graph's initial keys (nodes).
+     * @param pStorage The way in which the adjacent lists are stored.
+     */
+    public UndirectedUnweightedGraph(T[] pKeys, AdjacencyStorage pStorage)
     {
         V = pKeys.length;
         E = 0;
         adjacentNumber = new ArrayList<>(pKeys.length);
-        adjacentKey = new ArrayList<>(pKeys.length);
-        keyToNumber = new HashMap<>(pKeys.length);
-        numberToKey = new HashMap<>(pKeys.length);
+        if(pStorage == AdjacencyStorage.LISTS)
+            adjacentKey = new ArrayList<>(pKeys.length);
+        keyToNumber = new ObjectIntHashMap<>(pKeys.length);
+        numberToKey = (T[]) Arrays.copyOf(pKeys, pKeys.length, Object[].class);
         for(int i = 0; i < pKeys.length; ++i)
         {
-            adjacentKey.add(i, new ArrayList<>(LIST_CAPACITY));
-            adjacentNumber.add(i, new ArrayList<>(LIST_CAPACITY));
+            addLists(LIST_CAPACITY);
             keyToNumber.put(pKeys[i], i);
-            numberToKey.put(i, pKeys[i]);
         }
+        ownership = new Ownership();
     }
 
     /**
@@ -125,15 +188,14 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
         LIST_CAPACITY = pCapacityLists;
         adjacentNumber = new ArrayList<>(pKeys.length);
         adjacentKey = new ArrayList<>(pKeys.length);
-        keyToNumber = new HashMap<>(pKeys.length);
-        numberToKey = new HashMap<>(pKeys.length);
+        keyToNumber = new ObjectIntHashMap<>(pKeys.length);
+        numberToKey = (T[]) Arrays.copyOf(pKeys, pKeys.length, Object[].class);
         for(int i = 0; i < pKeys.length; ++i)
         {
-            adjacentKey.add(i, new ArrayList<>(pCapacityLists));
-            adjacentNumber.add(i, new ArrayList<>(pCapacityLists));
+            addLists(pCapacityLists);
             keyToNumber.put(pKeys[i], i);
-            numberToKey.put(i, pKeys[i]);
         }
+        ownership = new Ownership();
     }
 
     /**
@@ -144,10 +206,22 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
     {
         this.V = pGraph.V;
         this.E = pGraph.E;
-        this.adjacentNumber = (ArrayList<ArrayList<Integer>>) pGraph.adjacentNumber.clone();
-        this.adjacentKey = (ArrayList<ArrayList<T>>) pGraph.adjacentKey.clone();
-        this.keyToNumber = (HashMap<T, Integer>) pGraph.keyToNumber.clone();
-        this.numberToKey = (HashMap<Integer, T>) pGraph.numberToKey.clone();
+        // The lists are copied so that removing edges from one graph doesn't affect the other.
+        this.adjacentNumber = new ArrayList<>(pGraph.adjacentNumber.size());
+        if(pGraph.adjacentKey != null)
+            this.adjacentKey = new ArrayList<>(pGraph.adjacentKey.size());
+        for(int i = 0; i < V; ++i)
+        {
+            List<Integer> list = pGraph.adjacentNumber.get(i);
+            this.adjacentNumber.add(list instanceof IntList ? new IntList((IntList) list) : new ArrayList<>(list));
+            if(adjacentKey != null)
+                this.adjacentKey.add(new ArrayList<>(pGraph.adjacentKey.get(i)));
+        }
+        if(pGraph.index != null)
+            this.index = new EdgeIndex(pGraph.index);
+        this.keyToNumber = new ObjectIntHashMap<>(pGraph.keyToNumber);
+        this.numberToKey = pGraph.numberToKey.clone();
+        this.ownership = new Ownership();
     }
 
     // Methods
@@ -164,6 +238,18 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
     public int E()
     { return E; }
 
+    /**
+     * @return The number of modifications of the graph, which only increases.
+     */
+    public long version()
+    { return modifications; }
+
+    /**
+     * @return The way in which the adjacent lists are stored.
+     */
+    public AdjacencyStorage storage()
+    { return adjacentKey == null ? AdjacencyStorage.COMPACT : AdjacencyStorage.LISTS; }
+
     /**
      * Adds a vertex to the graph. Doesn't check if the vertex is {@code null} or already exists.
      * @param pVertex Vertex to add to the graph.
@@ -178,13 +264,39 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
      */
     public void addVertex(T pVertex, int pCapacityList)
     {
-        adjacentNumber.add(V, new ArrayList<>(pCapacityList));
-        adjacentKey.add(V, new ArrayList<>(pCapacityList));
+        if(ownership.isShared())
+            unshare();
+        if(sharedKeys)
+        {
+            keyToNumber = new ObjectIntHashMap<>(keyToNumber);
+            numberToKey = numberToKey.clone();
+            sharedKeys = false;
+        }
+        addLists(pCapacityList);
+        ownership.add(V);
+        if(V == numberToKey.length)
+            numberToKey = Arrays.copyOf(numberToKey, Math.max(1, V * 2));
         keyToNumber.put(pVertex, V);
-        numberToKey.put(V, pVertex);
+        numberToKey[V] = pVertex;
+        ++modifications;
         ++V;
     }
 
+    /**
+     * Adds the adjacent lists of a new vertex according to the way in which the lists are stored.
+     * @param pCapacityList The node's adjacency list capacity.
+     */
+    private void addLists(int pCapacityList)
+    {
+        if(adjacentKey == null)
+            adjacentNumber.add(new IntList(pCapacityList));
+        else
+        {
+            adjacentNumber.add(new ArrayList<>(pCapacityList));
+            adjacentKey.add(new ArrayList<>(pCapacityList));
+        }
+    }
+
     /**
      * Adds a vertex to the graph. Checks if the vertex is {@code null} or if it already exists.
      * If it does, the vertex isn't added.
@@ -217,15 +329,15 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
         Integer num1, num2;
         if(pVertex1.equals(pVertex2))
         {
-            num1 = keyToNumber.get(pVertex1);
-            adjacentNumber.get(num1).add(num1);
-            adjacentKey.get(num1).add(pVertex1);
+            num1 = toNumber(pVertex1);
+            append(num1, num1, pVertex1);
             ++E;
+            ++modifications;
         }
         else
         {
-            num1 = keyToNumber.get(pVertex1);
-            num2 = keyToNumber.get(pVertex2);
+            num1 = toNumber(pVertex1);
+            num2 = toNumber(pVertex2);
             addEdge(pVertex1, pVertex2, num1, num2);
         }
     }
@@ -239,11 +351,31 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
      */
     protected void addEdge(T pVertex1, T pVertex2, Integer pVertexNum1, Integer pVertexNum2)
     {
-        adjacentNumber.get(pVertexNum1).add(pVertexNum2);
-        adjacentNumber.get(pVertexNum2).add(pVertexNum1);
-        adjacentKey.get(pVertexNum1).add(pVertex2);
-        adjacentKey.get(pVertexNum2).add(pVertex1);
+        append(pVertexNum1, pVertexNum2, pVertex2);
+        append(pVertexNum2, pVertexNum1, pVertex1);
         ++E;
+        ++modifications;
+    }
+
+    /**
+     * Appends a vertex to the lists of another vertex, keeping the index of edges up to date.
+     * @param pVertexNum The numerical key of the vertex whose lists are appended to.
+     * @param pAdjacentNum The numerical key of the vertex to append.
+     * @param pAdjacent The vertex to append.
+     */
+    protected void append(int pVertexNum, int pAdjacentNum, T pAdjacent)
+    {
+        own(pVertexNum);
+        List<Integer> list = adjacentNumber.get(pVertexNum);
+        if(adjacentKey == null)
+            ((IntList) list).addInt(pAdjacentNum);
+        else
+        {
+            list.add(pAdjacentNum);
+            adjacentKey.get(pVertexNum).add(pAdjacent);
+        }
+        if(index != null)
+            index.add(pVertexNum, pAdjacentNum, list.size() - 1);
     }
 
     /**
@@ -256,11 +388,11 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
     {
         if(pVertex1 == null || pVertex2 == null || pVertex1.equals(pVertex2))
             return;
-        Integer num1 = keyToNumber.get(pVertex1);
-        Integer num2 = keyToNumber.get(pVertex2);
-        if(num1 == null || num2 == null)
+        int num1 = keyToNumber.get(pVertex1, -1);
+        int num2 = keyToNumber.get(pVertex2, -1);
+        if(num1 < 0 || num2 < 0)
             return;
-        if(adjacentKey.get(num1).size() > adjacentKey.get(num2).size())
+        if(adjacentNumber.get(num1).size() > adjacentNumber.get(num2).size())
         {
             if(adjacentNumber.get(num2).contains(num1))
                 return;
@@ -273,6 +405,127 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
         addEdge(pVertex1, pVertex2, num1, num2);
     }
 
+    /**
+     * Doesn't check if the vertices are {@code null} or exist. For this, use removeEdgeChecked.
+     * Removes an edge between two vertices if it exists. If the edge was added more than once, one of them is removed.
+     * The removed vertex is replaced by the last vertex of its list, so the order of the lists isn't kept. The first
+     * removal indexes the position of every edge in O(V+E), after which each removal takes O(1) expected time.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdge(T pVertex1, T pVertex2)
+    {
+        int num1 = toNumber(pVertex1);
+        int num2 = toNumber(pVertex2);
+        if(index == null)
+        {
+            index = new EdgeIndex();
+            for(int v = 0; v < V; ++v)
+                index.addAll(v, adjacentNumber.get(v));
+        }
+        if(!index.contains(num1, num2))
+            return;
+        own(num1);
+        own(num2);
+        removeSlot(num1, num2);
+        if(num1 != num2)
+            removeSlot(num2, num1);
+        --E;
+        ++modifications;
+    }
+
+    /**
+     * Checks if the vertices are not {@code null} and exist.
+     * Removes an edge between two vertices if the vertices are not {@code null}, exist and the edge exists.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdgeChecked(T pVertex1, T pVertex2)
+    {
+        if(pVertex1 != null && pVertex2 != null && keyToNumber.containsKey(pVertex1) && keyToNumber.containsKey(pVertex2))
+            removeEdge(pVertex1, pVertex2);
+    }
+
+    /**
+     * Removes a vertex from the lists of another vertex, moving the last vertex of the lists into its position.
+     * @param pVertexNum The numerical key of the vertex whose lists are removed from.
+     * @param pAdjacentNum The numerical key of the vertex to remove.
+     * @return The position of the removed vertex or -1 if it wasn't in the lists.
+     */
+    private int removeSlot(int pVertexNum, int pAdjacentNum)
+    {
+        int slot = index.remove(adjacentNumber.get(pVertexNum), pVertexNum, pAdjacentNum);
+        if(slot >= 0 && adjacentKey != null)
+        {
+            ArrayList<T> keys = adjacentKey.get(pVertexNum);
+            int last = keys.size() - 1;
+            keys.set(slot, keys.get(last));
+            keys.remove(last);
+        }
+        return slot;
+    }
+
+    /**
+     * Creates a snapshot of the graph in O(1) time. The snapshot and the graph share their adjacent lists and
+     * dictionary of keys, and the lists of a vertex are only copied the first time either of them modifies them,
+     * in O(degree). The first modification of either graph also copies the arrays of lists, in O(V), and the first
+     * vertex added to either graph copies the dictionary. The snapshot doesn't keep the index of edges, it's rebuilt
+     * if an edge is removed from the snapshot.
+     * @return The snapshot of the graph.
+     */
+    public UndirectedUnweightedGraph<T> snapshot()
+    {
+        UndirectedUnweightedGraph<T> snapshot = new UndirectedUnweightedGraph<>(0, storage());
+        share(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Shares the vertices and edges of the graph with the given snapshot. Afterwards, neither of them owns any list.
+     * @param pSnapshot The snapshot.
+     */
+    protected void share(UndirectedUnweightedGraph<T> pSnapshot)
+    {
+        pSnapshot.V = V;
+        pSnapshot.E = E;
+        pSnapshot.modifications = modifications;
+        pSnapshot.adjacentNumber = adjacentNumber;
+        pSnapshot.adjacentKey = adjacentKey;
+        pSnapshot.keyToNumber = keyToNumber;
+        pSnapshot.numberToKey = numberToKey;
+        ownership.share(pSnapshot.ownership);
+        pSnapshot.sharedKeys = true;
+        sharedKeys = true;
+    }
+
+    /**
+     * Makes the graph the owner of the lists of the given vertex, copying the lists if they're shared with a snapshot.
+     * @param pVertexNum The numerical key of the vertex whose lists are going to be modified.
+     */
+    protected void own(int pVertexNum)
+    {
+        if(ownership.isShared())
+            unshare();
+        if(ownership.own(pVertexNum))
+        {
+            List<Integer> list = adjacentNumber.get(pVertexNum);
+            adjacentNumber.set(pVertexNum, list instanceof IntList ? new IntList((IntList) list) : new ArrayList<>(list));
+            if(adjacentKey != null)
+                adjacentKey.set(pVertexNum, new ArrayList<>(adjacentKey.get(pVertexNum)));
+        }
+    }
+
+    /**
+     * Copies the arrays of lists and the array of owners, so that they're no longer shared. The lists themselves are still shared.
+     */
+    private void unshare()
+    {
+        adjacentNumber = new ArrayList<>(adjacentNumber);
+        if(adjacentKey != null)
+            adjacentKey = new ArrayList<>(adjacentKey);
+        ownership.unshare(V);
+    }
+
     /**
      * Doesn't check if pVertex is not {@code null} or exists. For this, use adjacentChecked.
      * @param pVertex The vertex whose adjacent collection is desired.
@@ -280,8 +533,7 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
      */
     public Collection<T> adjacent(T pVertex)
     {
-        Integer num = keyToNumber.get(pVertex);
-        return adjacentKey.get(num);
+        return adjacentKeys(toNumber(pVertex));
     }
 
     /**
@@ -292,46 +544,233 @@ public class UndirectedUnweightedGraph<T> implements IExtendedGraph<T>
      */
     public Collection<T> adjacentChecked(T pVertex)
     {
-        if(pVertex == null || !keyToNumber.containsKey(pVertex))
-            return null;
-        Integer num = keyToNumber.get(pVertex);
-        return adjacentKey.get(num);
+        Integer num = toNumberChecked(pVertex);
+        return num == null ? null : adjacentKeys(num);
     }
 
     /**
+     * If the graph is compact, the collections are views that map the numerical keys to keys on access.
      * @return Collection of collections corresponding to the adjacent vertices of each vertex.
      */
     public Collection<Collection<T>> adjacent()
-    { return Collections.unmodifiableList(adjacentKey); }
+    {
+        if(adjacentKey != null)
+            return Collections.unmodifiableList(adjacentKey);
+        List<Collection<T>> views = new ArrayList<>(V);
+        for(int v = 0; v < V; ++v)
+            views.add(adjacentKeys(v));
+        return Collections.unmodifiableList(views);
+    }
+
+    /**
+     * @param pVertexNum The numerical key of the vertex.
+     * @return The stored list of adjacent keys of the vertex or, if the graph is compact, a view of its numerical keys as keys.
+     */
+    private List<T> adjacentKeys(int pVertexNum)
+    { return adjacentKey != null ? adjacentKey.get(pVertexNum) : new KeyView((IntList) adjacentNumber.get(pVertexNum)); }
+
+    /**
+     * Read-only view of a list of numerical keys that maps each numerical key to its key on access.
+     */
+    private class KeyView extends AbstractList<T> implements RandomAccess
+    {
+        /**
+         * The viewed list of numerical keys.
+         */
+        private final IntList numbers;
+
+        /**
+         * Creates a KeyView object of the given list.
+         * @param pNumbers The list of numerical keys.
+         */
+        private KeyView(IntList pNumbers)
+        { numbers = pNumbers; }
+
+        public T get(int pIndex)
+        {
+            if(pIndex >= numbers.size())
+                throw new IndexOutOfBoundsException("Index " + pIndex + " out of bounds for length " + numbers.size());
+            return numberToKey[numbers.getInt(pIndex)];
+        }
+
+        public int size()
+        { return numbers.size(); }
+    }
 
     // Extra methods for algorithms
 
     /**
-     * @return The HashMap containing each vertex with its assigned numerical value from 0 to V-1
+     * Doesn't check if pVertex is not {@code null} or exists.
+     * @param pVertex The vertex.
+     * @return The numerical value from 0 to V-1 assigned to the vertex.
+     * @throws NullPointerException If the vertex is {@code null} or doesn't exist.
+     */
+    public int toNumber(T pVertex)
+    {
+        int number = keyToNumber.get(pVertex, -1);
+        if(number < 0)
+            throw new NullPointerException("The vertex " + pVertex + " doesn't exist.");
+        return number;
+    }
+
+    /**
+     * Checks that pVertex is not {@code null} and exists.
+     * @param pVertex The vertex.
+     * @return The numerical value from 0 to V-1 assigned to the vertex or {@code null} if the vertex is {@code null} or doesn't exist.
+     */
+    public Integer toNumberChecked(T pVertex)
+    {
+        int number = pVertex == null ? -1 : keyToNumber.get(pVertex, -1);
+        return number < 0 ? null : number;
+    }
+
+    /**
+     * Doesn't check if pNumber is between 0 and V-1.
+     * @param pNumber The numerical value of a vertex.
+     * @return The vertex assigned to the numerical value.
+     */
+    public T toKey(int pNumber)
+    { return numberToKey[pNumber]; }
+
+    /**
+     * The map is a read-only view over the dictionary of the graph, so it reflects the vertices added afterwards.
+     * @return The map containing each vertex with its assigned numerical value from 0 to V-1
+     * @deprecated Boxes the numerical values on access, for the lookup of a single vertex use {@link #toNumber(Object)}.
      */
-    public HashMap<T, Integer> keyToNumber()
-    { return keyToNumber; }
+    @Deprecated
+    public Map<T, Integer> keyToNumber()
+    { return new KeyToNumber(); }
 
     /**
-     * @return The HashMap containing the numerical value from 0 to V-1 assigned to each vertex.
+     * The map is a read-only view over the dictionary of the graph, so it reflects the vertices added afterwards.
+     * @return The map containing the numerical value from 0 to V-1 assigned to each vertex.
+     * @deprecated Boxes the numerical values on access, for the lookup of a single vertex use {@link #toKey(int)}.
      */
-    public HashMap<Integer, T> numberToKey()
-    { return numberToKey; }
+    @Deprecated
+    public Map<Integer, T> numberToKey()
+    { return new NumberToKey(); }
+
+    /**
+     * Read-only view of the dictionary that maps each key to its numerical value.
+     */
+    private class KeyToNumber extends AbstractMap<T, Integer>
+    {
+        public Integer get(Object pKey)
+        {
+            int number = keyToNumber.get(pKey, -1);
+            return number < 0 ? null : number;
+        }
+
+        public boolean containsKey(Object pKey)
+        { return keyToNumber.containsKey(pKey); }
+
+        public int size()
+        { return V; }
+
+        public Set<Map.Entry<T, Integer>> entrySet()
+        {
+            return new Entries<T, Integer>()
+            {
+                Map.Entry<T, Integer> entry(int pNumber)
+                { return new SimpleImmutableEntry<>(numberToKey[pNumber], pNumber); }
+            };
+        }
+    }
+
+    /**
+     * Read-only view of the dictionary that maps each numerical value to its key.
+     */
+    private class NumberToKey extends AbstractMap<Integer, T>
+    {
+        public T get(Object pNumber)
+        { return containsKey(pNumber) ? numberToKey[(Integer) pNumber] : null; }
+
+        public boolean containsKey(Object pNumber)
+        { return pNumber instanceof Integer && (Integer) pNumber >= 0 && (Integer) pNumber < V; }
+
+        public int size()
+        { return V; }
+
+        public Set<Map.Entry<Integer, T>> entrySet()
+        {
+            return new Entries<Integer, T>()
+            {
+                Map.Entry<Integer, T> entry(int pNumber)
+                { return new SimpleImmutableEntry<>(pNumber, numberToKey[pNumber]); }
+            };
+        }
+    }
+
+    /**
+     * Read-only view of the pairs of the dictionary, in the order of the numerical values.
+     * @param <K> The type of the keys of the pairs.
+     * @param <U> The type of the values of the pairs.
+     */
+    private abstract class Entries<K, U> extends AbstractSet<Map.Entry<K, U>>
+    {
+        /**
+         * @param pNumber The numerical value of a vertex.
+         * @return The pair of the vertex.
+         */
+        abstract Map.Entry<K, U> entry(int pNumber);
+
+        public Iterator<Map.Entry<K, U>> iterator()
+        {
+            return new Iterator<Map.Entry<K, U>>()
+            {
+                private int number = 0;
+
+                public boolean hasNext()
+                { return number < V; }
+
+                public Map.Entry<K, U> next()
+                {
+                    if(number >= V)
+                        throw new NoSuchElementException();
+                    return entry(number++);
+                }
+            };
+        }
+
+        public int size()
+        { return V; }
+    }
 
     /**
      * Doesn't check if pVertex is not {@code null} or exists.
      * @param pVertex The vertex whose adjacent collection is desired.
      * @return Collection corresponding to the adjacent vertices of the given vertex.
      */
-    public ArrayList<Integer> adjacentNumber(T pVertex)
+    public List<Integer> adjacentNumber(T pVertex)
     {
-        Integer num = keyToNumber.get(pVertex);
-        return adjacentNumber.get(num);
+        return adjacentNumber.get(toNumber(pVertex));
     }
 
     /**
-     * @return ArrayList of ArrayList corresponding to the adjacent vertices of each vertex.
+     * If the graph is compact, the lists are IntLists that box the numerical keys on access, for the traversal
+     * of the graph use degree and neighbor.
+     * @return List of lists corresponding to the adjacent vertices of each vertex.
      */
-    public ArrayList<ArrayList<Integer>> adjacentNumber()
+    public List<List<Integer>> adjacentNumber()
     { return adjacentNumber; }
+
+    /**
+     * Doesn't check if pVertexNum is between 0 and V-1.
+     * @param pVertexNum The numerical key of the vertex.
+     * @return The number of vertices adjacent to the vertex.
+     */
+    public int degree(int pVertexNum)
+    { return adjacentNumber.get(pVertexNum).size(); }
+
+    /**
+     * Doesn't check if pVertexNum is between 0 and V-1 or if pIndex is smaller than its degree.
+     * @param pVertexNum The numerical key of the vertex.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The numerical key of the adjacent vertex in the given position, without boxing it if the graph is compact.
+     */
+    public int neighbor(int pVertexNum, int pIndex)
+    {
+        List<Integer> list = adjacentNumber.get(pVertexNum);
+        return list instanceof IntList ? ((IntList) list).getInt(pIndex) : list.get(pIndex);
+    }
 }
\ No newline at end of file
@@ -2,14 +2,20 @@
 
 package graph.undirectedWeighted;
 
+import graph.EdgeIndex;
 import graph.IBasicGraph;
 import util.Checked;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.IntConsumer;
 
 /**
  * Represents a simple numerical undirected and weighted graph for N vertices labeled from 0 to N-1.
- * The graph has an adjacency list implementation.
+ * The graph has an adjacency list implementation, and the weight of each edge is stored in a primitive array
+ * parallel to the adjacency list of each vertex, so the graph uses O(V+E) memory. The lookup of the weight
+ * between two vertices scans the smaller adjacency list unless the graph is created with a hashed index or
+ * with a dense weight matrix (see {@link WeightStorage}).
  */
 @Checked
 (note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
@@ -17,6 +23,42 @@ import java.util.Collection;
 " the non 'Checked' methods, however, these are liable to: ArrayIndexOutOfBounds exceptions.")
 public class BasicUndirectedWeightedGraph implements IBasicGraph
 {
+    // Constants
+
+    /**
+     * The initial capacity of the weight array of a vertex.
+     */
+    private static final int WEIGHTS_CAPACITY = 4;
+
+    /**
+     * The number of vertices by which the dense weight matrix grows at least.
+     */
+    protected static final int BLOCK_SIZE = 64;
+
+    // Enumerations
+
+    /**
+     * The ways in which the weights can be looked up.
+     */
+    public enum WeightStorage
+    {
+        /**
+         * Weights are only stored parallel to the adjacency lists, O(V+E) memory and O(degree) lookups.
+         */
+        SPARSE,
+
+        /**
+         * Weights are stored parallel to the adjacency lists with a hashed (u,v) index, O(V+E) memory and O(1) lookups.
+         * A sparse graph becomes indexed once an edge is removed.
+         */
+        INDEXED,
+
+        /**
+         * Weights are also stored in a V*V matrix, O(V^2) memory and O(1) lookups. Meant for small dense graphs.
+         */
+        DENSE
+    }
+
     // Attributes
 
     /**
@@ -30,29 +72,59 @@ public class BasicUndirectedWeightedGraph implements IBasicGraph
     protected int E;
 
     /**
-     * The array of adjacent lists for each vertex.
+     * The number of modifications of the graph, which is its version.
+     */
+    protected long modifications;
+
+    /**
+     * The array of adjacent lists for each vertex, whose length may be larger than the number of vertices.
      */
     protected ArrayList<Integer>[] adjacent;
 
     /**
-     * The matrix that represents the weight of an edge between vertexes.
+     * The weight of each edge, parallel to the adjacent list of each vertex.
+     */
+    protected double[][] adjacentWeights;
+
+    /**
+     * The position of each edge in the adjacent lists, or {@code null} if the graph isn't indexed.
+     */
+    protected EdgeIndex index;
+
+    /**
+     * The matrix that represents the weight of an edge between vertexes, or {@code null} if the graph isn't dense.
      */
     protected double[][] weights;
 
     // Constructor
 
     /**
-     * Creates a BasicUndirectedWeightedGraph object with N vertices labeled from 0 to N-1.
+     * Creates a BasicUndirectedWeightedGraph object with N vertices labeled from 0 to N-1 and sparse weights.
      * @param N The number of vertices to add to the graph.
      */
     public BasicUndirectedWeightedGraph(int N)
+    { this(N, WeightStorage.SPARSE); }
+
+    /**
+     * Creates a BasicUndirectedWeightedGraph object with N vertices labeled from 0 to N-1.
+     * @param N The number of vertices to add to the graph.
+     * @param pStorage The way in which the weights are looked up.
+     */
+    public BasicUndirectedWeightedGraph(int N, WeightStorage pStorage)
     {
         V = N;
         E = 0;
         adjacent = (ArrayList<Integer>[]) new ArrayList[N];
-        weights = new double[N][N];
+        adjacentWeights = new double[N][];
         for(int v = 0; v < V; ++v)
+        {
             adjacent[v] = new ArrayList<>();
+            adjacentWeights[v] = new double[0];
+        }
+        if(pStorage == WeightStorage.INDEXED)
+            index = new EdgeIndex();
+        else if(pStorage == WeightStorage.DENSE)
+            weights = new double[N][N];
     }
 
     /**
@@ -64,10 +136,21 @@ public class BasicUndirectedWeightedGraph implements IBasicGraph
         this.V = pGraph.V;
         this.E = pGraph.E;
         this.adjacent = (ArrayList<Integer>[]) new ArrayList[pGraph.V];
-        this.weights = new double[V][V];
+        this.adjacentWeights = new double[V][];
+        // The lists are copied since the weights are parallel to them.
         for(int i = 0; i < V; ++i)
-            System.arraycopy(pGraph.weights[i], 0, this.weights[i], 0, V);
-        System.arraycopy(pGraph.adjacent, 0, this.adjacent, 0, pGraph.V);
+        {
+            this.adjacent[i] = new ArrayList<>(pGraph.adjacent[i]);
+            this.adjacentWeights[i] = pGraph.adjacentWeights[i].clone();
+        }
+        if(pGraph.index != null)
+            this.index = new EdgeIndex(pGraph.index);
+        if(pGraph.weights != null)
+        {
+            this.weights = new double[V][V];
+            for(int i = 0; i < V; ++i)
+                System.arraycopy(pGraph.weights[i], 0, this.weights[i], 0, V);
+        }
     }
 
     // Methods
@@ -84,6 +167,58 @@ public class BasicUndirectedWeightedGraph implements IBasicGraph
     public int E()
     { return E; }
 
+    /**
+     * @return The number of modifications of the graph, which only increases.
+     */
+    public long version()
+    { return modifications; }
+
+    /**
+     * @return The way in which the weights are looked up.
+     */
+    public WeightStorage storage()
+    { return weights != null ? WeightStorage.DENSE : index != null ? WeightStorage.INDEXED : WeightStorage.SPARSE; }
+
+    /**
+     * Adds a new vertex without edges. The array of adjacent lists grows geometrically and the dense weight
+     * matrix, if any, grows in blocks of BLOCK_SIZE vertices and at least by half its size, so adding N vertices
+     * takes amortized O(N) time.
+     * @return The label of the new vertex, which is the previous number of vertices.
+     */
+    public int addVertex()
+    {
+        if(V == adjacent.length)
+            ensureCapacity(weights != null ? V + Math.max(BLOCK_SIZE, V / 2) : Math.max(1, V * 2));
+        adjacent[V] = new ArrayList<>();
+        adjacentWeights[V] = new double[0];
+        ++modifications;
+        return V++;
+    }
+
+    /**
+     * Grows the graph so that it can hold the given number of vertices without growing again.
+     * If the graph is dense, the capacity is rounded up to a multiple of BLOCK_SIZE. Doesn't add any vertex.
+     * @param pCapacity The number of vertices.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        if(pCapacity > adjacent.length)
+        {
+            if(weights != null)
+            {
+                pCapacity = (pCapacity + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+                double[][] matrix = new double[pCapacity][];
+                for(int i = 0; i < weights.length; ++i)
+                    matrix[i] = Arrays.copyOf(weights[i], pCapacity);
+                for(int i = weights.length; i < pCapacity; ++i)
+                    matrix[i] = new double[pCapacity];
+                weights = matrix;
+            }
+            adjacent = Arrays.copyOf(adjacent, pCapacity);
+            adjacentWeights = Arrays.copyOf(adjacentWeights, pCapacity);
+        }
+    }
+
     /**
      * Allows self-cycles and doesn't check if the vertices are valid or if the edge already exists. For this, use addEdgeChecked.
      * Adds a weighted edge between two vertices. If it is the case that the edge is a self-cycle, it will add it once.
@@ -94,15 +229,19 @@ public class BasicUndirectedWeightedGraph implements IBasicGraph
     public void addEdge(int pVertex1, int pVertex2, double pWeight)
     {
         if(pVertex1 == pVertex2)
-            adjacent[pVertex1].add(pVertex2);
+            addSlot(pVertex1, pVertex2, pWeight);
         else
         {
-            adjacent[pVertex1].add(pVertex2);
-            adjacent[pVertex2].add(pVertex1);
+            addSlot(pVertex1, pVertex2, pWeight);
+            addSlot(pVertex2, pVertex1, pWeight);
+        }
+        if(weights != null)
+        {
+            weights[pVertex1][pVertex2] = pWeight;
+            weights[pVertex2][pVertex1] = pWeight;
         }
-        weights[pVertex1][pVertex2] = pWeight;
-        weights[pVertex2][pVertex1] = pWeight;
         ++E;
+        ++modifications;
     }
 
     /**
@@ -114,41 +253,129 @@ public class BasicUndirectedWeightedGraph implements IBasicGraph
      */
     public void addEdgeChecked(int pVertex1, int pVertex2, double pWeight)
     {
-        if(pVertex1 != pVertex2 && pVertex1 >= 0 && pVertex1 < V && pVertex2 >= 0 && pVertex2 < V && pWeight >= 0)
+        if(pVertex1 != pVertex2 && pVertex1 >= 0 && pVertex1 < V && pVertex2 >= 0 && pVertex2 < V && pWeight >= 0 && !hasEdge(pVertex1, pVertex2))
+            addEdge(pVertex1, pVertex2, pWeight);
+    }
+
+    /**
+     * Appends a vertex with the weight of its edge to the list of another vertex.
+     * @param pVertex The vertex whose list is appended to.
+     * @param pAdjacent The vertex to append.
+     * @param pWeight The weight of the edge.
+     */
+    private void addSlot(int pVertex, int pAdjacent, double pWeight)
+    {
+        int slot = adjacent[pVertex].size();
+        adjacent[pVertex].add(pAdjacent);
+        if(slot == adjacentWeights[pVertex].length)
+            adjacentWeights[pVertex] = Arrays.copyOf(adjacentWeights[pVertex], Math.max(WEIGHTS_CAPACITY, slot * 2));
+        adjacentWeights[pVertex][slot] = pWeight;
+        if(index != null)
+            index.add(pVertex, pAdjacent, slot);
+    }
+
+    /**
+     * Doesn't check if the vertices are valid. For this, use removeEdgeChecked.
+     * Removes an edge between two vertices if it exists. If the edge was added more than once, one of them is removed.
+     * The removed vertex is replaced by the last vertex of its list, so the order of the lists isn't kept. The first
+     * removal indexes the position of every edge in O(V+E), after which each removal takes O(1) expected time.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdge(int pVertex1, int pVertex2)
+    {
+        if(index == null)
+            index = new EdgeIndex(adjacent, V);
+        if(removeSlot(pVertex1, pVertex2) < 0)
+            return;
+        if(pVertex1 != pVertex2)
+            removeSlot(pVertex2, pVertex1);
+        if(weights != null)
         {
-            if (adjacent[pVertex1].size() > adjacent[pVertex2].size())
-            {
-                if(!adjacent[pVertex2].contains(pVertex1))
-                {
-                    adjacent[pVertex1].add(pVertex2);
-                    adjacent[pVertex2].add(pVertex1);
-                    weights[pVertex1][pVertex2] = pWeight;
-                    weights[pVertex2][pVertex1] = pWeight;
-                    ++E;
-                }
-            }
-            else
-            {
-                if(!adjacent[pVertex1].contains(pVertex2))
-                {
-                    adjacent[pVertex1].add(pVertex2);
-                    adjacent[pVertex2].add(pVertex1);
-                    weights[pVertex1][pVertex2] = pWeight;
-                    weights[pVertex2][pVertex1] = pWeight;
-                    ++E;
-                }
-            }
+            int slot = index.get(pVertex1, pVertex2);
+            weights[pVertex1][pVertex2] = weights[pVertex2][pVertex1] = slot >= 0 ? adjacentWeights[pVertex1][slot] : 0;
+        }
+        --E;
+        ++modifications;
+    }
+
+    /**
+     * Checks if the vertices are valid.
+     * Removes an edge between two vertices if the vertices are valid and the edge exists.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     */
+    public void removeEdgeChecked(int pVertex1, int pVertex2)
+    {
+        if(pVertex1 >= 0 && pVertex1 < V && pVertex2 >= 0 && pVertex2 < V)
+            removeEdge(pVertex1, pVertex2);
+    }
+
+    /**
+     * Removes a vertex with the weight of its edge from the list of another vertex, moving the last vertex
+     * of the list and its weight into its position.
+     * @param pVertex The vertex whose list is removed from.
+     * @param pAdjacent The vertex to remove.
+     * @return The position of the removed vertex or -1 if it wasn't in the list.
+     */
+    private int removeSlot(int pVertex, int pAdjacent)
+    {
+        int slot = index.remove(adjacent[pVertex], pVertex, pAdjacent);
+        if(slot >= 0)
+            adjacentWeights[pVertex][slot] = adjacentWeights[pVertex][adjacent[pVertex].size()];
+        return slot;
+    }
+
+    /**
+     * Finds the position of an occurrence of a vertex in the list of another vertex, the last one unless edges were removed.
+     * @param pVertex The vertex whose list is searched.
+     * @param pAdjacent The searched vertex.
+     * @return The position of the adjacent vertex in the list or -1 if it isn't in the list.
+     */
+    protected int slot(int pVertex, int pAdjacent)
+    {
+        if(index != null)
+            return index.get(pVertex, pAdjacent);
+        ArrayList<Integer> list = adjacent[pVertex];
+        for(int i = list.size() - 1; i >= 0; --i)
+        {
+            if(list.get(i) == pAdjacent)
+                return i;
         }
+        return -1;
+    }
+
+    /**
+     * Doesn't check if the vertices are valid.
+     * @param pVertex1 The first vertex.
+     * @param pVertex2 The second vertex.
+     * @return True if there's an edge between the two vertices, false if contrary.
+     */
+    public boolean hasEdge(int pVertex1, int pVertex2)
+    {
+        if(adjacent[pVertex1].size() > adjacent[pVertex2].size())
+            return slot(pVertex2, pVertex1) >= 0;
+        else
+            return slot(pVertex1, pVertex2) >= 0;
     }
 
     /**
      * Doesn't check if both vertexes are valid or if the edge exists. For this, use weightChecked.
+     * If the edge was added more than once, the weight of the last one is returned, or of any of them if edges were removed.
      * @param pVertex1 The first vertex.
      * @param pVertex2 The second vertex.
-     * @return The weight of the edge between the two vertexes.
+     * @return The weight of the edge between the two vertexes or 0 if there's no edge.
      */
     public double getWeight(int pVertex1, int pVertex2)
-    { return weights[pVertex1][pVertex2]; }
+    {
+        if(weights != null)
+            return weights[pVertex1][pVertex2];
+        int slot;
+        if(adjacent[pVertex1].size() > adjacent[pVertex2].size())
+            return (slot = slot(pVertex2, pVertex1)) >= 0 ? adjacentWeights[pVertex2][slot] : 0;
+        else
+            return (slot = slot(pVertex1, pVertex2)) >= 0 ? adjacentWeights[pVertex1][slot] : 0;
+    }
 
     /**
      * Checks if both vertexes are valid and that the edge exists.
@@ -159,26 +386,39 @@ public class BasicUndirectedWeightedGraph implements IBasicGraph
     public Double getWeightChecked(int pVertex1, int pVertex2)
     {
         if(pVertex1 >= 0 && pVertex1 < V && pVertex2 >= 0 && pVertex2 < V)
-        {
-            if(adjacent[pVertex1].size() > adjacent[pVertex2].size())
-                    return adjacent[pVertex2].contains(pVertex1) ? weights[pVertex1][pVertex2] : null;
-            else
-                    return adjacent[pVertex1].contains(pVertex2) ? weights[pVertex1][pVertex2] : null;
-        }
+            return hasEdge(pVertex1, pVertex2) ? getWeight(pVertex1, pVertex2) : null;
         else
             return null;
     }
 
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than the size of its adjacent list.
+     * @param pVertex The vertex whose edge weight is desired.
+     * @param pIndex The position of the adjacent vertex in the vertex's adjacent list.
+     * @return The weight of the edge between the vertex and its adjacent vertex in the given position.
+     */
+    public double weight(int pVertex, int pIndex)
+    { return adjacentWeights[pVertex][pIndex]; }
+
     /**
      * Doesn't check if the vertexes are valid, if the weight is positive
      * or if the edge exists. For this, use setWeightChecked.
-     * Sets the weight for an edge.
+     * Sets the weight for an edge. If the edge was added more than once, the weight of the last one is set.
      * @param pVertex1 The first vertex.
      * @param pVertex2 The second vertex.
      * @param pWeight The weight of the edge between the two vertexes.
      */
     public void setWeight(int pVertex1, int pVertex2, int pWeight)
-    { weights[pVertex1][pVertex2] =  pWeight; weights[pVertex2][pVertex1] =  pWeight; }
+    {
+        int slot;
+        if((slot = slot(pVertex1, pVertex2)) >= 0)
+            adjacentWeights[pVertex1][slot] = pWeight;
+        if((slot = slot(pVertex2, pVertex1)) >= 0)
+            adjacentWeights[pVertex2][slot] = pWeight;
+        if(weights != null)
+        { weights[pVertex1][pVertex2] =  pWeight; weights[pVertex2][pVertex1] =  pWeight; }
+        ++modifications;
+    }
 
     /**
      * Checks if the vertexes are valid, if the weight is positive and if the edge exists.
@@ -189,17 +429,38 @@ public class BasicUndirectedWeightedGraph implements IBasicGraph
      */
     public void setWeightChecked(int pVertex1, int pVertex2, int pWeight)
     {
-        if(pVertex1 >= 0 && pVertex1 < V && pVertex2 >= 0 && pVertex2 < V && pWeight >= 0)
-            if(adjacent[pVertex1].size() > adjacent[pVertex2].size())
-            {
-                if(adjacent[pVertex2].contains(pVertex1))
-                    setWeight(pVertex1, pVertex2, pWeight);
-            }
-            else
-            {
-                if(adjacent[pVertex1].contains(pVertex2))
-                    setWeight(pVertex1, pVertex2, pWeight);
-            }
+        if(pVertex1 >= 0 && pVertex1 < V && pVertex2 >= 0 && pVertex2 < V && pWeight >= 0 && hasEdge(pVertex1, pVertex2))
+            setWeight(pVertex1, pVertex2, pWeight);
+    }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex whose degree is desired.
+     * @return The number of adjacent vertices of the given vertex.
+     */
+    public int degree(int pVertex)
+    { return adjacent[pVertex].size(); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex or if pIndex is smaller than its degree.
+     * @param pVertex The vertex whose adjacent vertex is desired.
+     * @param pIndex The position of the adjacent vertex.
+     * @return The adjacent vertex in the given position.
+     */
+    public int neighbor(int pVertex, int pIndex)
+    { return adjacent[pVertex].get(pIndex); }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Applies the given action to every adjacent vertex of the given vertex, in the same order as neighbor.
+     * @param pVertex The vertex whose adjacent vertices are visited.
+     * @param pAction The action to apply to each adjacent vertex.
+     */
+    public void forEachNeighbor(int pVertex, IntConsumer pAction)
+    {
+        ArrayList<Integer> list = adjacent[pVertex];
+        for(int i = 0, n = list.size(); i < n; ++i)
+            pAction.accept(list.get(i));
     }
 
     /**
@@ -222,5 +483,5 @@ public class BasicUndirectedWeightedGraph implements IBasicGraph
      * @return Array of collections corresponding to the adjacent vertices of each vertex.
      */
     public Collection<Integer>[] adjacent()
-    { return adjacent; }
-}
\ No newline at end of file
+    { return adjacent.length == V ? adjacent : Arrays.copyOf(adjacent, V); }
+}
@@ -0,0 +1,94 @@
+package main;
+
+import graph.algorithms.search.BasicBFS;
+import graph.algorithms.search.BasicDirectionOptimizingBFS;
+import graph.io.EdgeNormalizer;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import java.util.Random;
+
+/**
+ * Class that measures the time of a BasicBFS and of a BasicDirectionOptimizingBFS over a low diameter graph.
+ * The graph is an R-MAT graph, whose skewed degrees and few large levels resemble the ones of social graphs.
+ * Run with the scale of the graph (2^scale vertices) as the first argument and the average number of edges per
+ * vertex as the second one, 20 and 16 by default.
+ */
+public class DirectionOptimizingBenchmark
+{
+    // Constants
+
+    /**
+     * The number of times each search is run, of which the fastest is reported.
+     */
+    private static final int RUNS = 5;
+
+    // Main
+
+    /**
+     * Runs the benchmark.
+     * @param args The scale of the graph and the average number of edges per vertex.
+     */
+    public static void main(String[] args)
+    {
+        int scale = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int factor = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        BasicUndirectedUnweightedCSRGraph graph = rmat(scale, factor, new Random(42));
+        int origin = 0;
+        for(int v = 1; v < graph.V(); ++v)
+        {
+            if(graph.degree(v) > graph.degree(origin))
+                origin = v;
+        }
+        System.out.println("R-MAT graph of " + graph.V() + " vertices and " + graph.E() + " edges, from vertex " + origin + ".");
+        long best = Long.MAX_VALUE, bestOptimizing = Long.MAX_VALUE;
+        BasicDirectionOptimizingBFS optimizing = null;
+        for(int run = 0; run < RUNS; ++run)
+        {
+            long start = System.nanoTime();
+            new BasicBFS(graph, origin);
+            best = Math.min(best, System.nanoTime() - start);
+            start = System.nanoTime();
+            optimizing = new BasicDirectionOptimizingBFS(graph, origin);
+            bestOptimizing = Math.min(bestOptimizing, System.nanoTime() - start);
+        }
+        System.out.printf("%-20s %12s %10s%n", "Search", "ms", "Speedup");
+        System.out.printf("%-20s %12.1f %10s%n", "BasicBFS", best / 1e6, "1.00x");
+        System.out.printf("%-20s %12.1f %9.2fx%n", "DirectionOptimizing", bestOptimizing / 1e6, (double) best / bestOptimizing);
+        System.out.println(optimizing.bottomUpLevels() + " of " + optimizing.levels() + " levels were expanded bottom-up.");
+    }
+
+    /**
+     * @param pScale The logarithm of the number of vertices.
+     * @param pFactor The number of edges per vertex to generate.
+     * @param pRandom The source of the edges.
+     * @return An R-MAT graph with the Graph500 probabilities, without repeated edges or self-cycles.
+     */
+    private static BasicUndirectedUnweightedCSRGraph rmat(int pScale, int pFactor, Random pRandom)
+    {
+        int V = 1 << pScale, E = V * pFactor;
+        int[] vertices1 = new int[E], vertices2 = new int[E];
+        for(int e = 0; e < E; ++e)
+        {
+            int u = 0, v = 0;
+            for(int bit = 0; bit < pScale; ++bit)
+            {
+                double p = pRandom.nextDouble();
+                // Quadrants with probabilities 0.57, 0.19, 0.19 and 0.05.
+                if(p >= 0.57)
+                {
+                    if(p < 0.76)
+                        v |= 1 << bit;
+                    else if(p < 0.95)
+                        u |= 1 << bit;
+                    else
+                    {
+                        u |= 1 << bit;
+                        v |= 1 << bit;
+                    }
+                }
+            }
+            vertices1[e] = u;
+            vertices2[e] = v;
+        }
+        return new EdgeNormalizer(V, vertices1, vertices2, EdgeNormalizer.SelfCycles.DROP).toCSR();
+    }
+}
@@ -0,0 +1,119 @@
+package main;
+
+import graph.algorithms.ordering.BasicReordering;
+import graph.algorithms.search.BasicBFS;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Class that measures the time of a BasicBFS over a graph relabeled with each ordering of BasicReordering.
+ * The graph is a grid whose vertices are labeled at random, so that consecutive labels aren't close in the graph.
+ * Run with the side of the grid as the first argument, 700 by default.
+ */
+public class ReorderingBenchmark
+{
+    // Constants
+
+    /**
+     * The number of times each search is run, of which the fastest is reported.
+     */
+    private static final int RUNS = 5;
+
+    // Main
+
+    /**
+     * Runs the benchmark.
+     * @param args The side of the grid.
+     */
+    public static void main(String[] args)
+    {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 700;
+        BasicUndirectedUnweightedCSRGraph graph = shuffledGrid(side, new Random(42));
+        System.out.println("Grid of " + graph.V() + " vertices and " + graph.E() + " edges with random labels.");
+        long base = time(graph);
+        System.out.printf("%-8s %12s %12s %10s%n", "Ordering", "Reorder ms", "BFS ms", "Speedup");
+        System.out.printf("%-8s %12s %12.1f %10s%n", "RANDOM", "-", base / 1e6, "1.00x");
+        for(BasicReordering.Ordering ordering : BasicReordering.Ordering.values())
+        {
+            long start = System.nanoTime();
+            BasicReordering reordering = new BasicReordering(graph, ordering);
+            long reorder = System.nanoTime() - start;
+            long bfs = time(reordering.graph());
+            System.out.printf("%-8s %12.1f %12.1f %9.2fx%n", ordering, reorder / 1e6, bfs / 1e6, (double) base / bfs);
+        }
+    }
+
+    /**
+     * @param pGraph The graph.
+     * @return The fastest time in nanoseconds of a BasicBFS from vertex 0.
+     */
+    private static long time(BasicUndirectedUnweightedCSRGraph pGraph)
+    {
+        long best = Long.MAX_VALUE;
+        for(int run = 0; run < RUNS; ++run)
+        {
+            long start = System.nanoTime();
+            new BasicBFS(pGraph, 0);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * @param pSide The side of the grid.
+     * @param pRandom The source of the random labels.
+     * @return A grid of pSide x pSide vertices in which each vertex is joined to its right and lower vertices,
+     * with the vertices labeled at random.
+     */
+    private static BasicUndirectedUnweightedCSRGraph shuffledGrid(int pSide, Random pRandom)
+    {
+        int V = pSide * pSide;
+        int[] label = new int[V];
+        for(int v = 0; v < V; ++v)
+            label[v] = v;
+        for(int v = V - 1; v > 0; --v)
+        {
+            int j = pRandom.nextInt(v + 1);
+            int swap = label[v];
+            label[v] = label[j];
+            label[j] = swap;
+        }
+        int[] degree = new int[V + 1];
+        for(int r = 0; r < pSide; ++r)
+        {
+            for(int c = 0; c < pSide; ++c)
+            {
+                int v = label[r * pSide + c];
+                degree[v + 1] = (r > 0 ? 1 : 0) + (r < pSide - 1 ? 1 : 0) + (c > 0 ? 1 : 0) + (c < pSide - 1 ? 1 : 0);
+            }
+        }
+        for(int v = 0; v < V; ++v)
+            degree[v + 1] += degree[v];
+        int[] offsets = Arrays.copyOf(degree, V + 1);
+        int[] targets = new int[offsets[V]];
+        int edges = 0;
+        for(int r = 0; r < pSide; ++r)
+        {
+            for(int c = 0; c < pSide; ++c)
+            {
+                int v = label[r * pSide + c];
+                if(c < pSide - 1)
+                {
+                    int u = label[r * pSide + c + 1];
+                    targets[degree[v]++] = u;
+                    targets[degree[u]++] = v;
+                    ++edges;
+                }
+                if(r < pSide - 1)
+                {
+                    int u = label[(r + 1) * pSide + c];
+                    targets[degree[v]++] = u;
+                    targets[degree[u]++] = v;
+                    ++edges;
+                }
+            }
+        }
+        return new BasicUndirectedUnweightedCSRGraph(offsets, targets, edges, false);
+    }
+}
@@ -2,6 +2,7 @@
 package unionFinder;
 
 import util.Checked;
+import java.util.Arrays;
 
 /**
  * Class that represents a simple numerical union finder for N boxes labeled from 0 to N-1.
@@ -17,12 +18,17 @@ public class BasicUnionFinder implements IBasicUnionFinder
     // Attributes
 
     /**
-     * The number of boxes.
+     * The number of boxes that are not in union and super-boxes.
      */
     private int numBoxes;
 
     /**
-     * The array of values for each box.
+     * The number of boxes.
+     */
+    private int boxes;
+
+    /**
+     * The array of values for each box, whose length may be larger than the number of boxes.
      */
     private int[] par;
 
@@ -35,6 +41,7 @@ public class BasicUnionFinder implements IBasicUnionFinder
     public BasicUnionFinder(int N)
     {
         numBoxes = N;
+        boxes = N;
         par = new int[N];
         for (int i = 0; i < N; ++i)
             par[i] = -1;
@@ -47,8 +54,9 @@ public class BasicUnionFinder implements IBasicUnionFinder
     public BasicUnionFinder(BasicUnionFinder pUnionFinder)
     {
         this.numBoxes = pUnionFinder.numBoxes;
-        this.par = new int[pUnionFinder.par.length];
-        System.arraycopy(pUnionFinder.par, 0, this.par, 0, pUnionFinder.par.length);
+        this.boxes = pUnionFinder.boxes;
+        this.par = new int[pUnionFinder.boxes];
+        System.arraycopy(pUnionFinder.par, 0, this.par, 0, pUnionFinder.boxes);
     }
 
     // Methods
@@ -69,7 +77,7 @@ public class BasicUnionFinder implements IBasicUnionFinder
      * @return The root of the box or {@code null} if x is an invalid box.
      */
     public Integer rootChecked(int pBox)
-    { return (pBox >= 0 && pBox < par.length) ? root(pBox) : null; }
+    { return (pBox >= 0 && pBox < boxes) ? root(pBox) : null; }
 
     /**
      * Doesn't check if pBox1 and pBox2 are valid boxes. For this, use mergeChecked.
@@ -102,7 +110,7 @@ public class BasicUnionFinder implements IBasicUnionFinder
      */
     public void mergeChecked(int pBox1, int pBox2)
     {
-        if(pBox1 >= 0 && pBox2 >= 0 && pBox1 < par.length && pBox2 < par.length)
+        if(pBox1 >= 0 && pBox2 >= 0 && pBox1 < boxes && pBox2 < boxes)
             merge(pBox1, pBox2);
     }
 
@@ -125,7 +133,58 @@ public class BasicUnionFinder implements IBasicUnionFinder
      * @return TThe size of the box or the union it belongs to, or {@code null} if the box is invalid.
      */
     public Integer sizeChecked(int pBox)
-    { return (pBox >= 0 && pBox < par.length) ? size(pBox) : null; }
+    { return (pBox >= 0 && pBox < boxes) ? size(pBox) : null; }
+
+    /**
+     * Doesn't check if the boxes are valid.
+     * Separates the given boxes from their unions, leaving each box on its own. The given boxes must include every
+     * box of the unions they belong to, otherwise the remaining boxes of those unions would point to a separated box.
+     * @param pBoxes The boxes to separate.
+     * @param pCount The number of boxes to take from the array.
+     */
+    public void isolate(int[] pBoxes, int pCount)
+    {
+        int roots = 0;
+        for(int i = 0; i < pCount; ++i)
+        {
+            if(par[pBoxes[i]] < 0)
+                ++roots;
+        }
+        for(int i = 0; i < pCount; ++i)
+            par[pBoxes[i]] = -1;
+        numBoxes += pCount - roots;
+    }
+
+    /**
+     * Adds a new box that isn't in union with any other box. The array of values grows geometrically,
+     * so adding N boxes takes amortized O(N) time.
+     * @return The label of the new box.
+     */
+    public int add()
+    {
+        if(boxes == par.length)
+            ensureCapacity(Math.max(1, par.length * 2));
+        par[boxes] = -1;
+        ++numBoxes;
+        return boxes++;
+    }
+
+    /**
+     * Grows the array of values so that it can hold the given number of boxes without growing again.
+     * Doesn't add any box.
+     * @param pCapacity The number of boxes.
+     */
+    public void ensureCapacity(int pCapacity)
+    {
+        if(pCapacity > par.length)
+            par = Arrays.copyOf(par, pCapacity);
+    }
+
+    /**
+     * @return The number of boxes.
+     */
+    public int totalBoxes()
+    { return boxes; }
 
     /**
      * @return The number of boxes that are not in union and super-boxes.
@@ -138,8 +197,8 @@ public class BasicUnionFinder implements IBasicUnionFinder
      */
     public int[] parents()
     {
-        int[] parents = new int[par.length];
-        for(int i = 0; i < par.length; ++i)
+        int[] parents = new int[boxes];
+        for(int i = 0; i < boxes; ++i)
         { parents[i] = root(i); }
         return parents;
     }
@@ -150,8 +209,8 @@ public class BasicUnionFinder implements IBasicUnionFinder
      */
     public String toString()
     {
-        StringBuilder sb = new StringBuilder("Size: " + par.length + "\n");
-        for(int i = 0; i < par.length; ++i)
+        StringBuilder sb = new StringBuilder("Size: " + boxes + "\n");
+        for(int i = 0; i < boxes; ++i)
             sb.append(i).append(": ").append(par[i]).append("\n");
         return sb.toString();
     }
@@ -0,0 +1,187 @@
+// @formatter:off
+package unionFinder;
+
+import util.Checked;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Class that represents a simple numerical union finder for N boxes labeled from 0 to N-1 that can be
+ * used from several threads at the same time.
+ * Finding roots is lock-free and compresses paths by halving them with atomic operations. Merging two boxes
+ * that already belong to the same union is lock-free as well, and only merges that join two different unions,
+ * which happen at most N-1 times, are serialized.
+ */
+@Checked
+(note = "Methods with the 'Checked' signature enforce additional checks to avoid errors and to\n" +
+" ensure the structure's correctness in exchange of efficiency. For fastest results, use\n" +
+" the non 'Checked' methods, however, these are liable to: IndexOutOfBounds exceptions.")
+public class ConcurrentBasicUnionFinder implements IBasicUnionFinder
+{
+    // Attributes
+
+    /**
+     * The number of boxes that are not in union and super-boxes.
+     */
+    private final AtomicInteger numBoxes;
+
+    /**
+     * The parent of each box, a box is a root if it's its own parent.
+     */
+    private final AtomicIntegerArray par;
+
+    /**
+     * The size of the union of each root.
+     */
+    private final AtomicIntegerArray size;
+
+    /**
+     * The lock that serializes the merges of different unions.
+     */
+    private final Object mergeLock;
+
+    // Constructors
+
+    /**
+     * Creates a ConcurrentBasicUnionFinder object with N boxes labeled from 0 to N-1.
+     * @param N The number of boxes to add to the union finder.
+     */
+    public ConcurrentBasicUnionFinder(int N)
+    {
+        numBoxes = new AtomicInteger(N);
+        par = new AtomicIntegerArray(N);
+        size = new AtomicIntegerArray(N);
+        mergeLock = new Object();
+        for(int i = 0; i < N; ++i)
+        {
+            par.set(i, i);
+            size.set(i, 1);
+        }
+    }
+
+    // Methods
+
+    /**
+     * Doesn't check if pBox is a valid box. For this, use rootChecked.
+     * Finds the root of the given box.
+     * @param pBox The box.
+     * @return The root of the box.
+     */
+    public int root(int pBox)
+    {
+        while(true)
+        {
+            int parent = par.get(pBox);
+            if(parent == pBox)
+                return pBox;
+            int grandParent = par.get(parent);
+            // Path halving: the grandparent is always an ancestor, even if another thread changed the parent.
+            if(grandParent != parent)
+                par.compareAndSet(pBox, parent, grandParent);
+            pBox = grandParent;
+        }
+    }
+
+    /**
+     * Checks that pBox is a valid box.
+     * Finds the root of the given box if it exists.
+     * @param pBox The box.
+     * @return The root of the box or {@code null} if x is an invalid box.
+     */
+    public Integer rootChecked(int pBox)
+    { return (pBox >= 0 && pBox < par.length()) ? root(pBox) : null; }
+
+    /**
+     * Doesn't check if pBox1 and pBox2 are valid boxes.
+     * @param pBox1 The first box.
+     * @param pBox2 The second box.
+     * @return {@code true} if both boxes belong to the same union, {@code false} if contrary.
+     */
+    public boolean connected(int pBox1, int pBox2)
+    {
+        while(true)
+        {
+            int root1 = root(pBox1), root2 = root(pBox2);
+            if(root1 == root2)
+                return true;
+            // If the first root is still a root, the boxes weren't merged while the second root was found.
+            if(par.get(root1) == root1)
+                return false;
+        }
+    }
+
+    /**
+     * Doesn't check if pBox1 and pBox2 are valid boxes. For this, use mergeChecked.
+     * Merges the two boxes.
+     * @param pBox1 The first box.
+     * @param pBox2 The second box.
+     */
+    public void merge(int pBox1, int pBox2)
+    {
+        if(connected(pBox1, pBox2))
+            return;
+        synchronized(mergeLock)
+        {
+            pBox1 = root(pBox1);
+            pBox2 = root(pBox2);
+            if(pBox1 == pBox2) return;
+            if(size.get(pBox2) > size.get(pBox1))
+            {
+                pBox1 += pBox2;
+                pBox2 = pBox1 - pBox2;
+                pBox1 -= pBox2;
+            }
+            size.set(pBox1, size.get(pBox1) + size.get(pBox2));
+            par.set(pBox2, pBox1);
+            // Updates the number of boxes.
+            numBoxes.decrementAndGet();
+        }
+    }
+
+    /**
+     * Checks that both boxes pBox1 and pBox2 are valid.
+     * Merges the two boxes if they are both valid.
+     * @param pBox1 The first box.
+     * @param pBox2 The second box.
+     */
+    public void mergeChecked(int pBox1, int pBox2)
+    {
+        if(pBox1 >= 0 && pBox2 >= 0 && pBox1 < par.length() && pBox2 < par.length())
+            merge(pBox1, pBox2);
+    }
+
+    // Extra methods
+
+    /**
+     * Doesn't check that pBox is a valid box. For this, use sizeChecked.
+     * Returns either the size of the box if it's not connected or the size of the union if it is.
+     * @param pBox The box.
+     * @return The size of the box or the union it belongs to.
+     */
+    public int size(int pBox)
+    {
+        while(true)
+        {
+            int root = root(pBox);
+            int rootSize = size.get(root);
+            if(par.get(root) == root)
+                return rootSize;
+        }
+    }
+
+    /**
+     * Checks if pBox is a valid box.
+     * Returns either the size of the box if it's not connected, the size of the union if it is,
+     * or {@code null} if the box is invalid.
+     * @param pBox The box.
+     * @return The size of the box or the union it belongs to, or {@code null} if the box is invalid.
+     */
+    public Integer sizeChecked(int pBox)
+    { return (pBox >= 0 && pBox < par.length()) ? size(pBox) : null; }
+
+    /**
+     * @return The number of boxes that are not in union and super-boxes.
+     */
+    public int totalRoots()
+    { return numBoxes.get(); }
+}
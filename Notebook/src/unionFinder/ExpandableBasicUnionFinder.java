@@ -161,6 +161,26 @@ public class ExpandableBasicUnionFinder implements IBasicUnionFinder
 
     // Extra methods
 
+    /**
+     * Doesn't check if the boxes exist.
+     * Separates the given boxes from their unions, leaving each box on its own. The given boxes must include every
+     * box of the unions they belong to, otherwise the remaining boxes of those unions would point to a separated box.
+     * @param pBoxes The boxes to separate.
+     * @param pCount The number of boxes to take from the array.
+     */
+    public void isolate(int[] pBoxes, int pCount)
+    {
+        int roots = 0;
+        for(int i = 0; i < pCount; ++i)
+        {
+            if(par.get(pBoxes[i]) < 0)
+                ++roots;
+        }
+        for(int i = 0; i < pCount; ++i)
+            par.put(pBoxes[i], -1);
+        numBoxes += pCount - roots;
+    }
+
     /**
      * Doesn't check if pBox already exists. For this, use addChecked.
      * Adds a box.
@@ -29,6 +29,16 @@ public class BasicSearch
      */
     protected int origin;
 
+    /**
+     * The workspace whose arrays hold the results, {@code null} if the search has its own arrays.
+     */
+    protected SearchWorkspace workspace;
+
+    /**
+     * The epoch of the search in its workspace.
+     */
+    protected int epoch;
+
     // Constructor
 
     /**
@@ -43,18 +53,56 @@ public class BasicSearch
         origin = pOrigin;
     }
 
+    /**
+     * Creates a BasicSearch object with the given results, which aren't copied.
+     * @param pMarked The marked vertices.
+     * @param pEdgeTo The parent of each vertex.
+     * @param pOrigin The origin vertex from which the search started.
+     */
+    public BasicSearch(boolean[] pMarked, int[] pEdgeTo, int pOrigin)
+    {
+        marked = pMarked;
+        edgeTo = pEdgeTo;
+        origin = pOrigin;
+    }
+
+    /**
+     * Creates a BasicSearch object that uses the given graph and keeps its results in the given workspace, which
+     * starts a new search. The results are valid until the next search that uses the workspace.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pOrigin Assigned vertex as the origin of the search.
+     * @param pWorkspace The workspace of the search.
+     */
+    public BasicSearch(IGraph pGraph, int pOrigin, SearchWorkspace pWorkspace)
+    {
+        workspace = pWorkspace;
+        epoch = pWorkspace.reset(pGraph.V());
+        edgeTo = pWorkspace.edgeTo();
+        // The parent of the origin would otherwise be left from an earlier search.
+        edgeTo[pOrigin] = pOrigin;
+        origin = pOrigin;
+    }
+
     // Methods
 
     /**
      * @param pVertex Vertex to check if it has a path from the origin vertex.
      * @return True if there's a path to the vertex from the origin, false if contrary.
+     * @throws IllegalStateException If the workspace of the search was used by a later search.
      */
     public boolean hasPathTo(int pVertex)
-    { return marked[pVertex]; }
+    {
+        if(workspace == null)
+            return marked[pVertex];
+        if(workspace.epoch() != epoch)
+            throw new IllegalStateException("The workspace of the search was used by a later search.");
+        return workspace.isMarked(pVertex);
+    }
 
     /**
      * @param pVertex Vertex whose path from the origin is desired.
      * @return The path from the origin to the given vertex, null if there's no path.
+     * @throws IllegalStateException If the workspace of the search was used by a later search.
      */
     public Iterable<Integer> pathTo(int pVertex)
     {
@@ -66,4 +114,23 @@ public class BasicSearch
         path.push(origin);
         return path;
     }
+
+    /**
+     * Doesn't check if pMap is a permutation of the vertices.
+     * Creates a copy of the search in which every vertex v is relabeled as pMap[v], so that the results of a search
+     * over a relabeled graph can be read with the original labels.
+     * @param pMap The new label of each vertex.
+     * @return The relabeled search.
+     */
+    public BasicSearch relabel(int[] pMap)
+    {
+        boolean[] relabeledMarked = new boolean[pMap.length];
+        int[] relabeledEdgeTo = new int[pMap.length];
+        for(int v = 0; v < pMap.length; ++v)
+        {
+            relabeledMarked[pMap[v]] = hasPathTo(v);
+            relabeledEdgeTo[pMap[v]] = relabeledMarked[pMap[v]] ? pMap[edgeTo[v]] : 0;
+        }
+        return new BasicSearch(relabeledMarked, relabeledEdgeTo, pMap[origin]);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Class that represents a growable list of primitive ints. It can be used as a {@code List<Integer>}, in which
+ * case the values are boxed on access, but storing the values takes 4 bytes each instead of a reference to a boxed
+ * Integer. Use the methods with the 'Int' signature to avoid boxing.
+ */
+public class IntList extends AbstractList<Integer> implements RandomAccess
+{
+    // Constants
+
+    /**
+     * The shared array of empty lists.
+     */
+    private static final int[] EMPTY = new int[0];
+
+    // Attributes
+
+    /**
+     * The values of the list, whose length may be larger than the size of the list.
+     */
+    private int[] values;
+
+    /**
+     * The number of values in the list.
+     */
+    private int size;
+
+    // Constructors
+
+    /**
+     * Creates an empty IntList object.
+     */
+    public IntList()
+    { values = EMPTY; }
+
+    /**
+     * Creates an empty IntList object able to hold the given number of values without growing.
+     * @param pCapacity The initial capacity.
+     */
+    public IntList(int pCapacity)
+    { values = pCapacity == 0 ? EMPTY : new int[pCapacity]; }
+
+    /**
+     * Creates an IntList object copy of the given list, with no extra capacity.
+     * @param pList The list to copy.
+     */
+    public IntList(IntList pList)
+    {
+        values = pList.size == 0 ? EMPTY : Arrays.copyOf(pList.values, pList.size);
+        size = pList.size;
+    }
+
+    // Methods
+
+    /**
+     * Doesn't check if pIndex is smaller than the size of the list.
+     * @param pIndex The position of the value.
+     * @return The value in the given position.
+     */
+    public int getInt(int pIndex)
+    { return values[pIndex]; }
+
+    /**
+     * Doesn't check if pIndex is smaller than the size of the list.
+     * @param pIndex The position of the value.
+     * @param pValue The new value.
+     */
+    public void setInt(int pIndex, int pValue)
+    { values[pIndex] = pValue; }
+
+    /**
+     * Appends a value to the list, doubling its capacity if it's full.
+     * @param pValue The value to append.
+     */
+    public void addInt(int pValue)
+    {
+        if(size == values.length)
+            values = Arrays.copyOf(values, Math.max(4, size * 2));
+        values[size++] = pValue;
+    }
+
+    /**
+     * Doesn't check if the list is empty.
+     * @return The removed last value of the list.
+     */
+    public int removeLastInt()
+    { return values[--size]; }
+
+    /**
+     * @param pValue The value.
+     * @return The position of the first occurrence of the value or -1 if it isn't in the list.
+     */
+    public int indexOfInt(int pValue)
+    {
+        for(int i = 0; i < size; ++i)
+        {
+            if(values[i] == pValue)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Reduces the capacity of the list to its size.
+     */
+    public void trimToSize()
+    {
+        if(values.length > size)
+            values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+    }
+
+    // List methods
+
+    public Integer get(int pIndex)
+    {
+        if(pIndex >= size)
+            throw new IndexOutOfBoundsException("Index " + pIndex + " out of bounds for length " + size);
+        return values[pIndex];
+    }
+
+    public Integer set(int pIndex, Integer pValue)
+    {
+        int previous = get(pIndex);
+        values[pIndex] = pValue;
+        return previous;
+    }
+
+    public void add(int pIndex, Integer pValue)
+    {
+        if(pIndex < 0 || pIndex > size)
+            throw new IndexOutOfBoundsException("Index " + pIndex + " out of bounds for length " + size);
+        addInt(0);
+        System.arraycopy(values, pIndex, values, pIndex + 1, size - 1 - pIndex);
+        values[pIndex] = pValue;
+        ++modCount;
+    }
+
+    public Integer remove(int pIndex)
+    {
+        int previous = get(pIndex);
+        System.arraycopy(values, pIndex + 1, values, pIndex, size - 1 - pIndex);
+        --size;
+        ++modCount;
+        return previous;
+    }
+
+    public boolean contains(Object pValue)
+    { return pValue instanceof Integer && indexOfInt((Integer) pValue) >= 0; }
+
+    public int size()
+    { return size; }
+}
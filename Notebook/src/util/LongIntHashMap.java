@@ -0,0 +1,214 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Class that represents a hash map from primitive long keys to primitive int values, without boxing.
+ * The map uses open addressing with linear probing over parallel arrays, and removals shift the following
+ * entries back instead of leaving tombstones. The key {@link Long#MIN_VALUE} is reserved to mark empty slots.
+ */
+public class LongIntHashMap
+{
+    // Constants
+
+    /**
+     * The key that marks an empty slot.
+     */
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    /**
+     * The maximum ratio between the number of entries and the number of slots.
+     */
+    private static final double LOAD_FACTOR = 0.5;
+
+    // Attributes
+
+    /**
+     * The key of each slot.
+     */
+    private long[] keys;
+
+    /**
+     * The value of each slot.
+     */
+    private int[] values;
+
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * The mask that maps a hash to a slot.
+     */
+    private int mask;
+
+    // Constructors
+
+    /**
+     * Creates a LongIntHashMap object with a small initial capacity.
+     */
+    public LongIntHashMap()
+    { this(8); }
+
+    /**
+     * Creates a LongIntHashMap object able to hold the given number of entries without growing.
+     * @param pCapacity The expected number of entries.
+     */
+    public LongIntHashMap(int pCapacity)
+    {
+        int slots = Integer.highestOneBit((int) Math.max(2, Math.min(1 << 30, pCapacity / LOAD_FACTOR)) * 2 - 1);
+        keys = new long[slots];
+        values = new int[slots];
+        Arrays.fill(keys, EMPTY);
+        mask = slots - 1;
+        size = 0;
+    }
+
+    /**
+     * Creates a LongIntHashMap object copy of the given map.
+     * @param pMap The map to copy.
+     */
+    public LongIntHashMap(LongIntHashMap pMap)
+    {
+        keys = pMap.keys.clone();
+        values = pMap.values.clone();
+        size = pMap.size;
+        mask = pMap.mask;
+    }
+
+    // Methods
+
+    /**
+     * @param pKey The key.
+     * @param pDefault The value to return if the key isn't in the map.
+     * @return The value associated to the key or the given default value if the key isn't in the map.
+     */
+    public int get(long pKey, int pDefault)
+    {
+        for(int slot = slot(pKey); keys[slot] != EMPTY; slot = (slot + 1) & mask)
+        {
+            if(keys[slot] == pKey)
+                return values[slot];
+        }
+        return pDefault;
+    }
+
+    /**
+     * @param pKey The key.
+     * @return {@code true} if the key is in the map, {@code false} if contrary.
+     */
+    public boolean containsKey(long pKey)
+    {
+        for(int slot = slot(pKey); keys[slot] != EMPTY; slot = (slot + 1) & mask)
+        {
+            if(keys[slot] == pKey)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Associates the value to the key, replacing the previous value if the key was already in the map.
+     * @param pKey The key, must not be {@link Long#MIN_VALUE}.
+     * @param pValue The value.
+     */
+    public void put(long pKey, int pValue)
+    {
+        int slot = slot(pKey);
+        for(; keys[slot] != EMPTY; slot = (slot + 1) & mask)
+        {
+            if(keys[slot] == pKey)
+            {
+                values[slot] = pValue;
+                return;
+            }
+        }
+        keys[slot] = pKey;
+        values[slot] = pValue;
+        if(++size > keys.length * LOAD_FACTOR)
+            resize(keys.length * 2);
+    }
+
+    /**
+     * Removes the key from the map if it's in it.
+     * @param pKey The key.
+     * @return {@code true} if the key was removed, {@code false} if it wasn't in the map.
+     */
+    public boolean remove(long pKey)
+    {
+        int slot = slot(pKey);
+        for(; keys[slot] != EMPTY; slot = (slot + 1) & mask)
+        {
+            if(keys[slot] == pKey)
+                break;
+        }
+        if(keys[slot] == EMPTY)
+            return false;
+        // The following entries of the probe sequence are shifted back to fill the gap.
+        int gap = slot;
+        for(slot = (slot + 1) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask)
+        {
+            int home = slot(keys[slot]);
+            if(((slot - home) & mask) >= ((slot - gap) & mask))
+            {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = EMPTY;
+        --size;
+        return true;
+    }
+
+    /**
+     * @return The number of entries.
+     */
+    public int size()
+    { return size; }
+
+    /**
+     * Removes every entry of the map.
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * @param pKey The key.
+     * @return The slot in which the probe sequence of the key starts.
+     */
+    private int slot(long pKey)
+    {
+        long hash = pKey * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Moves every entry into a table with the given number of slots.
+     * @param pSlots The new number of slots, a power of two.
+     */
+    private void resize(int pSlots)
+    {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[pSlots];
+        values = new int[pSlots];
+        Arrays.fill(keys, EMPTY);
+        mask = pSlots - 1;
+        for(int i = 0; i < oldKeys.length; ++i)
+        {
+            if(oldKeys[i] != EMPTY)
+            {
+                int slot = slot(oldKeys[i]);
+                while(keys[slot] != EMPTY)
+                    slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Class that represents a hash map from object keys to primitive int values, without boxing the values.
+ * The map uses open addressing with linear probing over parallel arrays and mixes the hash code of the keys
+ * so that keys with poorly distributed hash codes, like consecutive integers, don't cluster. The {@code null} key
+ * is stored apart from the table.
+ * @param <K> The type of the keys.
+ */
+public class ObjectIntHashMap<K>
+{
+    // Constants
+
+    /**
+     * The maximum ratio between the number of entries and the number of slots.
+     */
+    private static final double LOAD_FACTOR = 0.5;
+
+    // Attributes
+
+    /**
+     * The key of each slot, {@code null} if the slot is empty.
+     */
+    private Object[] keys;
+
+    /**
+     * The value of each slot.
+     */
+    private int[] values;
+
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * Whether the {@code null} key is in the map.
+     */
+    private boolean hasNull;
+
+    /**
+     * The value of the {@code null} key.
+     */
+    private int nullValue;
+
+    /**
+     * The mask that maps a hash to a slot.
+     */
+    private int mask;
+
+    // Constructors
+
+    /**
+     * Creates an ObjectIntHashMap object with a small initial capacity.
+     */
+    public ObjectIntHashMap()
+    { this(8); }
+
+    /**
+     * Creates an ObjectIntHashMap object able to hold the given number of entries without growing.
+     * @param pCapacity The expected number of entries.
+     */
+    public ObjectIntHashMap(int pCapacity)
+    {
+        int slots = Integer.highestOneBit((int) Math.max(2, Math.min(1 << 30, pCapacity / LOAD_FACTOR)) * 2 - 1);
+        keys = new Object[slots];
+        values = new int[slots];
+        mask = slots - 1;
+        size = 0;
+    }
+
+    /**
+     * Creates an ObjectIntHashMap object copy of the given map. The keys themselves aren't copied.
+     * @param pMap The map to copy.
+     */
+    public ObjectIntHashMap(ObjectIntHashMap<K> pMap)
+    {
+        keys = pMap.keys.clone();
+        values = pMap.values.clone();
+        size = pMap.size;
+        mask = pMap.mask;
+        hasNull = pMap.hasNull;
+        nullValue = pMap.nullValue;
+    }
+
+    // Methods
+
+    /**
+     * @param pKey The key.
+     * @param pDefault The value to return if the key isn't in the map.
+     * @return The value associated to the key or the given default value if the key isn't in the map.
+     */
+    public int get(Object pKey, int pDefault)
+    {
+        if(pKey == null)
+            return hasNull ? nullValue : pDefault;
+        for(int slot = slot(pKey); keys[slot] != null; slot = (slot + 1) & mask)
+        {
+            if(keys[slot].equals(pKey))
+                return values[slot];
+        }
+        return pDefault;
+    }
+
+    /**
+     * @param pKey The key.
+     * @return {@code true} if the key is in the map, {@code false} if contrary.
+     */
+    public boolean containsKey(Object pKey)
+    {
+        if(pKey == null)
+            return hasNull;
+        for(int slot = slot(pKey); keys[slot] != null; slot = (slot + 1) & mask)
+        {
+            if(keys[slot].equals(pKey))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Associates the value to the key, replacing the previous value if the key was already in the map.
+     * @param pKey The key.
+     * @param pValue The value.
+     */
+    public void put(K pKey, int pValue)
+    {
+        if(pKey == null)
+        {
+            if(!hasNull)
+                ++size;
+            hasNull = true;
+            nullValue = pValue;
+            return;
+        }
+        int slot = slot(pKey);
+        for(; keys[slot] != null; slot = (slot + 1) & mask)
+        {
+            if(keys[slot].equals(pKey))
+            {
+                values[slot] = pValue;
+                return;
+            }
+        }
+        keys[slot] = pKey;
+        values[slot] = pValue;
+        if(++size > keys.length * LOAD_FACTOR)
+            resize(keys.length * 2);
+    }
+
+    /**
+     * @return The number of entries.
+     */
+    public int size()
+    { return size; }
+
+    /**
+     * Removes every entry of the map.
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, null);
+        hasNull = false;
+        size = 0;
+    }
+
+    /**
+     * @param pKey The key.
+     * @return The slot in which the probe sequence of the key starts.
+     */
+    private int slot(Object pKey)
+    {
+        int hash = pKey.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Moves every entry into a table with the given number of slots.
+     * @param pSlots The new number of slots, a power of two.
+     */
+    private void resize(int pSlots)
+    {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new Object[pSlots];
+        values = new int[pSlots];
+        mask = pSlots - 1;
+        for(int i = 0; i < oldKeys.length; ++i)
+        {
+            if(oldKeys[i] != null)
+            {
+                int slot = slot(oldKeys[i]);
+                while(keys[slot] != null)
+                    slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -39,6 +39,16 @@ public class Search<T>
      */
     protected IExtendedGraph<T> graph;
 
+    /**
+     * The workspace whose arrays hold the results, {@code null} if the search has its own arrays.
+     */
+    protected SearchWorkspace workspace;
+
+    /**
+     * The epoch of the search in its workspace.
+     */
+    protected int epoch;
+
     // Constructor
 
     /**
@@ -52,7 +62,24 @@ public class Search<T>
         edgeTo = new int[pGraph.V()];
         originVertex = pOrigin;
         graph = pGraph;
-        originNumber = pGraph.keyToNumber().get(pOrigin);
+        originNumber = pGraph.toNumber(pOrigin);
+    }
+
+    /**
+     * Creates a Search object that uses the given graph and keeps its results in the given workspace, which starts
+     * a new search. The results are valid until the next search that uses the workspace.
+     * @param pGraph Graph to use for the algorithm.
+     * @param pOrigin Assigned vertex as the origin of the search.
+     * @param pWorkspace The workspace of the search.
+     */
+    public Search(IExtendedGraph<T> pGraph, T pOrigin, SearchWorkspace pWorkspace)
+    {
+        workspace = pWorkspace;
+        epoch = pWorkspace.reset(pGraph.V());
+        edgeTo = pWorkspace.edgeTo();
+        originVertex = pOrigin;
+        graph = pGraph;
+        originNumber = pGraph.toNumber(pOrigin);
     }
 
     // Methods
@@ -60,21 +87,29 @@ public class Search<T>
     /**
      * @param pVertex Vertex to check if it has a path from the origin vertex.
      * @return True if there's a path to the vertex from the origin, false if contrary.
+     * @throws IllegalStateException If the workspace of the search was used by a later search.
      */
     public boolean hasPathTo(T pVertex)
-    { return marked[graph.keyToNumber().get(pVertex)]; }
+    {
+        if(workspace == null)
+            return marked[graph.toNumber(pVertex)];
+        if(workspace.epoch() != epoch)
+            throw new IllegalStateException("The workspace of the search was used by a later search.");
+        return workspace.isMarked(graph.toNumber(pVertex));
+    }
 
     /**
      * @param pVertex Vertex whose path from the origin is desired.
      * @return The path from the origin to the given vertex, null if there's no path.
+     * @throws IllegalStateException If the workspace of the search was used by a later search.
      */
     public Iterable<T> pathTo(T pVertex)
     {
         if(!hasPathTo(pVertex))
             return null;
         Stack<T> path = new Stack<>();
-        for(int v = graph.keyToNumber().get(pVertex); v != originNumber; v = edgeTo[v])
-            path.push(graph.numberToKey().get(v));
+        for(int v = graph.toNumber(pVertex); v != originNumber; v = edgeTo[v])
+            path.push(graph.toKey(v));
         path.push(originVertex);
         return path;
     }
@@ -0,0 +1,175 @@
+// @formatter:off
+
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Class that represents the reusable arrays of the searches over a fixed number of vertices labeled from 0 to N-1,
+ * so that many searches over a large graph don't allocate their arrays every time. A vertex is marked when its stamp
+ * is the epoch of the current search, so a new search only increments the epoch instead of clearing the marks.
+ * <p>
+ * The results of a search that uses a workspace are valid until the next search that uses it, after which they
+ * throw an IllegalStateException. A workspace isn't thread-safe: use {@link #current()} to get the workspace of the
+ * calling thread, which grows as needed and is kept for its following searches.
+ */
+public class SearchWorkspace
+{
+    // Constants
+
+    /**
+     * The workspace of each thread.
+     */
+    private static final ThreadLocal<SearchWorkspace> CURRENT = ThreadLocal.withInitial(SearchWorkspace::new);
+
+    // Attributes
+
+    /**
+     * The epoch of the last search in which each vertex was marked.
+     */
+    private int[] stamps;
+
+    /**
+     * Array that stores the parent of each vertex.
+     */
+    private int[] edgeTo;
+
+    /**
+     * The queue of a breath first search or the stack of a depth first search.
+     */
+    private int[] queue;
+
+    /**
+     * The position of the next adjacent vertex to visit of each vertex in the stack of a depth first search,
+     * which is only allocated once a depth first search needs it.
+     */
+    private int[] cursors;
+
+    /**
+     * The degree of each vertex in the stack of a depth first search, which is only allocated once a depth first
+     * search needs it.
+     */
+    private int[] degrees;
+
+    /**
+     * The epoch of the current search.
+     */
+    private int epoch;
+
+    // Constructor
+
+    /**
+     * Creates an empty SearchWorkspace object, which grows with the first search.
+     */
+    public SearchWorkspace()
+    { this(0); }
+
+    /**
+     * Creates a SearchWorkspace object for N vertices.
+     * @param N The number of vertices.
+     */
+    public SearchWorkspace(int N)
+    {
+        stamps = new int[N];
+        edgeTo = new int[N];
+        queue = new int[N];
+        cursors = new int[0];
+        degrees = new int[0];
+    }
+
+    // Methods
+
+    /**
+     * @return The workspace of the calling thread.
+     */
+    public static SearchWorkspace current()
+    { return CURRENT.get(); }
+
+    /**
+     * Starts a new search over N vertices, which unmarks every vertex in O(1) time unless the arrays have to grow or
+     * the epochs wrap around. The results of the previous search become invalid.
+     * @param N The number of vertices.
+     * @return The epoch of the new search.
+     */
+    public int reset(int N)
+    {
+        if(N > stamps.length)
+        {
+            int capacity = Math.max(N, (int) Math.min(Integer.MAX_VALUE - 8, stamps.length + (long) (stamps.length >> 1)));
+            stamps = Arrays.copyOf(stamps, capacity);
+            edgeTo = new int[capacity];
+            queue = new int[capacity];
+        }
+        if(epoch == Integer.MAX_VALUE)
+        {
+            Arrays.fill(stamps, 0);
+            epoch = 0;
+        }
+        return ++epoch;
+    }
+
+    /**
+     * @return The epoch of the current search.
+     */
+    public int epoch()
+    { return epoch; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * @param pVertex The vertex.
+     * @return True if the vertex is marked in the current search, false if contrary.
+     */
+    public boolean isMarked(int pVertex)
+    { return stamps[pVertex] == epoch; }
+
+    /**
+     * Doesn't check if pVertex is a valid vertex.
+     * Marks the vertex in the current search.
+     * @param pVertex The vertex.
+     * @return True if the vertex wasn't marked, false if contrary.
+     */
+    public boolean mark(int pVertex)
+    {
+        if(stamps[pVertex] == epoch)
+            return false;
+        stamps[pVertex] = epoch;
+        return true;
+    }
+
+    /**
+     * @return The array that stores the parent of each vertex in the current search.
+     */
+    public int[] edgeTo()
+    { return edgeTo; }
+
+    /**
+     * @return The array for the queue or the stack of the current search, with a position for each vertex.
+     */
+    public int[] queue()
+    { return queue; }
+
+    /**
+     * Allocates the array the first time, or after the workspace grows, so the workspaces that only serve breath
+     * first searches don't hold it.
+     * @return The array for the neighbor cursors of the current depth first search, with a position for each vertex.
+     */
+    public int[] cursors()
+    {
+        if(cursors.length < stamps.length)
+            cursors = new int[stamps.length];
+        return cursors;
+    }
+
+    /**
+     * Allocates the array the first time, or after the workspace grows, so the workspaces that only serve breath
+     * first searches don't hold it.
+     * @return The array for the degrees of the vertices in the stack of the current depth first search, with a
+     * position for each vertex.
+     */
+    public int[] degrees()
+    {
+        if(degrees.length < stamps.length)
+            degrees = new int[stamps.length];
+        return degrees;
+    }
+}
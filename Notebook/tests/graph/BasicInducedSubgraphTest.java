@@ -0,0 +1,210 @@
+// @formatter:off
+
+package graph;
+
+import graph.algorithms.misc.BasicTwoColor;
+import graph.algorithms.search.BasicBFS;
+import graph.algorithms.search.BasicDFS;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the BasicInducedSubgraph class.
+ */
+public class BasicInducedSubgraphTest
+{
+    // Attributes
+
+    /**
+     * The graph.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    // Setups
+
+    /**
+     * Initializes a graph of 8 vertices with the cycle 0-1-2-3-0, the triangle 4-5-6, the edge 2-4 and the self-cycle 7-7.
+     */
+    @Before
+    public void setup()
+    {
+        graph = new BasicUndirectedUnweightedALGraph(8);
+        graph.addEdge(0, 1); graph.addEdge(1, 2); graph.addEdge(2, 3); graph.addEdge(3, 0);
+        graph.addEdge(4, 5); graph.addEdge(5, 6); graph.addEdge(6, 4);
+        graph.addEdge(2, 4); graph.addEdge(7, 7);
+    }
+
+    // Tests
+
+    /**
+     * Tests a subgraph that keeps the labels of the graph.
+     */
+    @Test
+    public void originalTest()
+    {
+        BitSet set = new BitSet();
+        set.set(0, 4);
+        BasicInducedSubgraph subgraph = new BasicInducedSubgraph(graph, set);
+        assertEquals("The number of vertices should be 8.", 8, subgraph.V());
+        assertEquals("The number of edges should be 4.", 4, subgraph.E());
+        assertEquals("The edge 2-4 should be filtered.", 2, subgraph.degree(2));
+        assertEquals("The vertex outside the set shouldn't have adjacent vertices.", 0, subgraph.degree(4));
+        assertTrue("The collection should be empty.", subgraph.adjacent(5).isEmpty());
+        assertEquals("The adjacent vertices should be filtered.", List.of(1, 3), new ArrayList<>(subgraph.adjacent(2)));
+        BasicBFS bfs = new BasicBFS(subgraph, 0);
+        assertTrue("There should be a path.", bfs.hasPathTo(2));
+        assertFalse("There shouldn't be a path.", bfs.hasPathTo(4));
+        assertTrue("The subgraph should be two-colorable.", new BasicTwoColor(subgraph).isTwoColorable());
+        assertFalse("The graph shouldn't be two-colorable.", new BasicTwoColor(graph).isTwoColorable());
+        assertEquals("The label should be kept.", 3, subgraph.toSubgraph(3));
+        assertEquals("The vertex shouldn't belong to the subgraph.", -1, subgraph.toSubgraph(6));
+        assertFalse("The vertex shouldn't belong to the subgraph.", subgraph.contains(8));
+        assertNull("The collection should be null.", subgraph.adjacentChecked(8));
+    }
+
+    /**
+     * Tests a subgraph with compact labels and a predicate over the edges.
+     */
+    @Test
+    public void compactTest()
+    {
+        BasicInducedSubgraph subgraph = new BasicInducedSubgraph(graph, v -> v >= 2,
+                (v, u) -> !(Math.min(v, u) == 5 && Math.max(v, u) == 6), BasicInducedSubgraph.Labels.COMPACT);
+        // The vertices 2, 3, 4, 5, 6 and 7 are labeled from 0 to 5.
+        assertEquals("The number of vertices should be 6.", 6, subgraph.V());
+        assertEquals("The number of edges should be 5.", 5, subgraph.E());
+        assertEquals("The label should be compact.", 2, subgraph.toSubgraph(4));
+        assertEquals("The label should be the original.", 4, subgraph.toOriginal(2));
+        assertEquals("The adjacent vertices should be relabeled.", List.of(1, 2), new ArrayList<>(subgraph.adjacent(0)));
+        assertEquals("The edge 5-6 should be filtered.", 1, subgraph.degree(3));
+        assertEquals("The self-cycle should be kept.", List.of(5), new ArrayList<>(subgraph.adjacent(5)));
+        BasicDFS dfs = new BasicDFS(subgraph, 0);
+        for(int v = 0; v < 5; ++v)
+            assertTrue("There should be a path.", dfs.hasPathTo(v));
+        assertFalse("There shouldn't be a path.", dfs.hasPathTo(5));
+        assertTrue("The subgraph should be two-colorable.", new BasicTwoColor(subgraph, 0).isTwoColorable());
+    }
+
+    /**
+     * Tests that the accessors of a random subgraph match a copy of it, in any order of reads.
+     */
+    @Test
+    public void randomTest()
+    {
+        Random random = new Random(42);
+        BasicUndirectedUnweightedALGraph large = new BasicUndirectedUnweightedALGraph(3000);
+        for(int i = 0; i < 30000; ++i)
+            large.addEdge(random.nextInt(3000), random.nextInt(3000));
+        BitSet set = new BitSet();
+        for(int v = 0; v < 3000; ++v)
+        {
+            if(random.nextInt(3) > 0)
+                set.set(v);
+        }
+        BasicInducedSubgraph subgraph = new BasicInducedSubgraph(large, set::get, null, BasicInducedSubgraph.Labels.COMPACT);
+        BasicUndirectedUnweightedALGraph copy = new BasicUndirectedUnweightedALGraph(subgraph.V());
+        int edges = 0;
+        for(int v = 0; v < 3000; ++v)
+        {
+            for(int u : large.adjacent(v))
+            {
+                if(set.get(v) && set.get(u) && v <= u)
+                {
+                    copy.addEdge(subgraph.toSubgraph(v), subgraph.toSubgraph(u));
+                    ++edges;
+                }
+            }
+        }
+        assertEquals("The number of edges should be the same.", edges, subgraph.E());
+        for(int v = 0; v < subgraph.V(); ++v)
+        {
+            List<Integer> expected = new ArrayList<>(subgraph.adjacent(v));
+            List<Integer> visited = new ArrayList<>();
+            subgraph.forEachNeighbor(v, visited::add);
+            assertEquals("The visited vertices should be the same.", expected, visited);
+            assertEquals("The degree should be the same.", copy.degree(v), subgraph.degree(v));
+            // Backwards, forwards and interleaved with another vertex.
+            for(int i = expected.size() - 1; i >= 0; --i)
+                assertEquals("The neighbor should be the same.", (int) expected.get(i), subgraph.neighbor(v, i));
+            for(int i = 0; i < expected.size(); ++i)
+            {
+                assertEquals("The neighbor should be the same.", (int) expected.get(i), subgraph.neighbor(v, i));
+                if(subgraph.degree(0) > 0)
+                    subgraph.neighbor(0, 0);
+            }
+        }
+        BasicBFS expected = new BasicBFS(copy, 0);
+        BasicBFS actual = new BasicBFS(subgraph, 0);
+        BasicDFS dfs = new BasicDFS(subgraph, 0);
+        for(int v = 0; v < subgraph.V(); ++v)
+        {
+            assertEquals("The reachability should be the same.", expected.hasPathTo(v), actual.hasPathTo(v));
+            assertEquals("The reachability should be the same.", expected.hasPathTo(v), dfs.hasPathTo(v));
+        }
+    }
+
+    /**
+     * Tests that the view keeps the set of vertices it was created with and that the stored adjacent vertices and
+     * the number of edges follow the changes of the graph.
+     */
+    @Test
+    public void changesTest()
+    {
+        BasicUndirectedUnweightedALGraph star = new BasicUndirectedUnweightedALGraph(4);
+        star.addEdge(0, 1);
+        star.addEdge(0, 2);
+        star.addEdge(0, 3);
+        BitSet set = new BitSet();
+        set.set(0, 4);
+        BasicInducedSubgraph subgraph = new BasicInducedSubgraph(star, set);
+        assertEquals("The second adjacent vertex should be 2.", 2, subgraph.neighbor(0, 1));
+        assertEquals("There should be 3 edges.", 3, subgraph.E());
+        set.clear(1);
+        assertTrue("The view should keep its set.", subgraph.contains(1));
+        assertEquals("The second adjacent vertex should still be 2.", 2, subgraph.neighbor(0, 1));
+        assertEquals("There should still be 3 edges.", 3, subgraph.E());
+        star.addEdge(0, 0);
+        star.removeEdge(0, 2);
+        List<Integer> adjacent = new ArrayList<>(star.adjacent(0));
+        assertEquals("The degree should follow the graph.", 3, subgraph.degree(0));
+        for(int i = 2; i >= 0; --i)
+            assertEquals("The adjacent vertices should follow the graph.", (int) adjacent.get(i), subgraph.neighbor(0, i));
+        assertEquals("The number of edges should follow the graph.", 3, subgraph.E());
+        BasicInducedSubgraph other = new BasicInducedSubgraph(star, v -> v != adjacent.get(0));
+        assertEquals("Each view should have its own adjacent vertices.", (int) adjacent.get(1), other.neighbor(0, 0));
+        assertEquals("Each view should have its own adjacent vertices.", (int) adjacent.get(0), subgraph.neighbor(0, 0));
+    }
+
+    /**
+     * Tests that the adjacent vertices of a vertex are only filtered the first time they are read, so reading the
+     * adjacent vertices of a hub backwards, interleaved with every other vertex, takes linear time.
+     */
+    @Test
+    public void hubTest()
+    {
+        BasicUndirectedUnweightedALGraph hub = new BasicUndirectedUnweightedALGraph(3000);
+        for(int v = 1; v < 3000; ++v)
+            hub.addEdge(0, v);
+        long[] tests = new long[1];
+        BasicInducedSubgraph subgraph = new BasicInducedSubgraph(hub, v ->
+        {
+            ++tests[0];
+            return true;
+        });
+        int degree = subgraph.degree(0);
+        assertEquals("The hub should be joined to every vertex.", 2999, degree);
+        for(int i = degree - 1; i >= 0; --i)
+        {
+            assertEquals("The neighbor should be the same.", (int) hub.neighbor(0, i), subgraph.neighbor(0, i));
+            assertEquals("The leaf should be joined to the hub.", 0, subgraph.neighbor(i + 1, 0));
+            assertEquals("The degree should be the same.", degree, subgraph.degree(0));
+        }
+        assertTrue("Each adjacent vertex should be filtered once.", tests[0] <= 4 * 3000 * 2);
+    }
+}
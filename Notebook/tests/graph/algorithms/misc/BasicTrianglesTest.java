@@ -0,0 +1,158 @@
+// @formatter:off
+
+package graph.algorithms.misc;
+
+import graph.IBasicGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedAMGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.concurrent.ForkJoinPool;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the BasicTriangles class.
+ */
+public class BasicTrianglesTest
+{
+    // Attributes
+
+    /**
+     * The random graph as an adjacency list.
+     */
+    private BasicUndirectedUnweightedALGraph list;
+
+    /**
+     * The random graph as an adjacency matrix.
+     */
+    private BasicUndirectedUnweightedAMGraph matrix;
+
+    /**
+     * The random graph with both an adjacency list and an adjacency matrix.
+     */
+    private BasicUndirectedUnweightedGraph both;
+
+    // Setups
+
+    /**
+     * Initializes the same random graph of 150 vertices, with repeated edges and self-cycles in the adjacency list,
+     * and a vertex joined to every other vertex so that the degrees are skewed.
+     */
+    @Before
+    public void setup()
+    {
+        Random random = new Random(11);
+        list = new BasicUndirectedUnweightedALGraph(150);
+        matrix = new BasicUndirectedUnweightedAMGraph(150);
+        both = new BasicUndirectedUnweightedGraph(150);
+        for(int i = 0; i < 900; ++i)
+        {
+            int v = random.nextInt(150), u = random.nextInt(150);
+            list.addEdge(v, u);
+            matrix.addEdge(v, u);
+            both.addEdgeChecked(v, u);
+        }
+        for(int v = 1; v < 150; ++v)
+        {
+            list.addEdge(0, v);
+            matrix.addEdge(0, v);
+            both.addEdgeChecked(0, v);
+        }
+    }
+
+    // Tests
+
+    /**
+     * Tests the counts of a small graph with two triangles that share an edge.
+     */
+    @Test
+    public void smallTest()
+    {
+        BasicUndirectedUnweightedALGraph graph = new BasicUndirectedUnweightedALGraph(5);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 0);
+        graph.addEdge(1, 3);
+        graph.addEdge(3, 2);
+        graph.addEdge(3, 4);
+        BasicTriangles triangles = new BasicTriangles(graph);
+        assertEquals("There should be two triangles.", 2, triangles.count());
+        assertArrayEquals("The counts of the vertices should be correct.", new long[]{1, 2, 2, 1, 0}, triangles.counts());
+        assertEquals("The clustering of 0 should be 1.", 1, triangles.clustering(0), 1e-12);
+        assertEquals("The clustering of 1 should be 2/3.", 2.0 / 3, triangles.clustering(1), 1e-12);
+        assertEquals("The clustering of 3 should be 1/3.", 1.0 / 3, triangles.clustering(3), 1e-12);
+        assertEquals("The clustering of 4 should be 0.", 0, triangles.clustering(4), 1e-12);
+        assertEquals("The average clustering should be correct.", (1 + 2.0 / 3 + 2.0 / 3 + 1.0 / 3) / 5, triangles.averageClustering(), 1e-12);
+    }
+
+    /**
+     * Tests that every representation of the random graph gives the counts of a brute force search.
+     */
+    @Test
+    public void bruteForceTest()
+    {
+        long[] expected = new long[150];
+        long total = 0;
+        for(int a = 0; a < 150; ++a)
+        {
+            for(int b = a + 1; b < 150; ++b)
+            {
+                for(int c = b + 1; c < 150; ++c)
+                {
+                    if(matrix.hasEdge(a, b) && matrix.hasEdge(b, c) && matrix.hasEdge(a, c))
+                    {
+                        ++expected[a];
+                        ++expected[b];
+                        ++expected[c];
+                        ++total;
+                    }
+                }
+            }
+        }
+        for(IBasicGraph graph : new IBasicGraph[]{list, matrix, both})
+        {
+            BasicTriangles triangles = new BasicTriangles(graph);
+            assertEquals("The number of triangles should be correct.", total, triangles.count());
+            assertArrayEquals("The counts of the vertices should be correct.", expected, triangles.counts());
+        }
+    }
+
+    /**
+     * Tests that the clustering ignores repeated edges and self-cycles and doesn't depend on the pool.
+     */
+    @Test
+    public void clusteringTest()
+    {
+        double[] expected = new BasicTriangles(matrix).clustering();
+        BasicTriangles triangles = new BasicTriangles(list, new ForkJoinPool(3));
+        for(int v = 0; v < 150; ++v)
+        {
+            int degree = 0;
+            for(int u = 0; u < 150; ++u)
+            {
+                if(u != v && matrix.hasEdge(v, u))
+                    ++degree;
+            }
+            double clustering = degree < 2 ? 0 : 2.0 * triangles.count(v) / ((double) degree * (degree - 1));
+            assertEquals("The clustering should be correct.", clustering, triangles.clustering(v), 1e-12);
+            assertEquals("The clustering should be the same for both graphs.", expected[v], triangles.clustering(v), 1e-12);
+        }
+        assertTrue("The vertex joined to every vertex should have clustering below 1.", triangles.clustering(0) < 1);
+    }
+
+    /**
+     * Tests a graph without edges and a graph without vertices.
+     */
+    @Test
+    public void emptyTest()
+    {
+        BasicTriangles triangles = new BasicTriangles(new BasicUndirectedUnweightedALGraph(4));
+        assertEquals("There should be no triangles.", 0, triangles.count());
+        assertEquals("The average clustering should be 0.", 0, triangles.averageClustering(), 0);
+        triangles = new BasicTriangles(new BasicUndirectedUnweightedALGraph(0));
+        assertEquals("There should be no triangles.", 0, triangles.count());
+        assertEquals("The average clustering should be 0.", 0, triangles.averageClustering(), 0);
+    }
+}
@@ -0,0 +1,141 @@
+// @formatter:off
+
+package graph.algorithms.ordering;
+
+import graph.algorithms.search.BasicBFS;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import org.junit.Before;
+import org.junit.Test;
+import util.BasicSearch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the BasicReordering class.
+ */
+public class BasicReorderingTest
+{
+    // Attributes
+
+    /**
+     * The graph.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    // Setups
+
+    /**
+     * Initializes a random graph of 200 vertices with several components, repeated edges and self-cycles.
+     */
+    @Before
+    public void setup()
+    {
+        Random random = new Random(7);
+        graph = new BasicUndirectedUnweightedALGraph(200);
+        for(int i = 0; i < 400; ++i)
+        {
+            // Vertices are only joined to vertices with the same remainder modulo 3.
+            int v = random.nextInt(200);
+            int u = Math.min(199, v + 3 * random.nextInt(10));
+            graph.addEdge(v, u);
+        }
+    }
+
+    // Tests
+
+    /**
+     * Tests that every ordering computes a permutation and that the relabeled graph has the same edges.
+     */
+    @Test
+    public void relabelTest()
+    {
+        for(BasicReordering.Ordering ordering : BasicReordering.Ordering.values())
+        {
+            BasicReordering reordering = new BasicReordering(graph, ordering);
+            BasicUndirectedUnweightedCSRGraph relabeled = reordering.graph();
+            assertEquals("The ordering should be the same.", ordering, reordering.ordering());
+            assertEquals("The number of vertices should be 200.", 200, relabeled.V());
+            assertEquals("The number of edges should be the same.", graph.E(), relabeled.E());
+            assertTrue("The adjacency should be sorted.", relabeled.isSorted());
+            boolean[] seen = new boolean[200];
+            for(int v = 0; v < 200; ++v)
+            {
+                assertFalse("The new label should be unique.", seen[reordering.toNew(v)]);
+                seen[reordering.toNew(v)] = true;
+                assertEquals("The maps should be inverse.", v, reordering.toOld(reordering.toNew(v)));
+                List<Integer> expected = new ArrayList<>(graph.adjacent(v));
+                List<Integer> actual = new ArrayList<>();
+                for(int vertex : relabeled.adjacent(reordering.toNew(v)))
+                    actual.add(reordering.toOld(vertex));
+                Collections.sort(expected);
+                Collections.sort(actual);
+                assertEquals("The adjacency should be the same.", expected, actual);
+            }
+        }
+    }
+
+    /**
+     * Tests that the orderings place the vertices of the graph's largest degree and of the same component as expected.
+     */
+    @Test
+    public void orderTest()
+    {
+        BasicReordering degree = new BasicReordering(graph, BasicReordering.Ordering.DEGREE);
+        int max = 0;
+        for(int v = 0; v < 200; ++v)
+            max = Math.max(max, graph.adjacent(v).size());
+        assertEquals("The first vertex should have the largest degree.", max, graph.adjacent(degree.toOld(0)).size());
+        for(int v = 1; v < 200; ++v)
+            assertTrue("The degrees should be descending.", degree.graph().degree(v - 1) >= degree.graph().degree(v));
+        // A breadth first order places each component contiguously, so the new labels of a component form a range.
+        BasicReordering bfs = new BasicReordering(graph, BasicReordering.Ordering.BFS);
+        BasicBFS search = new BasicBFS(bfs.graph(), 0);
+        int count = 0;
+        for(int v = 0; v < 200; ++v)
+        {
+            if(search.hasPathTo(v))
+                ++count;
+        }
+        for(int v = 0; v < count; ++v)
+            assertTrue("The component should be contiguous.", search.hasPathTo(v));
+    }
+
+    /**
+     * Tests that a search over the relabeled graph is mapped back to the original labels.
+     */
+    @Test
+    public void toOldTest()
+    {
+        BasicBFS expected = new BasicBFS(graph, 5);
+        for(BasicReordering.Ordering ordering : BasicReordering.Ordering.values())
+        {
+            BasicReordering reordering = new BasicReordering(graph, ordering);
+            BasicSearch search = reordering.toOld(new BasicBFS(reordering.graph(), reordering.toNew(5)));
+            int[] distances = new int[200];
+            for(int v = 0; v < 200; ++v)
+            {
+                assertEquals("The reachability should be the same.", expected.hasPathTo(v), search.hasPathTo(v));
+                if(!search.hasPathTo(v))
+                    continue;
+                // The paths may differ, but they must be valid and have the same length.
+                List<Integer> path = new ArrayList<>();
+                for(int vertex : search.pathTo(v))
+                    path.add(vertex);
+                List<Integer> expectedPath = new ArrayList<>();
+                for(int vertex : expected.pathTo(v))
+                    expectedPath.add(vertex);
+                assertEquals("The length of the paths should be the same.", expectedPath.size(), path.size());
+                for(int i = 1; i < path.size(); ++i)
+                    assertTrue("The path should follow edges.", graph.adjacent(path.get(i)).contains(path.get(i - 1)));
+                distances[reordering.toNew(v)] = path.size() - 1;
+            }
+            int[] mapped = reordering.toOld(distances);
+            for(int v = 0; v < 200; ++v)
+                assertEquals("The distance should be mapped back.", distances[reordering.toNew(v)], mapped[v]);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IBasicGraph;
+import graph.directedUnweighted.BasicDirectedGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.UndirectedUnweightedGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the BasicBidirectionalBFS and BidirectionalBFS classes.
+ */
+public class BasicBidirectionalBFSTest
+{
+    // Attributes
+
+    /**
+     * A random graph of 20000 vertices with about three edges per vertex and some isolated vertices.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    // Setups
+
+    /**
+     * Initializes the random graph.
+     */
+    @Before
+    public void setup()
+    {
+        Random random = new Random(29);
+        graph = new BasicUndirectedUnweightedALGraph(20000);
+        for(int i = 0; i < 30000; ++i)
+            graph.addEdge(random.nextInt(19990), random.nextInt(19990));
+    }
+
+    /**
+     * @param pSearch The search.
+     * @param pVertex The vertex.
+     * @return The number of edges of the path from the origin of the search to the vertex, -1 if there's no path.
+     */
+    private static int distance(BasicBFS pSearch, int pVertex)
+    {
+        if(!pSearch.hasPathTo(pVertex))
+            return -1;
+        int distance = -1;
+        for(int ignored : pSearch.pathTo(pVertex))
+            ++distance;
+        return distance;
+    }
+
+    /**
+     * Checks that the path goes from the origin to the target along the edges of the graph with the given length.
+     * @param pGraph The graph.
+     * @param pPath The path.
+     * @param pOrigin The origin.
+     * @param pTarget The target.
+     * @param pDistance The expected number of edges.
+     */
+    private static void check(IBasicGraph pGraph, List<Integer> pPath, int pOrigin, int pTarget, int pDistance)
+    {
+        assertEquals("The path should have the distance plus one vertices.", pDistance + 1, pPath.size());
+        assertEquals("The path should start at the origin.", pOrigin, (int) pPath.get(0));
+        assertEquals("The path should end at the target.", pTarget, (int) pPath.get(pPath.size() - 1));
+        for(int i = 1; i < pPath.size(); ++i)
+            assertTrue("The path should follow the edges.", pGraph.adjacent(pPath.get(i - 1)).contains(pPath.get(i)));
+    }
+
+    // Tests
+
+    /**
+     * Tests that the distances and paths are the ones of a BasicBFS for random pairs of vertices.
+     */
+    @Test
+    public void distanceTest()
+    {
+        Random random = new Random(31);
+        BasicBidirectionalBFS search = new BasicBidirectionalBFS(graph);
+        for(int query = 0; query < 40; ++query)
+        {
+            int origin = random.nextInt(20000);
+            BasicBFS bfs = new BasicBFS(graph, origin);
+            for(int pair = 0; pair < 20; ++pair)
+            {
+                int target = random.nextInt(20000), expected = distance(bfs, target);
+                assertEquals("The distance should be the same.", expected, search.distance(origin, target));
+                List<Integer> path = search.shortestPath(origin, target);
+                if(expected < 0)
+                    assertNull("There should be no path.", path);
+                else
+                    check(graph, path, origin, target, expected);
+            }
+        }
+    }
+
+    /**
+     * Tests that a query between adjacent vertices explores a small part of the graph.
+     */
+    @Test
+    public void exploredTest()
+    {
+        BasicBidirectionalBFS search = new BasicBidirectionalBFS(graph);
+        int origin = 0;
+        while(graph.degree(origin) == 0)
+            ++origin;
+        int target = graph.neighbor(origin, 0);
+        assertEquals("The vertices should be adjacent.", origin == target ? 0 : 1, search.distance(origin, target));
+        assertTrue("Few vertices should be explored.", search.explored() < 100);
+        BasicBFS bfs = new BasicBFS(graph, origin);
+        int marked = 0;
+        for(int v = 0; v < graph.V(); ++v)
+        {
+            if(bfs.hasPathTo(v))
+                ++marked;
+        }
+        assertTrue("A BasicBFS should explore many more vertices.", marked > 100 * search.explored());
+    }
+
+    /**
+     * Tests queries from a vertex to itself, to an isolated vertex and with invalid vertices.
+     */
+    @Test
+    public void edgeCasesTest()
+    {
+        BasicBidirectionalBFS search = new BasicBidirectionalBFS(graph);
+        assertEquals("The path to itself should only have the vertex.", List.of(5), search.shortestPath(5, 5));
+        assertEquals("The distance to itself should be 0.", 0, search.distance(5, 5));
+        assertNull("There should be no path to an isolated vertex.", search.shortestPath(5, 19995));
+        assertEquals("The distance to an isolated vertex should be -1.", -1, search.distance(19995, 5));
+        assertNull("There should be no path for invalid vertices.", search.shortestPathChecked(-1, 5));
+        assertNull("There should be no path for invalid vertices.", search.shortestPathChecked(5, 20000));
+    }
+
+    /**
+     * Tests that the search follows the direction of the edges of a directed graph.
+     */
+    @Test
+    public void directedTest()
+    {
+        Random random = new Random(37);
+        BasicDirectedGraph directed = new BasicDirectedGraph(300);
+        for(int i = 0; i < 600; ++i)
+            directed.addEdge(random.nextInt(300), random.nextInt(300));
+        BasicBidirectionalBFS search = new BasicBidirectionalBFS(directed.freeze());
+        for(int origin = 0; origin < 300; origin += 11)
+        {
+            BasicBFS bfs = new BasicBFS(directed, origin);
+            for(int target = 0; target < 300; target += 7)
+            {
+                int expected = distance(bfs, target);
+                assertEquals("The distance should be the same.", expected, search.distance(origin, target));
+                if(expected >= 0)
+                    check(directed, search.shortestPath(origin, target), origin, target, expected);
+            }
+        }
+    }
+
+    /**
+     * Tests the queries over a graph with keys.
+     */
+    @Test
+    public void extendedTest()
+    {
+        UndirectedUnweightedGraph<String> keys = new UndirectedUnweightedGraph<>();
+        for(String key : new String[]{"a", "b", "c", "d", "e", "f"})
+            keys.addVertex(key);
+        keys.addEdge("a", "b");
+        keys.addEdge("b", "c");
+        keys.addEdge("c", "d");
+        keys.addEdge("a", "e");
+        keys.addEdge("e", "d");
+        BidirectionalBFS<String> search = new BidirectionalBFS<>(keys);
+        assertEquals("The path should be the shortest one.", List.of("a", "e", "d"), search.shortestPath("a", "d"));
+        assertEquals("The distance should be 2.", 2, search.distance("d", "a"));
+        assertNull("There should be no path to an isolated vertex.", search.shortestPath("a", "f"));
+        assertEquals("The distance to an isolated vertex should be -1.", -1, search.distance("f", "a"));
+    }
+
+    /**
+     * Tests the queries that reach vertices added to the graph after the search was created.
+     */
+    @Test
+    public void growTest()
+    {
+        BasicBidirectionalBFS search = new BasicBidirectionalBFS(graph);
+        int origin = 0;
+        while(graph.degree(origin) == 0)
+            ++origin;
+        assertEquals("The distance to itself should be 0.", 0, search.distance(origin, origin));
+        int previous = origin;
+        for(int i = 0; i < 15000; ++i)
+        {
+            int vertex = graph.addVertex();
+            graph.addEdge(previous, vertex);
+            previous = vertex;
+        }
+        assertEquals("The new vertices should be reached.", 15000, search.distance(origin, previous));
+        check(graph, search.shortestPath(previous, origin), previous, origin, 15000);
+        assertNull("There should be no path to an isolated vertex.", search.shortestPath(previous, 19995));
+        UndirectedUnweightedGraph<String> keys = new UndirectedUnweightedGraph<>();
+        keys.addVertex("a");
+        BidirectionalBFS<String> keySearch = new BidirectionalBFS<>(keys);
+        assertEquals("The distance to itself should be 0.", 0, keySearch.distance("a", "a"));
+        keys.addVertex("b");
+        keys.addVertex("c");
+        keys.addEdge("a", "b");
+        keys.addEdge("b", "c");
+        assertEquals("The path should go through the new vertices.", List.of("a", "b", "c"), keySearch.shortestPath("a", "c"));
+    }
+}
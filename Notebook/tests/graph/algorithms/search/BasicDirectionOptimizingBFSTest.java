@@ -0,0 +1,153 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.IBasicGraph;
+import graph.directedUnweighted.BasicDirectedGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import org.junit.Before;
+import org.junit.Test;
+import util.BasicSearch;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the BasicDirectionOptimizingBFS class.
+ */
+public class BasicDirectionOptimizingBFSTest
+{
+    // Attributes
+
+    /**
+     * A random graph of 2000 vertices with a few hubs and some isolated vertices.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    // Setups
+
+    /**
+     * Initializes the random graph, in which most edges reach one of the first 20 vertices.
+     */
+    @Before
+    public void setup()
+    {
+        Random random = new Random(5);
+        graph = new BasicUndirectedUnweightedALGraph(2000);
+        for(int i = 0; i < 6000; ++i)
+        {
+            int v = random.nextInt(1950);
+            int u = random.nextInt(4) == 0 ? random.nextInt(1950) : random.nextInt(20);
+            graph.addEdge(v, u);
+        }
+    }
+
+    /**
+     * @param pSearch The search.
+     * @param pVertex The vertex.
+     * @return The number of edges of the path from the origin to the vertex, -1 if there's no path.
+     */
+    private static int distance(BasicSearch pSearch, int pVertex)
+    {
+        if(!pSearch.hasPathTo(pVertex))
+            return -1;
+        int distance = -1;
+        for(int ignored : pSearch.pathTo(pVertex))
+            ++distance;
+        return distance;
+    }
+
+    /**
+     * Checks that both searches reach the same vertices at the same distances, and that the path of the direction
+     * optimizing search follows the edges of the graph.
+     * @param pGraph The graph.
+     * @param pOrigin The origin of the searches.
+     * @param pSearch The direction optimizing search.
+     */
+    private static void check(IBasicGraph pGraph, int pOrigin, BasicDirectionOptimizingBFS pSearch)
+    {
+        BasicBFS bfs = new BasicBFS(pGraph, pOrigin);
+        int levels = 0;
+        for(int v = 0; v < pGraph.V(); ++v)
+        {
+            int distance = distance(bfs, v);
+            assertEquals("The distances should be the same.", distance, distance(pSearch, v));
+            levels = Math.max(levels, distance + 1);
+            Integer previous = null;
+            if(distance > 0)
+            {
+                for(int vertex : pSearch.pathTo(v))
+                {
+                    // The path goes from the vertex back to the origin.
+                    if(previous != null)
+                        assertTrue("The path should follow the edges.", pGraph.adjacent(vertex).contains(previous));
+                    previous = vertex;
+                }
+            }
+        }
+        assertEquals("The number of levels should be correct.", levels, pSearch.levels());
+    }
+
+    // Tests
+
+    /**
+     * Tests that the search from a hub and from a leaf gives the distances of a BasicBFS and goes bottom-up.
+     */
+    @Test
+    public void undirectedTest()
+    {
+        for(int origin : new int[]{0, 1949, 1999})
+        {
+            BasicDirectionOptimizingBFS search = new BasicDirectionOptimizingBFS(graph, origin);
+            check(graph, origin, search);
+        }
+        assertTrue("A level should be expanded bottom-up.", new BasicDirectionOptimizingBFS(graph, 0).bottomUpLevels() > 0);
+    }
+
+    /**
+     * Tests that the search is the same in a single direction and when it always goes bottom-up.
+     */
+    @Test
+    public void directionsTest()
+    {
+        BasicDirectionOptimizingBFS topDown = new BasicDirectionOptimizingBFS(graph, 3, 0, 1);
+        assertEquals("No level should be expanded bottom-up.", 0, topDown.bottomUpLevels());
+        check(graph, 3, topDown);
+        BasicDirectionOptimizingBFS bottomUp = new BasicDirectionOptimizingBFS(graph, 3, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertEquals("Every level should be expanded bottom-up.", bottomUp.levels(), bottomUp.bottomUpLevels());
+        check(graph, 3, bottomUp);
+    }
+
+    /**
+     * Tests that the search follows the direction of the edges of a directed graph.
+     */
+    @Test
+    public void directedTest()
+    {
+        Random random = new Random(9);
+        BasicDirectedGraph directed = new BasicDirectedGraph(500);
+        for(int i = 0; i < 3000; ++i)
+            directed.addEdge(random.nextInt(500), random.nextInt(10));
+        for(int i = 0; i < 400; ++i)
+            directed.addEdge(random.nextInt(10), random.nextInt(500));
+        for(int origin : new int[]{0, 250})
+        {
+            check(directed, origin, new BasicDirectionOptimizingBFS(directed, origin));
+            check(directed, origin, new BasicDirectionOptimizingBFS(directed, origin, Integer.MAX_VALUE, Integer.MAX_VALUE));
+            check(directed.freeze(), origin, new BasicDirectionOptimizingBFS(directed.freeze(), origin, Integer.MAX_VALUE, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Tests a path, whose levels have a single vertex.
+     */
+    @Test
+    public void pathTest()
+    {
+        BasicUndirectedUnweightedALGraph path = new BasicUndirectedUnweightedALGraph(300);
+        for(int v = 1; v < 300; ++v)
+            path.addEdge(v - 1, v);
+        BasicDirectionOptimizingBFS search = new BasicDirectionOptimizingBFS(path, 150);
+        check(path, 150, search);
+        assertEquals("There should be 151 levels.", 151, search.levels());
+    }
+}
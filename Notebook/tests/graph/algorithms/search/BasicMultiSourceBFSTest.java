@@ -0,0 +1,159 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.concurrent.ForkJoinPool;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the BasicMultiSourceBFS class.
+ */
+public class BasicMultiSourceBFSTest
+{
+    // Attributes
+
+    /**
+     * A random graph of 400 vertices with several components.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    /**
+     * 150 sources, some repeated, so that they fill more than two batches of 64.
+     */
+    private int[] sources;
+
+    // Setups
+
+    /**
+     * Initializes the random graph and the sources.
+     */
+    @Before
+    public void setup()
+    {
+        Random random = new Random(17);
+        graph = new BasicUndirectedUnweightedALGraph(400);
+        for(int i = 0; i < 500; ++i)
+        {
+            int v = random.nextInt(400);
+            graph.addEdge(v, (v + random.nextInt(40)) % 400);
+        }
+        for(int i = 0; i < 20; ++i)
+        {
+            int v = random.nextInt(400);
+            graph.addEdge(v, (v + 200 + random.nextInt(5)) % 400);
+        }
+        sources = new int[150];
+        for(int i = 0; i < sources.length; ++i)
+            sources[i] = i < 140 ? random.nextInt(400) : sources[i - 140];
+    }
+
+    /**
+     * @param pOrigin The origin.
+     * @return The distance of each vertex from the origin with a BasicBFS, or -1 if it isn't reachable.
+     */
+    private int[] expected(int pOrigin)
+    {
+        BasicBFS bfs = new BasicBFS(graph, pOrigin);
+        int[] distances = new int[graph.V()];
+        for(int v = 0; v < graph.V(); ++v)
+        {
+            distances[v] = -1;
+            if(bfs.hasPathTo(v))
+            {
+                for(int ignored : bfs.pathTo(v))
+                    ++distances[v];
+            }
+        }
+        return distances;
+    }
+
+    // Tests
+
+    /**
+     * Tests that the distances and their aggregates are the ones of a BasicBFS from each source, for several
+     * numbers of words.
+     */
+    @Test
+    public void distancesTest()
+    {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        for(int words : new int[]{1, 2, 3})
+        {
+            BasicMultiSourceBFS search = new BasicMultiSourceBFS(graph, sources, words, true, pool);
+            assertEquals("There should be a search per source.", sources.length, search.size());
+            for(int s = 0; s < sources.length; ++s)
+            {
+                int[] expected = expected(sources[s]);
+                assertEquals("The source should be kept.", sources[s], search.source(s));
+                assertArrayEquals("The distances should be the same.", expected, search.distances(s));
+                long sum = 0;
+                int reached = 0, eccentricity = 0;
+                for(int distance : expected)
+                {
+                    if(distance >= 0)
+                    {
+                        sum += distance;
+                        ++reached;
+                        eccentricity = Math.max(eccentricity, distance);
+                    }
+                }
+                assertEquals("The sum of the distances should be correct.", sum, search.distanceSum(s));
+                assertEquals("The reached vertices should be correct.", reached, search.reached(s));
+                assertEquals("The eccentricity should be correct.", eccentricity, search.eccentricity(s));
+            }
+        }
+    }
+
+    /**
+     * Tests the search without distances and the closeness.
+     */
+    @Test
+    public void aggregateTest()
+    {
+        BasicMultiSourceBFS search = new BasicMultiSourceBFS(graph, sources);
+        BasicMultiSourceBFS kept = new BasicMultiSourceBFS(graph, sources, 1, true, ForkJoinPool.commonPool());
+        for(int s = 0; s < sources.length; ++s)
+        {
+            assertNull("The distances shouldn't be kept.", search.distances(s));
+            assertEquals("The sums should be the same.", kept.distanceSum(s), search.distanceSum(s));
+            double closeness = search.distanceSum(s) == 0 ? 0 : (search.reached(s) - 1) / (double) search.distanceSum(s);
+            assertEquals("The closeness should be correct.", closeness, search.closeness(s), 1e-12);
+        }
+    }
+
+    /**
+     * Tests a search without sources and an isolated source.
+     */
+    @Test
+    public void edgeCasesTest()
+    {
+        assertEquals("There should be no searches.", 0, new BasicMultiSourceBFS(graph, new int[0]).size());
+        BasicUndirectedUnweightedALGraph isolated = new BasicUndirectedUnweightedALGraph(3);
+        BasicMultiSourceBFS search = new BasicMultiSourceBFS(isolated, new int[]{1});
+        assertEquals("Only the source should be reached.", 1, search.reached(0));
+        assertEquals("The closeness should be 0.", 0, search.closeness(0), 0);
+    }
+
+    /**
+     * Tests that the number of words is validated.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void wordsTest()
+    { new BasicMultiSourceBFS(graph, sources, 0, false, ForkJoinPool.commonPool()); }
+
+    /**
+     * Tests that a graph whose arrays of V times the number of words would overflow an int results in an
+     * IllegalArgumentException instead of arrays that are too small.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void overflowTest()
+    {
+        BasicUndirectedUnweightedCSRGraph empty = new BasicUndirectedUnweightedCSRGraph(new int[(1 << 20) + 1], new int[0], 0, true);
+        new BasicMultiSourceBFS(empty, new int[]{0}, 1 << 12, false, ForkJoinPool.commonPool());
+    }
+}
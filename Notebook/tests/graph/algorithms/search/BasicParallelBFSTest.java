@@ -0,0 +1,126 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.concurrent.ForkJoinPool;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the BasicParallelBFS class.
+ */
+public class BasicParallelBFSTest
+{
+    // Attributes
+
+    /**
+     * A random graph of 20000 vertices with a hub joined to half of the vertices and some isolated vertices.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    /**
+     * The pool of the searches.
+     */
+    private ForkJoinPool pool;
+
+    // Setups
+
+    /**
+     * Initializes the random graph and a pool of four workers.
+     */
+    @Before
+    public void setup()
+    {
+        Random random = new Random(13);
+        graph = new BasicUndirectedUnweightedALGraph(20000);
+        for(int i = 0; i < 30000; ++i)
+            graph.addEdge(random.nextInt(19900), random.nextInt(19900));
+        for(int v = 1; v < 19900; v += 2)
+            graph.addEdge(0, v);
+        pool = new ForkJoinPool(4);
+    }
+
+    /**
+     * @param pOrigin The origin.
+     * @return The distance of each vertex from the origin with a sequential search, or -1 if it isn't reachable.
+     */
+    private int[] expected(int pOrigin)
+    {
+        BasicBFS bfs = new BasicBFS(graph, pOrigin);
+        int[] distances = new int[graph.V()];
+        for(int v = 0; v < graph.V(); ++v)
+        {
+            distances[v] = -1;
+            if(bfs.hasPathTo(v))
+            {
+                for(int ignored : bfs.pathTo(v))
+                    ++distances[v];
+            }
+        }
+        return distances;
+    }
+
+    // Tests
+
+    /**
+     * Tests that the distances are the ones of a BasicBFS and that every parent is an adjacent vertex one level closer.
+     */
+    @Test
+    public void distanceTest()
+    {
+        for(int origin : new int[]{0, 2, 19950})
+        {
+            int[] expected = expected(origin);
+            BasicParallelBFS search = new BasicParallelBFS(graph, origin, pool);
+            assertArrayEquals("The distances should be the same.", expected, search.distances());
+            for(int v = 0; v < graph.V(); ++v)
+            {
+                assertEquals("The reachable vertices should be the same.", expected[v] >= 0, search.hasPathTo(v));
+                if(expected[v] > 0)
+                {
+                    int parent = search.parent(v);
+                    assertEquals("The parent should be one level closer.", expected[v] - 1, search.distTo(parent));
+                    assertTrue("The parent should be adjacent.", graph.adjacent(v).contains(parent));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the paths reach the origin and have as many vertices as the distance plus one.
+     */
+    @Test
+    public void pathTest()
+    {
+        BasicParallelBFS search = new BasicParallelBFS(graph, 2);
+        for(int v = 0; v < graph.V(); v += 97)
+        {
+            if(!search.hasPathTo(v))
+                continue;
+            int length = 0, last = -1;
+            for(int vertex : search.pathTo(v))
+            {
+                last = vertex;
+                ++length;
+            }
+            assertEquals("The path should end at the origin.", 2, last);
+            assertEquals("The path should have the distance plus one vertices.", search.distTo(v) + 1, length);
+        }
+    }
+
+    /**
+     * Tests a search from an isolated vertex and over a single vertex graph.
+     */
+    @Test
+    public void isolatedTest()
+    {
+        BasicParallelBFS search = new BasicParallelBFS(graph, 19999, pool);
+        assertEquals("The origin should be at distance 0.", 0, search.distTo(19999));
+        assertEquals("No other vertex should be reached.", -1, search.distTo(0));
+        search = new BasicParallelBFS(new BasicUndirectedUnweightedALGraph(1), 0, pool);
+        assertTrue("The origin should be reached.", search.hasPathTo(0));
+    }
+}
@@ -0,0 +1,199 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.algorithms.misc.BasicIsAcyclic;
+import graph.algorithms.misc.BasicTwoColor;
+import graph.algorithms.misc.IsAcyclic;
+import graph.algorithms.misc.TwoColor;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.UndirectedUnweightedGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the IterativeDFS class and the algorithms built on it.
+ */
+public class IterativeDFSTest
+{
+    // Constants
+
+    /**
+     * The number of vertices of the path, far beyond the depth a recursive search reaches.
+     */
+    private static final int PATH = 1000000;
+
+    // Attributes
+
+    /**
+     * A random graph with repeated edges and self-cycles.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    /**
+     * The order in which a recursive search marks the vertices.
+     */
+    private List<Integer> preorder;
+
+    /**
+     * The order in which a recursive search finishes the vertices.
+     */
+    private List<Integer> postorder;
+
+    // Setups
+
+    /**
+     * Initializes a random graph of 100 vertices and the orders of a recursive search over it.
+     */
+    @Before
+    public void setup()
+    {
+        Random random = new Random(3);
+        graph = new BasicUndirectedUnweightedALGraph(100);
+        for(int i = 0; i < 150; ++i)
+            graph.addEdge(random.nextInt(100), random.nextInt(100));
+        preorder = new ArrayList<>();
+        postorder = new ArrayList<>();
+        boolean[] marked = new boolean[100];
+        for(int v = 0; v < 100; ++v)
+        {
+            if(!marked[v])
+                recursive(v, marked);
+        }
+    }
+
+    /**
+     * Recursive search used as reference.
+     * @param pVertex The current vertex.
+     * @param pMarked The marked vertices.
+     */
+    private void recursive(int pVertex, boolean[] pMarked)
+    {
+        pMarked[pVertex] = true;
+        preorder.add(pVertex);
+        for(int i = 0; i < graph.degree(pVertex); ++i)
+        {
+            int adjacent = graph.neighbor(pVertex, i);
+            if(!pMarked[adjacent])
+                recursive(adjacent, pMarked);
+        }
+        postorder.add(pVertex);
+    }
+
+    /**
+     * @return A path of PATH vertices.
+     */
+    private static BasicUndirectedUnweightedALGraph path()
+    {
+        BasicUndirectedUnweightedALGraph path = new BasicUndirectedUnweightedALGraph(PATH);
+        for(int v = 1; v < PATH; ++v)
+            path.addEdge(v - 1, v);
+        return path;
+    }
+
+    // Tests
+
+    /**
+     * Tests that the hooks are called in the same order as in a recursive search.
+     */
+    @Test
+    public void orderTest()
+    {
+        List<Integer> pre = new ArrayList<>(), post = new ArrayList<>();
+        boolean[] marked = new boolean[100];
+        boolean ended = new IterativeDFS(graph).searchAll(marked, new IterativeDFS.Visitor()
+        {
+            public boolean preorder(int pVertex, int pParent)
+            {
+                assertTrue("The parent should be marked.", marked[pParent]);
+                return pre.add(pVertex);
+            }
+
+            public boolean postorder(int pVertex, int pParent)
+            { return post.add(pVertex); }
+        });
+        assertTrue("The search should end.", ended);
+        assertEquals("The preorder should be the same.", preorder, pre);
+        assertEquals("The postorder should be the same.", postorder, post);
+    }
+
+    /**
+     * Tests that the visitor stops the search.
+     */
+    @Test
+    public void stopTest()
+    {
+        List<Integer> pre = new ArrayList<>();
+        boolean ended = new IterativeDFS(graph).searchAll(new boolean[100], new IterativeDFS.Visitor()
+        {
+            public boolean preorder(int pVertex, int pParent)
+            { return pre.add(pVertex) && pre.size() < 10; }
+        });
+        assertFalse("The search should be stopped.", ended);
+        assertEquals("The search should stop at the tenth vertex.", preorder.subList(0, 10), pre);
+    }
+
+    /**
+     * Tests the algorithms over a path too long for a recursive search.
+     */
+    @Test
+    public void pathTest()
+    {
+        BasicUndirectedUnweightedALGraph path = path();
+        BasicDFS dfs = new BasicDFS(path, 0);
+        assertTrue("The end of the path should be reached.", dfs.hasPathTo(PATH - 1));
+        int length = 0;
+        for(int ignored : dfs.pathTo(PATH - 1))
+            ++length;
+        assertEquals("The path should go through every vertex.", PATH, length);
+        assertTrue("The path should be acyclic.", new BasicIsAcyclic(path).isAcyclic());
+        BasicTwoColor twoColor = new BasicTwoColor(path, PATH / 2);
+        assertTrue("The path should be two-colorable.", twoColor.isTwoColorable());
+        assertEquals("The colors should alternate.", twoColor.getColorNum()[0], twoColor.getColorNum()[PATH - 1] ^ 1);
+        path.addEdge(0, PATH - 1);
+        assertFalse("The cycle should be found.", new BasicIsAcyclic(path, 7).isAcyclic());
+        assertTrue("The even cycle should be two-colorable.", new BasicTwoColor(path).isTwoColorable());
+    }
+
+    /**
+     * Tests the algorithms over a long path of a graph with keys.
+     */
+    @Test
+    public void extendedTest()
+    {
+        int n = PATH / 10;
+        UndirectedUnweightedGraph<Integer> path = new UndirectedUnweightedGraph<>(n);
+        for(int v = 0; v < n; ++v)
+            path.addVertex(v);
+        for(int v = 1; v < n; ++v)
+            path.addEdge(v - 1, v);
+        DFS<Integer> dfs = new DFS<>(path, 0);
+        assertTrue("The end of the path should be reached.", dfs.hasPathTo(n - 1));
+        assertTrue("The path should be acyclic.", new IsAcyclic<>(path).isAcyclic());
+        TwoColor<Integer> twoColor = new TwoColor<>(path, 0);
+        assertTrue("The path should be two-colorable.", twoColor.isTwoColorable());
+        assertEquals("The colors should alternate.", Integer.valueOf(1), twoColor.getColorNum().get(n - 1));
+        path.addEdge(0, 2);
+        assertFalse("The cycle should be found.", new IsAcyclic<>(path, 0).isAcyclic());
+        assertFalse("The odd cycle shouldn't be two-colorable.", new TwoColor<>(path).isTwoColorable());
+    }
+
+    /**
+     * Tests the cycles allowed and found by the acyclic check.
+     */
+    @Test
+    public void acyclicTest()
+    {
+        BasicUndirectedUnweightedALGraph tree = new BasicUndirectedUnweightedALGraph(4);
+        tree.addEdge(0, 1);
+        tree.addEdge(1, 2);
+        tree.addEdge(1, 3);
+        assertTrue("The tree should be acyclic.", new BasicIsAcyclic(tree).isAcyclic());
+        tree.addEdge(3, 3);
+        assertFalse("The self-cycle should be found.", new BasicIsAcyclic(tree).isAcyclic());
+    }
+}
@@ -0,0 +1,307 @@
+// @formatter:off
+
+package graph.algorithms.search;
+
+import graph.BasicInducedSubgraph;
+import graph.IBasicGraph;
+import graph.directedUnweighted.BasicDirectedGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedAMGraph;
+import graph.undirectedUnweighted.ConcurrentBasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.UndirectedUnweightedGraph;
+import org.junit.Before;
+import org.junit.Test;
+import util.BasicSearch;
+import java.util.BitSet;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the SearchCache class and the versions of the graphs.
+ */
+public class SearchCacheTest
+{
+    // Attributes
+
+    /**
+     * A random graph of 2000 vertices with several components.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    // Setups
+
+    /**
+     * Initializes the random graph.
+     */
+    @Before
+    public void setup()
+    {
+        Random random = new Random(41);
+        graph = new BasicUndirectedUnweightedALGraph(2000);
+        for(int i = 0; i < 1500; ++i)
+            graph.addEdge(random.nextInt(2000), random.nextInt(2000));
+    }
+
+    /**
+     * @param pSearch The search.
+     * @param pVertex The vertex.
+     * @return The number of edges of the path from the origin of the search to the vertex, -1 if there's no path.
+     */
+    private static int distance(BasicSearch pSearch, int pVertex)
+    {
+        if(!pSearch.hasPathTo(pVertex))
+            return -1;
+        int distance = -1;
+        for(int ignored : pSearch.pathTo(pVertex))
+            ++distance;
+        return distance;
+    }
+
+    /**
+     * Checks that the paths of the cached search follow the edges of the graph and reach the same vertices as a new
+     * search, with the same distances if the search is a breath first search.
+     * @param pGraph The graph.
+     * @param pCache The cache.
+     * @param pAlgorithm The algorithm of the search.
+     * @param pOrigin The origin of the search.
+     */
+    private static void check(IBasicGraph pGraph, SearchCache pCache, SearchCache.Algorithm pAlgorithm, int pOrigin)
+    {
+        BasicSearch cached = pCache.search(pAlgorithm, pOrigin);
+        BasicBFS bfs = new BasicBFS(pGraph, pOrigin);
+        for(int v = 0; v < pGraph.V(); ++v)
+        {
+            assertEquals("The reachable vertices should be the same.", bfs.hasPathTo(v), cached.hasPathTo(v));
+            if(pAlgorithm == SearchCache.Algorithm.BFS)
+            {
+                assertEquals("The distances should be the same.", distance(bfs, v), distance(cached, v));
+                assertEquals("The distances should be the same.", distance(bfs, v), pCache.distTo(pOrigin, v));
+            }
+            if(!cached.hasPathTo(v))
+                continue;
+            // The path is iterated from the vertex back to the origin.
+            int previous = -1;
+            for(int vertex : cached.pathTo(v))
+            {
+                if(previous >= 0)
+                    assertTrue("The path should follow the edges.", pGraph.adjacent(vertex).contains(previous));
+                previous = vertex;
+            }
+            assertEquals("The path should start at the origin.", pOrigin, previous);
+        }
+    }
+
+    // Tests
+
+    /**
+     * Tests that the versions of the graphs change with every modification and only with them.
+     */
+    @Test
+    public void versionTest()
+    {
+        long version = graph.version();
+        graph.addEdge(0, 1);
+        assertEquals("Adding an edge should change the version.", version + 1, graph.version());
+        graph.addEdgeChecked(0, 1);
+        assertEquals("Adding an existing edge shouldn't change the version.", version + 1, graph.version());
+        graph.removeEdge(0, 1);
+        graph.addVertex();
+        assertEquals("Removing an edge and adding a vertex should change the version.", version + 3, graph.version());
+        graph.ensureCapacity(5000);
+        BasicUndirectedUnweightedALGraph snapshot = graph.snapshot();
+        assertEquals("Growing the graph or taking a snapshot shouldn't change the version.", version + 3, graph.version());
+        assertEquals("The snapshot should have the version of the graph.", version + 3, snapshot.version());
+        snapshot.addEdge(0, 1);
+        assertEquals("Modifying the snapshot should only change its version.", version + 4, snapshot.version());
+        assertEquals("Modifying the snapshot should only change its version.", version + 3, graph.version());
+        BasicUndirectedUnweightedAMGraph matrix = new BasicUndirectedUnweightedAMGraph(3);
+        matrix.addEdge(0, 1);
+        assertEquals("The snapshot should have the version of the graph.", 1, matrix.snapshot().version());
+        BasicInducedSubgraph subgraph = new BasicInducedSubgraph(graph, new BitSet());
+        assertEquals("The subgraph should have the version of the graph.", graph.version(), subgraph.version());
+        assertEquals("A frozen graph should have version 0.", 0, new BasicDirectedGraph(3).freeze().version());
+        BasicDirectedGraph directed = new BasicDirectedGraph(3);
+        directed.addEdge(0, 1);
+        directed.addVertex();
+        assertEquals("Directed graphs should have a version.", 2, directed.version());
+        ConcurrentBasicUndirectedUnweightedALGraph concurrent = new ConcurrentBasicUndirectedUnweightedALGraph(3);
+        concurrent.addEdge(0, 1);
+        concurrent.addEdgeChecked(1, 0);
+        assertEquals("Concurrent graphs should have a version.", 1, concurrent.version());
+        UndirectedUnweightedGraph<String> keys = new UndirectedUnweightedGraph<>();
+        keys.addVertex("a");
+        keys.addVertex("b");
+        keys.addEdge("a", "b");
+        keys.removeEdge("a", "b");
+        assertEquals("Graphs with keys should have a version.", 4, keys.version());
+        assertEquals("The snapshot should have the version of the graph.", 4, keys.snapshot().version());
+    }
+
+    /**
+     * Tests that the searches are answered from the cache while the graph doesn't change.
+     */
+    @Test
+    public void hitTest()
+    {
+        SearchCache cache = new SearchCache(graph, 1 << 20);
+        for(int origin = 0; origin < 2000; origin += 97)
+        {
+            check(graph, cache, SearchCache.Algorithm.BFS, origin);
+            check(graph, cache, SearchCache.Algorithm.DFS, origin);
+        }
+        long misses = cache.misses();
+        BasicSearch search = cache.search(SearchCache.Algorithm.BFS, 97);
+        assertTrue("The result should be cached.", search == cache.search(SearchCache.Algorithm.BFS, 97));
+        assertEquals("No search should be computed.", misses, cache.misses());
+        assertTrue("The searches should be answered from the cache.", cache.hits() > 0);
+        assertNull("There should be no search from an invalid vertex.", cache.searchChecked(SearchCache.Algorithm.DFS, 2000));
+    }
+
+    /**
+     * Tests that the results are computed again after the graph changes.
+     */
+    @Test
+    public void invalidationTest()
+    {
+        SearchCache cache = new SearchCache(graph, 1 << 20);
+        int origin = 0;
+        while(graph.degree(origin) == 0)
+            ++origin;
+        BasicSearch search = cache.search(SearchCache.Algorithm.BFS, origin);
+        graph.removeEdge(origin, graph.neighbor(origin, 0));
+        assertTrue("The result should be computed again.", search != cache.search(SearchCache.Algorithm.BFS, origin));
+        assertEquals("Both searches should be computed.", 2, cache.misses());
+        assertEquals("The stale result should be dropped.", 1, cache.size());
+        check(graph, cache, SearchCache.Algorithm.BFS, origin);
+    }
+
+    /**
+     * Tests that the results are patched when single edges are added, without computing them again.
+     */
+    @Test
+    public void patchTest()
+    {
+        SearchCache cache = new SearchCache(graph, 1 << 22);
+        for(int origin = 0; origin < 2000; origin += 199)
+        {
+            cache.search(SearchCache.Algorithm.BFS, origin);
+            cache.search(SearchCache.Algorithm.DFS, origin);
+        }
+        long misses = cache.misses();
+        Random random = new Random(43);
+        for(int i = 0; i < 300; ++i)
+        {
+            int vertex1 = random.nextInt(2000), vertex2 = random.nextInt(2000);
+            graph.addEdge(vertex1, vertex2);
+            cache.edgeAdded(vertex1, vertex2);
+        }
+        for(int origin = 0; origin < 2000; origin += 199)
+        {
+            check(graph, cache, SearchCache.Algorithm.BFS, origin);
+            check(graph, cache, SearchCache.Algorithm.DFS, origin);
+        }
+        assertEquals("No search should be computed again.", misses, cache.misses());
+    }
+
+    /**
+     * Tests that the results returned before a patch aren't modified by it, while the cache returns the patched ones.
+     */
+    @Test
+    public void immutableTest()
+    {
+        SearchCache cache = new SearchCache(graph, 1 << 20);
+        int origin = 0;
+        while(graph.degree(origin) == 0)
+            ++origin;
+        BasicSearch bfs = cache.search(SearchCache.Algorithm.BFS, origin);
+        BasicSearch dfs = cache.search(SearchCache.Algorithm.DFS, origin);
+        // The search from another component doesn't reach the new edge.
+        int far = 0;
+        while(bfs.hasPathTo(far))
+            ++far;
+        BasicSearch other = cache.search(SearchCache.Algorithm.BFS, far);
+        int unreached = 0;
+        while(bfs.hasPathTo(unreached) || other.hasPathTo(unreached))
+            ++unreached;
+        graph.addEdge(origin, unreached);
+        cache.edgeAdded(origin, unreached);
+        assertFalse("The returned result shouldn't change.", bfs.hasPathTo(unreached));
+        assertFalse("The returned result shouldn't change.", dfs.hasPathTo(unreached));
+        assertTrue("The cached result should be patched.", cache.search(SearchCache.Algorithm.BFS, origin).hasPathTo(unreached));
+        assertTrue("The cached result should be patched.", cache.search(SearchCache.Algorithm.DFS, origin).hasPathTo(unreached));
+        assertEquals("The patched distance should be 1.", 1, cache.distTo(origin, unreached));
+        assertTrue("A result that doesn't change should be kept.", other == cache.search(SearchCache.Algorithm.BFS, far));
+        assertEquals("No search should be computed again.", 3, cache.misses());
+    }
+
+    /**
+     * Tests that the results over a directed graph are patched following the direction of the new edges.
+     */
+    @Test
+    public void directedTest()
+    {
+        Random random = new Random(47);
+        BasicDirectedGraph directed = new BasicDirectedGraph(400);
+        for(int i = 0; i < 300; ++i)
+            directed.addEdge(random.nextInt(400), random.nextInt(400));
+        SearchCache cache = new SearchCache(directed, 1 << 20);
+        for(int origin = 0; origin < 400; origin += 37)
+        {
+            cache.search(SearchCache.Algorithm.BFS, origin);
+            cache.search(SearchCache.Algorithm.DFS, origin);
+        }
+        long misses = cache.misses();
+        for(int i = 0; i < 200; ++i)
+        {
+            int tail = random.nextInt(400), head = random.nextInt(400);
+            directed.addEdge(tail, head);
+            cache.edgeAdded(tail, head);
+        }
+        for(int origin = 0; origin < 400; origin += 37)
+        {
+            check(directed, cache, SearchCache.Algorithm.BFS, origin);
+            check(directed, cache, SearchCache.Algorithm.DFS, origin);
+        }
+        assertEquals("No search should be computed again.", misses, cache.misses());
+    }
+
+    /**
+     * Tests that the results of older versions are dropped when an edge is added, since they can't be patched.
+     */
+    @Test
+    public void stalePatchTest()
+    {
+        SearchCache cache = new SearchCache(graph, 1 << 20);
+        cache.search(SearchCache.Algorithm.BFS, 0);
+        graph.addVertex();
+        graph.addEdge(0, 2000);
+        cache.edgeAdded(0, 2000);
+        assertEquals("The stale result should be dropped.", 0, cache.size());
+        assertEquals("The stale result should be dropped.", 0, cache.bytes());
+        check(graph, cache, SearchCache.Algorithm.BFS, 0);
+    }
+
+    /**
+     * Tests that the least recently used results are evicted to keep the cache within its capacity.
+     */
+    @Test
+    public void evictionTest()
+    {
+        SearchCache cache = new SearchCache(graph, 2 * (160 + 9 * 2000));
+        BasicSearch first = cache.search(SearchCache.Algorithm.BFS, 0);
+        cache.search(SearchCache.Algorithm.BFS, 1);
+        cache.search(SearchCache.Algorithm.BFS, 0);
+        cache.search(SearchCache.Algorithm.BFS, 2);
+        assertEquals("Only two results should fit.", 2, cache.size());
+        assertTrue("The bytes should be within the capacity.", cache.bytes() <= cache.capacity());
+        assertTrue("The recently used result should be kept.", first == cache.search(SearchCache.Algorithm.BFS, 0));
+        long misses = cache.misses();
+        cache.search(SearchCache.Algorithm.BFS, 1);
+        assertEquals("The least recently used result should be evicted.", misses + 1, cache.misses());
+        SearchCache small = new SearchCache(graph, 1000);
+        check(graph, small, SearchCache.Algorithm.DFS, 0);
+        assertEquals("A result larger than the capacity shouldn't be cached.", 0, small.size());
+        cache.clear();
+        assertEquals("The cache should be empty.", 0, cache.bytes());
+    }
+}
@@ -0,0 +1,198 @@
+// @formatter:off
+
+package graph.directedUnweighted;
+
+import graph.IDirectedGraph;
+import graph.algorithms.misc.BasicIsAcyclic;
+import graph.algorithms.misc.BasicTriangles;
+import graph.algorithms.misc.BasicTwoColor;
+import graph.algorithms.search.BasicBFS;
+import graph.algorithms.search.BasicDFS;
+import graph.algorithms.search.BasicReverseBFS;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the BasicDirectedGraph and BasicDirectedCSRGraph classes.
+ */
+public class BasicDirectedGraphTest
+{
+    // Attributes
+
+    /**
+     * The graph.
+     */
+    private BasicDirectedGraph graph;
+
+    // Setups
+
+    /**
+     * Initializes a graph of 6 vertices with the edges 0->1, 1->2, 2->0, 2->3 and 4->3, and the vertex 5 isolated.
+     */
+    @Before
+    public void setup()
+    {
+        graph = new BasicDirectedGraph(6);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 0);
+        graph.addEdge(2, 3);
+        graph.addEdge(4, 3);
+    }
+
+    // Tests
+
+    /**
+     * Tests that edges are stored in their direction, both in the mutable and the frozen graph.
+     */
+    @Test
+    public void edgeTest()
+    {
+        for(IDirectedGraph directed : new IDirectedGraph[] {graph, graph.freeze()})
+        {
+            assertEquals("The number of vertices should be 6.", 6, directed.V());
+            assertEquals("The number of edges should be 5.", 5, directed.E());
+            assertEquals("The out degree should be 2.", 2, directed.outDegree(2));
+            assertEquals("The in degree should be 2.", 2, directed.inDegree(3));
+            assertEquals("The out degree should be 0.", 0, directed.outDegree(3));
+            assertEquals("The adjacent vertices should be the heads.", Arrays.asList(0, 3), sorted(directed.adjacent(2)));
+            assertEquals("The incoming vertices should be the tails.", Arrays.asList(2, 4), sorted(directed.incoming(3)));
+            assertEquals("The incoming vertex should be the tail.", 1, directed.inNeighbor(2, 0));
+            assertEquals("The adjacent vertex should be the head.", 2, directed.outNeighbor(1, 0));
+            assertEquals("There should be 6 collections.", 6, directed.adjacent().length);
+        }
+        BasicDirectedCSRGraph frozen = graph.freeze();
+        assertTrue("There should be an edge.", graph.hasEdge(4, 3));
+        assertFalse("There shouldn't be an edge.", graph.hasEdge(3, 4));
+        assertTrue("There should be an edge.", frozen.hasEdge(4, 3));
+        assertFalse("There shouldn't be an edge.", frozen.hasEdge(3, 4));
+        assertNull("The result should be null.", frozen.hasEdgeChecked(6, 0));
+        assertNull("The collection should be null.", graph.adjacentChecked(-1));
+        assertNull("The collection should be null.", frozen.incomingChecked(6));
+        // The frozen graph doesn't change with the original graph.
+        graph.addEdge(3, 4);
+        assertEquals("The number of edges should be 5.", 5, frozen.E());
+        assertFalse("There shouldn't be an edge.", frozen.hasEdge(3, 4));
+    }
+
+    /**
+     * Tests the checked methods and the addition of vertices.
+     */
+    @Test
+    public void checkedTest()
+    {
+        graph.addEdgeChecked(0, 1);
+        graph.addEdgeChecked(5, 5);
+        graph.addEdgeChecked(6, 0);
+        assertEquals("The number of edges should be 5.", 5, graph.E());
+        graph.addEdgeChecked(1, 0);
+        assertEquals("The number of edges should be 6.", 6, graph.E());
+        assertNull("The result should be null.", graph.hasEdgeChecked(0, 6));
+        assertEquals("The new vertex should be 6.", 6, graph.addVertex());
+        graph.addEdgeChecked(6, 5);
+        assertEquals("The number of vertices should be 7.", 7, graph.V());
+        assertTrue("There should be an edge.", graph.hasEdgeChecked(6, 5));
+        assertEquals("The incoming vertices should be the tails.", Arrays.asList(6), sorted(graph.incoming(5)));
+        BasicDirectedGraph copy = new BasicDirectedGraph(graph);
+        copy.addEdge(5, 6);
+        assertFalse("The copy shouldn't change the graph.", graph.hasEdge(5, 6));
+    }
+
+    /**
+     * Tests that the searches follow the edges forwards and backwards.
+     */
+    @Test
+    public void searchTest()
+    {
+        BasicDirectedCSRGraph frozen = graph.freeze();
+        BasicBFS bfs = new BasicBFS(frozen, 0);
+        BasicDFS dfs = new BasicDFS(graph, 0);
+        BasicReverseBFS reverse = new BasicReverseBFS(frozen, 3);
+        boolean[] forward = {true, true, true, true, false, false};
+        boolean[] backward = {true, true, true, true, true, false};
+        for(int v = 0; v < 6; ++v)
+        {
+            assertEquals("The reachability should follow the edges.", forward[v], bfs.hasPathTo(v));
+            assertEquals("The reachability should follow the edges.", forward[v], dfs.hasPathTo(v));
+            assertEquals("The reachability should follow the edges backwards.", backward[v], reverse.hasPathTo(v));
+        }
+        List<Integer> path = new ArrayList<>();
+        for(int vertex : reverse.pathTo(1))
+            path.add(vertex);
+        assertEquals("The path should follow the edges to the origin.", Arrays.asList(1, 2, 3), path);
+    }
+
+    /**
+     * Tests that the frozen graph built from edge arrays matches the one built from a mutable graph.
+     */
+    @Test
+    public void edgeArrayTest()
+    {
+        Random random = new Random(42);
+        BasicDirectedGraph random100 = new BasicDirectedGraph(100);
+        int[] tails = new int[1000];
+        int[] heads = new int[1000];
+        for(int e = 0; e < 1000; ++e)
+        {
+            tails[e] = random.nextInt(100);
+            heads[e] = random.nextInt(100);
+            random100.addEdge(tails[e], heads[e]);
+        }
+        BasicDirectedCSRGraph frozen = random100.freeze();
+        BasicDirectedCSRGraph built = new BasicDirectedCSRGraph(100, tails, heads);
+        for(int v = 0; v < 100; ++v)
+        {
+            assertEquals("The adjacency should be sorted.", sorted(random100.adjacent(v)), new ArrayList<>(frozen.adjacent(v)));
+            assertEquals("The adjacency should be the same.", new ArrayList<>(frozen.adjacent(v)), new ArrayList<>(built.adjacent(v)));
+            assertEquals("The incoming vertices should be the same.", new ArrayList<>(frozen.incoming(v)), new ArrayList<>(built.incoming(v)));
+            for(int vertex : frozen.incoming(v))
+                assertTrue("There should be an edge.", built.hasEdge(vertex, v));
+        }
+    }
+
+    /**
+     * @param pCollection The collection.
+     * @return A sorted list with the elements of the collection.
+     */
+    private static List<Integer> sorted(Collection<Integer> pCollection)
+    {
+        List<Integer> list = new ArrayList<>(pCollection);
+        Collections.sort(list);
+        return list;
+    }
+
+    /**
+     * Tests that checking if a directed graph is acyclic results in an IllegalArgumentException, since the check
+     * assumes undirected edges and would find a cycle in the directed acyclic graph 0->1, 0->2, 1->2.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void isAcyclicTest()
+    {
+        BasicDirectedGraph dag = new BasicDirectedGraph(3);
+        dag.addEdge(0, 1);
+        dag.addEdge(0, 2);
+        dag.addEdge(1, 2);
+        new BasicIsAcyclic(dag);
+    }
+
+    /**
+     * Tests that two-coloring a directed graph results in an IllegalArgumentException.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void twoColorTest()
+    { new BasicTwoColor(graph, 0); }
+
+    /**
+     * Tests that counting the triangles of a directed graph results in an IllegalArgumentException.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void trianglesTest()
+    { new BasicTriangles(graph); }
+}
@@ -0,0 +1,143 @@
+// @formatter:off
+
+package graph.io;
+
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the EdgeListLoader class.
+ */
+public class EdgeListLoaderTest
+{
+    // Attributes
+
+    /**
+     * The edge list file.
+     */
+    private Path file;
+
+    // Setups
+
+    /**
+     * Creates a temporary file that is deleted when the tests finish.
+     */
+    @Before
+    public void setup() throws IOException
+    {
+        file = Files.createTempFile("edges", ".txt");
+        file.toFile().deleteOnExit();
+    }
+
+    // Tests
+
+    /**
+     * Tests that a SNAP style edge list is loaded properly, skipping comments and blank lines.
+     */
+    @Test
+    public void snapTest() throws IOException
+    {
+        Files.write(file, Arrays.asList("# Comment", "0\t1", "", "1 2", "2,3 extra values", "# Another comment", "3 3", "1 0"));
+        BasicUndirectedUnweightedCSRGraph graph = EdgeListLoader.loadCSR(file);
+        assertEquals("The number of vertices should be 4.", 4, graph.V());
+        assertEquals("The number of edges should be 5.", 5, graph.E());
+        assertTrue("The adjacency should be sorted.", graph.isSorted());
+        // The edge 0-1 is repeated, and the self-cycle 3-3 is stored once.
+        assertEquals("The adjacency should be [1, 1].", Arrays.asList(1, 1), new ArrayList<>(graph.adjacent(0)));
+        assertEquals("The adjacency should be [0, 0, 2].", Arrays.asList(0, 0, 2), new ArrayList<>(graph.adjacent(1)));
+        assertEquals("The adjacency should be [2, 3].", Arrays.asList(2, 3), new ArrayList<>(graph.adjacent(3)));
+        assertTrue("There should be an edge.", graph.hasEdge(2, 3));
+        assertFalse("There shouldn't be an edge.", graph.hasEdge(0, 3));
+        // Deduplication keeps the edge 0-1 once.
+        graph = EdgeListLoader.loadCSR(file, 6, true);
+        assertEquals("The number of vertices should be 6.", 6, graph.V());
+        assertEquals("The number of edges should be 4.", 4, graph.E());
+        assertEquals("The adjacency should be [1].", Collections.singletonList(1), new ArrayList<>(graph.adjacent(0)));
+        assertEquals("The adjacency should be [0, 2].", Arrays.asList(0, 2), new ArrayList<>(graph.adjacent(1)));
+        assertEquals("The adjacency should be [2, 3].", Arrays.asList(2, 3), new ArrayList<>(graph.adjacent(3)));
+        assertTrue("The adjacency should be empty.", graph.adjacent(5).isEmpty());
+    }
+
+    /**
+     * Tests that a Matrix Market file is loaded with 1-based vertices and its declared size.
+     */
+    @Test
+    public void matrixMarketTest() throws IOException
+    {
+        Files.write(file, Arrays.asList("%%MatrixMarket matrix coordinate pattern symmetric", "% Comment", "5 5 2", "1 2", "4 2"));
+        BasicUndirectedUnweightedCSRGraph graph = EdgeListLoader.loadCSR(file);
+        assertEquals("The number of vertices should be 5.", 5, graph.V());
+        assertEquals("The number of edges should be 2.", 2, graph.E());
+        assertEquals("The adjacency should be [0, 3].", Arrays.asList(0, 3), new ArrayList<>(graph.adjacent(1)));
+    }
+
+    /**
+     * Tests that a large file split in several chunks results in the same graph as adding the edges one by one.
+     */
+    @Test
+    public void largeFileTest() throws IOException
+    {
+        Random random = new Random(7);
+        int V = 5000;
+        BasicUndirectedUnweightedALGraph expected = new BasicUndirectedUnweightedALGraph(V);
+        try(BufferedWriter writer = Files.newBufferedWriter(file))
+        {
+            for(int i = 0; i < 300000; ++i)
+            {
+                int u = random.nextInt(V), v = random.nextInt(V);
+                expected.addEdge(u, v);
+                writer.write(u + " " + v + "\n");
+            }
+        }
+        BasicUndirectedUnweightedALGraph graph = EdgeListLoader.loadAL(file, V, false);
+        assertEquals("The number of edges should be the same.", expected.E(), graph.E());
+        for(int v = 0; v < V; ++v)
+        {
+            ArrayList<Integer> adjacent = new ArrayList<>(expected.adjacent(v));
+            Collections.sort(adjacent);
+            assertEquals("The adjacency should be the same.", adjacent, graph.adjacent(v));
+        }
+    }
+
+    /**
+     * Tests that a malformed line results in an IllegalArgumentException.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void malformedTest() throws IOException
+    {
+        Files.write(file, Arrays.asList("0 1", "a b"));
+        EdgeListLoader.loadCSR(file);
+    }
+
+    /**
+     * Tests that a vertex out of range results in an IllegalArgumentException.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void outOfRangeTest() throws IOException
+    {
+        Files.write(file, Arrays.asList("0 1", "1 7"));
+        EdgeListLoader.loadCSR(file, 3, false);
+    }
+
+    /**
+     * Tests that a vertex number too large for an int results in an IllegalArgumentException instead of wrapping
+     * around to a valid vertex.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void overflowTest() throws IOException
+    {
+        Files.write(file, Arrays.asList("0 1", "4294967297 2"));
+        EdgeListLoader.loadCSR(file, 3, false);
+    }
+}
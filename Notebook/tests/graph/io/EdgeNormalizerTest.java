@@ -0,0 +1,122 @@
+// @formatter:off
+
+package graph.io;
+
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedAMGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import graph.undirectedWeighted.BasicUndirectedWeightedGraph;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the EdgeNormalizer class.
+ */
+public class EdgeNormalizerTest
+{
+    // Tests
+
+    /**
+     * Tests the normalization of a small multigraph with both self-cycle policies.
+     */
+    @Test
+    public void normalizeTest()
+    {
+        int[] vertices1 = {0, 1, 2, 2, 3, 3, 4, 0};
+        int[] vertices2 = {1, 0, 2, 2, 1, 1, 4, 4};
+        EdgeNormalizer dropped = new EdgeNormalizer(5, vertices1, vertices2, EdgeNormalizer.SelfCycles.DROP);
+        assertEquals("The number of vertices should be 5.", 5, dropped.V());
+        assertEquals("There should be 3 edges.", 3, dropped.size());
+        int[][] expected = {{0, 1, 2}, {0, 4, 1}, {1, 3, 2}};
+        for(int i = 0; i < expected.length; ++i)
+        {
+            assertEquals("The smaller vertex should be the first one.", expected[i][0], dropped.vertex1(i));
+            assertEquals("The larger vertex should be the second one.", expected[i][1], dropped.vertex2(i));
+            assertEquals("The multiplicity should be the number of repetitions.", expected[i][2], dropped.multiplicity(i));
+        }
+        EdgeNormalizer kept = new EdgeNormalizer(5, vertices1, vertices2, EdgeNormalizer.SelfCycles.KEEP);
+        assertEquals("There should be 5 edges.", 5, kept.size());
+        BasicUndirectedUnweightedCSRGraph csr = kept.toCSR();
+        assertEquals("There should be 5 edges.", 5, csr.E());
+        assertTrue("The adjacency should be sorted.", csr.isSorted());
+        assertEquals("The self-cycle should be stored once.", List.of(2), new ArrayList<>(csr.adjacent(2)));
+        assertEquals("The adjacency should be sorted.", List.of(0, 4), new ArrayList<>(csr.adjacent(4)));
+        BasicUndirectedUnweightedAMGraph am = kept.toAM();
+        assertTrue("There should be a self-cycle.", am.hasEdge(4, 4));
+        assertEquals("There should be 5 edges.", 5, am.E());
+        BasicUndirectedWeightedGraph weighted = dropped.toWeighted(BasicUndirectedWeightedGraph.WeightStorage.SPARSE);
+        assertEquals("The weight should be the multiplicity.", 2.0, weighted.getWeight(3, 1), 0.0);
+        assertEquals("The weight should be the multiplicity.", 1.0, weighted.getWeight(4, 0), 0.0);
+    }
+
+    /**
+     * Tests that a large random multigraph is normalized as a sorted map of its canonical edges would be,
+     * using several parallel blocks and radix passes.
+     */
+    @Test
+    public void randomTest()
+    {
+        Random random = new Random(42);
+        int N = 5000, M = 400000;
+        int[] vertices1 = new int[M], vertices2 = new int[M];
+        TreeMap<Long, Integer> counts = new TreeMap<>();
+        for(int e = 0; e < M; ++e)
+        {
+            vertices1[e] = random.nextInt(N);
+            vertices2[e] = random.nextBoolean() ? random.nextInt(N) : Math.min(N - 1, vertices1[e] + random.nextInt(3));
+            if(vertices1[e] != vertices2[e])
+                counts.merge((long) Math.min(vertices1[e], vertices2[e]) * N + Math.max(vertices1[e], vertices2[e]), 1, Integer::sum);
+        }
+        EdgeNormalizer normalizer = new EdgeNormalizer(N, vertices1, vertices2, EdgeNormalizer.SelfCycles.DROP);
+        assertEquals("The number of edges should be the number of distinct edges.", counts.size(), normalizer.size());
+        int i = 0;
+        for(Map.Entry<Long, Integer> entry : counts.entrySet())
+        {
+            assertEquals("The edge should be the same.", (long) entry.getKey(), (long) normalizer.vertex1(i) * N + normalizer.vertex2(i));
+            assertEquals("The multiplicity should be the same.", (int) entry.getValue(), normalizer.multiplicity(i));
+            ++i;
+        }
+        BasicUndirectedUnweightedALGraph al = normalizer.toAL();
+        BasicUndirectedUnweightedALGraph checked = new BasicUndirectedUnweightedALGraph(N);
+        for(int e = 0; e < M; ++e)
+            checked.addEdgeChecked(vertices1[e], vertices2[e]);
+        assertEquals("The number of edges should be the same as with addEdgeChecked.", checked.E(), al.E());
+        for(int v = 0; v < N; ++v)
+        {
+            List<Integer> expected = new ArrayList<>(checked.adjacent(v));
+            Collections.sort(expected);
+            assertEquals("The adjacency should be the same as with addEdgeChecked.", expected, new ArrayList<>(al.adjacent(v)));
+        }
+    }
+
+    /**
+     * Tests that an edge with a vertex out of range is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeTest()
+    { new EdgeNormalizer(3, new int[] {0, 3}, new int[] {1, 1}, EdgeNormalizer.SelfCycles.DROP); }
+
+    /**
+     * Tests that arrays of different lengths are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void lengthTest()
+    { new EdgeNormalizer(3, new int[] {0}, new int[] {1, 1}, EdgeNormalizer.SelfCycles.DROP); }
+
+    /**
+     * Tests the normalization of an empty graph.
+     */
+    @Test
+    public void emptyTest()
+    {
+        EdgeNormalizer empty = new EdgeNormalizer(0, new int[0], new int[0], EdgeNormalizer.SelfCycles.KEEP);
+        assertEquals("There should be no edges.", 0, empty.size());
+        assertEquals("There should be no vertices.", 0, empty.toCSR().V());
+    }
+}
@@ -0,0 +1,159 @@
+// @formatter:off
+
+package graph.io;
+
+import graph.algorithms.search.BasicBFS;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.UndirectedUnweightedGraph;
+import graph.undirectedWeighted.BasicUndirectedWeightedGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the GraphFileWriter and GraphFileReader classes.
+ */
+public class GraphFileTest
+{
+    // Attributes
+
+    /**
+     * The file used to store the graphs.
+     */
+    private Path file;
+
+    // Setups
+
+    /**
+     * Creates a temporary file that is deleted when the tests finish.
+     */
+    @Before
+    public void setup() throws IOException
+    {
+        file = Files.createTempFile("graph", ".bin");
+        file.toFile().deleteOnExit();
+    }
+
+    // Tests
+
+    /**
+     * Tests that a numerical graph is stored and mapped properly.
+     */
+    @Test
+    public void basicGraphTest() throws IOException
+    {
+        BasicUndirectedUnweightedALGraph graph = new BasicUndirectedUnweightedALGraph(7);
+        // The following edges are added: 0-1, 0-2, 2-3, 2-4, 1-4, 5-6 and the self-cycle 3-3.
+        graph.addEdge(0, 1); graph.addEdge(0, 2); graph.addEdge(2, 3);
+        graph.addEdge(2, 4); graph.addEdge(1, 4); graph.addEdge(5, 6); graph.addEdge(3, 3);
+        GraphFileWriter.write(graph, file);
+        MappedGraph mapped = GraphFileReader.map(file);
+        assertEquals("The number of vertices should be 7.", 7, mapped.V());
+        assertEquals("The number of edges should be 7.", 7, mapped.E());
+        assertFalse("The graph shouldn't be weighted.", mapped.isWeighted());
+        assertFalse("The graph shouldn't have keys.", mapped.hasKeys());
+        // The adjacency of each vertex should be the same and in the same order.
+        for(int v = 0; v < 7; ++v)
+        {
+            assertEquals("The degree should be the same.", graph.adjacent(v).size(), mapped.degree(v));
+            assertEquals("The adjacency should be the same.", new ArrayList<>(graph.adjacent(v)), new ArrayList<>(mapped.adjacent(v)));
+        }
+        assertNull("The adjacency list should be null.", mapped.adjacentChecked(7));
+        // Algorithms should work directly on the mapped graph.
+        BasicBFS bfs = new BasicBFS(mapped, 0);
+        for(int v = 0; v < 5; ++v)
+            assertTrue("There should be a path to the vertex " + v + ".", bfs.hasPathTo(v));
+        assertFalse("There shouldn't be a path to the vertex 5.", bfs.hasPathTo(5));
+    }
+
+    /**
+     * Tests that a weighted graph is stored and mapped properly.
+     */
+    @Test
+    public void weightedGraphTest() throws IOException
+    {
+        BasicUndirectedWeightedGraph graph = new BasicUndirectedWeightedGraph(4);
+        graph.addEdge(0, 1, 1.5); graph.addEdge(1, 2, 2.5); graph.addEdge(3, 0, 4);
+        GraphFileWriter.write(graph, file);
+        MappedGraph mapped = GraphFileReader.map(file);
+        assertTrue("The graph should be weighted.", mapped.isWeighted());
+        assertEquals("The weight should be 1.5.", 1.5, mapped.getWeight(0, 1), 0);
+        assertEquals("The weight should be 1.5.", 1.5, mapped.getWeight(1, 0), 0);
+        assertEquals("The weight should be 2.5.", 2.5, mapped.getWeight(2, 1), 0);
+        assertEquals("The weight should be 4.", 4, mapped.getWeight(0, 3), 0);
+        assertEquals("The weight should be 0.", 0, mapped.getWeight(2, 3), 0);
+        assertEquals("The weight should be 4.", 4, mapped.weight(0, 1), 0);
+    }
+
+    /**
+     * Tests that a generic graph is stored with its keys.
+     */
+    @Test
+    public void keyedGraphTest() throws IOException
+    {
+        UndirectedUnweightedGraph<String> graph = new UndirectedUnweightedGraph<>(new String[]{"A", "B", "\u00d1and\u00fa"});
+        graph.addEdge("A", "\u00d1and\u00fa"); graph.addEdge("B", "\u00d1and\u00fa");
+        GraphFileWriter.write(graph, file);
+        MappedGraph mapped = GraphFileReader.map(file);
+        assertTrue("The graph should have keys.", mapped.hasKeys());
+        assertEquals("The number of edges should be 2.", 2, mapped.E());
+        assertEquals("The key should be A.", "A", mapped.key(0));
+        assertEquals("The key should be B.", "B", mapped.key(1));
+        assertEquals("The key should be the non-ASCII key.", "\u00d1and\u00fa", mapped.key(2));
+        assertEquals("The degree should be 2.", 2, mapped.degree(2));
+        assertEquals("The first neighbor should be 0.", 0, mapped.neighbor(2, 0));
+        assertEquals("The second neighbor should be 1.", 1, mapped.neighbor(2, 1));
+    }
+
+    /**
+     * Tests that mapping a file that isn't a graph file results in an IOException.
+     */
+    @Test(expected = IOException.class)
+    public void invalidFileTest() throws IOException
+    {
+        Files.write(file, new byte[64]);
+        GraphFileReader.map(file);
+    }
+
+    /**
+     * Tests that mapping a file whose header has negative counts results in an IOException.
+     */
+    @Test(expected = IOException.class)
+    public void negativeHeaderTest() throws IOException
+    {
+        GraphFileWriter.write(new BasicUndirectedUnweightedALGraph(3), file);
+        corrupt(12, -5);
+        GraphFileReader.map(file);
+    }
+
+    /**
+     * Tests that mapping a file whose number of adjacency slots doesn't match its offsets results in an IOException.
+     */
+    @Test(expected = IOException.class)
+    public void inconsistentHeaderTest() throws IOException
+    {
+        BasicUndirectedUnweightedALGraph graph = new BasicUndirectedUnweightedALGraph(3);
+        graph.addEdge(0, 1); graph.addEdge(1, 2);
+        GraphFileWriter.write(graph, file);
+        corrupt(20, 1);
+        GraphFileReader.map(file);
+    }
+
+    /**
+     * Overwrites an int of the stored file.
+     * @param pPosition The position of the int.
+     * @param pValue The new value.
+     */
+    private void corrupt(int pPosition, int pValue) throws IOException
+    {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(pPosition, pValue);
+        Files.write(file, bytes.array());
+    }
+}
@@ -0,0 +1,155 @@
+// @formatter:off
+
+package graph.properties;
+
+import graph.BasicInducedSubgraph;
+import graph.algorithms.search.BasicBFS;
+import graph.io.EdgeNormalizer;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedCSRGraph;
+import graph.undirectedUnweighted.UndirectedUnweightedGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.BitSet;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the PropertyStore class and its columns.
+ */
+public class PropertyStoreTest
+{
+    // Attributes
+
+    /**
+     * The graph.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    /**
+     * The store indexed by the vertices of the graph.
+     */
+    private PropertyStore store;
+
+    // Setups
+
+    /**
+     * Initializes a graph of 100 vertices without edges and its store.
+     */
+    @Before
+    public void setup()
+    {
+        graph = new BasicUndirectedUnweightedALGraph(100);
+        store = new PropertyStore(graph);
+    }
+
+    // Tests
+
+    /**
+     * Tests that the columns hold their values, grow with the graph and aggregate their values.
+     */
+    @Test
+    public void columnTest()
+    {
+        IntColumn degree = store.intColumn("degree");
+        DoubleColumn weight = store.doubleColumn("weight");
+        LongColumn id = store.longColumn("id");
+        assertTrue("The column should be the same.", degree == store.intColumn("degree"));
+        assertEquals("The size should be 100.", 100, degree.size());
+        for(int v = 0; v < 100; ++v)
+        {
+            degree.set(v, v % 10);
+            weight.set(v, v / 2.0);
+            id.set(v, (long) v << 32);
+        }
+        assertEquals("The sum should be 450.", 450, degree.sum());
+        assertEquals("The largest value should be 9.", 9, degree.max());
+        assertEquals("The smallest value should be 0.", 0.0, weight.min(), 0.0);
+        assertEquals("The average should be 24.75.", 24.75, weight.average(), 1e-9);
+        assertEquals("The value should be kept.", 99L << 32, id.get(99));
+        assertEquals("There should be 10 selected vertices.", 10, degree.select(d -> d == 9).length);
+        assertEquals("The first selected vertex should be 9.", 9, degree.select(d -> d == 9)[0]);
+        assertEquals("The value should be incremented.", 10, degree.add(9, 1));
+        // The columns follow the vertices added to the graph.
+        int vertex = graph.addVertex();
+        assertEquals("The size should be 101.", 101, weight.size());
+        assertEquals("The value should be the default.", 0.0, weight.get(vertex), 0.0);
+        weight.set(vertex, 7.5);
+        assertEquals("The value should be kept.", 7.5, weight.get(vertex), 0.0);
+        assertTrue("The column should have grown.", weight.capacity() >= 101);
+        assertEquals("There should be 3 columns.", 3, store.columns().size());
+        assertTrue("The removed column should be returned.", id == store.remove("id"));
+        assertNull("The column shouldn't exist.", store.get("id"));
+    }
+
+    /**
+     * Tests that a boolean column counts and selects its positions and selects the vertices of a subgraph.
+     */
+    @Test
+    public void booleanTest()
+    {
+        for(int v = 0; v + 1 < 100; ++v)
+            graph.addEdge(v, v + 1);
+        BooleanColumn even = store.booleanColumn("even");
+        even.fill(true);
+        assertEquals("Every vertex should be marked.", 100, even.count());
+        for(int v = 1; v < 100; v += 2)
+            even.set(v, false);
+        assertEquals("There should be 50 marked vertices.", 50, even.count());
+        assertEquals("There should be 50 selected vertices.", 50, even.select().length);
+        BitSet set = even.toBitSet();
+        assertEquals("The set should have 50 vertices.", 50, set.cardinality());
+        assertTrue("The vertex should be in the set.", set.get(98));
+        // The path 0-1-...-99 without the odd vertices has no edges.
+        BasicInducedSubgraph subgraph = new BasicInducedSubgraph(graph, even);
+        assertEquals("The subgraph shouldn't have edges.", 0, subgraph.E());
+        assertFalse("There shouldn't be a path.", new BasicBFS(subgraph, 0).hasPathTo(2));
+        even.set(1000, false);
+        assertEquals("Writing false past the end shouldn't grow the column.", 128, even.capacity());
+    }
+
+    /**
+     * Tests a store indexed by the edge slots of a compressed graph.
+     */
+    @Test
+    public void edgeTest()
+    {
+        EdgeNormalizer normalizer = new EdgeNormalizer(4, new int[] {0, 1, 2, 3, 0}, new int[] {1, 2, 3, 0, 1}, EdgeNormalizer.SelfCycles.DROP);
+        BasicUndirectedUnweightedCSRGraph csr = normalizer.toCSR();
+        PropertyStore edges = PropertyStore.edges(csr);
+        assertEquals("There should be 8 slots.", 8, edges.size());
+        DoubleColumn length = edges.doubleColumn("length");
+        for(int v = 0; v < csr.V(); ++v)
+        {
+            for(int i = 0; i < csr.degree(v); ++i)
+                length.set(csr.slot(v, i), v + csr.neighbor(v, i));
+        }
+        assertEquals("The length should be 1.", 1.0, length.get(csr.slot(0, 0)), 0.0);
+        assertEquals("The sum should be twice the sum of the edges.", 24.0, length.sum(), 0.0);
+    }
+
+    /**
+     * Tests a store attached to a generic graph.
+     */
+    @Test
+    public void genericTest()
+    {
+        UndirectedUnweightedGraph<String> generic = new UndirectedUnweightedGraph<>(new String[] {"a", "b"});
+        PropertyStore keys = new PropertyStore(generic);
+        IntColumn count = keys.intColumn("count");
+        count.set(generic.toNumber("b"), 3);
+        generic.addVertex("c");
+        count.set(generic.toNumber("c"), 4);
+        assertEquals("The size should be 3.", 3, count.size());
+        assertEquals("The sum should be 7.", 7, count.sum());
+    }
+
+    /**
+     * Tests that a column with the same name as a column of another type is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void typeTest()
+    {
+        store.intColumn("count");
+        store.doubleColumn("count");
+    }
+}
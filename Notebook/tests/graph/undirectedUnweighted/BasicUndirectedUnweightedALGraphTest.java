@@ -9,6 +9,7 @@ import graph.algorithms.misc.BasicIsAcyclic;
 import org.junit.Before;
 import org.junit.Test;
 import java.util.ArrayList;
+import java.util.Random;
 import static org.junit.Assert.*;
 
 /**
@@ -514,4 +515,156 @@ public class BasicUndirectedUnweightedALGraphTest
         assertNull("The array should be null.", b2c.getColor());
         assertNull("The array should be null.", b2c.getColor());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the graph adds vertices properly, keeping the existing edges.
+     */
+    @Test
+    public void addVertexTest()
+    {
+        graph.addEdge(0, 4); graph.addEdge(1, 2);
+        // 200 vertices will be added, each joined to the previous one.
+        for(int i = 0; i < 200; ++i)
+        {
+            int vertex = graph.addVertex();
+            assertEquals("The label of the vertex should be the previous number of vertices.", 5 + i, vertex);
+            assertTrue("The vertex shouldn't have edges.", graph.adjacent(vertex).isEmpty());
+            graph.addEdge(vertex - 1, vertex);
+        }
+        assertEquals("The number of vertices should be 205.", 205, graph.V());
+        assertEquals("The number of edges should be 202.", 202, graph.E());
+        assertEquals("The array of collections should have 205 collections.", 205, graph.adjacent().length);
+        assertTrue("The vertices should be adjacent.", graph.adjacent(0).contains(4));
+        assertTrue("The vertices should be adjacent.", graph.adjacent(2).contains(1));
+        assertTrue("The vertices should be adjacent.", graph.adjacent(204).contains(203));
+        assertNull("The adjacent collection should be null.", graph.adjacentChecked(205));
+        // Growing the graph in advance shouldn't add vertices.
+        graph.ensureCapacity(1000);
+        assertEquals("The number of vertices should be 205.", 205, graph.V());
+        assertEquals("The array of collections should have 205 collections.", 205, graph.adjacent().length);
+    }
+
+    /**
+     * Tests that the graph removes edges properly, including repeated edges and self-cycles.
+     */
+    @Test
+    public void removeEdgeTest()
+    {
+        // Edges 0-1, 0-2, 0-3, 0-1 again and 4-4 will be added.
+        graph.addEdge(0, 1); graph.addEdge(0, 2); graph.addEdge(0, 3);
+        graph.addEdge(0, 1); graph.addEdge(4, 4);
+        graph.removeEdge(0, 2);
+        assertEquals("The number of edges should be 4.", 4, graph.E());
+        assertFalse("The vertices shouldn't be adjacent.", graph.adjacent(0).contains(2));
+        assertFalse("The vertices shouldn't be adjacent.", graph.adjacent(2).contains(0));
+        assertEquals("The size of the list should be 3.", 3, graph.adjacent(0).size());
+        // Removing a repeated edge keeps the other one.
+        graph.removeEdge(1, 0);
+        assertEquals("The number of edges should be 3.", 3, graph.E());
+        assertTrue("The vertices should be adjacent.", graph.adjacent(0).contains(1));
+        assertTrue("The vertices should be adjacent.", graph.adjacent(1).contains(0));
+        graph.removeEdge(0, 1);
+        assertFalse("The vertices shouldn't be adjacent.", graph.adjacent(0).contains(1));
+        assertTrue("The list should be empty.", graph.adjacent(1).isEmpty());
+        graph.removeEdge(4, 4);
+        assertTrue("The list should be empty.", graph.adjacent(4).isEmpty());
+        // Removing edges that don't exist or between invalid vertices should result in no change.
+        graph.removeEdge(1, 2); graph.removeEdgeChecked(-1, 3); graph.removeEdgeChecked(0, 70);
+        assertEquals("The number of edges should be 1.", 1, graph.E());
+        // Edges added after the removals are indexed as well.
+        graph.addEdge(3, 2);
+        graph.removeEdge(0, 3);
+        graph.removeEdge(2, 3);
+        assertEquals("The number of edges should be 0.", 0, graph.E());
+        for(int i = 0; i < 5; ++i)
+            assertTrue("The list should be empty.", graph.adjacent(i).isEmpty());
+    }
+
+    /**
+     * Tests that random additions and removals of edges keep the adjacent lists equal to the expected edges.
+     */
+    @Test
+    public void removeEdgeRandomTest()
+    {
+        int V = 30;
+        BasicUndirectedUnweightedALGraph newGraph = new BasicUndirectedUnweightedALGraph(V);
+        int[][] expected = new int[V][V];
+        Random random = new Random(7);
+        for(int i = 0; i < 5000; ++i)
+        {
+            int u = random.nextInt(V), v = random.nextInt(V);
+            if(random.nextInt(3) == 0)
+            {
+                newGraph.addEdge(u, v);
+                ++expected[u][v];
+                if(u != v)
+                    ++expected[v][u];
+            }
+            else if(expected[u][v] > 0)
+            {
+                newGraph.removeEdge(u, v);
+                --expected[u][v];
+                if(u != v)
+                    --expected[v][u];
+            }
+        }
+        for(int u = 0; u < V; ++u)
+        {
+            int[] count = new int[V];
+            for(int vertex : newGraph.adjacent(u))
+                ++count[vertex];
+            assertArrayEquals("The adjacent list should hold the expected edges.", expected[u], count);
+        }
+    }
+
+    /**
+     * Tests that a snapshot keeps the edges of the graph when it was taken and that the graph and
+     * the snapshot can be modified independently.
+     */
+    @Test
+    public void snapshotTest()
+    {
+        graph.addEdge(0, 1); graph.addEdge(1, 2); graph.addEdge(1, 3);
+        graph.removeEdge(1, 3);
+        BasicUndirectedUnweightedALGraph snapshot = graph.snapshot();
+        assertEquals("The number of edges should be 2.", 2, snapshot.E());
+        assertTrue("The vertices should be adjacent.", snapshot.adjacent(1).contains(2));
+        graph.addEdge(2, 3); graph.removeEdge(0, 1);
+        snapshot.addEdge(0, 4); snapshot.removeEdge(2, 1);
+        assertTrue("The vertices should be adjacent.", graph.adjacent(1).contains(2));
+        assertFalse("The vertices shouldn't be adjacent.", graph.adjacent(0).contains(1));
+        assertFalse("The vertices shouldn't be adjacent.", graph.adjacent(0).contains(4));
+        assertFalse("The vertices shouldn't be adjacent.", snapshot.adjacent(2).contains(3));
+        assertTrue("The vertices should be adjacent.", snapshot.adjacent(1).contains(0));
+        assertFalse("The vertices shouldn't be adjacent.", snapshot.adjacent(1).contains(2));
+        assertEquals("The number of edges should be 2.", 2, graph.E());
+        assertEquals("The number of edges should be 2.", 2, snapshot.E());
+        // Vertices added to one of them shouldn't appear in the other.
+        int vertex = graph.addVertex();
+        graph.addEdge(vertex, 0);
+        assertEquals("The number of vertices should be 5.", 5, snapshot.V());
+        assertFalse("The vertices shouldn't be adjacent.", snapshot.adjacent(0).contains(vertex));
+        assertEquals("The adjacent collections should be the same.", new BasicUndirectedUnweightedALGraph(snapshot).adjacent(0), snapshot.snapshot().adjacent(0));
+    }
+
+    /**
+     * Tests that the neighbor accessors visit the same vertices, in the same order, as the adjacent collection.
+     */
+    @Test
+    public void neighborTest()
+    {
+        graph.addEdge(0, 1); graph.addEdge(0, 3); graph.addEdge(2, 2); graph.addEdge(4, 0);
+        for(int v = 0; v < 5; ++v)
+        {
+            ArrayList<Integer> expected = new ArrayList<>(graph.adjacent(v));
+            ArrayList<Integer> visited = new ArrayList<>();
+            graph.forEachNeighbor(v, visited::add);
+            assertEquals("The degree should be the size of the adjacent collection.", expected.size(), graph.degree(v));
+            assertEquals("The visited vertices should be the adjacent vertices.", expected, visited);
+            for(int i = 0; i < graph.degree(v); ++i)
+                assertEquals("The neighbor should be the adjacent vertex.", (int) expected.get(i), graph.neighbor(v, i));
+        }
+        assertEquals("The degree should be 3.", 3, graph.degree(0));
+        assertEquals("The self-cycle should be counted once.", 1, graph.degree(2));
+    }
+}
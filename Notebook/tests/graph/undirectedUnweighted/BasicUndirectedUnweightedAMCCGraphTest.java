@@ -860,4 +860,27 @@ public class BasicUndirectedUnweightedAMCCGraphTest
         assertNull("The array should be null.", b2c.getColor());
         assertNull("The array should be null.", b2c.getColorNum());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the graph adds vertices properly, keeping track of the connected components.
+     */
+    @Test
+    public void addVertexTest()
+    {
+        graph.addEdge(0, 1);
+        // 100 vertices will be added, each joined to the vertex 0 if it's even.
+        for(int i = 0; i < 100; ++i)
+        {
+            int vertex = graph.addVertex();
+            if(vertex % 2 == 0)
+                graph.addEdge(0, vertex);
+        }
+        assertEquals("The number of vertices should be 105.", 105, graph.V());
+        assertEquals("The number of components should be 54.", 54, graph.numberOfComponents());
+        assertEquals("The size of the component should be 52.", 52, graph.sizeOfComponent(104));
+        assertEquals("The size of the component should be 1.", 1, graph.sizeOfComponent(103));
+        assertNull("The size should be null.", graph.sizeOfComponentChecked(105));
+        graph.ensureCapacity(500);
+        assertEquals("The number of components should be 54.", 54, graph.numberOfComponents());
+    }
+}
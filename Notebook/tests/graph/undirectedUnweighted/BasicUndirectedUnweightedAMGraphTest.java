@@ -662,4 +662,114 @@ public class BasicUndirectedUnweightedAMGraphTest
         assertNull("The array should be null.", b2c.getColor());
         assertNull("The array should be null.", b2c.getColor());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the graph adds vertices properly, keeping the existing edges.
+     */
+    @Test
+    public void addVertexTest()
+    {
+        graph.addEdge(0, 4); graph.addEdge(1, 2);
+        // 200 vertices will be added, each joined to the previous one.
+        for(int i = 0; i < 200; ++i)
+        {
+            int vertex = graph.addVertex();
+            assertEquals("The label of the vertex should be the previous number of vertices.", 5 + i, vertex);
+            assertTrue("The vertex shouldn't have edges.", graph.adjacent(vertex).isEmpty());
+            graph.addEdge(vertex - 1, vertex);
+        }
+        assertEquals("The number of vertices should be 205.", 205, graph.V());
+        assertEquals("The number of edges should be 202.", 202, graph.E());
+        assertEquals("The array of collections should have 205 collections.", 205, graph.adjacent().length);
+        assertTrue("The vertices should be adjacent.", graph.adjacent(0).contains(4));
+        assertTrue("The vertices should be adjacent.", graph.adjacent(2).contains(1));
+        assertTrue("The vertices should be adjacent.", graph.adjacent(204).contains(203));
+        assertNull("The adjacent collection should be null.", graph.adjacentChecked(205));
+        // Growing the graph in advance shouldn't add vertices.
+        graph.ensureCapacity(1000);
+        assertEquals("The number of vertices should be 205.", 205, graph.V());
+        assertEquals("The array of collections should have 205 collections.", 205, graph.adjacent().length);
+    }
+
+    /**
+     * Tests that a snapshot keeps the edges of the graph when it was taken and that the graph and
+     * the snapshot can be modified independently.
+     */
+    @Test
+    public void snapshotTest()
+    {
+        graph.addEdge(0, 1); graph.addEdge(1, 2);
+        BasicUndirectedUnweightedAMGraph snapshot = graph.snapshot();
+        assertEquals("The number of edges should be 2.", 2, snapshot.E());
+        assertTrue("The vertices should be adjacent.", snapshot.hasEdge(1, 0));
+        graph.addEdge(2, 3);
+        snapshot.addEdge(0, 4);
+        assertTrue("The vertices should be adjacent.", graph.hasEdge(3, 2));
+        assertFalse("The vertices shouldn't be adjacent.", snapshot.hasEdge(3, 2));
+        assertFalse("The vertices shouldn't be adjacent.", graph.hasEdge(4, 0));
+        assertTrue("The vertices should be adjacent.", snapshot.hasEdge(4, 0));
+        assertEquals("The number of edges should be 3.", 3, graph.E());
+        // A snapshot of a snapshot and added vertices shouldn't affect the others either.
+        BasicUndirectedUnweightedAMGraph snapshot2 = snapshot.snapshot();
+        int vertex = snapshot2.addVertex();
+        snapshot2.addEdge(vertex, 1);
+        assertEquals("The number of vertices should be 5.", 5, snapshot.V());
+        assertFalse("The vertices shouldn't be adjacent.", snapshot.hasEdge(1, 4));
+        assertTrue("The vertices should be adjacent.", snapshot2.hasEdge(1, vertex));
+        assertTrue("The vertices should be adjacent.", snapshot2.hasEdge(0, 4));
+        assertEquals("The number of edges should be 3.", 3, snapshot.E());
+    }
+
+    /**
+     * Tests that the neighbor accessors visit the same vertices, in the same order, as the adjacent collection.
+     */
+    @Test
+    public void neighborTest()
+    {
+        graph.addEdge(0, 1); graph.addEdge(0, 3); graph.addEdge(2, 2); graph.addEdge(4, 0);
+        for(int v = 0; v < 5; ++v)
+        {
+            ArrayList<Integer> expected = new ArrayList<>(graph.adjacent(v));
+            ArrayList<Integer> visited = new ArrayList<>();
+            graph.forEachNeighbor(v, visited::add);
+            assertEquals("The degree should be the size of the adjacent collection.", expected.size(), graph.degree(v));
+            assertEquals("The visited vertices should be the adjacent vertices.", expected, visited);
+            for(int i = 0; i < graph.degree(v); ++i)
+                assertEquals("The neighbor should be the adjacent vertex.", (int) expected.get(i), graph.neighbor(v, i));
+        }
+        assertEquals("The degree should be 3.", 3, graph.degree(0));
+        assertEquals("The self-cycle should be counted once.", 1, graph.degree(2));
+    }
+
+    /**
+     * Tests that the cached adjacent vertices follow the order of addition, ignore repeated edges and are kept
+     * apart between a graph and its snapshot, also after the matrix grows.
+     */
+    @Test
+    public void cacheTest()
+    {
+        graph.addEdge(3, 1); graph.addEdge(3, 0); graph.addEdge(0, 3); graph.addEdge(3, 3);
+        assertEquals("The number of edges should be 4.", 4, graph.E());
+        assertEquals("The degree should be 3.", 3, graph.degree(3));
+        assertEquals("The first adjacent vertex should be 1.", 1, graph.neighbor(3, 0));
+        assertEquals("The second adjacent vertex should be 0.", 0, graph.neighbor(3, 1));
+        assertEquals("The third adjacent vertex should be 3.", 3, graph.neighbor(3, 2));
+        BasicUndirectedUnweightedAMGraph snapshot = graph.snapshot();
+        graph.addEdge(3, 4);
+        snapshot.addEdge(3, 2);
+        assertEquals("The adjacent vertex should be 4.", 4, graph.neighbor(3, 3));
+        assertEquals("The adjacent vertex should be 2.", 2, snapshot.neighbor(3, 3));
+        assertEquals("The degree should be 1.", 1, graph.degree(4));
+        assertEquals("The degree should be 0.", 0, snapshot.degree(4));
+        int vertex = snapshot.addVertex();
+        snapshot.ensureCapacity(200);
+        snapshot.addEdge(vertex, 3);
+        assertEquals("The degree should be 5.", 5, snapshot.degree(3));
+        assertEquals("The degree should be 4.", 4, graph.degree(3));
+        assertEquals("The adjacent vertex should be the new vertex.", vertex, snapshot.neighbor(3, 4));
+        BasicUndirectedUnweightedAMGraph copy = new BasicUndirectedUnweightedAMGraph(snapshot);
+        copy.addEdge(0, 1);
+        assertEquals("The degree should be 2.", 2, copy.degree(0));
+        assertEquals("The degree should be 1.", 1, snapshot.degree(0));
+    }
+}
@@ -692,4 +692,53 @@ public class BasicUndirectedUnweightedCCGraphTest
         assertNull("The array should be null.", b2c.getColor());
         assertNull("The array should be null.", b2c.getColorNum());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the graph adds vertices properly, keeping track of the connected components.
+     */
+    @Test
+    public void addVertexTest()
+    {
+        graph.addEdge(0, 1);
+        // 100 vertices will be added, each joined to the vertex 0 if it's even.
+        for(int i = 0; i < 100; ++i)
+        {
+            int vertex = graph.addVertex();
+            if(vertex % 2 == 0)
+                graph.addEdge(0, vertex);
+        }
+        assertEquals("The number of vertices should be 105.", 105, graph.V());
+        assertEquals("The number of components should be 54.", 54, graph.numberOfComponents());
+        assertEquals("The size of the component should be 52.", 52, graph.sizeOfComponent(104));
+        assertEquals("The size of the component should be 1.", 1, graph.sizeOfComponent(103));
+        assertNull("The size should be null.", graph.sizeOfComponentChecked(105));
+        graph.ensureCapacity(500);
+        assertEquals("The number of components should be 54.", 54, graph.numberOfComponents());
+    }
+
+    /**
+     * Tests that the connected components are updated properly when edges are removed.
+     */
+    @Test
+    public void removeEdgeTest()
+    {
+        // Edges 0-1, 1-2, 2-3 and 0-3 will be added, forming a cycle.
+        graph.addEdge(0, 1); graph.addEdge(1, 2); graph.addEdge(2, 3); graph.addEdge(0, 3);
+        assertEquals("The number of components should be 2.", 2, graph.numberOfComponents());
+        // Removing an edge of the cycle doesn't split the component.
+        graph.removeEdge(1, 2);
+        assertEquals("The number of components should be 2.", 2, graph.numberOfComponents());
+        assertEquals("The size of the component should be 4.", 4, graph.sizeOfComponent(2));
+        // Removing another edge splits it.
+        graph.removeEdge(0, 3);
+        assertEquals("The number of components should be 3.", 3, graph.numberOfComponents());
+        assertEquals("The size of the component should be 2.", 2, graph.sizeOfComponent(0));
+        assertEquals("The size of the component should be 2.", 2, graph.sizeOfComponent(3));
+        // Several removals before a query are recomputed at once.
+        graph.removeEdge(0, 1); graph.removeEdge(2, 3); graph.addEdge(3, 4);
+        assertEquals("The number of components should be 4.", 4, graph.numberOfComponents());
+        assertEquals("The size of the component should be 2.", 2, (int) graph.sizeOfComponentChecked(4));
+        assertEquals("The size of the component should be 1.", 1, graph.sizeOfComponent(0));
+        assertNull("The size should be null.", graph.sizeOfComponentChecked(5));
+    }
+}
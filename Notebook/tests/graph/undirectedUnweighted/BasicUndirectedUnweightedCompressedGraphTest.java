@@ -0,0 +1,151 @@
+// @formatter:off
+
+package graph.undirectedUnweighted;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the BasicUndirectedUnweightedCompressedGraph class.
+ */
+public class BasicUndirectedUnweightedCompressedGraphTest
+{
+    // Setups
+
+    /**
+     * Creates a compressed sparse row graph with the edges of the given adjacency list graph.
+     * @param pGraph The adjacency list graph.
+     * @return The compressed sparse row graph, unsorted.
+     */
+    private static BasicUndirectedUnweightedCSRGraph toCSR(BasicUndirectedUnweightedALGraph pGraph)
+    {
+        int[] offsets = new int[pGraph.V() + 1];
+        for(int v = 0; v < pGraph.V(); ++v)
+            offsets[v + 1] = offsets[v] + pGraph.adjacent(v).size();
+        int[] targets = new int[offsets[pGraph.V()]];
+        for(int v = 0; v < pGraph.V(); ++v)
+        {
+            int i = offsets[v];
+            for(int vertex : pGraph.adjacent(v))
+                targets[i++] = vertex;
+        }
+        return new BasicUndirectedUnweightedCSRGraph(offsets, targets, pGraph.E(), false);
+    }
+
+    // Tests
+
+    /**
+     * Tests that the compressed graph holds the same sorted adjacencies as the original graph, with and without references.
+     */
+    @Test
+    public void adjacentTest()
+    {
+        Random random = new Random(42);
+        BasicUndirectedUnweightedALGraph graph = new BasicUndirectedUnweightedALGraph(300);
+        // Random edges, repeated edges and self-cycles, with a bias towards close vertices.
+        for(int i = 0; i < 3000; ++i)
+        {
+            int v = random.nextInt(300);
+            graph.addEdge(v, random.nextBoolean() ? random.nextInt(300) : Math.min(299, v + random.nextInt(5)));
+        }
+        BasicUndirectedUnweightedCSRGraph csr = toCSR(graph);
+        for(int window : new int[] {0, 1, BasicUndirectedUnweightedCompressedGraph.DEFAULT_WINDOW})
+        {
+            BasicUndirectedUnweightedCompressedGraph compressed = new BasicUndirectedUnweightedCompressedGraph(csr, window);
+            assertEquals("The number of vertices should be 300.", 300, compressed.V());
+            assertEquals("The number of edges should be the same.", graph.E(), compressed.E());
+            int[] buffer = new int[300 * 2];
+            for(int v = 0; v < 300; ++v)
+            {
+                List<Integer> expected = new ArrayList<>(graph.adjacent(v));
+                Collections.sort(expected);
+                assertEquals("The degree should be the same.", expected.size(), compressed.degree(v));
+                assertEquals("The adjacency should be the same.", expected, new ArrayList<>(compressed.adjacent(v)));
+                int degree = compressed.neighbors(v, buffer);
+                for(int i = 0; i < degree; ++i)
+                    assertEquals("The adjacent vertex should be the same.", (int) expected.get(i), buffer[i]);
+                List<Integer> visited = new ArrayList<>();
+                compressed.forEachNeighbor(v, visited::add);
+                assertEquals("The visited vertices should be the same.", expected, visited);
+                for(int w = 0; w < 300; ++w)
+                    assertEquals("The edge should be found.", expected.contains(w), compressed.hasEdge(v, w));
+            }
+            assertTrue("There should be an edge.", compressed.hasEdge(csr.neighbor(7, 0), 7));
+            assertNull("The collection should be null.", compressed.adjacentChecked(300));
+            assertNull("The result should be null.", compressed.hasEdgeChecked(-1, 0));
+            assertEquals("There should be 300 collections.", 300, compressed.adjacent().length);
+        }
+    }
+
+    /**
+     * Tests that adjacencies similar to the ones of previous vertices are compressed by copying them.
+     */
+    @Test
+    public void referenceTest()
+    {
+        // Every vertex of the first half is joined to the same 40 vertices of the second half, except for one of them.
+        BasicUndirectedUnweightedALGraph graph = new BasicUndirectedUnweightedALGraph(1000);
+        for(int v = 0; v < 500; ++v)
+        {
+            for(int i = 0; i < 40; ++i)
+            {
+                if(i != v % 40)
+                    graph.addEdge(v, 500 + i * 12);
+            }
+        }
+        BasicUndirectedUnweightedCSRGraph csr = toCSR(graph);
+        BasicUndirectedUnweightedCompressedGraph gaps = new BasicUndirectedUnweightedCompressedGraph(csr, 0);
+        BasicUndirectedUnweightedCompressedGraph references = new BasicUndirectedUnweightedCompressedGraph(csr);
+        assertTrue("The references should use fewer bytes.", references.bytes() < gaps.bytes());
+        assertTrue("The graph should use less than a third of the bits of a compressed sparse row graph.", references.bitsPerEdge() < 32.0 / 3);
+        for(int v = 0; v < 1000; v += 37)
+            assertEquals("The adjacency should be the same.", new ArrayList<>(gaps.adjacent(v)), new ArrayList<>(references.adjacent(v)));
+        // Vertex 0 isn't joined to vertex 500, since 0 % 40 is 0.
+        assertEquals("The adjacency should start with [1, 2, 3].", Arrays.asList(1, 2, 3), new ArrayList<>(references.adjacent(500)).subList(0, 3));
+    }
+
+    /**
+     * Tests that the adjacent vertices read by position are right when the reads of many vertices are interleaved,
+     * so that the decoded adjacencies kept by each thread are replaced, and that a traversal of a star through them
+     * reaches every vertex.
+     */
+    @Test
+    public void neighborTest()
+    {
+        Random random = new Random(43);
+        BasicUndirectedUnweightedALGraph graph = new BasicUndirectedUnweightedALGraph(2000);
+        for(int i = 0; i < 20000; ++i)
+            graph.addEdge(random.nextInt(2000), random.nextInt(2000));
+        BasicUndirectedUnweightedCSRGraph csr = toCSR(graph);
+        BasicUndirectedUnweightedCompressedGraph compressed = new BasicUndirectedUnweightedCompressedGraph(csr);
+        for(int read = 0; read < 100000; ++read)
+        {
+            int v = random.nextInt(2000);
+            List<Integer> expected = new ArrayList<>(csr.adjacent(v));
+            Collections.sort(expected);
+            if(!expected.isEmpty())
+            {
+                int i = random.nextInt(expected.size());
+                assertEquals("The adjacent vertex should be the same.", (int) expected.get(i), compressed.neighbor(v, i));
+            }
+        }
+        BasicUndirectedUnweightedALGraph star = new BasicUndirectedUnweightedALGraph(5000);
+        for(int v = 1; v < 5000; ++v)
+            star.addEdge(0, v);
+        BasicUndirectedUnweightedCompressedGraph compressedStar = new BasicUndirectedUnweightedCompressedGraph(toCSR(star));
+        boolean[] marked = new boolean[5000];
+        for(int i = 0; i < compressedStar.degree(0); ++i)
+        {
+            int leaf = compressedStar.neighbor(0, i);
+            assertEquals("The leaf should be joined to the center.", 0, compressedStar.neighbor(leaf, 0));
+            marked[leaf] = true;
+        }
+        for(int v = 1; v < 5000; ++v)
+            assertTrue("Every leaf should be reached.", marked[v]);
+    }
+}
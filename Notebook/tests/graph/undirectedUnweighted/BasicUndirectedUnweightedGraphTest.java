@@ -662,4 +662,70 @@ public class BasicUndirectedUnweightedGraphTest
         assertNull("The array should be null.", b2c.getColor());
         assertNull("The array should be null.", b2c.getColor());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the graph adds vertices properly, keeping the existing edges.
+     */
+    @Test
+    public void addVertexTest()
+    {
+        graph.addEdge(0, 4); graph.addEdge(1, 2);
+        // 200 vertices will be added, each joined to the previous one.
+        for(int i = 0; i < 200; ++i)
+        {
+            int vertex = graph.addVertex();
+            assertEquals("The label of the vertex should be the previous number of vertices.", 5 + i, vertex);
+            assertTrue("The vertex shouldn't have edges.", graph.adjacent(vertex).isEmpty());
+            graph.addEdge(vertex - 1, vertex);
+        }
+        assertEquals("The number of vertices should be 205.", 205, graph.V());
+        assertEquals("The number of edges should be 202.", 202, graph.E());
+        assertEquals("The array of collections should have 205 collections.", 205, graph.adjacent().length);
+        assertTrue("The vertices should be adjacent.", graph.adjacent(0).contains(4));
+        assertTrue("The vertices should be adjacent.", graph.adjacent(2).contains(1));
+        assertTrue("The vertices should be adjacent.", graph.adjacent(204).contains(203));
+        assertNull("The adjacent collection should be null.", graph.adjacentChecked(205));
+        // Growing the graph in advance shouldn't add vertices.
+        graph.ensureCapacity(1000);
+        assertEquals("The number of vertices should be 205.", 205, graph.V());
+        assertEquals("The array of collections should have 205 collections.", 205, graph.adjacent().length);
+    }
+
+    /**
+     * Tests that the graph removes edges properly, including repeated edges and self-cycles.
+     */
+    @Test
+    public void removeEdgeTest()
+    {
+        // Edges 0-1, 0-2, 0-3, 0-1 again and 4-4 will be added.
+        graph.addEdge(0, 1); graph.addEdge(0, 2); graph.addEdge(0, 3);
+        graph.addEdge(0, 1); graph.addEdge(4, 4);
+        graph.removeEdge(0, 2);
+        assertEquals("The number of edges should be 4.", 4, graph.E());
+        assertFalse("The vertices shouldn't be adjacent.", graph.adjacent(0).contains(2));
+        assertFalse("The vertices shouldn't be adjacent.", graph.adjacent(2).contains(0));
+        assertEquals("The size of the list should be 3.", 3, graph.adjacent(0).size());
+        // Removing a repeated edge keeps the other one.
+        graph.removeEdge(1, 0);
+        assertEquals("The number of edges should be 3.", 3, graph.E());
+        assertTrue("The vertices should be adjacent.", graph.adjacent(0).contains(1));
+        assertTrue("The vertices should be adjacent.", graph.adjacent(1).contains(0));
+        assertTrue("There should be an edge.", graph.hasEdge(0, 1));
+        graph.removeEdge(0, 1);
+        assertFalse("There shouldn't be an edge.", graph.hasEdge(1, 0));
+        assertFalse("The vertices shouldn't be adjacent.", graph.adjacent(0).contains(1));
+        assertTrue("The list should be empty.", graph.adjacent(1).isEmpty());
+        graph.removeEdge(4, 4);
+        assertTrue("The list should be empty.", graph.adjacent(4).isEmpty());
+        // Removing edges that don't exist or between invalid vertices should result in no change.
+        graph.removeEdge(1, 2); graph.removeEdgeChecked(-1, 3); graph.removeEdgeChecked(0, 70);
+        assertEquals("The number of edges should be 1.", 1, graph.E());
+        // Edges added after the removals are indexed as well.
+        graph.addEdge(3, 2);
+        graph.removeEdge(0, 3);
+        graph.removeEdge(2, 3);
+        assertEquals("The number of edges should be 0.", 0, graph.E());
+        for(int i = 0; i < 5; ++i)
+            assertTrue("The list should be empty.", graph.adjacent(i).isEmpty());
+    }
+}
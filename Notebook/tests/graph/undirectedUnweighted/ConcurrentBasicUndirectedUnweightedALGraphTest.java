@@ -0,0 +1,162 @@
+// @formatter:off
+
+package graph.undirectedUnweighted;
+
+import graph.algorithms.search.BasicBFS;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the ConcurrentBasicUndirectedUnweightedALGraph and ConcurrentBasicUndirectedUnweightedALCCGraph classes.
+ */
+public class ConcurrentBasicUndirectedUnweightedALGraphTest
+{
+    // Attributes
+
+    /**
+     * The graph.
+     */
+    private ConcurrentBasicUndirectedUnweightedALGraph graph;
+
+    // Setups
+
+    /**
+     * Initializes the graph with 5 nodes.
+     */
+    @Before
+    public void setup()
+    { graph = new ConcurrentBasicUndirectedUnweightedALGraph(5); }
+
+    // Tests
+
+    /**
+     * Tests that the graph adds edges properly from a single thread.
+     */
+    @Test
+    public void addEdgeTest()
+    {
+        graph.addEdge(0, 4); graph.addEdge(0, 0); graph.addEdge(4, 0);
+        assertEquals("The number of edges should be 3.", 3, graph.E());
+        assertEquals("The size of the list should be 3.", 3, graph.adjacent(0).size());
+        assertEquals("The size of the list should be 2.", 2, graph.adjacent(4).size());
+        assertEquals("The degree should be 3.", 3, graph.degree(0));
+        assertEquals("The first vertex should be 4.", 4, graph.neighbor(0, 0));
+        assertEquals("The second vertex should be 0.", 0, graph.neighbor(0, 1));
+        assertTrue("The list should be empty.", graph.adjacent(1).isEmpty());
+        assertNull("The adjacency list should be null.", graph.adjacentChecked(5));
+        // The checked method shouldn't allow self-cycles, repeated edges or invalid vertices.
+        graph.addEdgeChecked(1, 1); graph.addEdgeChecked(0, 4); graph.addEdgeChecked(2, 70);
+        assertEquals("The number of edges should be 3.", 3, graph.E());
+        graph.addEdgeChecked(1, 2);
+        assertEquals("The number of edges should be 4.", 4, graph.E());
+    }
+
+    /**
+     * Tests that adding edges from several threads doesn't lose any edge.
+     */
+    @Test
+    public void concurrentAddEdgeTest()
+    {
+        int V = 1000;
+        ConcurrentBasicUndirectedUnweightedALGraph newGraph = new ConcurrentBasicUndirectedUnweightedALGraph(V);
+        // Every vertex is joined to the next 20 vertices, and the edges are added in parallel.
+        IntStream.range(0, V * 20).parallel().forEach(i -> newGraph.addEdge(i / 20, (i / 20 + i % 20 + 1) % V));
+        assertEquals("The number of edges should be 20000.", V * 20, newGraph.E());
+        for(int v = 0; v < V; ++v)
+        {
+            Collection<Integer> adjacent = newGraph.adjacent(v);
+            assertEquals("The size of the list should be 40.", 40, adjacent.size());
+            HashSet<Integer> expected = new HashSet<>();
+            for(int i = 1; i <= 20; ++i)
+            {
+                expected.add((v + i) % V);
+                expected.add((v - i + V) % V);
+            }
+            assertEquals("The adjacent vertices should be the expected ones.", expected, new HashSet<>(adjacent));
+        }
+    }
+
+    /**
+     * Tests that adding the same edges from several threads with the checked method adds each edge once.
+     */
+    @Test
+    public void concurrentAddEdgeCheckedTest()
+    {
+        int V = 200;
+        ConcurrentBasicUndirectedUnweightedALGraph newGraph = new ConcurrentBasicUndirectedUnweightedALGraph(V);
+        // Every edge is added four times in both directions.
+        IntStream.range(0, V * V * 4).parallel().forEach(i ->
+        {
+            int u = (i / 4) / V, v = (i / 4) % V;
+            if(i % 2 == 0)
+                newGraph.addEdgeChecked(u, v);
+            else
+                newGraph.addEdgeChecked(v, u);
+        });
+        assertEquals("The graph should be complete.", V * (V - 1) / 2, newGraph.E());
+        for(int v = 0; v < V; ++v)
+            assertEquals("The vertex should be adjacent to every other vertex.", V - 1, new HashSet<>(newGraph.adjacent(v)).size());
+    }
+
+    /**
+     * Tests that readers see consistent adjacent collections while edges are added.
+     */
+    @Test
+    public void concurrentReadTest() throws InterruptedException
+    {
+        int V = 50;
+        ConcurrentBasicUndirectedUnweightedALGraph newGraph = new ConcurrentBasicUndirectedUnweightedALGraph(V);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        Thread reader = new Thread(() ->
+        {
+            for(int i = 0; i < 2000; ++i)
+            {
+                for(int v = 0; v < V; ++v)
+                {
+                    // Vertices are only joined to vertices with the same parity.
+                    for(int adjacent : new ArrayList<>(newGraph.adjacent(v)))
+                    {
+                        if(adjacent % 2 != v % 2)
+                            failed.set(true);
+                    }
+                }
+            }
+        });
+        reader.start();
+        IntStream.range(0, 20000).parallel().forEach(i -> newGraph.addEdge(i % V, (i % V + 2 * (i / V)) % V));
+        reader.join();
+        assertFalse("The readers shouldn't see invalid vertices.", failed.get());
+        assertEquals("The number of edges should be 20000.", 20000, newGraph.E());
+        assertTrue("The BFS should work on the graph.", new BasicBFS(newGraph, 0).hasPathTo(48));
+        assertFalse("The BFS should work on the graph.", new BasicBFS(newGraph, 0).hasPathTo(49));
+    }
+
+    /**
+     * Tests that the connected components are tracked properly when edges are added from several threads.
+     */
+    @Test
+    public void concurrentComponentsTest()
+    {
+        int V = 10000;
+        ConcurrentBasicUndirectedUnweightedALCCGraph newGraph = new ConcurrentBasicUndirectedUnweightedALCCGraph(V);
+        assertEquals("There should be 10000 components.", V, newGraph.numberOfComponents());
+        // Vertices are joined to the next vertex unless the next one is a multiple of 100.
+        IntStream.range(0, V - 1).parallel().filter(v -> (v + 1) % 100 != 0).forEach(v -> newGraph.addEdge(v, v + 1));
+        assertEquals("There should be 100 components.", 100, newGraph.numberOfComponents());
+        for(int v = 0; v < V; ++v)
+            assertEquals("The size of the component should be 100.", 100, newGraph.sizeOfComponent(v));
+        assertTrue("The vertices should be connected.", newGraph.connected(100, 199));
+        assertFalse("The vertices shouldn't be connected.", newGraph.connected(99, 100));
+        assertNull("The size should be null.", newGraph.sizeOfComponentChecked(V));
+        // Joining the components in parallel leaves a single component.
+        IntStream.range(0, 99).parallel().forEach(c -> newGraph.addEdgeChecked(c * 100, (c + 1) * 100));
+        assertEquals("There should be 1 component.", 1, newGraph.numberOfComponents());
+        assertEquals("The size of the component should be 10000.", V, newGraph.sizeOfComponent(0));
+    }
+}
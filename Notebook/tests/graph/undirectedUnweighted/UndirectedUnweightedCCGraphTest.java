@@ -7,6 +7,7 @@ import graph.algorithms.search.DFS;
 import org.junit.Test;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -434,7 +435,7 @@ public class UndirectedUnweightedCCGraphTest
         assertEquals("The number of components should be 2.", 2, graph2.numberOfComponents());
         String[] vertices = {"a", "b", "c", "d"};
         ArrayList<String> adjacent;
-        ArrayList<Integer> adjacentNumber;
+        List<Integer> adjacentNumber;
         String adjacentVertex;
         int adjacentVertexNumber;
         for(String vertex : vertices)
@@ -585,7 +586,7 @@ public class UndirectedUnweightedCCGraphTest
         assertEquals("The number of components should be 2.", 2, graph2.numberOfComponents());
         String[] vertices = {"a", "b", "c", "d"};
         ArrayList<String> adjacent;
-        ArrayList<Integer> adjacentNumber;
+        List<Integer> adjacentNumber;
         String adjacentVertex;
         int adjacentVertexNumber;
         for(String vertex : vertices)
@@ -737,7 +738,7 @@ public class UndirectedUnweightedCCGraphTest
         assertEquals("The number of components should be 1.", 1, graph1.numberOfComponents());
         Integer[] vertices = {1, 3, 5, 7};
         ArrayList<Integer> adjacent;
-        ArrayList<Integer> adjacentNumber;
+        List<Integer> adjacentNumber;
         for(Integer vertex : vertices)
         {
             adjacent = (ArrayList<Integer>) graph1.adjacent(vertex);
@@ -800,7 +801,7 @@ public class UndirectedUnweightedCCGraphTest
         assertEquals("The number of components should be 1.", 1, graph1.numberOfComponents());
         Integer[] vertices = {1, 3, 5, 7};
         ArrayList<Integer> adjacent;
-        ArrayList<Integer> adjacentNumber;
+        List<Integer> adjacentNumber;
         for(Integer vertex : vertices)
         {
             adjacent = (ArrayList<Integer>) graph1.adjacentChecked(vertex);
@@ -1332,4 +1333,59 @@ public class UndirectedUnweightedCCGraphTest
         assertNull("The HashMap should be null.", twoColor.getColor());
         assertNull("The HashMap should be null.", twoColor.getColorNum());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the connected components are updated properly when edges are removed.
+     */
+    @Test
+    public void removeEdgeTest()
+    {
+        setup4();
+        // Edges a-b, b-c and c-a will be added, forming a cycle.
+        graph2.addEdge("a", "b"); graph2.addEdge("b", "c"); graph2.addEdge("c", "a");
+        assertEquals("The number of components should be 2.", 2, graph2.numberOfComponents());
+        graph2.removeEdge("a", "b");
+        assertEquals("The number of components should be 2.", 2, graph2.numberOfComponents());
+        graph2.removeEdge("c", "b");
+        assertEquals("The number of components should be 3.", 3, graph2.numberOfComponents());
+        assertEquals("The size of the component should be 1.", 1, graph2.sizeOfComponent("b"));
+        assertEquals("The size of the component should be 2.", 2, (int) graph2.sizeOfComponentChecked("a"));
+        graph2.addEdge("b", "d");
+        assertEquals("The number of components should be 2.", 2, graph2.numberOfComponents());
+    }
+
+    /**
+     * Tests that a compact graph tracks the connected components properly.
+     */
+    @Test
+    public void compactTest()
+    {
+        String[] vertices = {"a", "b", "c", "d"};
+        graph2 = new UndirectedUnweightedCCGraph<>(vertices, UndirectedUnweightedGraph.AdjacencyStorage.COMPACT);
+        // Edges a-b, b-c and c-a will be added, forming a cycle.
+        graph2.addEdge("a", "b"); graph2.addEdge("b", "c"); graph2.addEdge("c", "a");
+        assertEquals("The number of components should be 2.", 2, graph2.numberOfComponents());
+        graph2.removeEdge("a", "b"); graph2.removeEdge("c", "b");
+        assertEquals("The number of components should be 3.", 3, graph2.numberOfComponents());
+        assertEquals("The size of the component should be 2.", 2, graph2.sizeOfComponent("c"));
+        graph2.addVertex("e"); graph2.addEdgeChecked("e", "b");
+        assertEquals("The size of the component should be 2.", 2, graph2.sizeOfComponent("e"));
+        assertTrue("The vertices should be adjacent.", graph2.adjacent("b").contains("e"));
+    }
+
+    /**
+     * Tests that a snapshot keeps its own connected components.
+     */
+    @Test
+    public void snapshotTest()
+    {
+        setup4();
+        graph2.addEdge("a", "b"); graph2.addEdge("b", "c");
+        UndirectedUnweightedCCGraph<String> snapshot = graph2.snapshot();
+        graph2.removeEdge("a", "b");
+        snapshot.addEdge("c", "d");
+        assertEquals("The number of components should be 3.", 3, graph2.numberOfComponents());
+        assertEquals("The number of components should be 1.", 1, snapshot.numberOfComponents());
+        assertEquals("The size of the component should be 4.", 4, snapshot.sizeOfComponent("a"));
+    }
+}
@@ -7,6 +7,8 @@ import graph.algorithms.search.DFS;
 import org.junit.Test;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.*;
 
@@ -393,7 +395,7 @@ public class UndirectedUnweightedGraphTest
         assertEquals("The number of edges should be 2.", 2, graph2.E());
         String[] vertices = {"a", "b", "c", "d"};
         ArrayList<String> adjacent;
-        ArrayList<Integer> adjacentNumber;
+        List<Integer> adjacentNumber;
         String adjacentVertex;
         int adjacentVertexNumber;
         for(String vertex : vertices)
@@ -535,7 +537,7 @@ public class UndirectedUnweightedGraphTest
         assertEquals("The number of edges should be 2.", 2, graph2.E());
         String[] vertices = {"a", "b", "c", "d"};
         ArrayList<String> adjacent;
-        ArrayList<Integer> adjacentNumber;
+        List<Integer> adjacentNumber;
         String adjacentVertex;
         int adjacentVertexNumber;
         for(String vertex : vertices)
@@ -675,7 +677,7 @@ public class UndirectedUnweightedGraphTest
         assertEquals("There should be 4 adjacency lists.", 4, graph1.adjacentNumber().size());
         Integer[] vertices = {1, 3, 5, 7};
         ArrayList<Integer> adjacent;
-        ArrayList<Integer> adjacentNumber;
+        List<Integer> adjacentNumber;
         for(Integer vertex : vertices)
         {
             adjacent = (ArrayList<Integer>) graph1.adjacent(vertex);
@@ -735,7 +737,7 @@ public class UndirectedUnweightedGraphTest
         assertEquals("There should be 4 adjacency lists.", 4, graph1.adjacentNumber().size());
         Integer[] vertices = {1, 3, 5, 7};
         ArrayList<Integer> adjacent;
-        ArrayList<Integer> adjacentNumber;
+        List<Integer> adjacentNumber;
         for(Integer vertex : vertices)
         {
             adjacent = (ArrayList<Integer>) graph1.adjacentChecked(vertex);
@@ -1050,4 +1052,180 @@ public class UndirectedUnweightedGraphTest
         assertNull("The HashMap should be null.", twoColor.getColor());
         assertNull("The HashMap should be null.", twoColor.getColorNum());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the graph removes edges properly, keeping the numerical and key lists aligned.
+     */
+    @Test
+    public void removeEdgeTest()
+    {
+        setup4();
+        // Edges a-b, a-c, a-d and a-a will be added.
+        graph2.addEdge("a", "b"); graph2.addEdge("a", "c"); graph2.addEdge("a", "d"); graph2.addEdge("a", "a");
+        graph2.removeEdge("b", "a");
+        assertEquals("The number of edges should be 3.", 3, graph2.E());
+        assertFalse("The vertices shouldn't be adjacent.", graph2.adjacent("a").contains("b"));
+        assertTrue("The list should be empty.", graph2.adjacent("b").isEmpty());
+        // The numerical list and the key list should hold the same vertices in the same order.
+        List<Integer> numbers = graph2.adjacentNumber("a");
+        ArrayList<String> keys = (ArrayList<String>) graph2.adjacent("a");
+        assertEquals("The size of the lists should be 3.", 3, numbers.size());
+        for(int i = 0; i < numbers.size(); ++i)
+            assertEquals("The key should match the number.", graph2.numberToKey().get(numbers.get(i)), keys.get(i));
+        graph2.removeEdge("a", "a");
+        graph2.removeEdgeChecked("a", "z"); graph2.removeEdgeChecked(null, "a"); graph2.removeEdge("b", "c");
+        assertEquals("The number of edges should be 2.", 2, graph2.E());
+        assertFalse("The vertices shouldn't be adjacent.", graph2.adjacent("a").contains("a"));
+        // A copy of the graph shouldn't share its lists.
+        UndirectedUnweightedGraph<String> copy = new UndirectedUnweightedGraph<>(graph2);
+        copy.removeEdge("a", "c");
+        assertEquals("The number of edges should be 2.", 2, graph2.E());
+        assertTrue("The vertices should be adjacent.", graph2.adjacent("c").contains("a"));
+    }
+
+    /**
+     * Tests that the graph translates vertices to numerical values and back properly.
+     */
+    @Test
+    public void toNumberTest()
+    {
+        setup4();
+        // 1000 vertices will be added after a, b, c and d.
+        for(int i = 0; i < 1000; ++i)
+            graph2.addVertex("v" + i);
+        assertEquals("The number of vertices should be 1004.", 1004, graph2.V());
+        assertEquals("The number should be 0.", 0, graph2.toNumber("a"));
+        assertEquals("The number should be 3.", 3, graph2.toNumber("d"));
+        for(int v = 0; v < graph2.V(); ++v)
+            assertEquals("The number of the key should be the same.", v, graph2.toNumber(graph2.toKey(v)));
+        assertEquals("The key should be v999.", "v999", graph2.toKey(1003));
+        assertNull("The number should be null.", graph2.toNumberChecked("z"));
+        assertNull("The number should be null.", graph2.toNumberChecked(null));
+        assertEquals("The number should be 4.", 4, (int) graph2.toNumberChecked("v0"));
+        // The maps are views of the same dictionary.
+        Map<String, Integer> keyToNumber = graph2.keyToNumber();
+        Map<Integer, String> numberToKey = graph2.numberToKey();
+        assertEquals("The map should have 1004 pairs.", 1004, keyToNumber.size());
+        assertEquals("The key should be b.", "b", numberToKey.get(1));
+        assertEquals("The number should be 5.", 5, (int) keyToNumber.get("v1"));
+        assertNull("The number should be null.", keyToNumber.get("z"));
+        assertNull("The key should be null.", numberToKey.get(1004));
+        graph2.addVertex("z");
+        assertEquals("The map should reflect the new vertex.", 1004, (int) keyToNumber.get("z"));
+        assertEquals("The map should reflect the new vertex.", "z", numberToKey.get(1004));
+        assertEquals("The map should have 1005 pairs.", 1005, numberToKey.entrySet().size());
+        assertEquals("The maps should have the same pairs.", new HashMap<>(keyToNumber).size(), new HashMap<>(numberToKey).size());
+        for(Map.Entry<Integer, String> entry : numberToKey.entrySet())
+            assertEquals("The pairs should match.", entry.getKey(), keyToNumber.get(entry.getValue()));
+    }
+
+    /**
+     * Tests that the maps of the dictionary can't be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void toNumberTest3()
+    {
+        setup4();
+        graph2.keyToNumber().put("z", 4);
+    }
+
+    /**
+     * Tests that translating a vertex that doesn't exist results in a NullPointerException.
+     */
+    @Test(expected = NullPointerException.class)
+    public void toNumberTest2()
+    {
+        setup4();
+        graph2.toNumber("z");
+    }
+
+    /**
+     * Tests that a compact graph stores the same adjacencies as a graph with lists and that the algorithms
+     * give the same results over both.
+     */
+    @Test
+    public void compactTest()
+    {
+        setup4();
+        String[] vertices = {"a", "b", "c", "d", "e"};
+        UndirectedUnweightedGraph<String> compact = new UndirectedUnweightedGraph<>(new String[] {"a", "b", "c", "d"}, UndirectedUnweightedGraph.AdjacencyStorage.COMPACT);
+        assertEquals("The graph should be compact.", UndirectedUnweightedGraph.AdjacencyStorage.COMPACT, compact.storage());
+        assertEquals("The graph should have lists.", UndirectedUnweightedGraph.AdjacencyStorage.LISTS, graph2.storage());
+        compact.addVertex("e"); graph2.addVertex("e");
+        // Edges a-b, a-c, b-c, c-d, d-d and the repeated a-b will be added to both graphs.
+        String[][] edges = {{"a", "b"}, {"a", "c"}, {"b", "c"}, {"c", "d"}, {"d", "d"}, {"a", "b"}};
+        for(String[] edge : edges)
+        {
+            compact.addEdge(edge[0], edge[1]);
+            graph2.addEdge(edge[0], edge[1]);
+        }
+        compact.addEdgeChecked("a", "c"); compact.addEdgeChecked("d", "e");
+        graph2.addEdgeChecked("a", "c"); graph2.addEdgeChecked("d", "e");
+        assertEquals("The number of edges should be 7.", 7, compact.E());
+        for(String vertex : vertices)
+        {
+            assertEquals("The adjacent vertices should be the same.", graph2.adjacent(vertex), compact.adjacent(vertex));
+            assertEquals("The adjacent numbers should be the same.", graph2.adjacentNumber(vertex), compact.adjacentNumber(vertex));
+            int v = compact.toNumber(vertex);
+            assertEquals("The degree should be the same.", graph2.degree(v), compact.degree(v));
+            for(int i = 0; i < compact.degree(v); ++i)
+                assertEquals("The neighbor should be the same.", graph2.neighbor(v, i), compact.neighbor(v, i));
+        }
+        assertNull("The collection should be null.", compact.adjacentChecked("z"));
+        assertEquals("There should be 5 adjacency lists.", 5, compact.adjacent().size());
+        // The removals keep the views aligned with the numerical keys.
+        compact.removeEdge("a", "b"); compact.removeEdge("d", "d");
+        assertEquals("The number of edges should be 5.", 5, compact.E());
+        assertTrue("The vertices should still be adjacent.", compact.adjacent("a").contains("b"));
+        assertFalse("The vertices shouldn't be adjacent.", compact.adjacent("d").contains("d"));
+        List<Integer> numbers = compact.adjacentNumber("c");
+        List<String> keys = (List<String>) compact.adjacent("c");
+        for(int i = 0; i < numbers.size(); ++i)
+            assertEquals("The key should match the number.", compact.toKey(numbers.get(i)), keys.get(i));
+        UndirectedUnweightedGraph<String> copy = new UndirectedUnweightedGraph<>(compact);
+        copy.removeEdge("c", "d");
+        assertTrue("The vertices should be adjacent.", compact.adjacent("d").contains("c"));
+        assertEquals("The copy should be compact.", UndirectedUnweightedGraph.AdjacencyStorage.COMPACT, copy.storage());
+        // The algorithms should give the same results.
+        graph2.removeEdge("a", "b"); graph2.removeEdge("d", "d");
+        BFS<String> bfs1 = new BFS<>(graph2, "a"), bfs2 = new BFS<>(compact, "a");
+        DFS<String> dfs1 = new DFS<>(graph2, "e"), dfs2 = new DFS<>(compact, "e");
+        for(String vertex : vertices)
+        {
+            assertEquals("The paths should be the same.", bfs1.pathTo(vertex), bfs2.pathTo(vertex));
+            assertEquals("The paths should be the same.", dfs1.pathTo(vertex), dfs2.pathTo(vertex));
+        }
+        assertFalse("The graph shouldn't be two-colorable.", new TwoColor<>(compact).isTwoColorable());
+        assertFalse("The graph shouldn't be acyclic.", new IsAcyclic<>(compact, "a").isAcyclic());
+    }
+
+    /**
+     * Tests that a snapshot keeps the vertices and edges of the graph when it was taken and that the graph and
+     * the snapshot can be modified independently, in both storage modes.
+     */
+    @Test
+    public void snapshotTest()
+    {
+        for(UndirectedUnweightedGraph.AdjacencyStorage storage : UndirectedUnweightedGraph.AdjacencyStorage.values())
+        {
+            graph2 = new UndirectedUnweightedGraph<>(new String[] {"a", "b", "c", "d"}, storage);
+            graph2.addEdge("a", "b"); graph2.addEdge("b", "c");
+            UndirectedUnweightedGraph<String> snapshot = graph2.snapshot();
+            assertEquals("The storage should be the same.", storage, snapshot.storage());
+            graph2.addVertex("e"); graph2.addEdge("e", "a"); graph2.removeEdge("b", "c");
+            snapshot.addVertex("f"); snapshot.addEdge("f", "d"); snapshot.removeEdge("a", "b");
+            assertEquals("The number of vertices should be 5.", 5, graph2.V());
+            assertEquals("The number of vertices should be 5.", 5, snapshot.V());
+            assertNull("The vertex shouldn't exist.", snapshot.toNumberChecked("e"));
+            assertNull("The vertex shouldn't exist.", graph2.toNumberChecked("f"));
+            assertEquals("The number should be 4.", 4, snapshot.toNumber("f"));
+            assertTrue("The vertices should be adjacent.", graph2.adjacent("a").contains("b"));
+            assertFalse("The vertices shouldn't be adjacent.", graph2.adjacent("b").contains("c"));
+            assertFalse("The vertices shouldn't be adjacent.", snapshot.adjacent("a").contains("b"));
+            assertTrue("The vertices should be adjacent.", snapshot.adjacent("c").contains("b"));
+            assertTrue("The vertices should be adjacent.", snapshot.adjacent("d").contains("f"));
+            assertEquals("The number of edges should be 2.", 2, graph2.E());
+            assertEquals("The number of edges should be 2.", 2, snapshot.E());
+        }
+    }
+}
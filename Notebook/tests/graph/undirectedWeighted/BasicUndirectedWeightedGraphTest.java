@@ -864,4 +864,141 @@ public class BasicUndirectedWeightedGraphTest
         assertNull("The array should be null.", b2c.getColor());
         assertNull("The array should be null.", b2c.getColor());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the weight of each edge is stored parallel to the adjacent list of each vertex.
+     */
+    @Test
+    public void weightTest()
+    {
+        // Edges 0-1, 0-2, 0-0 and 0-1 again will be added.
+        graph.addEdge(0, 1, 1); graph.addEdge(0, 2, 2);
+        graph.addEdge(0, 0, 3); graph.addEdge(0, 1, 4);
+        double[] expected = { 1, 2, 3, 4 };
+        for(int i = 0; i < 4; ++i)
+            assertEquals("The weight should be the one of the edge in the position.", expected[i], graph.weight(0, i), 0);
+        assertEquals("The weight should be 1.", 1, graph.weight(1, 0), 0);
+        assertEquals("The weight should be 4.", 4, graph.weight(1, 1), 0);
+        // The weight of a repeated edge is the one of the last edge added.
+        assertEquals("The weight should be 4.", 4, graph.getWeight(1, 0), 0);
+        graph.setWeight(1, 0, 10);
+        assertEquals("The weight should be 10.", 10, graph.weight(0, 3), 0);
+        assertEquals("The weight should be 10.", 10, graph.weight(1, 1), 0);
+        assertEquals("The weight should be 1.", 1, graph.weight(0, 0), 0);
+    }
+
+    /**
+     * Tests that the weights are the same regardless of the way in which they're looked up.
+     */
+    @Test
+    public void storageTest()
+    {
+        int V = 60;
+        BasicUndirectedWeightedGraph[] graphs = new BasicUndirectedWeightedGraph[]
+        {
+            new BasicUndirectedWeightedGraph(V),
+            new BasicUndirectedWeightedGraph(V, BasicUndirectedWeightedGraph.WeightStorage.INDEXED),
+            new BasicUndirectedWeightedGraph(V, BasicUndirectedWeightedGraph.WeightStorage.DENSE)
+        };
+        assertEquals("The storage should be sparse.", BasicUndirectedWeightedGraph.WeightStorage.SPARSE, graphs[0].storage());
+        assertEquals("The storage should be indexed.", BasicUndirectedWeightedGraph.WeightStorage.INDEXED, graphs[1].storage());
+        assertEquals("The storage should be dense.", BasicUndirectedWeightedGraph.WeightStorage.DENSE, graphs[2].storage());
+        // Every graph gets the same edges, some of them repeated.
+        for(BasicUndirectedWeightedGraph newGraph : graphs)
+        {
+            for(int i = 0; i < 500; ++i)
+                newGraph.addEdge((i * 7) % V, (i * 13) % V, i);
+            newGraph.setWeight(0, 0, -1);
+            newGraph.addEdgeChecked(1, 2, 1000);
+        }
+        for(int u = 0; u < V; ++u)
+        {
+            for(int v = 0; v < V; ++v)
+            {
+                assertEquals("The weights should be the same.", graphs[0].getWeight(u, v), graphs[1].getWeight(u, v), 0);
+                assertEquals("The weights should be the same.", graphs[0].getWeight(u, v), graphs[2].getWeight(u, v), 0);
+                assertEquals("The weights should be the same.", graphs[0].getWeightChecked(u, v), graphs[1].getWeightChecked(u, v));
+                assertEquals("The weights should be the same.", graphs[0].getWeightChecked(u, v), graphs[2].getWeightChecked(u, v));
+            }
+        }
+        assertEquals("The weight should be -1.", -1, graphs[1].getWeight(0, 0), 0);
+        assertEquals("The weight should be 1000.", 1000, graphs[1].getWeight(2, 1), 0);
+    }
+
+    /**
+     * Tests that a copy of the graph doesn't share its weights with the original graph.
+     */
+    @Test
+    public void copyTest()
+    {
+        graph.addEdge(0, 1, 5); graph.addEdge(1, 2, 6);
+        BasicUndirectedWeightedGraph copy = new BasicUndirectedWeightedGraph(graph);
+        copy.setWeight(0, 1, 50); copy.addEdge(3, 4, 7);
+        assertEquals("The weight should be 5.", 5, graph.getWeight(0, 1), 0);
+        assertEquals("The weight should be 50.", 50, copy.getWeight(0, 1), 0);
+        assertNull("The edge shouldn't exist.", graph.getWeightChecked(3, 4));
+        assertEquals("The number of edges should be 2.", 2, graph.E());
+        assertEquals("The number of edges should be 3.", 3, copy.E());
+    }
+
+    /**
+     * Tests that the graph adds vertices properly, keeping the existing weights.
+     */
+    @Test
+    public void addVertexTest()
+    {
+        BasicUndirectedWeightedGraph dense = new BasicUndirectedWeightedGraph(5, BasicUndirectedWeightedGraph.WeightStorage.DENSE);
+        for(BasicUndirectedWeightedGraph newGraph : new BasicUndirectedWeightedGraph[] { graph, dense })
+        {
+            newGraph.addEdge(0, 4, 3);
+            // 100 vertices will be added, each joined to the previous one with its label as weight.
+            for(int i = 0; i < 100; ++i)
+            {
+                int vertex = newGraph.addVertex();
+                assertEquals("The label of the vertex should be the previous number of vertices.", 5 + i, vertex);
+                newGraph.addEdge(vertex - 1, vertex, vertex);
+            }
+            assertEquals("The number of vertices should be 105.", 105, newGraph.V());
+            assertEquals("The array of collections should have 105 collections.", 105, newGraph.adjacent().length);
+            assertEquals("The weight should be 3.", 3, newGraph.getWeight(4, 0), 0);
+            assertEquals("The weight should be 104.", 104, newGraph.getWeight(103, 104), 0);
+            assertEquals("The weight should be 0.", 0, newGraph.getWeight(0, 104), 0);
+            assertNull("The weight should be null.", newGraph.getWeightChecked(104, 105));
+        }
+    }
+
+    /**
+     * Tests that the graph removes edges properly, keeping the weights of the remaining edges.
+     */
+    @Test
+    public void removeEdgeTest()
+    {
+        BasicUndirectedWeightedGraph dense = new BasicUndirectedWeightedGraph(5, BasicUndirectedWeightedGraph.WeightStorage.DENSE);
+        for(BasicUndirectedWeightedGraph newGraph : new BasicUndirectedWeightedGraph[] { graph, dense })
+        {
+            // Edges 0-1, 0-2, 0-3 and 0-1 again will be added.
+            newGraph.addEdge(0, 1, 1); newGraph.addEdge(0, 2, 2);
+            newGraph.addEdge(0, 3, 3); newGraph.addEdge(0, 1, 4);
+            newGraph.removeEdge(2, 0);
+            assertEquals("The number of edges should be 3.", 3, newGraph.E());
+            assertNull("The edge shouldn't exist.", newGraph.getWeightChecked(0, 2));
+            assertEquals("The weight should be 3.", 3, newGraph.getWeight(3, 0), 0);
+            // The weights are moved along with the vertices.
+            ArrayList<Integer> adjacent = (ArrayList<Integer>) newGraph.adjacent(0);
+            for(int i = 0; i < adjacent.size(); ++i)
+            {
+                if(adjacent.get(i) == 3)
+                    assertEquals("The weight should be 3.", 3, newGraph.weight(0, i), 0);
+                else
+                    assertTrue("The weight should be 1 or 4.", newGraph.weight(0, i) == 1 || newGraph.weight(0, i) == 4);
+            }
+            newGraph.removeEdge(0, 1);
+            assertNotNull("The edge should exist.", newGraph.getWeightChecked(1, 0));
+            newGraph.removeEdge(0, 1);
+            assertNull("The edge shouldn't exist.", newGraph.getWeightChecked(1, 0));
+            assertEquals("The weight should be 0.", 0, newGraph.getWeight(1, 0), 0);
+            newGraph.removeEdgeChecked(0, 10);
+            assertEquals("The number of edges should be 1.", 1, newGraph.E());
+        }
+    }
+}
@@ -366,4 +366,24 @@ public class BasicUnionFinderTest
                 unionFinder.root(7) == unionFinder.root(8) && unionFinder.root(8) == unionFinder.root(9);
         assertTrue("All nodes should have the same root.", test);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the union finder adds boxes properly.
+     */
+    @Test
+    public void addTest()
+    {
+        unionFinder.merge(0, 1);
+        for(int i = 0; i < 50; ++i)
+            assertEquals("The label of the box should be the previous number of boxes.", 10 + i, unionFinder.add());
+        assertEquals("The number of boxes should be 60.", 60, unionFinder.totalBoxes());
+        assertEquals("The number of roots should be 59.", 59, unionFinder.totalRoots());
+        assertEquals("The size should be 1.", 1, (int) unionFinder.sizeChecked(59));
+        assertNull("The size should be null.", unionFinder.sizeChecked(60));
+        unionFinder.merge(59, 0);
+        assertEquals("The size should be 3.", 3, unionFinder.size(1));
+        assertEquals("The number of parents should be 60.", 60, unionFinder.parents().length);
+        unionFinder.ensureCapacity(1000);
+        assertEquals("The number of boxes should be 60.", 60, unionFinder.totalBoxes());
+    }
+}
@@ -0,0 +1,82 @@
+// @formatter:off
+
+package unionFinder;
+
+import org.junit.Before;
+import org.junit.Test;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the ConcurrentBasicUnionFinder class.
+ */
+public class ConcurrentBasicUnionFinderTest
+{
+    // Attributes
+
+    /**
+     * The union finder.
+     */
+    private ConcurrentBasicUnionFinder unionFinder;
+
+    // Setups
+
+    /**
+     * Initializes the union finder with 10 boxes.
+     */
+    @Before
+    public void setup()
+    { unionFinder = new ConcurrentBasicUnionFinder(10); }
+
+    // Tests
+
+    /**
+     * Tests that the union finder is initialized properly.
+     */
+    @Test
+    public void initializationTest()
+    {
+        assertEquals("The number of roots should be 10.", 10, unionFinder.totalRoots());
+        for(int i = 0; i < 10; ++i)
+        {
+            assertEquals("The box should be its own root.", i, unionFinder.root(i));
+            assertEquals("The size of the box should be 1.", 1, unionFinder.size(i));
+        }
+    }
+
+    /**
+     * Tests that the union finder merges boxes properly.
+     */
+    @Test
+    public void mergeTest()
+    {
+        unionFinder.merge(0, 1); unionFinder.merge(2, 3); unionFinder.merge(1, 3); unionFinder.merge(0, 2);
+        assertEquals("The number of roots should be 7.", 7, unionFinder.totalRoots());
+        assertEquals("The size should be 4.", 4, unionFinder.size(3));
+        assertTrue("The boxes should be connected.", unionFinder.connected(0, 3));
+        assertFalse("The boxes shouldn't be connected.", unionFinder.connected(0, 4));
+        assertEquals("The roots should be the same.", unionFinder.root(0), unionFinder.root(2));
+        // Checked methods shouldn't fail with invalid boxes.
+        unionFinder.mergeChecked(-1, 20);
+        assertNull("The root should be null.", unionFinder.rootChecked(10));
+        assertNull("The size should be null.", unionFinder.sizeChecked(-1));
+        assertEquals("The number of roots should be 7.", 7, unionFinder.totalRoots());
+    }
+
+    /**
+     * Tests that merging boxes from several threads results in the right unions.
+     */
+    @Test
+    public void concurrentMergeTest()
+    {
+        ConcurrentBasicUnionFinder newUnionFinder = new ConcurrentBasicUnionFinder(100000);
+        // Boxes are merged with the box 1000 positions ahead, resulting in 1000 unions of 100 boxes.
+        IntStream.range(0, 99000).parallel().forEach(i -> newUnionFinder.merge(i, i + 1000));
+        assertEquals("The number of roots should be 1000.", 1000, newUnionFinder.totalRoots());
+        for(int i = 0; i < 100000; ++i)
+        {
+            assertEquals("The size should be 100.", 100, newUnionFinder.size(i));
+            assertTrue("The boxes should be connected.", newUnionFinder.connected(i, i % 1000));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+// @formatter:off
+
+package util;
+
+import graph.algorithms.search.BFS;
+import graph.algorithms.search.BasicBFS;
+import graph.algorithms.search.BasicDFS;
+import graph.algorithms.search.DFS;
+import graph.algorithms.search.IterativeDFS;
+import graph.undirectedUnweighted.BasicUndirectedUnweightedALGraph;
+import graph.undirectedUnweighted.UndirectedUnweightedGraph;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * Class that tests the SearchWorkspace class and the searches that use it.
+ */
+public class SearchWorkspaceTest
+{
+    // Attributes
+
+    /**
+     * A random graph of 300 vertices with several components.
+     */
+    private BasicUndirectedUnweightedALGraph graph;
+
+    /**
+     * The workspace.
+     */
+    private SearchWorkspace workspace;
+
+    // Setups
+
+    /**
+     * Initializes the random graph and an empty workspace.
+     */
+    @Before
+    public void setup()
+    {
+        Random random = new Random(23);
+        graph = new BasicUndirectedUnweightedALGraph(300);
+        for(int i = 0; i < 250; ++i)
+            graph.addEdge(random.nextInt(300), random.nextInt(300));
+        workspace = new SearchWorkspace();
+    }
+
+    /**
+     * @param pPath A path.
+     * @return The vertices of the path.
+     */
+    private static <T> List<T> list(Iterable<T> pPath)
+    {
+        if(pPath == null)
+            return null;
+        List<T> list = new ArrayList<>();
+        for(T vertex : pPath)
+            list.add(vertex);
+        return list;
+    }
+
+    // Tests
+
+    /**
+     * Tests that the searches with a reused workspace give the same paths as the searches with their own arrays.
+     */
+    @Test
+    public void basicTest()
+    {
+        for(int origin = 0; origin < 300; origin += 7)
+        {
+            BasicBFS bfs = new BasicBFS(graph, origin);
+            BasicBFS reused = new BasicBFS(graph, origin, workspace);
+            for(int v = 0; v < 300; ++v)
+            {
+                assertEquals("The reachable vertices should be the same.", bfs.hasPathTo(v), reused.hasPathTo(v));
+                assertEquals("The paths should be the same.", list(bfs.pathTo(v)), list(reused.pathTo(v)));
+            }
+            BasicDFS dfs = new BasicDFS(graph, origin);
+            BasicDFS reusedDFS = new BasicDFS(graph, origin, workspace);
+            for(int v = 0; v < 300; ++v)
+                assertEquals("The paths should be the same.", list(dfs.pathTo(v)), list(reusedDFS.pathTo(v)));
+        }
+    }
+
+    /**
+     * Tests the searches of a graph with keys with the workspace of the thread.
+     */
+    @Test
+    public void extendedTest()
+    {
+        UndirectedUnweightedGraph<String> keys = new UndirectedUnweightedGraph<>();
+        for(int v = 0; v < 6; ++v)
+            keys.addVertex("v" + v);
+        keys.addEdge("v0", "v1");
+        keys.addEdge("v1", "v2");
+        keys.addEdge("v0", "v3");
+        keys.addEdge("v3", "v2");
+        keys.addEdge("v4", "v5");
+        BFS<String> bfs = new BFS<>(keys, "v0", SearchWorkspace.current());
+        assertEquals("The path should be the shortest one.", 3, list(bfs.pathTo("v2")).size());
+        assertFalse("The other component shouldn't be reached.", bfs.hasPathTo("v5"));
+        DFS<String> dfs = new DFS<>(keys, "v4", SearchWorkspace.current());
+        assertTrue("The adjacent vertex should be reached.", dfs.hasPathTo("v5"));
+        assertFalse("The other component shouldn't be reached.", dfs.hasPathTo("v0"));
+    }
+
+    /**
+     * Tests that the results of a search are invalid after the next search that uses the workspace.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void staleTest()
+    {
+        BasicBFS first = new BasicBFS(graph, 0, workspace);
+        assertTrue("The origin should be reached.", first.hasPathTo(0));
+        new BasicDFS(graph, 1, workspace);
+        first.hasPathTo(0);
+    }
+
+    /**
+     * Tests that the workspace grows for larger graphs and unmarks every vertex at each reset.
+     */
+    @Test
+    public void resetTest()
+    {
+        int epoch = workspace.reset(5);
+        assertTrue("The vertex should be marked.", workspace.mark(4));
+        assertFalse("The vertex should already be marked.", workspace.mark(4));
+        assertEquals("The epoch should increase.", epoch + 1, workspace.reset(1000));
+        assertFalse("The vertex shouldn't be marked.", workspace.isMarked(4));
+        assertTrue("The arrays should grow.", workspace.queue().length >= 1000);
+        BasicUndirectedUnweightedALGraph small = new BasicUndirectedUnweightedALGraph(3);
+        small.addEdge(0, 1);
+        BasicBFS bfs = new BasicBFS(small, 2, workspace);
+        assertFalse("Only the origin should be reached.", bfs.hasPathTo(0));
+        assertEquals("The path to the origin should be itself.", 1, list(bfs.pathTo(2)).size());
+    }
+
+    /**
+     * Tests that each thread has its own workspace.
+     */
+    @Test
+    public void currentTest() throws InterruptedException
+    {
+        SearchWorkspace[] other = new SearchWorkspace[1];
+        Thread thread = new Thread(() -> other[0] = SearchWorkspace.current());
+        thread.start();
+        thread.join();
+        assertTrue("The workspace of the thread should be kept.", SearchWorkspace.current() == SearchWorkspace.current());
+        assertTrue("Each thread should have its own workspace.", other[0] != SearchWorkspace.current());
+    }
+
+    /**
+     * Tests that a depth first search with a workspace follows a long path with the stack of the workspace, in the
+     * same order as the search with its own arrays.
+     */
+    @Test
+    public void deepTest()
+    {
+        BasicUndirectedUnweightedALGraph path = new BasicUndirectedUnweightedALGraph(100000);
+        for(int v = 1; v < 100000; ++v)
+            path.addEdge(v - 1, v);
+        BasicDFS dfs = new BasicDFS(path, 0, workspace);
+        assertEquals("The path should go through every vertex.", 100000, list(dfs.pathTo(99999)).size());
+        assertTrue("The stack of the workspace should hold every vertex.", workspace.degrees().length >= 100000);
+        int[] order = new int[100000];
+        int[] count = new int[1];
+        IterativeDFS iterative = new IterativeDFS(graph, workspace);
+        workspace.reset(graph.V());
+        iterative.search(0, workspace, new IterativeDFS.Visitor()
+        {
+            public boolean preorder(int pVertex, int pParent)
+            {
+                order[count[0]++] = pVertex;
+                return true;
+            }
+        });
+        boolean[] marked = new boolean[graph.V()];
+        int[] index = new int[1];
+        new IterativeDFS(graph).search(0, marked, new IterativeDFS.Visitor()
+        {
+            public boolean preorder(int pVertex, int pParent)
+            {
+                assertEquals("The vertices should be visited in the same order.", order[index[0]++], pVertex);
+                return true;
+            }
+        });
+        assertEquals("The same vertices should be visited.", count[0], index[0]);
+    }
+}